@@ -0,0 +1,186 @@
+package org.example.oopproject1.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.oopproject1.codec.ApplicationCodec;
+import org.example.oopproject1.codec.EntityCodec;
+import org.example.oopproject1.codec.EntityCodecs;
+import org.example.oopproject1.codec.JobCodec;
+import org.example.oopproject1.model.Application;
+import org.example.oopproject1.model.Job;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Compares the binary entity codecs with Jackson: encoded size, encode time
+ * and decode time per document for JSON (as served by the REST API), Smile
+ * and the binary codecs. Binary payloads are decoded from a direct buffer, as
+ * they would be from a memory-mapped file or a network buffer.
+ * <p>
+ * Run with {@code gradle codecBenchmark -PbenchArgs="--documents=500000"}.
+ * Options (defaults in brackets): {@code --documents} documents per type [200000],
+ * {@code --rounds} timed rounds after warm-up, of which the best is reported [5].
+ * </p>
+ *
+ * @since 1.1
+ */
+public final class CodecBenchmark {
+
+    private static final String[] COMPANIES = {"Acme", "Globex", "Initech", "Umbrella", "Hooli", "Stark"};
+    private static final String[] LOCATIONS = {"London", "Berlin", "Remote", "New York", "Paris", "Tokyo"};
+    private static final String[] TYPES = {"Full-time", "Part-time", "Contract"};
+
+    /**
+     * Sink for decoded values so the JIT cannot drop the work.
+     */
+    private static volatile Object blackhole;
+
+    private final int documents;
+    private final int rounds;
+
+    private CodecBenchmark(Map<String, String> options) {
+        this.documents = Integer.parseInt(options.getOrDefault("documents", "200000"));
+        this.rounds = Integer.parseInt(options.getOrDefault("rounds", "5"));
+    }
+
+    /**
+     * Entry point.
+     *
+     * @param args {@code --name=value} options, see the class documentation
+     */
+    public static void main(String[] args) {
+        Map<String, String> options = new LinkedHashMap<>();
+        for (String arg : args) {
+            if (arg.startsWith("--") && arg.contains("=")) {
+                options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+            }
+        }
+        new CodecBenchmark(options).run();
+    }
+
+    private void run() {
+        SplittableRandom random = new SplittableRandom(42);
+        List<Job> jobs = new ArrayList<>(documents);
+        List<Application> applications = new ArrayList<>(documents);
+        for (int i = 0; i < documents; i++) {
+            jobs.add(job(i, random));
+            applications.add(application(i, random));
+        }
+        ObjectMapper json = Jackson2ObjectMapperBuilder.json().build();
+        EntityCodecs smile = new EntityCodecs(List.of());
+
+        System.out.printf("%d documents per type, best of %d rounds%n", documents, rounds);
+        System.out.printf("%-12s %-7s %10s %12s %12s%n", "type", "codec", "bytes/doc", "encode ns", "decode ns");
+        measure("Job", "json", jobs, new JsonCodec<>(json, Job.class));
+        measure("Job", "smile", jobs, smile.forType(Job.class));
+        measure("Job", "binary", jobs, new JobCodec());
+        measure("Application", "json", applications, new JsonCodec<>(json, Application.class));
+        measure("Application", "smile", applications, smile.forType(Application.class));
+        measure("Application", "binary", applications, new ApplicationCodec());
+    }
+
+    private <T> void measure(String type, String name, List<T> values, EntityCodec<T> codec) {
+        long bestEncode = Long.MAX_VALUE;
+        long bestDecode = Long.MAX_VALUE;
+        long bytes = 0;
+        // one untimed round to warm up
+        for (int round = 0; round <= rounds; round++) {
+            byte[][] encoded = new byte[values.size()][];
+            long start = System.nanoTime();
+            for (int i = 0; i < encoded.length; i++) {
+                encoded[i] = codec.encode(values.get(i));
+            }
+            long encodeTime = System.nanoTime() - start;
+
+            bytes = 0;
+            for (byte[] document : encoded) {
+                bytes += document.length;
+            }
+            ByteBuffer buffer = ByteBuffer.allocateDirect((int) bytes);
+            int[] offsets = new int[encoded.length + 1];
+            for (int i = 0; i < encoded.length; i++) {
+                buffer.put(encoded[i]);
+                offsets[i + 1] = buffer.position();
+            }
+
+            start = System.nanoTime();
+            for (int i = 0; i < encoded.length; i++) {
+                blackhole = codec.decode(buffer.slice(offsets[i], offsets[i + 1] - offsets[i]));
+            }
+            long decodeTime = System.nanoTime() - start;
+            if (round > 0) {
+                bestEncode = Math.min(bestEncode, encodeTime);
+                bestDecode = Math.min(bestDecode, decodeTime);
+            }
+        }
+        System.out.printf("%-12s %-7s %10.1f %12.0f %12.0f%n", type, name, (double) bytes / values.size(),
+                (double) bestEncode / values.size(), (double) bestDecode / values.size());
+    }
+
+    private static Job job(int index, SplittableRandom random) {
+        Job job = new Job();
+        job.setId(String.format("%024x", index));
+        job.setTitle("Engineer " + index);
+        job.setCompany(COMPANIES[random.nextInt(COMPANIES.length)]);
+        job.setDescription("Build and run services. ".repeat(1 + random.nextInt(20)));
+        job.setRequiredSkills(List.of("Java", "Spring Boot", "MongoDB"));
+        job.setMinSalary(40000.0 + random.nextInt(60000));
+        job.setMaxSalary(job.getMinSalary() + 20000);
+        job.setLocation(LOCATIONS[random.nextInt(LOCATIONS.length)]);
+        job.setEmploymentType(TYPES[random.nextInt(TYPES.length)]);
+        job.setPostDate(LocalDate.of(2024, 1, 1).plusDays(index % 365));
+        job.setDeadlineDate(job.getPostDate().plusDays(60));
+        job.setActive(random.nextBoolean());
+        job.setRecruiterId("recruiter" + (index % 1000));
+        return job;
+    }
+
+    private static Application application(int index, SplittableRandom random) {
+        Application.ApplicationStatus[] statuses = Application.ApplicationStatus.values();
+        Application application = new Application();
+        application.setId(String.format("%024x", index));
+        application.setJobId(String.format("%024x", random.nextInt(Math.max(1, index))));
+        application.setCandidateName("Candidate " + index);
+        application.setEmail("candidate" + index + "@example.com");
+        application.setPhone("555-" + (1000 + random.nextInt(9000)));
+        application.setResumeUrl("https://cv.example.com/" + index);
+        application.setCoverLetterText("I would love to join. ".repeat(1 + random.nextInt(10)));
+        application.setApplicationDate(LocalDate.of(2024, 1, 1).plusDays(index % 365));
+        application.setStatus(statuses[random.nextInt(statuses.length)]);
+        return application;
+    }
+
+    /**
+     * Jackson JSON through the same interface, as the REST API would write it.
+     */
+    private record JsonCodec<T>(ObjectMapper mapper, Class<T> type) implements EntityCodec<T> {
+
+        @Override
+        public byte[] encode(T entity) {
+            try {
+                return mapper.writeValueAsBytes(entity);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public T decode(ByteBuffer buffer) {
+            byte[] bytes = new byte[buffer.remaining()];
+            buffer.get(buffer.position(), bytes);
+            try {
+                return mapper.readValue(bytes, type);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package org.example.oopproject1.loadtest;
+
+import org.example.oopproject1.search.FuzzyIndex;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+/**
+ * Measures the {@link FuzzyIndex} behind typo-tolerant job search: build
+ * time, vocabulary and posting counts, retained heap, and query latency for
+ * misspelled titles and skills, against a linear scan of the vocabulary
+ * computing the same edit distances.
+ * <p>
+ * Run with {@code gradle fuzzySearchBenchmark -PbenchArgs="--jobs=1000000"}.
+ * Options (defaults in brackets): {@code --jobs} indexed jobs [200000],
+ * {@code --queries} timed queries [20000], {@code --vocabulary} distinct
+ * title words [5000].
+ * </p>
+ *
+ * @since 1.1
+ */
+public final class FuzzySearchBenchmark {
+
+    private static final String[] ROLES = {"Engineer", "Developer", "Analyst", "Manager", "Designer",
+            "Consultant", "Architect", "Administrator", "Scientist", "Specialist"};
+    private static final String[] SKILLS = {"Java", "JavaScript", "TypeScript", "Python", "Kotlin", "MongoDB",
+            "PostgreSQL", "Kubernetes", "Terraform", "React", "Angular", "Spring", "Docker", "GraphQL"};
+    private static final String LETTERS = "abcdefghijklmnopqrstuvwxyz";
+
+    /**
+     * Sink for results so the JIT cannot drop the work.
+     */
+    private static volatile Object blackhole;
+
+    private final int jobs;
+    private final int queries;
+    private final int vocabulary;
+
+    private FuzzySearchBenchmark(Map<String, String> options) {
+        this.jobs = Integer.parseInt(options.getOrDefault("jobs", "200000"));
+        this.queries = Integer.parseInt(options.getOrDefault("queries", "20000"));
+        this.vocabulary = Integer.parseInt(options.getOrDefault("vocabulary", "5000"));
+    }
+
+    /**
+     * Entry point.
+     *
+     * @param args {@code --name=value} options, see the class documentation
+     */
+    public static void main(String[] args) {
+        Map<String, String> options = new LinkedHashMap<>();
+        for (String arg : args) {
+            if (arg.startsWith("--") && arg.contains("=")) {
+                options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+            }
+        }
+        new FuzzySearchBenchmark(options).run();
+    }
+
+    private void run() {
+        SplittableRandom random = new SplittableRandom(42);
+        List<String> words = new ArrayList<>(vocabulary);
+        for (int i = 0; i < vocabulary; i++) {
+            words.add(word(random));
+        }
+
+        long heapBefore = usedHeap();
+        long start = System.nanoTime();
+        FuzzyIndex index = new FuzzyIndex();
+        for (int i = 0; i < jobs; i++) {
+            String title = words.get(random.nextInt(words.size())) + " " + ROLES[random.nextInt(ROLES.length)];
+            index.put(String.format("%024x", i), List.of(title,
+                    SKILLS[random.nextInt(SKILLS.length)], SKILLS[random.nextInt(SKILLS.length)]));
+        }
+        long buildNanos = System.nanoTime() - start;
+        long heapAfter = usedHeap();
+        blackhole = index;
+
+        System.out.printf("%d jobs, %d queries%n", jobs, queries);
+        System.out.printf("build          %10.0f ms%n", buildNanos / 1e6);
+        System.out.printf("words          %10d%n", index.terms());
+        System.out.printf("postings       %10d%n", index.postings());
+        System.out.printf("retained heap  %10.1f MB%n", (heapAfter - heapBefore) / 1e6);
+
+        Set<String> vocabularyWords = new HashSet<>();
+        words.forEach(word -> vocabularyWords.add(word.toLowerCase(Locale.ROOT)));
+        for (String role : ROLES) {
+            vocabularyWords.add(role.toLowerCase(Locale.ROOT));
+        }
+        for (String skill : SKILLS) {
+            vocabularyWords.add(skill.toLowerCase(Locale.ROOT));
+        }
+        List<String> typos = new ArrayList<>(queries);
+        for (int i = 0; i < queries; i++) {
+            String word = random.nextBoolean()
+                    ? words.get(random.nextInt(words.size()))
+                    : SKILLS[random.nextInt(SKILLS.length)];
+            typos.add(misspell(word.toLowerCase(Locale.ROOT), random));
+        }
+
+        LatencyHistogram indexed = new LatencyHistogram();
+        LatencyHistogram scan = new LatencyHistogram();
+        int hits = 0;
+        // one untimed pass to warm up
+        for (int round = 0; round < 2; round++) {
+            for (String typo : typos) {
+                start = System.nanoTime();
+                List<String> result = index.search(typo, 50);
+                long elapsed = System.nanoTime() - start;
+                if (round > 0) {
+                    indexed.record(elapsed);
+                    hits += result.isEmpty() ? 0 : 1;
+                }
+                blackhole = result;
+            }
+        }
+        for (int round = 0; round < 2; round++) {
+            for (String typo : typos.subList(0, Math.min(typos.size(), 2000))) {
+                start = System.nanoTime();
+                blackhole = scan(vocabularyWords, typo);
+                if (round > 0) {
+                    scan.record(System.nanoTime() - start);
+                }
+            }
+        }
+
+        System.out.printf("queries with a hit %6.1f %%%n", 100.0 * hits / typos.size());
+        System.out.printf("%-14s %10s %10s %10s%n", "lookup", "p50 ms", "p99 ms", "max ms");
+        print("trigram index", indexed);
+        print("linear scan", scan);
+    }
+
+    private static Set<String> scan(Set<String> vocabulary, String typo) {
+        Set<String> similar = new HashSet<>();
+        int max = FuzzyIndex.maxDistance(typo.length());
+        for (String word : vocabulary) {
+            if (FuzzyIndex.distance(typo, word, max) <= max) {
+                similar.add(word);
+            }
+        }
+        return similar;
+    }
+
+    private static void print(String name, LatencyHistogram histogram) {
+        System.out.printf("%-14s %10.3f %10.3f %10.3f%n", name, histogram.percentileMillis(50),
+                histogram.percentileMillis(99), histogram.maxMillis());
+    }
+
+    private static String word(SplittableRandom random) {
+        StringBuilder word = new StringBuilder();
+        word.append(Character.toUpperCase(LETTERS.charAt(random.nextInt(LETTERS.length()))));
+        int length = 4 + random.nextInt(8);
+        for (int i = 1; i < length; i++) {
+            word.append(LETTERS.charAt(random.nextInt(LETTERS.length())));
+        }
+        return word.toString();
+    }
+
+    /**
+     * Applies one random deletion, insertion or substitution.
+     */
+    private static String misspell(String word, SplittableRandom random) {
+        int at = random.nextInt(word.length());
+        char letter = LETTERS.charAt(random.nextInt(LETTERS.length()));
+        return switch (random.nextInt(3)) {
+            case 0 -> word.substring(0, at) + word.substring(at + 1);
+            case 1 -> word.substring(0, at) + letter + word.substring(at);
+            default -> word.substring(0, at) + letter + word.substring(at + 1);
+        };
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,80 @@
+package org.example.oopproject1.loadtest;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free latency histogram with logarithmic buckets.
+ * <p>
+ * Bucket boundaries grow by 5%, so any percentile is reported within 5% of the
+ * true value while recording stays a single atomic increment, cheap enough for
+ * thousands of virtual users hitting the same operation.
+ * </p>
+ *
+ * @since 1.1
+ */
+final class LatencyHistogram {
+
+    private static final double GROWTH = 1.05;
+    private static final double LOG_GROWTH = Math.log(GROWTH);
+    // 1 µs up to well over ten minutes
+    private static final int BUCKETS = 600;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Records one observation.
+     *
+     * @param nanos the latency in nanoseconds
+     */
+    void record(long nanos) {
+        long micros = Math.max(1, nanos / 1000);
+        int bucket = (int) Math.min(BUCKETS - 1, Math.log(micros) / LOG_GROWTH);
+        buckets.incrementAndGet(bucket);
+        count.increment();
+        max.accumulate(micros);
+    }
+
+    /**
+     * Returns the number of recorded observations.
+     *
+     * @return the count
+     */
+    long count() {
+        return count.sum();
+    }
+
+    /**
+     * Returns the largest recorded latency.
+     *
+     * @return the maximum in milliseconds
+     */
+    double maxMillis() {
+        return max.get() / 1000.0;
+    }
+
+    /**
+     * Returns an upper bound of the given percentile.
+     *
+     * @param percentile a value in {@code (0, 100]}
+     * @return the latency in milliseconds below which that share of observations fall
+     */
+    double percentileMillis(double percentile) {
+        long total = count();
+        if (total == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(total * percentile / 100.0);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += buckets.get(i);
+            if (seen >= rank) {
+                return Math.min(Math.pow(GROWTH, i + 1), max.get()) / 1000.0;
+            }
+        }
+        return maxMillis();
+    }
+}
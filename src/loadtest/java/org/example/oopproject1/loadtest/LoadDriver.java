@@ -0,0 +1,294 @@
+package org.example.oopproject1.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Replays a mixed browse/search/apply/review workload against the REST API.
+ * <p>
+ * Each virtual user runs on its own virtual thread, logs in once as a generated
+ * candidate and a generated recruiter (see {@code SyntheticDataGenerator}), and
+ * then loops over operations drawn from the configured mix until the run ends.
+ * Latencies are recorded per operation and summarised as throughput and
+ * percentiles every ten seconds and at the end.
+ * </p>
+ * <p>
+ * Run with {@code gradle loadTest -PloadArgs="--users=200 --duration=120"}.
+ * Options (defaults in brackets): {@code --base-url} [http://localhost:8080/api],
+ * {@code --users} [50], {@code --duration} seconds [60],
+ * {@code --mix} [browse:60,search:20,apply:10,review:10],
+ * {@code --candidates} accounts to log in as [1000], {@code --recruiters} [1000],
+ * {@code --password} [loadtest123], {@code --think-ms} pause between operations [0],
+ * {@code --account-prefix} of accounts made by an appended generator run, e.g. {@code 6650a1b2.} [none].
+ * </p>
+ *
+ * @since 1.1
+ */
+public final class LoadDriver {
+
+    /**
+     * Operations making up the workload.
+     */
+    enum Operation { BROWSE, SEARCH, APPLY, REVIEW }
+
+    private static final String[] KEYWORDS = {
+            "Java", "Python", "Remote", "Senior", "Engineer", "Data", "React", "Kubernetes", "London", "Manager"
+    };
+    private static final String[] NEXT_STATUS = {"REVIEWING", "INTERVIEWED", "REJECTED", "ACCEPTED"};
+
+    private final HttpClient http = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final Map<String, String> options;
+    private final String baseUrl;
+    private final Map<Operation, Integer> mix;
+    private final Map<Operation, LatencyHistogram> latencies = new EnumMap<>(Operation.class);
+    private final Map<Operation, LongAdder> errors = new EnumMap<>(Operation.class);
+    private final LongAdder conflicts = new LongAdder();
+    private volatile boolean running = true;
+
+    private LoadDriver(Map<String, String> options) {
+        this.options = options;
+        this.baseUrl = option("base-url", "http://localhost:8080/api");
+        this.mix = parseMix(option("mix", "browse:60,search:20,apply:10,review:10"));
+        for (Operation op : Operation.values()) {
+            latencies.put(op, new LatencyHistogram());
+            errors.put(op, new LongAdder());
+        }
+    }
+
+    /**
+     * Entry point.
+     *
+     * @param args {@code --name=value} options, see the class documentation
+     * @throws Exception if the run is interrupted
+     */
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new LinkedHashMap<>();
+        for (String arg : args) {
+            if (arg.startsWith("--") && arg.contains("=")) {
+                options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+            }
+        }
+        new LoadDriver(options).run();
+    }
+
+    private void run() throws Exception {
+        int users = Integer.parseInt(option("users", "50"));
+        int seconds = Integer.parseInt(option("duration", "60"));
+        System.out.printf("Driving %s with %d users for %d s, mix %s%n", baseUrl, users, seconds, mix);
+
+        long started = System.nanoTime();
+        ExecutorService pool = Executors.newVirtualThreadPerTaskExecutor();
+        for (int i = 0; i < users; i++) {
+            int user = i;
+            pool.execute(() -> virtualUser(user));
+        }
+        long deadline = started + TimeUnit.SECONDS.toNanos(seconds);
+        while (System.nanoTime() < deadline) {
+            Thread.sleep(Math.min(10_000, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime()) + 1));
+            report(System.nanoTime() - started);
+        }
+        running = false;
+        pool.shutdown();
+        pool.awaitTermination(30, TimeUnit.SECONDS);
+        System.out.println("Final:");
+        report(System.nanoTime() - started);
+    }
+
+    private void virtualUser(int user) {
+        SplittableRandom random = new SplittableRandom(user);
+        int candidate = user % Integer.parseInt(option("candidates", "1000"));
+        int recruiter = user % Integer.parseInt(option("recruiters", "1000"));
+        long thinkMs = Long.parseLong(option("think-ms", "0"));
+        String prefix = option("account-prefix", "");
+        String candidateToken;
+        String recruiterToken;
+        try {
+            candidateToken = login(prefix + "candidate" + candidate);
+            recruiterToken = login(prefix + "recruiter" + recruiter);
+        } catch (Exception e) {
+            System.err.printf("User %d could not log in: %s%n", user, e.getMessage());
+            return;
+        }
+        String email = prefix + "candidate" + candidate + "@example.test";
+        List<String> seenJobs = new ArrayList<>();
+
+        while (running) {
+            Operation op = pickOperation(random);
+            long start = System.nanoTime();
+            try {
+                switch (op) {
+                    case BROWSE -> browse(candidateToken, random, seenJobs);
+                    case SEARCH -> search(candidateToken, random);
+                    case APPLY -> apply(candidateToken, email, random, seenJobs);
+                    case REVIEW -> review(recruiterToken, random);
+                }
+                latencies.get(op).record(System.nanoTime() - start);
+            } catch (Exception e) {
+                errors.get(op).increment();
+            }
+            if (thinkMs > 0) {
+                try {
+                    Thread.sleep(thinkMs);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private void browse(String token, SplittableRandom random, List<String> seenJobs) throws Exception {
+        // early pages are requested far more often, like real listing traffic
+        int page = (int) (50 * Math.pow(random.nextDouble(), 3));
+        JsonNode jobs = get(token, "/jobs/paged?size=20&page=" + page).path("content");
+        if (jobs.isEmpty()) {
+            return;
+        }
+        for (JsonNode job : jobs) {
+            if (seenJobs.size() < 200) {
+                seenJobs.add(job.path("id").asText());
+            }
+        }
+        get(token, "/jobs/" + jobs.get(random.nextInt(jobs.size())).path("id").asText());
+    }
+
+    private void search(String token, SplittableRandom random) throws Exception {
+        String keyword = KEYWORDS[random.nextInt(KEYWORDS.length)];
+        get(token, "/jobs/search/paged?size=20&keyword=" + URLEncoder.encode(keyword, StandardCharsets.UTF_8));
+    }
+
+    private void apply(String token, String email, SplittableRandom random, List<String> seenJobs)
+            throws Exception {
+        if (seenJobs.isEmpty()) {
+            browse(token, random, seenJobs);
+            if (seenJobs.isEmpty()) {
+                return;
+            }
+        }
+        ObjectNode application = mapper.createObjectNode()
+                .put("jobId", seenJobs.get(random.nextInt(seenJobs.size())))
+                .put("candidateName", "Load Test")
+                .put("email", email)
+                .put("phone", "555-000-0000")
+                .put("status", "SUBMITTED");
+        HttpResponse<String> response = send(token, HttpRequest.newBuilder(uri("/applications"))
+                .header("Content-Type", "application/json")
+                .header("Idempotency-Key", UUID.randomUUID().toString())
+                .POST(HttpRequest.BodyPublishers.ofString(application.toString())));
+        if (response.statusCode() == 409) {
+            // already applied: the server short-circuits, which is the behaviour being measured
+            conflicts.increment();
+        } else {
+            check(response);
+        }
+    }
+
+    private void review(String token, SplittableRandom random) throws Exception {
+        JsonNode applications = get(token, "/recruiters/me/applications?size=20&view=full").path("content");
+        if (applications.isEmpty()) {
+            return;
+        }
+        ObjectNode application = (ObjectNode) applications.get(random.nextInt(applications.size()));
+        application.put("status", NEXT_STATUS[random.nextInt(NEXT_STATUS.length)]);
+        check(send(token, HttpRequest.newBuilder(uri("/applications/" + application.path("id").asText()))
+                .header("Content-Type", "application/json")
+                .PUT(HttpRequest.BodyPublishers.ofString(application.toString()))));
+    }
+
+    private String login(String username) throws Exception {
+        String body = mapper.createObjectNode()
+                .put("username", username)
+                .put("password", option("password", "loadtest123"))
+                .toString();
+        HttpResponse<String> response = http.send(HttpRequest.newBuilder(uri("/auth/login"))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(body))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+        return mapper.readTree(check(response).body()).path("token").asText();
+    }
+
+    private JsonNode get(String token, String path) throws Exception {
+        return mapper.readTree(check(send(token, HttpRequest.newBuilder(uri(path)).GET())).body());
+    }
+
+    private HttpResponse<String> send(String token, HttpRequest.Builder request) throws Exception {
+        return http.send(request.header("Authorization", "Bearer " + token)
+                        .timeout(Duration.ofSeconds(30))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static HttpResponse<String> check(HttpResponse<String> response) {
+        if (response.statusCode() >= 400) {
+            throw new IllegalStateException("HTTP " + response.statusCode() + " for " + response.uri());
+        }
+        return response;
+    }
+
+    private URI uri(String path) {
+        return URI.create(baseUrl + path);
+    }
+
+    private Operation pickOperation(SplittableRandom random) {
+        int total = mix.values().stream().mapToInt(Integer::intValue).sum();
+        int roll = random.nextInt(total);
+        for (Map.Entry<Operation, Integer> entry : mix.entrySet()) {
+            roll -= entry.getValue();
+            if (roll < 0) {
+                return entry.getKey();
+            }
+        }
+        return Operation.BROWSE;
+    }
+
+    private void report(long elapsedNanos) {
+        double seconds = elapsedNanos / 1e9;
+        System.out.printf("%-8s %9s %9s %8s %9s %9s %9s %9s%n",
+                "op", "count", "errors", "req/s", "p50 ms", "p95 ms", "p99 ms", "max ms");
+        for (Operation op : Operation.values()) {
+            LatencyHistogram histogram = latencies.get(op);
+            System.out.printf("%-8s %9d %9d %8.1f %9.1f %9.1f %9.1f %9.1f%n",
+                    op.name().toLowerCase(), histogram.count(), errors.get(op).sum(), histogram.count() / seconds,
+                    histogram.percentileMillis(50), histogram.percentileMillis(95),
+                    histogram.percentileMillis(99), histogram.maxMillis());
+        }
+        System.out.printf("apply conflicts (already applied): %d%n%n", conflicts.sum());
+    }
+
+    private String option(String name, String defaultValue) {
+        return options.getOrDefault(name, defaultValue);
+    }
+
+    private static Map<Operation, Integer> parseMix(String spec) {
+        Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+        for (String part : spec.split(",")) {
+            String[] pair = part.split(":");
+            mix.put(Operation.valueOf(pair[0].trim().toUpperCase()), Integer.parseInt(pair[1].trim()));
+        }
+        return mix;
+    }
+}
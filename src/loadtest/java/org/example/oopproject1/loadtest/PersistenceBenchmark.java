@@ -0,0 +1,156 @@
+package org.example.oopproject1.loadtest;
+
+import org.example.oopproject1.model.Job;
+import org.example.oopproject1.codec.ApplicationCodec;
+import org.example.oopproject1.codec.EntityCodecs;
+import org.example.oopproject1.codec.JobCodec;
+import org.example.oopproject1.repository.inmemory.InMemoryApplicationRepository;
+import org.example.oopproject1.repository.inmemory.InMemoryArchiveRepository;
+import org.example.oopproject1.repository.inmemory.InMemoryJobRepository;
+import org.example.oopproject1.repository.inmemory.InMemoryMongoRepository;
+import org.example.oopproject1.repository.inmemory.InMemoryPersistenceEngine;
+import org.example.oopproject1.repository.inmemory.InMemoryRecruiterRepository;
+import org.example.oopproject1.repository.inmemory.InMemoryUserRepository;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Measures the in-memory persistence engine: write throughput through the
+ * write-ahead log, then startup time when recovering from the log alone and
+ * from a snapshot.
+ * <p>
+ * Run with {@code gradle persistenceBenchmark -PbenchArgs="--documents=1000000 --sync=group"}.
+ * Options (defaults in brackets): {@code --dir} data directory [a new temporary directory],
+ * {@code --documents} jobs to write [200000], {@code --writers} concurrent writers [64],
+ * {@code --sync} {@code group} or {@code async} [group],
+ * {@code --recovery-threads} [0, one per processor].
+ * </p>
+ *
+ * @since 1.1
+ */
+public final class PersistenceBenchmark {
+
+    private static final String[] COMPANIES = {"Acme", "Globex", "Initech", "Umbrella", "Hooli", "Stark"};
+    private static final String[] LOCATIONS = {"London", "Berlin", "Remote", "New York", "Paris", "Tokyo"};
+
+    private final Map<String, String> options;
+
+    private PersistenceBenchmark(Map<String, String> options) {
+        this.options = options;
+    }
+
+    /**
+     * Entry point.
+     *
+     * @param args {@code --name=value} options, see the class documentation
+     * @throws Exception if the run fails
+     */
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new LinkedHashMap<>();
+        for (String arg : args) {
+            if (arg.startsWith("--") && arg.contains("=")) {
+                options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+            }
+        }
+        new PersistenceBenchmark(options).run();
+    }
+
+    private void run() throws Exception {
+        Path dir = options.containsKey("dir")
+                ? Path.of(options.get("dir"))
+                : Files.createTempDirectory("persistence-benchmark");
+        int documents = Integer.parseInt(options.getOrDefault("documents", "200000"));
+        int writers = Integer.parseInt(options.getOrDefault("writers", "64"));
+        System.out.printf("Writing %d jobs with %d writers, sync=%s, into %s%n",
+                documents, writers, options.getOrDefault("sync", "group"), dir);
+
+        Store writing = new Store(dir);
+        writing.engine.recover();
+        LatencyHistogram latencies = new LatencyHistogram();
+        AtomicInteger next = new AtomicInteger();
+        long started = System.nanoTime();
+        ExecutorService pool = Executors.newVirtualThreadPerTaskExecutor();
+        for (int w = 0; w < writers; w++) {
+            pool.execute(() -> {
+                SplittableRandom random = new SplittableRandom();
+                for (int i = next.getAndIncrement(); i < documents; i = next.getAndIncrement()) {
+                    long start = System.nanoTime();
+                    writing.jobs.insert(job(i, random));
+                    latencies.record(System.nanoTime() - start);
+                }
+            });
+        }
+        pool.shutdown();
+        pool.awaitTermination(1, TimeUnit.HOURS);
+        double seconds = (System.nanoTime() - started) / 1e9;
+        System.out.printf("write:    %.0f docs/s, p50 %.2f ms, p99 %.2f ms, max %.2f ms%n",
+                documents / seconds, latencies.percentileMillis(50), latencies.percentileMillis(99),
+                latencies.maxMillis());
+        writing.engine.flush();
+
+        // the writing store is abandoned without a shutdown snapshot, as after a crash
+        Store fromLog = new Store(dir);
+        report("log-only", fromLog.engine.recover());
+
+        long snapshotStart = System.nanoTime();
+        fromLog.engine.snapshot();
+        System.out.printf("snapshot: %d ms%n", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - snapshotStart));
+
+        Store fromSnapshot = new Store(dir);
+        report("snapshot", fromSnapshot.engine.recover());
+        if (fromSnapshot.jobs.count() != documents) {
+            throw new IllegalStateException("Recovered " + fromSnapshot.jobs.count() + " of " + documents + " jobs");
+        }
+    }
+
+    private void report(String label, InMemoryPersistenceEngine.Recovery recovery) {
+        long documents = recovery.snapshotDocuments() + recovery.logRecords();
+        System.out.printf("recover %-9s %d ms (%d snapshot docs, %d log records, %.0f docs/s)%n",
+                label + ":", recovery.duration().toMillis(), recovery.snapshotDocuments(), recovery.logRecords(),
+                documents / Math.max(1e-9, recovery.duration().toNanos() / 1e9));
+    }
+
+    private static Job job(int index, SplittableRandom random) {
+        Job job = new Job();
+        job.setTitle("Engineer " + index);
+        job.setCompany(COMPANIES[random.nextInt(COMPANIES.length)]);
+        job.setDescription("Build and run services. ".repeat(1 + random.nextInt(20)));
+        job.setRequiredSkills(List.of("Java", "Spring Boot", "MongoDB"));
+        job.setMinSalary(40000.0 + random.nextInt(60000));
+        job.setMaxSalary(job.getMinSalary() + 20000);
+        job.setLocation(LOCATIONS[random.nextInt(LOCATIONS.length)]);
+        job.setEmploymentType("Full-time");
+        job.setPostDate(LocalDate.of(2024, 1, 1).plusDays(index % 365));
+        job.setDeadlineDate(job.getPostDate().plusDays(60));
+        job.setActive(true);
+        job.setRecruiterId("recruiter" + (index % 1000));
+        return job;
+    }
+
+    /**
+     * A fresh set of repositories with an engine over the data directory.
+     */
+    private final class Store {
+        private final InMemoryJobRepository jobs = new InMemoryJobRepository();
+        private final InMemoryPersistenceEngine engine;
+
+        private Store(Path dir) {
+            List<InMemoryMongoRepository<?>> repositories = List.of(jobs, new InMemoryApplicationRepository(),
+                    new InMemoryRecruiterRepository(), new InMemoryUserRepository());
+            engine = new InMemoryPersistenceEngine(repositories, new InMemoryArchiveRepository(repositories),
+                    new EntityCodecs(List.of(new JobCodec(), new ApplicationCodec())), dir.toString(),
+                    options.getOrDefault("sync", "group"),
+                    64 << 20, Integer.parseInt(options.getOrDefault("recovery-threads", "0")));
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package org.example.oopproject1.loadtest;
+
+import org.example.oopproject1.analytics.TDigest;
+import org.example.oopproject1.util.ZipfSampler;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Measures the {@link TDigest} sketches behind salary percentiles: build
+ * time, centroids and retained heap per group, percentile query latency for
+ * one group and for the merge of several, and the rank error against exact
+ * percentiles, compared with the scan-and-sort a query would otherwise
+ * need.
+ * <p>
+ * Run with {@code gradle salarySketchBenchmark -PbenchArgs="--jobs=1000000"}.
+ * Options (defaults in brackets): {@code --jobs} salaries [1000000],
+ * {@code --groups} distinct titles [2000], {@code --queries} timed
+ * queries [20000], {@code --compression} t-digest compression [100].
+ * </p>
+ *
+ * @since 1.1
+ */
+public final class SalarySketchBenchmark {
+
+    private static final double[] QUANTILES = {0.1, 0.25, 0.5, 0.75, 0.9};
+
+    /**
+     * Sink for results so the JIT cannot drop the work.
+     */
+    private static volatile Object blackhole;
+
+    private final int jobs;
+    private final int groups;
+    private final int queries;
+    private final double compression;
+
+    private SalarySketchBenchmark(Map<String, String> options) {
+        this.jobs = Integer.parseInt(options.getOrDefault("jobs", "1000000"));
+        this.groups = Integer.parseInt(options.getOrDefault("groups", "2000"));
+        this.queries = Integer.parseInt(options.getOrDefault("queries", "20000"));
+        this.compression = Double.parseDouble(options.getOrDefault("compression", "100"));
+    }
+
+    /**
+     * Entry point.
+     *
+     * @param args {@code --name=value} options, see the class documentation
+     */
+    public static void main(String[] args) {
+        Map<String, String> options = new LinkedHashMap<>();
+        for (String arg : args) {
+            if (arg.startsWith("--") && arg.contains("=")) {
+                options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+            }
+        }
+        new SalarySketchBenchmark(options).run();
+    }
+
+    private void run() {
+        SplittableRandom random = new SplittableRandom(42);
+        int[] groupOf = new int[jobs];
+        double[] salaries = new double[jobs];
+        ZipfSampler zipf = new ZipfSampler(groups, 1.1);
+        for (int i = 0; i < jobs; i++) {
+            groupOf[i] = zipf.sample(random);
+            // log-normal around a per-group median between 30k and 150k
+            double median = 30_000 + 120_000 * ((groupOf[i] * 7919L) % groups) / (double) groups;
+            salaries[i] = median * Math.exp(0.35 * random.nextGaussian());
+        }
+
+        long heapBefore = usedHeap();
+        long start = System.nanoTime();
+        TDigest[] digests = new TDigest[groups];
+        for (int g = 0; g < groups; g++) {
+            digests[g] = new TDigest(compression);
+        }
+        for (int i = 0; i < jobs; i++) {
+            digests[groupOf[i]].add(salaries[i]);
+        }
+        long centroids = 0;
+        for (TDigest digest : digests) {
+            centroids += digest.centroids();
+        }
+        long buildNanos = System.nanoTime() - start;
+        long heapAfter = usedHeap();
+        blackhole = digests;
+
+        System.out.printf("%d salaries in %d groups, %d queries, compression %.0f%n", jobs, groups, queries,
+                compression);
+        System.out.printf("build          %10.0f ms%n", buildNanos / 1e6);
+        System.out.printf("centroids      %10d (%.1f per group)%n", centroids, centroids / (double) groups);
+        System.out.printf("retained heap  %10.1f MB%n", (heapAfter - heapBefore) / 1e6);
+
+        int[] targets = new int[queries];
+        for (int i = 0; i < queries; i++) {
+            targets[i] = zipf.sample(random);
+        }
+        LatencyHistogram single = new LatencyHistogram();
+        LatencyHistogram merged = new LatencyHistogram();
+        LatencyHistogram scan = new LatencyHistogram();
+        // one untimed pass to warm up
+        for (int round = 0; round < 2; round++) {
+            for (int target : targets) {
+                start = System.nanoTime();
+                blackhole = percentiles(digests[target]);
+                if (round > 0) {
+                    single.record(System.nanoTime() - start);
+                }
+                start = System.nanoTime();
+                TDigest union = new TDigest(compression);
+                for (int g = target; g < target + 5; g++) {
+                    union.merge(digests[g % groups]);
+                }
+                blackhole = percentiles(union);
+                if (round > 0) {
+                    merged.record(System.nanoTime() - start);
+                }
+            }
+            for (int q = 0; q < Math.min(queries, 200); q++) {
+                start = System.nanoTime();
+                blackhole = exact(groupOf, salaries, targets[q]);
+                if (round > 0) {
+                    scan.record(System.nanoTime() - start);
+                }
+            }
+        }
+
+        double worst = 0;
+        for (int g = 0; g < Math.min(groups, 50); g++) {
+            double[] sorted = exact(groupOf, salaries, g);
+            for (double q : QUANTILES) {
+                double estimate = digests[g].quantile(q);
+                int rank = Arrays.binarySearch(sorted, estimate);
+                rank = rank >= 0 ? rank : -rank - 1;
+                worst = Math.max(worst, Math.abs(rank / (double) sorted.length - q));
+            }
+        }
+
+        System.out.printf("worst rank error (50 largest groups) %6.3f %%%n", 100 * worst);
+        System.out.printf("%-14s %10s %10s %10s%n", "query", "p50 ms", "p99 ms", "max ms");
+        print("one sketch", single);
+        print("merge of five", merged);
+        print("scan and sort", scan);
+    }
+
+    private static double[] percentiles(TDigest digest) {
+        double[] result = new double[QUANTILES.length];
+        for (int i = 0; i < QUANTILES.length; i++) {
+            result[i] = digest.quantile(QUANTILES[i]);
+        }
+        return result;
+    }
+
+    private static double[] exact(int[] groupOf, double[] salaries, int group) {
+        double[] matching = new double[salaries.length];
+        int found = 0;
+        for (int i = 0; i < salaries.length; i++) {
+            if (groupOf[i] == group) {
+                matching[found++] = salaries[i];
+            }
+        }
+        double[] sorted = Arrays.copyOf(matching, found);
+        Arrays.sort(sorted);
+        return sorted;
+    }
+
+    private static void print(String name, LatencyHistogram histogram) {
+        System.out.printf("%-14s %10.4f %10.4f %10.4f%n", name, histogram.percentileMillis(50),
+                histogram.percentileMillis(99), histogram.maxMillis());
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,6 @@
+/**
+ * Load driver replaying a mixed browse, search, apply and review workload
+ * against a running instance of the REST API, and benchmarks of the storage
+ * components.
+ */
+package org.example.oopproject1.loadtest;
@@ -0,0 +1,351 @@
+package org.example.oopproject1.analytics;
+
+import java.util.Arrays;
+
+/**
+ * Mergeable sketch of a distribution answering quantile queries with small
+ * relative error, after Dunning's merging t-digest.
+ * <p>
+ * Values are buffered and periodically merged into a sorted list of
+ * centroids (a mean and a weight each). The {@code k1} scale function keeps
+ * centroids near the tails small and lets those near the median grow, so
+ * extreme percentiles stay accurate; with compression {@code δ} a digest
+ * holds at most about {@code δ} centroids whatever the number of values.
+ * Two digests merge by adding one's centroids to the other, which makes
+ * per-group digests combinable into a digest of the union.
+ * </p>
+ * <p>
+ * Instances are not thread-safe; even queries may compact the buffer.
+ * </p>
+ *
+ * @since 1.1
+ */
+public final class TDigest {
+
+    private final double compression;
+    private double[] means = new double[0];
+    private double[] weights = new double[0];
+    private int centroids;
+
+    private final int bufferLimit;
+    private double[] bufferMeans = new double[8];
+    private double[] bufferWeights = new double[8];
+    private int buffered;
+
+    private double totalWeight;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+
+    /**
+     * Constructs an empty digest.
+     *
+     * @param compression the accuracy parameter {@code δ}; 100 gives errors well under 1% of rank
+     * @throws IllegalArgumentException if the compression is below 10
+     */
+    public TDigest(double compression) {
+        if (!(compression >= 10)) {
+            throw new IllegalArgumentException("Compression must be at least 10: " + compression);
+        }
+        this.compression = compression;
+        this.bufferLimit = (int) (5 * compression);
+    }
+
+    /**
+     * Recreates a digest from the centroids of {@link #means()} and
+     * {@link #weights()}, e.g. after persisting it.
+     *
+     * @param compression the compression the digest was built with
+     * @param means       the centroid means in ascending order
+     * @param weights     the centroid weights
+     * @param min         the smallest value added
+     * @param max         the largest value added
+     * @return the digest
+     * @throws IllegalArgumentException if the arrays differ in length
+     */
+    public static TDigest of(double compression, double[] means, double[] weights, double min, double max) {
+        if (means.length != weights.length) {
+            throw new IllegalArgumentException("Got " + means.length + " means but " + weights.length + " weights");
+        }
+        TDigest digest = new TDigest(compression);
+        digest.means = means.clone();
+        digest.weights = weights.clone();
+        digest.centroids = means.length;
+        for (double weight : weights) {
+            digest.totalWeight += weight;
+        }
+        if (digest.centroids > 0) {
+            digest.min = min;
+            digest.max = max;
+        }
+        return digest;
+    }
+
+    /**
+     * Adds a value.
+     *
+     * @param value the value; NaN is ignored
+     */
+    public void add(double value) {
+        add(value, 1);
+    }
+
+    /**
+     * Adds a value with a weight, i.e. that many times over.
+     *
+     * @param value  the value; NaN is ignored
+     * @param weight the positive weight
+     */
+    public void add(double value, double weight) {
+        if (Double.isNaN(value) || !(weight > 0)) {
+            return;
+        }
+        if (buffered == bufferMeans.length) {
+            if (buffered < bufferLimit) {
+                // grow on demand, so the many digests of rare values stay small
+                bufferMeans = Arrays.copyOf(bufferMeans, Math.min(bufferLimit, buffered * 2));
+                bufferWeights = Arrays.copyOf(bufferWeights, bufferMeans.length);
+            } else {
+                compress();
+            }
+        }
+        bufferMeans[buffered] = value;
+        bufferWeights[buffered] = weight;
+        buffered++;
+        totalWeight += weight;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+    }
+
+    /**
+     * Adds every value summarized by another digest, which is left unchanged.
+     *
+     * @param other the digest to merge in
+     */
+    public void merge(TDigest other) {
+        other.compress();
+        for (int i = 0; i < other.centroids; i++) {
+            add(other.means[i], other.weights[i]);
+        }
+        if (other.centroids > 0) {
+            min = Math.min(min, other.min);
+            max = Math.max(max, other.max);
+        }
+    }
+
+    /**
+     * Estimates the value below which a fraction of the values lie,
+     * interpolating between centroid means and the exact extremes.
+     *
+     * @param q the fraction, between 0 and 1
+     * @return the estimated quantile, or NaN if the digest is empty
+     * @throws IllegalArgumentException if {@code q} is outside [0, 1]
+     */
+    public double quantile(double q) {
+        if (!(q >= 0 && q <= 1)) {
+            throw new IllegalArgumentException("Quantile must be between 0 and 1: " + q);
+        }
+        compress();
+        if (centroids == 0) {
+            return Double.NaN;
+        }
+        if (centroids == 1) {
+            return means[0];
+        }
+        double index = q * totalWeight;
+        if (index < 1) {
+            return min;
+        }
+        if (index > totalWeight - 1) {
+            return max;
+        }
+        // a centroid of weight one is a value seen exactly; heavier ones span half their weight either side
+        double firstHalf = weights[0] / 2;
+        if (index < firstHalf) {
+            return weights[0] > 1 ? min + (index - 1) / (firstHalf - 1) * (means[0] - min) : means[0];
+        }
+        double soFar = firstHalf;
+        for (int i = 0; i < centroids - 1; i++) {
+            double step = (weights[i] + weights[i + 1]) / 2;
+            if (soFar + step > index) {
+                double leftSingle = weights[i] == 1 ? 0.5 : 0;
+                double rightSingle = weights[i + 1] == 1 ? 0.5 : 0;
+                if (index - soFar < leftSingle) {
+                    return means[i];
+                }
+                if (soFar + step - index <= rightSingle) {
+                    return means[i + 1];
+                }
+                double fraction = (index - soFar - leftSingle) / (step - leftSingle - rightSingle);
+                return means[i] + fraction * (means[i + 1] - means[i]);
+            }
+            soFar += step;
+        }
+        double lastHalf = weights[centroids - 1] / 2;
+        double last = means[centroids - 1];
+        if (weights[centroids - 1] == 1 || lastHalf <= 1) {
+            return last;
+        }
+        double fromLast = index - (totalWeight - lastHalf);
+        return last + Math.max(0, fromLast) / (lastHalf - 1) * (max - last);
+    }
+
+    /**
+     * Returns the total weight added, i.e. the number of values for unit weights.
+     *
+     * @return the total weight
+     */
+    public double count() {
+        return totalWeight;
+    }
+
+    /**
+     * Returns the smallest value added.
+     *
+     * @return the minimum, or NaN if the digest is empty
+     */
+    public double min() {
+        return totalWeight > 0 ? min : Double.NaN;
+    }
+
+    /**
+     * Returns the largest value added.
+     *
+     * @return the maximum, or NaN if the digest is empty
+     */
+    public double max() {
+        return totalWeight > 0 ? max : Double.NaN;
+    }
+
+    /**
+     * Returns the compression the digest was built with.
+     *
+     * @return the compression
+     */
+    public double compression() {
+        return compression;
+    }
+
+    /**
+     * Returns the number of centroids after merging the buffer.
+     *
+     * @return the centroid count
+     */
+    public int centroids() {
+        compress();
+        return centroids;
+    }
+
+    /**
+     * Returns the centroid means in ascending order.
+     *
+     * @return a copy of the means
+     */
+    public double[] means() {
+        compress();
+        return Arrays.copyOf(means, centroids);
+    }
+
+    /**
+     * Returns the centroid weights, in the order of {@link #means()}.
+     *
+     * @return a copy of the weights
+     */
+    public double[] weights() {
+        compress();
+        return Arrays.copyOf(weights, centroids);
+    }
+
+    /**
+     * Merges the buffered values into the centroids: both are combined in
+     * ascending order of mean and adjacent centroids are folded together as
+     * long as the result stays within one unit of the scale function.
+     */
+    private void compress() {
+        if (buffered == 0) {
+            return;
+        }
+        int n = centroids + buffered;
+        double[] sortedMeans = new double[n];
+        double[] sortedWeights = new double[n];
+        sortBuffer();
+        // both runs are sorted: merge them
+        int a = 0;
+        int b = 0;
+        for (int i = 0; i < n; i++) {
+            if (b == buffered || (a < centroids && means[a] <= bufferMeans[b])) {
+                sortedMeans[i] = means[a];
+                sortedWeights[i] = weights[a++];
+            } else {
+                sortedMeans[i] = bufferMeans[b];
+                sortedWeights[i] = bufferWeights[b++];
+            }
+        }
+        buffered = 0;
+
+        double[] mergedMeans = new double[n];
+        double[] mergedWeights = new double[n];
+        int merged = 0;
+        double mean = sortedMeans[0];
+        double weight = sortedWeights[0];
+        double before = 0;
+        double limit = totalWeight * kInverse(k(0) + 1);
+        for (int i = 1; i < n; i++) {
+            if (before + weight + sortedWeights[i] <= limit) {
+                weight += sortedWeights[i];
+                mean += (sortedMeans[i] - mean) * sortedWeights[i] / weight;
+            } else {
+                mergedMeans[merged] = mean;
+                mergedWeights[merged++] = weight;
+                before += weight;
+                limit = totalWeight * kInverse(k(before / totalWeight) + 1);
+                mean = sortedMeans[i];
+                weight = sortedWeights[i];
+            }
+        }
+        mergedMeans[merged] = mean;
+        mergedWeights[merged++] = weight;
+        means = Arrays.copyOf(mergedMeans, merged);
+        weights = Arrays.copyOf(mergedWeights, merged);
+        centroids = merged;
+    }
+
+    /**
+     * Sorts the buffer by value. Values added one at a time all weigh one
+     * and sort as plain doubles; weighted ones, from {@link #merge}, carry
+     * their weights along.
+     */
+    private void sortBuffer() {
+        boolean unitWeights = true;
+        for (int i = 0; i < buffered && unitWeights; i++) {
+            unitWeights = bufferWeights[i] == 1;
+        }
+        if (unitWeights) {
+            Arrays.sort(bufferMeans, 0, buffered);
+            return;
+        }
+        Integer[] order = new Integer[buffered];
+        for (int i = 0; i < buffered; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (x, y) -> Double.compare(bufferMeans[x], bufferMeans[y]));
+        double[] values = new double[buffered];
+        double[] valueWeights = new double[buffered];
+        for (int i = 0; i < buffered; i++) {
+            values[i] = bufferMeans[order[i]];
+            valueWeights[i] = bufferWeights[order[i]];
+        }
+        System.arraycopy(values, 0, bufferMeans, 0, buffered);
+        System.arraycopy(valueWeights, 0, bufferWeights, 0, buffered);
+    }
+
+    private double k(double q) {
+        return compression / (2 * Math.PI) * Math.asin(2 * q - 1);
+    }
+
+    private double kInverse(double k) {
+        if (k >= compression / 4) {
+            return 1;
+        }
+        return (Math.sin(k * 2 * Math.PI / compression) + 1) / 2;
+    }
+}
@@ -0,0 +1,7 @@
+/**
+ * Streaming statistics kept alongside the database, such as the quantile
+ * sketches behind salary percentiles. Like the structures in
+ * {@code org.example.oopproject1.search}, they are plain data structures
+ * that services build and keep current from domain events.
+ */
+package org.example.oopproject1.analytics;
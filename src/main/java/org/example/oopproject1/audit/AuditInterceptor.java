@@ -0,0 +1,64 @@
+package org.example.oopproject1.audit;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.example.oopproject1.model.AuditEntry;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * Records every completed request to an {@link Audited} controller method,
+ * including failed and denied ones, with the status it ended with.
+ *
+ * @since 1.1
+ */
+class AuditInterceptor implements HandlerInterceptor {
+
+    /**
+     * Request attribute holding the ID found in the response body by {@link AuditResponseAdvice}.
+     */
+    static final String RESOURCE_ID = AuditInterceptor.class.getName() + ".resourceId";
+
+    private final AuditLog auditLog;
+
+    AuditInterceptor(AuditLog auditLog) {
+        this.auditLog = auditLog;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        if (!(handler instanceof HandlerMethod method)) {
+            return;
+        }
+        Audited audited = method.getMethodAnnotation(Audited.class);
+        if (audited == null) {
+            return;
+        }
+        int status = ex != null && response.getStatus() < 400 ? 500 : response.getStatus();
+        auditLog.record(new AuditEntry(null, Instant.now(), actor(), audited.action(), audited.resource(),
+                resourceId(request), request.getMethod(), request.getRequestURI(), status));
+    }
+
+    private static String actor() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.isAuthenticated() ? authentication.getName() : "anonymous";
+    }
+
+    @SuppressWarnings("unchecked")
+    private static String resourceId(HttpServletRequest request) {
+        Object fromBody = request.getAttribute(RESOURCE_ID);
+        if (fromBody != null) {
+            return fromBody.toString();
+        }
+        Map<String, String> variables =
+                (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        return variables != null ? variables.get("id") : null;
+    }
+}
@@ -0,0 +1,225 @@
+package org.example.oopproject1.audit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.example.oopproject1.model.AuditEntry;
+import org.example.oopproject1.repository.AuditEntryRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Asynchronous, batched audit log.
+ * <p>
+ * {@link #record(AuditEntry)} only places the entry in an
+ * {@link MpscRingBuffer}, so auditing adds no database round trip to the
+ * request. A single background thread drains the buffer every
+ * {@code app.audit.flush-interval-ms}, or as soon as it is half full, and
+ * hands up to {@code app.audit.batch-size} entries at a time to the
+ * configured {@link AuditSink}.
+ * </p>
+ * <p>
+ * When the buffer is full, {@code app.audit.overflow} decides: {@code drop}
+ * discards the entry at once, {@code block} makes the request wait up to
+ * {@code app.audit.block-timeout-ms} for space first. Losses are counted as
+ * {@code audit.entries{outcome=dropped}}, batches the sink rejected as
+ * {@code audit.entries{outcome=failed}}, and the buffer depth is reported as
+ * {@code audit.buffer.size}. Entries still buffered at shutdown are written
+ * before the application stops.
+ * </p>
+ *
+ * @since 1.1
+ */
+@Component
+public class AuditLog {
+    private static final Logger logger = LoggerFactory.getLogger(AuditLog.class);
+
+    /**
+     * What to do with an entry when the buffer is full.
+     */
+    public enum OverflowPolicy {
+        /** Discard the entry and count it as dropped. */
+        DROP,
+        /** Wait for the writer to make space, up to the block timeout. */
+        BLOCK
+    }
+
+    private final AuditSink sink;
+    private final AuditEntryRepository repository;
+    private final MpscRingBuffer<AuditEntry> buffer;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final OverflowPolicy overflow;
+    private final long blockTimeoutNanos;
+    private final Thread writer;
+    private volatile boolean running = true;
+
+    private final Counter written;
+    private final Counter dropped;
+    private final Counter failed;
+
+    /**
+     * Constructor injection of the sink and buffer settings.
+     *
+     * @param sink            where batches are written
+     * @param repository      repository answering audit queries
+     * @param meterRegistry   registry receiving audit metrics
+     * @param capacity        buffer capacity, rounded up to a power of two
+     * @param batchSize       maximum number of entries per sink write
+     * @param flushIntervalMs how long the writer sleeps when the buffer is empty
+     * @param overflow        policy when the buffer is full
+     * @param blockTimeoutMs  longest wait for space under {@link OverflowPolicy#BLOCK}
+     */
+    public AuditLog(AuditSink sink,
+                    AuditEntryRepository repository,
+                    MeterRegistry meterRegistry,
+                    @Value("${app.audit.capacity:65536}") int capacity,
+                    @Value("${app.audit.batch-size:500}") int batchSize,
+                    @Value("${app.audit.flush-interval-ms:200}") long flushIntervalMs,
+                    @Value("${app.audit.overflow:drop}") OverflowPolicy overflow,
+                    @Value("${app.audit.block-timeout-ms:50}") long blockTimeoutMs) {
+        this.sink = sink;
+        this.repository = repository;
+        this.buffer = new MpscRingBuffer<>(capacity);
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+        this.overflow = overflow;
+        this.blockTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(blockTimeoutMs);
+        this.writer = new Thread(this::drainLoop, "audit-writer");
+        this.writer.setDaemon(true);
+        this.written = meterRegistry.counter("audit.entries", "outcome", "written");
+        this.dropped = meterRegistry.counter("audit.entries", "outcome", "dropped");
+        this.failed = meterRegistry.counter("audit.entries", "outcome", "failed");
+        meterRegistry.gauge("audit.buffer.size", buffer, MpscRingBuffer::size);
+    }
+
+    /**
+     * Starts the writer thread.
+     */
+    @PostConstruct
+    public void start() {
+        writer.start();
+    }
+
+    /**
+     * Stops the writer once everything buffered has been written.
+     *
+     * @throws InterruptedException if interrupted while waiting for the writer
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(writer);
+        writer.join(TimeUnit.SECONDS.toMillis(10));
+    }
+
+    /**
+     * Queues an entry for writing. Never blocks under {@link OverflowPolicy#DROP}.
+     *
+     * @param entry the entry
+     * @return true if the entry was queued, false if it was dropped
+     */
+    public boolean record(AuditEntry entry) {
+        if (buffer.offer(entry)) {
+            if (buffer.size() > buffer.capacity() / 2) {
+                LockSupport.unpark(writer);
+            }
+            return true;
+        }
+        if (overflow == OverflowPolicy.BLOCK) {
+            long deadline = System.nanoTime() + blockTimeoutNanos;
+            do {
+                LockSupport.unpark(writer);
+                LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(100));
+                if (buffer.offer(entry)) {
+                    return true;
+                }
+            } while (System.nanoTime() < deadline);
+        }
+        dropped.increment();
+        return false;
+    }
+
+    /**
+     * Searches the stored entries, newest first as ordered by {@code pageable}.
+     * A document filter takes precedence over an actor filter; with neither,
+     * all entries are returned. Entries still in the buffer are not included.
+     *
+     * @param actor        username to filter by, or {@code null}
+     * @param resourceType document kind to filter by, or {@code null}
+     * @param resourceId   document ID to filter by together with {@code resourceType}, or {@code null}
+     * @param pageable     pagination and sorting information
+     * @return a Page of AuditEntry objects
+     */
+    public Page<AuditEntry> find(String actor, String resourceType, String resourceId, Pageable pageable) {
+        if (StringUtils.hasText(resourceType) && StringUtils.hasText(resourceId)) {
+            return repository.findByResourceTypeAndResourceId(resourceType, resourceId, pageable);
+        }
+        if (StringUtils.hasText(actor)) {
+            return repository.findByActor(actor, pageable);
+        }
+        if (StringUtils.hasText(resourceType)) {
+            return repository.findByResourceType(resourceType, pageable);
+        }
+        return repository.findAll(pageable);
+    }
+
+    /**
+     * Returns the number of entries dropped because the buffer was full.
+     *
+     * @return the dropped count
+     */
+    public long droppedCount() {
+        return (long) dropped.count();
+    }
+
+    /**
+     * Returns the number of entries lost because the sink rejected their batch.
+     *
+     * @return the failed count
+     */
+    public long failedCount() {
+        return (long) failed.count();
+    }
+
+    private void drainLoop() {
+        List<AuditEntry> batch = new ArrayList<>(batchSize);
+        while (true) {
+            // read before draining, so the pass after stop() empties the buffer
+            boolean stopping = !running;
+            buffer.drain(batch::add, batchSize);
+            if (!batch.isEmpty()) {
+                flush(batch);
+                batch.clear();
+            } else if (stopping && buffer.size() == 0) {
+                return;
+            } else if (stopping) {
+                // a producer has claimed a slot but not yet published its entry
+                Thread.onSpinWait();
+            } else {
+                LockSupport.parkNanos(this, flushIntervalNanos);
+            }
+        }
+    }
+
+    private void flush(List<AuditEntry> batch) {
+        try {
+            sink.write(batch);
+            written.increment(batch.size());
+        } catch (RuntimeException e) {
+            failed.increment(batch.size());
+            logger.error("Failed to write {} audit entries", batch.size(), e);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package org.example.oopproject1.audit;
+
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Passes the {@code id} of the body returned by an {@link Audited} method to
+ * the {@link AuditInterceptor}, which cannot see response bodies, so that
+ * creations are recorded with the ID they were assigned.
+ *
+ * @since 1.1
+ */
+@ControllerAdvice
+public class AuditResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return returnType.hasMethodAnnotation(Audited.class);
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (body != null && request instanceof ServletServerHttpRequest servletRequest) {
+            BeanWrapperImpl wrapper = new BeanWrapperImpl(body);
+            if (wrapper.isReadableProperty("id") && wrapper.getPropertyValue("id") != null) {
+                servletRequest.getServletRequest().setAttribute(AuditInterceptor.RESOURCE_ID,
+                        wrapper.getPropertyValue("id"));
+            }
+        }
+        return body;
+    }
+}
@@ -0,0 +1,21 @@
+package org.example.oopproject1.audit;
+
+import org.example.oopproject1.model.AuditEntry;
+
+import java.util.List;
+
+/**
+ * Destination of audit entries, selected with {@code app.audit.sink}.
+ * Called from the audit writer thread only.
+ *
+ * @since 1.1
+ */
+public interface AuditSink {
+
+    /**
+     * Stores a batch of entries.
+     *
+     * @param batch the entries, oldest first
+     */
+    void write(List<AuditEntry> batch);
+}
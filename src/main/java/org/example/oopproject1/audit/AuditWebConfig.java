@@ -0,0 +1,32 @@
+package org.example.oopproject1.audit;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Registers the {@link AuditInterceptor} for the REST API. Web slices
+ * without an {@link AuditLog}, such as controller tests, run unaudited.
+ *
+ * @since 1.1
+ */
+@Configuration
+public class AuditWebConfig implements WebMvcConfigurer {
+
+    private final ObjectProvider<AuditLog> auditLog;
+
+    /**
+     * Constructs the configuration.
+     *
+     * @param auditLog the audit log, if present in the context
+     */
+    public AuditWebConfig(ObjectProvider<AuditLog> auditLog) {
+        this.auditLog = auditLog;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        auditLog.ifAvailable(log -> registry.addInterceptor(new AuditInterceptor(log)).addPathPatterns("/api/**"));
+    }
+}
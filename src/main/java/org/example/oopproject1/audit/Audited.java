@@ -0,0 +1,37 @@
+package org.example.oopproject1.audit;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a controller method whose requests are recorded in the audit log.
+ * <p>
+ * The document ID is taken from the {@code id} of the response body, or
+ * failing that from the {@code id} path variable, so creations are recorded
+ * with the ID they were given.
+ * </p>
+ *
+ * @since 1.1
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Audited {
+
+    /**
+     * What the request does, e.g. {@code create}, {@code update} or {@code delete}.
+     *
+     * @return the action
+     */
+    String action();
+
+    /**
+     * Kind of document the request writes, e.g. {@code job}.
+     *
+     * @return the resource type
+     */
+    String resource();
+}
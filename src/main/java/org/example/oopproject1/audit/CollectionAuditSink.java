@@ -0,0 +1,34 @@
+package org.example.oopproject1.audit;
+
+import org.example.oopproject1.model.AuditEntry;
+import org.example.oopproject1.repository.AuditEntryRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Inserts each batch into the {@code audit_log} collection with one bulk insert.
+ *
+ * @since 1.1
+ */
+@Component
+@ConditionalOnProperty(name = "app.audit.sink", havingValue = "collection", matchIfMissing = true)
+public class CollectionAuditSink implements AuditSink {
+
+    private final AuditEntryRepository repository;
+
+    /**
+     * Constructs the sink.
+     *
+     * @param repository the audit log repository
+     */
+    public CollectionAuditSink(AuditEntryRepository repository) {
+        this.repository = repository;
+    }
+
+    @Override
+    public void write(List<AuditEntry> batch) {
+        repository.insert(batch);
+    }
+}
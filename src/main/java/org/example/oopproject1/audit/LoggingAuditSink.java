@@ -0,0 +1,31 @@
+package org.example.oopproject1.audit;
+
+import org.example.oopproject1.model.AuditEntry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Writes each entry as one line to the {@code audit} logger, which the
+ * logging configuration can route to its own append-only file. Entries
+ * written this way are not searchable through the admin API.
+ *
+ * @since 1.1
+ */
+@Component
+@ConditionalOnProperty(name = "app.audit.sink", havingValue = "log")
+public class LoggingAuditSink implements AuditSink {
+    private static final Logger audit = LoggerFactory.getLogger("audit");
+
+    @Override
+    public void write(List<AuditEntry> batch) {
+        for (AuditEntry entry : batch) {
+            audit.info("{} actor={} action={} resource={}/{} {} {} status={}", entry.getTimestamp(),
+                    entry.getActor(), entry.getAction(), entry.getResourceType(), entry.getResourceId(),
+                    entry.getMethod(), entry.getPath(), entry.getStatus());
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package org.example.oopproject1.audit;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * Bounded lock-free queue for many producers and a single consumer.
+ * <p>
+ * Producers claim a sequence number by compare-and-set on the tail and then
+ * publish their element into the slot it maps to; an empty slot reads as
+ * {@code null}. The consumer takes elements in sequence order, clears each
+ * slot and only then advances the head, so a producer never claims a slot
+ * the consumer has not finished with. A slot claimed but not yet published
+ * stops the consumer until the next drain, which keeps elements in order;
+ * {@link #size()} still counts it, so a consumer shutting down can wait for it.
+ * </p>
+ *
+ * @param <E> the element type
+ * @since 1.1
+ */
+final class MpscRingBuffer<E> {
+
+    private final AtomicReferenceArray<E> slots;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+
+    /**
+     * Next sequence to consume; written by the consumer only.
+     */
+    private volatile long head;
+
+    /**
+     * Creates an empty buffer.
+     *
+     * @param capacity the capacity, rounded up to a power of two
+     */
+    MpscRingBuffer(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity) * 2 - 1);
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    /**
+     * Adds an element unless the buffer is full. Safe to call from any thread.
+     *
+     * @param element the element, not {@code null}
+     * @return true if the element was added
+     */
+    boolean offer(E element) {
+        long sequence;
+        do {
+            sequence = tail.get();
+            if (sequence - head >= slots.length()) {
+                return false;
+            }
+        } while (!tail.compareAndSet(sequence, sequence + 1));
+        slots.setRelease((int) sequence & mask, element);
+        return true;
+    }
+
+    /**
+     * Removes up to {@code limit} elements in order. Must only be called from
+     * the consumer thread.
+     *
+     * @param consumer receives each element
+     * @param limit    maximum number of elements to remove
+     * @return the number of elements removed
+     */
+    int drain(Consumer<? super E> consumer, int limit) {
+        long sequence = head;
+        int drained = 0;
+        while (drained < limit) {
+            int index = (int) sequence & mask;
+            E element = slots.getAcquire(index);
+            if (element == null) {
+                break;
+            }
+            slots.setRelease(index, null);
+            sequence++;
+            drained++;
+            consumer.accept(element);
+        }
+        head = sequence;
+        return drained;
+    }
+
+    /**
+     * Returns the number of claimed slots, including any not yet published.
+     *
+     * @return the approximate size
+     */
+    int size() {
+        return (int) Math.max(0, tail.get() - head);
+    }
+
+    /**
+     * Returns the capacity.
+     *
+     * @return the number of slots
+     */
+    int capacity() {
+        return slots.length();
+    }
+}
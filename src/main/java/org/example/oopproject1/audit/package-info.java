@@ -0,0 +1,6 @@
+/**
+ * Asynchronous audit log of write requests: the {@link org.example.oopproject1.audit.Audited}
+ * marker for controller methods, the interceptor that records them, and the
+ * ring buffer and background writer that move entries to a sink in batches.
+ */
+package org.example.oopproject1.audit;
@@ -0,0 +1,156 @@
+package org.example.oopproject1.cli;
+
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+/**
+ * The console's reads from the REST API: cached for the session and
+ * fanned out in parallel.
+ * <p>
+ * A GET response is kept until {@link #invalidate()} is called, which the
+ * console does on every write and whenever a different user logs in, so
+ * menus revisited in a session do not repeat requests. {@link #getAll}
+ * issues its requests on virtual threads, at most {@code parallelism} at
+ * a time so a recruiter with hundreds of jobs cannot flood the server,
+ * and returns the responses in request order.
+ * </p>
+ *
+ * @since 1.1
+ */
+final class ConsoleHttpClient implements AutoCloseable {
+
+    private final RestTemplate restTemplate;
+    private final Semaphore permits;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Map<String, Optional<?>> cache = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs a client reading through the given template.
+     *
+     * @param restTemplate the template, carrying the console's authentication
+     * @param parallelism  the most requests {@link #getAll} has in flight
+     */
+    ConsoleHttpClient(RestTemplate restTemplate, int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be at least 1");
+        }
+        this.restTemplate = restTemplate;
+        this.permits = new Semaphore(parallelism);
+    }
+
+    /**
+     * GETs a resource, answering from the session cache when possible.
+     *
+     * @param uri  the expanded URI
+     * @param type the response type
+     * @param <T>  the response type
+     * @return the response body, or {@code null} if there was none
+     * @throws RestClientException if the request fails
+     */
+    <T> T get(String uri, Class<T> type) {
+        return get(uri, ParameterizedTypeReference.forType(type));
+    }
+
+    /**
+     * GETs a resource, answering from the session cache when possible.
+     *
+     * @param uri  the expanded URI
+     * @param type the response type
+     * @param <T>  the response type
+     * @return the response body, or {@code null} if there was none
+     * @throws RestClientException if the request fails
+     */
+    @SuppressWarnings("unchecked")
+    <T> T get(String uri, ParameterizedTypeReference<T> type) {
+        String key = type.getType().getTypeName() + " " + uri;
+        Optional<?> cached = cache.get(key);
+        if (cached != null) {
+            return (T) cached.orElse(null);
+        }
+        T body = restTemplate.exchange(uri, HttpMethod.GET, null, type).getBody();
+        cache.put(key, Optional.ofNullable(body));
+        return body;
+    }
+
+    /**
+     * GETs several resources in parallel.
+     *
+     * @param uris the expanded URIs
+     * @param type the response type
+     * @param <T>  the response type
+     * @return the response bodies, in the order of {@code uris}
+     * @throws RestClientException if any request fails; the others still complete
+     */
+    <T> List<T> getAll(List<String> uris, Class<T> type) {
+        return getAll(uris, ParameterizedTypeReference.forType(type));
+    }
+
+    /**
+     * GETs several resources in parallel.
+     *
+     * @param uris the expanded URIs
+     * @param type the response type
+     * @param <T>  the response type
+     * @return the response bodies, in the order of {@code uris}
+     * @throws RestClientException if any request fails; the others still complete
+     */
+    <T> List<T> getAll(List<String> uris, ParameterizedTypeReference<T> type) {
+        List<Future<T>> futures = new ArrayList<>(uris.size());
+        for (String uri : uris) {
+            futures.add(executor.submit(() -> {
+                permits.acquire();
+                try {
+                    return get(uri, type);
+                } finally {
+                    permits.release();
+                }
+            }));
+        }
+        List<T> bodies = new ArrayList<>(uris.size());
+        RestClientException failure = null;
+        for (Future<T> future : futures) {
+            try {
+                bodies.add(future.get());
+            } catch (ExecutionException e) {
+                if (failure == null) {
+                    failure = e.getCause() instanceof RestClientException rest
+                            ? rest
+                            : new RestClientException(e.getCause().getMessage(), e.getCause());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                futures.forEach(pending -> pending.cancel(true));
+                throw new RestClientException("Interrupted while fetching " + uris.size() + " resources", e);
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        return bodies;
+    }
+
+    /**
+     * Forgets every cached response.
+     */
+    void invalidate() {
+        cache.clear();
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+}
@@ -23,28 +23,40 @@ import org.springframework.web.util.UriComponentsBuilder;
 
 import java.time.LocalDate;
 import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 /**
  * ConsoleMenuRunner now acts as an HTTP client against your REST API.
+ * <p>
+ * Reads that can touch many resources go through a {@link ConsoleHttpClient},
+ * which caches responses for the session and fetches in parallel; any write
+ * clears that cache.
+ * </p>
  */
 @Component
 @Profile("console")
 @ConditionalOnProperty(name = "org.example.oopproject1.cli.enabled", havingValue = "true", matchIfMissing = true)
 public class ConsoleMenuRunner implements CommandLineRunner {
 
+    private static final int APPLICATION_PAGE_SIZE = 500;
+
     private final RestTemplate restTemplate;
+    private final ConsoleHttpClient http;
     private final String baseUrl;
     private final ApplicationContext applicationContext;
     private final Scanner scanner = new Scanner(System.in);
-    private String jwtToken;
+    private volatile String jwtToken;
     private User currentUser;
 
     public ConsoleMenuRunner(
             RestTemplate restTemplate,
             @Value("${cli.base-url:http://localhost:8080/api}") String baseUrl,
+            @Value("${cli.http.parallelism:16}") int parallelism,
             ApplicationContext applicationContext
     ) {
         this.restTemplate = restTemplate;
+        this.http = new ConsoleHttpClient(restTemplate, parallelism);
         this.baseUrl = baseUrl;
         this.applicationContext = applicationContext;
 
@@ -53,19 +65,29 @@ public class ConsoleMenuRunner implements CommandLineRunner {
             if (this.jwtToken != null) {
                 request.getHeaders().setBearerAuth(this.jwtToken);
             }
-            return execution.execute(request, body);
+            try {
+                return execution.execute(request, body);
+            } finally {
+                if (request.getMethod() != HttpMethod.GET) {
+                    http.invalidate();
+                }
+            }
         });
     }
 
     /**
      * The entry point for running the Job Portal Console Interface.
      * This method is called when the application starts.
-     * It shows the main menu to the user.
+     * It shows the main menu to the user, unless the application was started
+     * to run a script of shell commands ({@code @file}).
      *
      * @param args command line arguments
      */
     @Override
     public void run(String... args) {
+        if (Arrays.stream(args).anyMatch(arg -> arg.startsWith("@"))) {
+            return;
+        }
         System.out.println("Starting Job Portal Console Interface (HTTP client mode)...");
         showMainMenu();
     }
@@ -130,6 +152,7 @@ public class ConsoleMenuRunner implements CommandLineRunner {
             if (resp.getStatusCode() == HttpStatus.OK && resp.getBody() != null) {
                 // 2) extract the token
                 jwtToken = (String) resp.getBody().get("token");
+                http.invalidate();
                 System.out.println("Login successful.");
 
                 // 3) fetch only the slim DTO
@@ -605,34 +628,31 @@ public class ConsoleMenuRunner implements CommandLineRunner {
     private void viewMyApplications() {
         try {
             String uri = UriComponentsBuilder
-                    .fromHttpUrl(baseUrl + "/applications")
-                    .queryParam("email", currentUser.getEmail())
+                    .fromHttpUrl(baseUrl + "/applications/email/{email}")
+                    .buildAndExpand(currentUser.getEmail())
+                    .encode()
                     .toUriString();
-
-            ResponseEntity<List<Application>> resp = restTemplate.exchange(
-                    uri,
-                    HttpMethod.GET,
-                    null,
-                    new ParameterizedTypeReference<List<Application>>() {
-                    }
-            );
-
-            List<Application> applications = resp.getBody();
+            List<Application> applications = http.get(uri, new ParameterizedTypeReference<List<Application>>() {});
             if (applications == null || applications.isEmpty()) {
                 System.out.println("You haven't submitted any applications yet.");
                 return;
             }
 
+            // one request per distinct job, in parallel, instead of one per application in turn
+            List<String> jobIds = applications.stream().map(Application::getJobId).distinct().toList();
+            List<Job> jobs = http.getAll(jobIds.stream().map(id -> baseUrl + "/jobs/" + id).toList(), Job.class);
+            Map<String, Job> jobsById = new HashMap<>();
+            for (int i = 0; i < jobIds.size(); i++) {
+                jobsById.put(jobIds.get(i), jobs.get(i));
+            }
+
             System.out.println("\n===== My Applications =====");
             for (Application app : applications) {
-                Job job = restTemplate.getForObject(
-                        baseUrl + "/jobs/" + app.getJobId(),
-                        Job.class
-                );
+                Job job = jobsById.get(app.getJobId());
                 System.out.printf("Application ID: %s\nJob: %s at %s\nStatus: %s\nApplied Date: %s\n\n",
                         app.getId(),
-                        job.getTitle(),
-                        job.getCompany(),
+                        job != null ? job.getTitle() : app.getJobId(),
+                        job != null ? job.getCompany() : "?",
                         app.getStatus(),
                         app.getApplicationDate()
                 );
@@ -742,10 +762,13 @@ public class ConsoleMenuRunner implements CommandLineRunner {
     private void manageApplications() {
         try {
             // 1) Lookup recruiter by email
-            Recruiter recruiter = restTemplate.getForObject(
-                    baseUrl + "/recruiters/byEmail?email={email}",
-                    Recruiter.class,
-                    currentUser.getEmail()
+            Recruiter recruiter = http.get(
+                    UriComponentsBuilder.fromHttpUrl(baseUrl + "/recruiters/byEmail")
+                            .queryParam("email", "{email}")
+                            .buildAndExpand(currentUser.getEmail())
+                            .encode()
+                            .toUriString(),
+                    Recruiter.class
             );
             if (recruiter == null) {
                 System.out.println("No recruiter profile found for your account.");
@@ -755,29 +778,17 @@ public class ConsoleMenuRunner implements CommandLineRunner {
 
             // 2) Fetch all jobs for that recruiter (path param, not query param)
             String jobsUri = baseUrl + "/jobs/recruiter/" + recruiterId;
-            ResponseEntity<List<Job>> jobsResp = restTemplate.exchange(
-                    jobsUri,
-                    HttpMethod.GET,
-                    null,
-                    new ParameterizedTypeReference<List<Job>>() {}
-            );
-            List<Job> recruiterJobs = jobsResp.getBody();
+            List<Job> recruiterJobs = http.get(jobsUri, new ParameterizedTypeReference<List<Job>>() {});
             if (recruiterJobs == null || recruiterJobs.isEmpty()) {
                 System.out.println("You haven't posted any jobs yet.");
                 return;
             }
 
-            // 3) For each job, fetch its applications via the /applications/job/{jobId} endpoint
+            // 3) Fetch the applications to all of them at once, grouped by job
+            Map<String, List<Application>> applicationsByJob = myApplicationsByJob();
             System.out.println("\n===== Applications for Your Jobs =====");
             for (Job job : recruiterJobs) {
-                String appsUri = baseUrl + "/applications/job/" + job.getId();
-                ResponseEntity<List<Application>> appsResp = restTemplate.exchange(
-                        appsUri,
-                        HttpMethod.GET,
-                        null,
-                        new ParameterizedTypeReference<List<Application>>() {}
-                );
-                List<Application> apps = appsResp.getBody();
+                List<Application> apps = applicationsByJob.get(job.getId());
                 if (apps == null || apps.isEmpty()) {
                     continue;
                 }
@@ -804,6 +815,35 @@ public class ConsoleMenuRunner implements CommandLineRunner {
         }
     }
 
+    /**
+     * Fetches every application to the current recruiter's jobs from the
+     * paged /recruiters/me/applications endpoint, reading the first page and
+     * then the rest in parallel.
+     *
+     * @return the applications, by job ID
+     */
+    private Map<String, List<Application>> myApplicationsByJob() {
+        ParameterizedTypeReference<PageResponse<Application>> pageType = new ParameterizedTypeReference<>() {};
+        PageResponse<Application> first = http.get(myApplicationsPage(0), pageType);
+        List<Application> applications = new ArrayList<>(first.getContent());
+        List<String> rest = IntStream.range(1, first.getTotalPages()).mapToObj(this::myApplicationsPage).toList();
+        for (PageResponse<Application> page : http.getAll(rest, pageType)) {
+            applications.addAll(page.getContent());
+        }
+        return applications.stream().collect(Collectors.groupingBy(Application::getJobId));
+    }
+
+    private String myApplicationsPage(int page) {
+        // sorted by ID so that pages fetched in parallel neither overlap nor skip; whole documents,
+        // as a status change sends the application back
+        return UriComponentsBuilder.fromHttpUrl(baseUrl + "/recruiters/me/applications")
+                .queryParam("page", page)
+                .queryParam("size", APPLICATION_PAGE_SIZE)
+                .queryParam("sort", "id")
+                .queryParam("view", "full")
+                .toUriString();
+    }
+
     /**
      * Displays detailed information about a single application, fetching fresh over HTTP.
      */
@@ -1251,6 +1291,7 @@ public class ConsoleMenuRunner implements CommandLineRunner {
      * Gracefully shuts down the Spring application context and terminates the JVM.
      */
     private void exit() {
+        http.close();
         int exitCode = SpringApplication.exit(applicationContext, () -> 0);
         System.exit(exitCode);
     }
@@ -1369,8 +1410,11 @@ public class ConsoleMenuRunner implements CommandLineRunner {
      */
     private static class PageResponse<T> {
         private List<T> content;
+        private int totalPages;
         public List<T> getContent() { return content; }
         public void setContent(List<T> content) { this.content = content; }
+        public int getTotalPages() { return totalPages; }
+        public void setTotalPages(int totalPages) { this.totalPages = totalPages; }
     }
 
 }
\ No newline at end of file
@@ -1,29 +1,85 @@
 package org.example.oopproject1.cli;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.oopproject1.cli.RowWriter.Column;
+import org.example.oopproject1.dto.JobSummary;
 import org.example.oopproject1.model.Job;
+import org.example.oopproject1.model.MaintenanceRun;
+import org.example.oopproject1.model.MaintenanceRun.Operation;
 import org.example.oopproject1.model.Recruiter;
+import org.example.oopproject1.service.ApplicationDeduplicationService;
+import org.example.oopproject1.service.BulkMaintenanceService;
 import org.example.oopproject1.service.JobService;
 import org.example.oopproject1.service.RecruiterService;
+import org.jline.terminal.Terminal;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.shell.standard.ShellComponent;
 import org.springframework.shell.standard.ShellMethod;
 import org.springframework.shell.standard.ShellOption;
 
+import java.io.PrintWriter;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 /**
  * CLI commands for the Job Portal system using Spring Shell.
  * Provides job and recruiter management operations such as listing, filtering,
  * viewing details, creating, toggling status, and deleting jobs, as well as listing recruiters.
  * Interacts with JobService and RecruiterService to execute business logic.
+ * <p>
+ * The listing commands stream their rows to the terminal in ID order as
+ * they are read, a page at a time, in table, CSV or JSON Lines format.
+ * {@code --limit} caps a listing and {@code --after} continues it from the
+ * last ID printed. For scripting, run a file of commands with
+ * {@code java -jar app.jar --spring.main.web-application-type=none @commands.txt},
+ * or pipe them in with {@code @/dev/stdin}; the console menu is skipped then.
+ * </p>
+ * <p>
+ * The bulk commands change many documents on the server, in throttled
+ * chunks, reporting progress as they go. {@code --dry-run} only counts
+ * the documents a command would change, and an interrupted run is
+ * continued with {@code resume-bulk-run}. They need MongoDB.
+ * </p>
  *
  * @since 1.0
  */
 @ShellComponent
 public class JobPortalCommands {
 
+    private static final String BULK_UNAVAILABLE = "Bulk operations need MongoDB and are unavailable in this profile.";
+
+    private static final String DEDUPE_UNAVAILABLE =
+            "De-duplication needs MongoDB and is unavailable in this profile.";
+
+    private static final List<Column<JobSummary>> JOB_COLUMNS = List.of(
+            new Column<>("ID", JobSummary::getId),
+            new Column<>("Title", JobSummary::getTitle),
+            new Column<>("Company", JobSummary::getCompany),
+            new Column<>("Location", JobSummary::getLocation));
+
+    private static final List<Column<JobSummary>> LOCATION_COLUMNS = List.of(
+            new Column<>("ID", JobSummary::getId),
+            new Column<>("Title", JobSummary::getTitle),
+            new Column<>("Company", JobSummary::getCompany));
+
+    private static final List<Column<JobSummary>> COMPANY_COLUMNS = List.of(
+            new Column<>("ID", JobSummary::getId),
+            new Column<>("Title", JobSummary::getTitle),
+            new Column<>("Location", JobSummary::getLocation));
+
+    private static final List<Column<Recruiter>> RECRUITER_COLUMNS = List.of(
+            new Column<>("ID", Recruiter::getId),
+            new Column<>("Name", Recruiter::getName),
+            new Column<>("Company", Recruiter::getCompany));
+
     /**
      * Service for job-related operations.
      */
@@ -34,36 +90,64 @@ public class JobPortalCommands {
      */
     private final RecruiterService recruiterService;
 
+    /**
+     * Terminal the listing commands stream their rows to.
+     */
+    private final Terminal terminal;
+
+    /**
+     * Mapper writing JSON rows.
+     */
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Service running the bulk commands, absent without MongoDB.
+     */
+    private final ObjectProvider<BulkMaintenanceService> bulkMaintenanceService;
+
+    /**
+     * Service removing duplicate applications, absent without MongoDB.
+     */
+    private final ObjectProvider<ApplicationDeduplicationService> deduplicationService;
+
     /**
      * Constructs JobPortalCommands with required services.
      *
-     * @param jobService       the service handling job operations
-     * @param recruiterService the service handling recruiter operations
+     * @param jobService             the service handling job operations
+     * @param recruiterService       the service handling recruiter operations
+     * @param terminal               the shell's terminal
+     * @param objectMapper           the mapper writing JSON output
+     * @param bulkMaintenanceService the service running bulk operations, if available
+     * @param deduplicationService   the service removing duplicate applications, if available
      */
     @Autowired
-    public JobPortalCommands(JobService jobService, RecruiterService recruiterService) {
+    public JobPortalCommands(JobService jobService, RecruiterService recruiterService, Terminal terminal,
+                             ObjectMapper objectMapper, ObjectProvider<BulkMaintenanceService> bulkMaintenanceService,
+                             ObjectProvider<ApplicationDeduplicationService> deduplicationService) {
         this.jobService = jobService;
         this.recruiterService = recruiterService;
+        this.terminal = terminal;
+        this.objectMapper = objectMapper;
+        this.bulkMaintenanceService = bulkMaintenanceService;
+        this.deduplicationService = deduplicationService;
     }
 
     /**
-     * Lists all available jobs in the system.
+     * Lists all available jobs in the system, streaming them in ID order.
      *
-     * @return formatted string of all jobs or a message if none are found
+     * @param format   output format: table, csv or json (one object per line)
+     * @param after    the ID after which to start, as printed at the end of a limited listing
+     * @param limit    the most rows to print; zero for all
+     * @param pageSize how many rows to read from the database at a time
      */
     @ShellMethod(value = "List all jobs", key = "list-jobs")
-    public String listJobs() {
-        List<Job> jobs = jobService.getAllJobs();
-        if (jobs.isEmpty()) {
-            return "No jobs found.";
-        }
-
-        StringBuilder result = new StringBuilder("Jobs:\n");
-        for (Job job : jobs) {
-            result.append(String.format("ID: %s, Title: %s, Company: %s, Location: %s\n",
-                    job.getId(), job.getTitle(), job.getCompany(), job.getLocation()));
-        }
-        return result.toString();
+    public void listJobs(
+            @ShellOption(value = {"-f", "--format"}, defaultValue = "table") String format,
+            @ShellOption(value = "--after", defaultValue = "") String after,
+            @ShellOption(value = "--limit", defaultValue = "0") int limit,
+            @ShellOption(value = "--page-size", defaultValue = "500") int pageSize) {
+        print(format, after, limit, pageSize, "Jobs:", "No jobs found.", "Error", JOB_COLUMNS,
+                JobSummary::getId, jobService::streamJobSummaries);
     }
 
     /**
@@ -96,23 +180,21 @@ public class JobPortalCommands {
     }
 
     /**
-     * Lists all recruiters in the system.
+     * Lists all recruiters in the system, streaming them in ID order.
      *
-     * @return formatted string of all recruiters or a message if none are found
+     * @param format   output format: table, csv or json (one object per line)
+     * @param after    the ID after which to start, as printed at the end of a limited listing
+     * @param limit    the most rows to print; zero for all
+     * @param pageSize how many rows to read from the database at a time
      */
     @ShellMethod(value = "List all recruiters", key = "list-recruiters")
-    public String listRecruiters() {
-        List<Recruiter> recruiters = recruiterService.getAllRecruiters();
-        if (recruiters.isEmpty()) {
-            return "No recruiters found.";
-        }
-
-        StringBuilder result = new StringBuilder("Recruiters:\n");
-        for (Recruiter recruiter : recruiters) {
-            result.append(String.format("ID: %s, Name: %s, Company: %s\n",
-                    recruiter.getId(), recruiter.getName(), recruiter.getCompany()));
-        }
-        return result.toString();
+    public void listRecruiters(
+            @ShellOption(value = {"-f", "--format"}, defaultValue = "table") String format,
+            @ShellOption(value = "--after", defaultValue = "") String after,
+            @ShellOption(value = "--limit", defaultValue = "0") int limit,
+            @ShellOption(value = "--page-size", defaultValue = "500") int pageSize) {
+        print(format, after, limit, pageSize, "Recruiters:", "No recruiters found.", "Error", RECRUITER_COLUMNS,
+                Recruiter::getId, recruiterService::streamRecruiters);
     }
 
     /**
@@ -188,126 +270,107 @@ public class JobPortalCommands {
     /**
      * Searches jobs by keyword across multiple fields.
      *
-     * @param keyword term to search in job title, company, description, etc.
-     * @return list of matching jobs or message if none
+     * @param keyword  term to search in job title, company, description, etc.
+     * @param format   output format: table, csv or json (one object per line)
+     * @param after    the ID after which to start, as printed at the end of a limited listing
+     * @param limit    the most rows to print; zero for all
+     * @param pageSize how many rows to read from the database at a time
      */
     @ShellMethod(value = "Search jobs by keyword", key = "search-jobs")
-    public String searchJobs(@ShellOption(value = {"-k", "--keyword"}) String keyword) {
-        try {
-            List<Job> jobs = jobService.searchJobs(keyword);
-            if (jobs.isEmpty()) {
-                return "No jobs found matching: " + keyword;
-            }
-
-            StringBuilder result = new StringBuilder("Jobs matching '" + keyword + "':\n");
-            for (Job job : jobs) {
-                result.append(String.format("ID: %s, Title: %s, Company: %s, Location: %s\n",
-                        job.getId(), job.getTitle(), job.getCompany(), job.getLocation()));
-            }
-            return result.toString();
-        } catch (Exception e) {
-            return "Error searching jobs: " + e.getMessage();
-        }
+    public void searchJobs(
+            @ShellOption(value = {"-k", "--keyword"}) String keyword,
+            @ShellOption(value = {"-f", "--format"}, defaultValue = "table") String format,
+            @ShellOption(value = "--after", defaultValue = "") String after,
+            @ShellOption(value = "--limit", defaultValue = "0") int limit,
+            @ShellOption(value = "--page-size", defaultValue = "500") int pageSize) {
+        print(format, after, limit, pageSize, "Jobs matching '" + keyword + "':", "No jobs found matching: " + keyword,
+                "Error searching jobs", JOB_COLUMNS, JobSummary::getId,
+                (from, size) -> jobService.streamJobSummariesByKeyword(keyword, from, size));
     }
 
     /**
      * Filters active jobs by location.
      *
      * @param location location to filter jobs
-     * @return list of active jobs in the location or message if none
+     * @param format   output format: table, csv or json (one object per line)
+     * @param after    the ID after which to start, as printed at the end of a limited listing
+     * @param limit    the most rows to print; zero for all
+     * @param pageSize how many rows to read from the database at a time
      */
     @ShellMethod(value = "Filter jobs by location", key = "filter-by-location")
-    public String filterByLocation(@ShellOption(value = {"-l", "--location"}) String location) {
-        try {
-            List<Job> jobs = jobService.findActiveJobsByLocation(location);
-            if (jobs.isEmpty()) {
-                return "No active jobs found in location: " + location;
-            }
-
-            StringBuilder result = new StringBuilder("Active jobs in " + location + ":\n");
-            for (Job job : jobs) {
-                result.append(String.format("ID: %s, Title: %s, Company: %s\n",
-                        job.getId(), job.getTitle(), job.getCompany()));
-            }
-            return result.toString();
-        } catch (Exception e) {
-            return "Error filtering jobs: " + e.getMessage();
-        }
+    public void filterByLocation(
+            @ShellOption(value = {"-l", "--location"}) String location,
+            @ShellOption(value = {"-f", "--format"}, defaultValue = "table") String format,
+            @ShellOption(value = "--after", defaultValue = "") String after,
+            @ShellOption(value = "--limit", defaultValue = "0") int limit,
+            @ShellOption(value = "--page-size", defaultValue = "500") int pageSize) {
+        print(format, after, limit, pageSize, "Active jobs in " + location + ":",
+                "No active jobs found in location: " + location, "Error filtering jobs", LOCATION_COLUMNS,
+                JobSummary::getId,
+                (from, size) -> jobService.streamActiveJobSummariesByLocation(location, from, size));
     }
 
     /**
      * Filters jobs by company name.
      *
-     * @param company company to filter jobs
-     * @return list of jobs at the company or message if none
+     * @param company  company to filter jobs
+     * @param format   output format: table, csv or json (one object per line)
+     * @param after    the ID after which to start, as printed at the end of a limited listing
+     * @param limit    the most rows to print; zero for all
+     * @param pageSize how many rows to read from the database at a time
      */
     @ShellMethod(value = "Filter jobs by company", key = "filter-by-company")
-    public String filterByCompany(@ShellOption(value = {"-c", "--company"}) String company) {
-        try {
-            List<Job> jobs = jobService.findJobsByCompany(company);
-            if (jobs.isEmpty()) {
-                return "No jobs found for company: " + company;
-            }
-
-            StringBuilder result = new StringBuilder("Jobs at " + company + ":\n");
-            for (Job job : jobs) {
-                result.append(String.format("ID: %s, Title: %s, Location: %s\n",
-                        job.getId(), job.getTitle(), job.getLocation()));
-            }
-            return result.toString();
-        } catch (Exception e) {
-            return "Error filtering jobs: " + e.getMessage();
-        }
+    public void filterByCompany(
+            @ShellOption(value = {"-c", "--company"}) String company,
+            @ShellOption(value = {"-f", "--format"}, defaultValue = "table") String format,
+            @ShellOption(value = "--after", defaultValue = "") String after,
+            @ShellOption(value = "--limit", defaultValue = "0") int limit,
+            @ShellOption(value = "--page-size", defaultValue = "500") int pageSize) {
+        print(format, after, limit, pageSize, "Jobs at " + company + ":", "No jobs found for company: " + company,
+                "Error filtering jobs", COMPANY_COLUMNS, JobSummary::getId,
+                (from, size) -> jobService.streamJobSummariesByCompany(company, from, size));
     }
 
     /**
      * Filters jobs by title keyword.
      *
-     * @param title title keyword to filter jobs
-     * @return list of jobs with matching titles or message if none
+     * @param title    title keyword to filter jobs
+     * @param format   output format: table, csv or json (one object per line)
+     * @param after    the ID after which to start, as printed at the end of a limited listing
+     * @param limit    the most rows to print; zero for all
+     * @param pageSize how many rows to read from the database at a time
      */
     @ShellMethod(value = "Filter jobs by title", key = "filter-by-title")
-    public String filterByTitle(@ShellOption(value = {"-t", "--title"}) String title) {
-        try {
-            List<Job> jobs = jobService.findJobsByTitle(title);
-            if (jobs.isEmpty()) {
-                return "No jobs found with title containing: " + title;
-            }
-
-            StringBuilder result = new StringBuilder("Jobs with title containing '" + title + "':\n");
-            for (Job job : jobs) {
-                result.append(String.format("ID: %s, Title: %s, Company: %s, Location: %s\n",
-                        job.getId(), job.getTitle(), job.getCompany(), job.getLocation()));
-            }
-            return result.toString();
-        } catch (Exception e) {
-            return "Error filtering jobs: " + e.getMessage();
-        }
+    public void filterByTitle(
+            @ShellOption(value = {"-t", "--title"}) String title,
+            @ShellOption(value = {"-f", "--format"}, defaultValue = "table") String format,
+            @ShellOption(value = "--after", defaultValue = "") String after,
+            @ShellOption(value = "--limit", defaultValue = "0") int limit,
+            @ShellOption(value = "--page-size", defaultValue = "500") int pageSize) {
+        print(format, after, limit, pageSize, "Jobs with title containing '" + title + "':",
+                "No jobs found with title containing: " + title, "Error filtering jobs", JOB_COLUMNS,
+                JobSummary::getId, (from, size) -> jobService.streamJobSummariesByTitle(title, from, size));
     }
 
     /**
      * Filters jobs by recruiter ID.
      *
      * @param recruiterId the recruiter ID to filter jobs
-     * @return list of jobs posted by the recruiter or message if none
+     * @param format      output format: table, csv or json (one object per line)
+     * @param after       the ID after which to start, as printed at the end of a limited listing
+     * @param limit       the most rows to print; zero for all
+     * @param pageSize    how many rows to read from the database at a time
      */
     @ShellMethod(value = "Filter jobs by recruiter", key = "filter-by-recruiter")
-    public String filterByRecruiter(@ShellOption(value = {"-r", "--recruiter-id"}) String recruiterId) {
-        try {
-            List<Job> jobs = jobService.findJobsByRecruiter(recruiterId);
-            if (jobs.isEmpty()) {
-                return "No jobs found for recruiter with ID: " + recruiterId;
-            }
-
-            StringBuilder result = new StringBuilder("Jobs posted by recruiter " + recruiterId + ":\n");
-            for (Job job : jobs) {
-                result.append(String.format("ID: %s, Title: %s, Company: %s, Location: %s\n",
-                        job.getId(), job.getTitle(), job.getCompany(), job.getLocation()));
-            }
-            return result.toString();
-        } catch (Exception e) {
-            return "Error filtering jobs: " + e.getMessage();
-        }
+    public void filterByRecruiter(
+            @ShellOption(value = {"-r", "--recruiter-id"}) String recruiterId,
+            @ShellOption(value = {"-f", "--format"}, defaultValue = "table") String format,
+            @ShellOption(value = "--after", defaultValue = "") String after,
+            @ShellOption(value = "--limit", defaultValue = "0") int limit,
+            @ShellOption(value = "--page-size", defaultValue = "500") int pageSize) {
+        print(format, after, limit, pageSize, "Jobs posted by recruiter " + recruiterId + ":",
+                "No jobs found for recruiter with ID: " + recruiterId, "Error filtering jobs", JOB_COLUMNS,
+                JobSummary::getId, (from, size) -> jobService.streamJobSummariesByRecruiter(recruiterId, from, size));
     }
 
     /**
@@ -326,6 +389,223 @@ public class JobPortalCommands {
         }
     }
 
+    /**
+     * Deactivates all active jobs of a company.
+     *
+     * @param company    the company whose jobs to deactivate
+     * @param dryRun     only count the jobs that would be deactivated
+     * @param chunkSize  jobs changed at a time; the configured default if omitted
+     * @param throttleMs pause between chunks in milliseconds; the configured default if omitted
+     */
+    @ShellMethod(value = "Deactivate all jobs of a company", key = "deactivate-company-jobs")
+    public void deactivateCompanyJobs(
+            @ShellOption(value = {"-c", "--company"}) String company,
+            @ShellOption(value = "--dry-run", defaultValue = "false") boolean dryRun,
+            @ShellOption(value = "--chunk-size", defaultValue = ShellOption.NULL) Integer chunkSize,
+            @ShellOption(value = "--throttle-ms", defaultValue = ShellOption.NULL) Long throttleMs) {
+        runBulk(Operation.DEACTIVATE_COMPANY_JOBS, Map.of(BulkMaintenanceService.COMPANY, company),
+                "active jobs at " + company, dryRun, chunkSize, throttleMs);
+    }
+
+    /**
+     * Reassigns all jobs of one recruiter to another.
+     *
+     * @param from       the recruiter whose jobs to reassign
+     * @param to         the recruiter receiving the jobs
+     * @param dryRun     only count the jobs that would be reassigned
+     * @param chunkSize  jobs changed at a time; the configured default if omitted
+     * @param throttleMs pause between chunks in milliseconds; the configured default if omitted
+     */
+    @ShellMethod(value = "Reassign jobs between recruiters", key = "reassign-jobs")
+    public void reassignJobs(
+            @ShellOption(value = "--from") String from,
+            @ShellOption(value = "--to") String to,
+            @ShellOption(value = "--dry-run", defaultValue = "false") boolean dryRun,
+            @ShellOption(value = "--chunk-size", defaultValue = ShellOption.NULL) Integer chunkSize,
+            @ShellOption(value = "--throttle-ms", defaultValue = ShellOption.NULL) Long throttleMs) {
+        runBulk(Operation.REASSIGN_JOBS,
+                Map.of(BulkMaintenanceService.FROM_RECRUITER, from, BulkMaintenanceService.TO_RECRUITER, to),
+                "jobs of recruiter " + from, dryRun, chunkSize, throttleMs);
+    }
+
+    /**
+     * Deletes the applications matching all the given filters, at least one of which is required.
+     *
+     * @param emailPattern    case-insensitive regular expression on the applicant's email
+     * @param jobId           the job applied to
+     * @param status          the application status
+     * @param submittedBefore ISO date before which the applications were submitted
+     * @param dryRun          only count the applications that would be deleted
+     * @param chunkSize       applications deleted at a time; the configured default if omitted
+     * @param throttleMs      pause between chunks in milliseconds; the configured default if omitted
+     */
+    @ShellMethod(value = "Delete applications matching filters", key = "purge-applications")
+    public void purgeApplications(
+            @ShellOption(value = "--email-pattern", defaultValue = ShellOption.NULL) String emailPattern,
+            @ShellOption(value = "--job-id", defaultValue = ShellOption.NULL) String jobId,
+            @ShellOption(value = "--status", defaultValue = ShellOption.NULL) String status,
+            @ShellOption(value = "--submitted-before", defaultValue = ShellOption.NULL) String submittedBefore,
+            @ShellOption(value = "--dry-run", defaultValue = "false") boolean dryRun,
+            @ShellOption(value = "--chunk-size", defaultValue = ShellOption.NULL) Integer chunkSize,
+            @ShellOption(value = "--throttle-ms", defaultValue = ShellOption.NULL) Long throttleMs) {
+        Map<String, String> parameters = new LinkedHashMap<>();
+        if (emailPattern != null) {
+            parameters.put(BulkMaintenanceService.EMAIL_PATTERN, emailPattern);
+        }
+        if (jobId != null) {
+            parameters.put(BulkMaintenanceService.JOB_ID, jobId);
+        }
+        if (status != null) {
+            parameters.put(BulkMaintenanceService.STATUS, status.toUpperCase());
+        }
+        if (submittedBefore != null) {
+            parameters.put(BulkMaintenanceService.SUBMITTED_BEFORE, submittedBefore);
+        }
+        runBulk(Operation.PURGE_APPLICATIONS, parameters, "matching applications", dryRun, chunkSize, throttleMs);
+    }
+
+    /**
+     * Keeps the earliest application of every job and email pair, deletes the
+     * others and builds the unique index that prevents new duplicates.
+     */
+    @ShellMethod(value = "Delete duplicate applications", key = "dedupe-applications")
+    public void dedupeApplications() {
+        PrintWriter out = terminal.writer();
+        ApplicationDeduplicationService service = deduplicationService.getIfAvailable();
+        if (service == null) {
+            out.println(DEDUPE_UNAVAILABLE);
+        } else {
+            try {
+                out.println("Deleted " + service.deduplicate() + " duplicate applications");
+            } catch (Exception e) {
+                out.println("Error removing duplicates: " + e.getMessage());
+            }
+        }
+        out.flush();
+    }
+
+    /**
+     * Continues an interrupted or failed bulk run from its last checkpoint.
+     *
+     * @param id         the run ID, as printed when it started
+     * @param chunkSize  documents changed at a time; the configured default if omitted
+     * @param throttleMs pause between chunks in milliseconds; the configured default if omitted
+     */
+    @ShellMethod(value = "Resume a bulk run", key = "resume-bulk-run")
+    public void resumeBulkRun(
+            @ShellOption(value = {"-i", "--id"}) String id,
+            @ShellOption(value = "--chunk-size", defaultValue = ShellOption.NULL) Integer chunkSize,
+            @ShellOption(value = "--throttle-ms", defaultValue = ShellOption.NULL) Long throttleMs) {
+        PrintWriter out = terminal.writer();
+        BulkMaintenanceService service = bulkMaintenanceService.getIfAvailable();
+        if (service == null) {
+            out.println(BULK_UNAVAILABLE);
+        } else {
+            try {
+                report(out, service.resume(id, chunkSize, throttle(throttleMs), run -> progress(out, run)));
+            } catch (Exception e) {
+                out.println("Error resuming run: " + e.getMessage());
+            }
+        }
+        out.flush();
+    }
+
+    /**
+     * Lists the latest bulk runs, newest first.
+     *
+     * @param limit the most runs to list
+     */
+    @ShellMethod(value = "List recent bulk runs", key = "list-bulk-runs")
+    public void listBulkRuns(@ShellOption(value = "--limit", defaultValue = "20") int limit) {
+        PrintWriter out = terminal.writer();
+        BulkMaintenanceService service = bulkMaintenanceService.getIfAvailable();
+        if (service == null) {
+            out.println(BULK_UNAVAILABLE);
+        } else {
+            List<MaintenanceRun> runs = service.recentRuns(limit);
+            if (runs.isEmpty()) {
+                out.println("No bulk runs found.");
+            }
+            for (MaintenanceRun run : runs) {
+                out.printf("ID: %s, Operation: %s, Parameters: %s, Status: %s, Processed: %d/%d, Started: %s%n",
+                        run.getId(), run.getOperation(), run.getParameters(), run.getStatus(),
+                        run.getProcessed(), run.getMatched(), run.getStartedAt());
+            }
+        }
+        out.flush();
+    }
+
+    /**
+     * Counts or runs a bulk operation, printing its progress after every chunk.
+     */
+    private void runBulk(Operation operation, Map<String, String> parameters, String description, boolean dryRun,
+                         Integer chunkSize, Long throttleMs) {
+        PrintWriter out = terminal.writer();
+        BulkMaintenanceService service = bulkMaintenanceService.getIfAvailable();
+        if (service == null) {
+            out.println(BULK_UNAVAILABLE);
+        } else {
+            try {
+                if (dryRun) {
+                    out.println("Dry run: " + service.count(operation, parameters) + " " + description
+                            + " would be changed");
+                } else {
+                    report(out, service.start(operation, parameters, chunkSize, throttle(throttleMs),
+                            run -> progress(out, run)));
+                }
+            } catch (Exception e) {
+                out.println("Error running " + operation + ": " + e.getMessage());
+            }
+        }
+        out.flush();
+    }
+
+    private static Duration throttle(Long throttleMs) {
+        return throttleMs == null ? null : Duration.ofMillis(throttleMs);
+    }
+
+    private static void progress(PrintWriter out, MaintenanceRun run) {
+        out.printf("Run %s: %d/%d processed%n", run.getId(), run.getProcessed(), run.getMatched());
+        out.flush();
+    }
+
+    private static void report(PrintWriter out, MaintenanceRun run) {
+        out.printf("Run %s %s: %d of %d processed%n", run.getId(), run.getStatus().name().toLowerCase(),
+                run.getProcessed(), run.getMatched());
+        if (run.getStatus() == MaintenanceRun.Status.FAILED) {
+            out.println("Error: " + run.getError());
+        }
+        if (run.getStatus() != MaintenanceRun.Status.COMPLETED) {
+            out.println("Continue with: resume-bulk-run -i " + run.getId());
+        }
+    }
+
+    /**
+     * Streams a listing to the terminal. In table format, a listing cut
+     * short by {@code limit} ends with the {@code --after} option that
+     * continues it.
+     */
+    private <T> void print(String format, String after, int limit, int pageSize, String heading,
+                           String emptyMessage, String errorPrefix, List<Column<T>> columns,
+                           Function<T, String> idOf, BiFunction<String, Integer, Stream<T>> query) {
+        PrintWriter out = terminal.writer();
+        try {
+            if (limit < 0) {
+                throw new IllegalArgumentException("--limit must not be negative");
+            }
+            RowWriter.Format outputFormat = RowWriter.Format.parse(format);
+            Stream<T> rows = query.apply(after, limit > 0 ? Math.min(pageSize, limit) : pageSize);
+            RowWriter<T> writer = new RowWriter<>(out, outputFormat, columns, objectMapper);
+            long written = writer.write(limit > 0 ? rows.limit(limit) : rows, heading, emptyMessage);
+            if (outputFormat == RowWriter.Format.TABLE && limit > 0 && written == limit) {
+                out.println("More may follow: --after " + idOf.apply(writer.last()));
+            }
+        } catch (Exception e) {
+            out.println(errorPrefix + ": " + e.getMessage());
+        }
+        out.flush();
+    }
+
     /**
      * Displays help information for available commands.
      *
@@ -335,9 +615,9 @@ public class JobPortalCommands {
     public String help() {
         StringBuilder help = new StringBuilder("Job Portal CLI Commands:\n\n");
 
-        help.append("list-jobs                      : List all jobs\n");
+        help.append("list-jobs [paging]             : List all jobs\n");
         help.append("job-details -i [ID]            : Get detailed information about a specific job\n");
-        help.append("list-recruiters                : List all recruiters\n");
+        help.append("list-recruiters [paging]       : List all recruiters\n");
         help.append("create-sample-job [options]    : Create a sample job with optional parameters\n");
         help.append("  Options:\n");
         help.append("    -t, --title [TITLE]        : Job title (default: Software Engineer)\n");
@@ -349,13 +629,34 @@ public class JobPortalCommands {
         help.append("    -e, --employment-type [TYPE]: Employment type (default: Full-time)\n");
         help.append("    -r, --recruiter-id [ID]    : Recruiter ID (default: none)\n");
         help.append("toggle-job-status -i [ID] [-a true/false] : Activate or deactivate a job\n");
-        help.append("search-jobs -k [KEYWORD]       : Search jobs by keyword\n");
-        help.append("filter-by-location -l [LOCATION] : Filter active jobs by location\n");
-        help.append("filter-by-company -c [COMPANY] : Filter jobs by company name\n");
-        help.append("filter-by-title -t [TITLE]     : Filter jobs by title\n");
-        help.append("filter-by-recruiter -r [ID]    : Filter jobs by recruiter ID\n");
+        help.append("search-jobs -k [KEYWORD] [paging] : Search jobs by keyword\n");
+        help.append("filter-by-location -l [LOCATION] [paging] : Filter active jobs by location\n");
+        help.append("filter-by-company -c [COMPANY] [paging] : Filter jobs by company name\n");
+        help.append("filter-by-title -t [TITLE] [paging] : Filter jobs by title\n");
+        help.append("filter-by-recruiter -r [ID] [paging] : Filter jobs by recruiter ID\n");
         help.append("delete-job -i [ID]             : Delete a job\n");
+        help.append("deactivate-company-jobs -c [COMPANY] [bulk] : Deactivate all active jobs of a company\n");
+        help.append("reassign-jobs --from [ID] --to [ID] [bulk] : Reassign a recruiter's jobs to another\n");
+        help.append("purge-applications [filters] [bulk] : Delete applications matching all filters\n");
+        help.append("  Filters (at least one):\n");
+        help.append("    --email-pattern [REGEX]    : Applicant email, case-insensitive\n");
+        help.append("    --job-id [ID]              : Job applied to\n");
+        help.append("    --status [STATUS]          : Application status\n");
+        help.append("    --submitted-before [DATE]  : Submitted before this ISO date\n");
+        help.append("resume-bulk-run -i [ID]        : Continue an interrupted bulk run\n");
+        help.append("list-bulk-runs [--limit N]     : List recent bulk runs\n");
         help.append("job-portal-help                : Show this help information\n");
+        help.append("\n[paging] options of the listing commands, which stream rows in ID order:\n");
+        help.append("    -f, --format [FORMAT]      : table, csv or json, one object per line (default: table)\n");
+        help.append("    --limit [N]                : Print at most N rows (default: all)\n");
+        help.append("    --after [ID]               : Start after this ID, to continue a limited listing\n");
+        help.append("    --page-size [N]            : Rows read from the database at a time (default: 500)\n");
+        help.append("\n[bulk] options of the bulk commands, which run in chunks and report progress:\n");
+        help.append("    --dry-run                  : Only count the documents that would change\n");
+        help.append("    --chunk-size [N]           : Documents changed at a time (default: app.bulk.chunk-size)\n");
+        help.append("    --throttle-ms [MS]         : Pause between chunks (default: app.bulk.throttle)\n");
+        help.append("\nScript mode: java -jar app.jar --spring.main.web-application-type=none @commands.txt\n");
+        help.append("runs one command per line; use @/dev/stdin to pipe commands in.\n");
 
         return help.toString();
     }
@@ -0,0 +1,172 @@
+package org.example.oopproject1.cli;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.PrintWriter;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Writes shell command results row by row as they are read, so output
+ * starts after the first row rather than after the last.
+ * <p>
+ * Rows are written as {@code Label: value} lines under a heading
+ * ({@link Format#TABLE}), as RFC 4180 CSV with a header line
+ * ({@link Format#CSV}), or as JSON Lines, one object per row keyed by the
+ * lower-cased labels ({@link Format#JSON}). The writer is flushed after the
+ * first row and then every {@value #FLUSH_EVERY} rows.
+ * </p>
+ *
+ * @param <T> the row type
+ * @since 1.1
+ */
+final class RowWriter<T> {
+
+    /**
+     * Rows written between flushes, after the first.
+     */
+    static final int FLUSH_EVERY = 100;
+
+    /**
+     * Output formats of the listing commands.
+     */
+    enum Format {
+        TABLE, CSV, JSON;
+
+        /**
+         * Parses a format name, ignoring case.
+         *
+         * @param name the name
+         * @return the format
+         * @throws IllegalArgumentException if there is no such format
+         */
+        static Format parse(String name) {
+            try {
+                return valueOf(name.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Unknown format '" + name + "' (expected table, csv or json)");
+            }
+        }
+    }
+
+    /**
+     * One output column.
+     *
+     * @param label the table label; lower-cased, the CSV header and JSON key
+     * @param value extracts the column's value from a row
+     * @param <T>   the row type
+     */
+    record Column<T>(String label, Function<T, ?> value) {
+
+        String key() {
+            return label.toLowerCase(Locale.ROOT);
+        }
+    }
+
+    private final PrintWriter out;
+    private final Format format;
+    private final List<Column<T>> columns;
+    private final ObjectMapper objectMapper;
+    private long count;
+    private T last;
+
+    /**
+     * Constructs a writer.
+     *
+     * @param out          where to write
+     * @param format       the output format
+     * @param columns      the columns, in output order
+     * @param objectMapper serializes {@link Format#JSON} rows
+     */
+    RowWriter(PrintWriter out, Format format, List<Column<T>> columns, ObjectMapper objectMapper) {
+        this.out = out;
+        this.format = format;
+        this.columns = columns;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Writes every row of a stream, then closes it.
+     *
+     * @param rows         the rows
+     * @param heading      the {@link Format#TABLE} line above the first row
+     * @param emptyMessage the {@link Format#TABLE} line written instead when there are no rows
+     * @return the number of rows written
+     */
+    long write(Stream<T> rows, String heading, String emptyMessage) {
+        try (rows) {
+            if (format == Format.CSV) {
+                out.println(columns.stream().map(column -> csv(column.key())).collect(Collectors.joining(",")));
+            }
+            Iterator<T> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                T row = iterator.next();
+                if (count == 0 && format == Format.TABLE) {
+                    out.println(heading);
+                }
+                out.println(format(row));
+                last = row;
+                if (++count % FLUSH_EVERY == 1) {
+                    out.flush();
+                }
+            }
+            if (count == 0 && format == Format.TABLE) {
+                out.println(emptyMessage);
+            }
+        } finally {
+            out.flush();
+        }
+        return count;
+    }
+
+    /**
+     * Returns the last row written.
+     *
+     * @return the row, or {@code null} if none was written
+     */
+    T last() {
+        return last;
+    }
+
+    private String format(T row) {
+        return switch (format) {
+            case TABLE -> columns.stream()
+                    .map(column -> column.label() + ": " + column.value().apply(row))
+                    .collect(Collectors.joining(", "));
+            case CSV -> columns.stream()
+                    .map(column -> csv(column.value().apply(row)))
+                    .collect(Collectors.joining(","));
+            case JSON -> json(row);
+        };
+    }
+
+    private String json(T row) {
+        Map<String, Object> object = new LinkedHashMap<>();
+        for (Column<T> column : columns) {
+            object.put(column.key(), column.value().apply(row));
+        }
+        try {
+            return objectMapper.writeValueAsString(object);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot write row as JSON", e);
+        }
+    }
+
+    private static String csv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+}
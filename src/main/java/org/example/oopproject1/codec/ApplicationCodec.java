@@ -0,0 +1,196 @@
+package org.example.oopproject1.codec;
+
+import org.example.oopproject1.model.Application;
+import org.example.oopproject1.model.Application.ApplicationStatus;
+import org.example.oopproject1.model.StatusChange;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compact binary encoding of {@link Application}.
+ * <p>
+ * The layout follows {@link JobCodec}: a version byte, a varint bit set of the
+ * fields present, then the present fields in declaration order. The status is
+ * a one-byte code from a fixed table rather than its ordinal, so reordering
+ * the enum cannot change the meaning of stored bytes; a status missing from
+ * the table is written as {@link #STATUS_BY_NAME} followed by its name.
+ * The status history is a varint count followed by each change's statuses,
+ * with {@link #NO_STATUS} for a missing one, actor and time.
+ * </p>
+ *
+ * @since 1.1
+ */
+@Component
+public class ApplicationCodec implements EntityCodec<Application> {
+
+    static final int VERSION = 1;
+
+    /**
+     * Status codes; append only.
+     */
+    private static final List<ApplicationStatus> STATUS_CODES = List.of(ApplicationStatus.SUBMITTED,
+            ApplicationStatus.REVIEWING, ApplicationStatus.INTERVIEWED, ApplicationStatus.REJECTED,
+            ApplicationStatus.ACCEPTED);
+    private static final int STATUS_BY_NAME = 0xFF;
+    private static final int NO_STATUS = 0xFE;
+
+    private static final int ID = 1;
+    private static final int JOB_ID = 1 << 1;
+    private static final int CANDIDATE_NAME = 1 << 2;
+    private static final int EMAIL = 1 << 3;
+    private static final int PHONE = 1 << 4;
+    private static final int RESUME_URL = 1 << 5;
+    private static final int COVER_LETTER_TEXT = 1 << 6;
+    private static final int APPLICATION_DATE = 1 << 7;
+    private static final int STATUS = 1 << 8;
+    private static final int LAST_MODIFIED = 1 << 9;
+    private static final int STATUS_HISTORY = 1 << 10;
+
+    @Override
+    public Class<Application> type() {
+        return Application.class;
+    }
+
+    @Override
+    public byte[] encode(Application application) {
+        int fields = (application.getId() != null ? ID : 0)
+                | (application.getJobId() != null ? JOB_ID : 0)
+                | (application.getCandidateName() != null ? CANDIDATE_NAME : 0)
+                | (application.getEmail() != null ? EMAIL : 0)
+                | (application.getPhone() != null ? PHONE : 0)
+                | (application.getResumeUrl() != null ? RESUME_URL : 0)
+                | (application.getCoverLetterText() != null ? COVER_LETTER_TEXT : 0)
+                | (application.getApplicationDate() != null ? APPLICATION_DATE : 0)
+                | (application.getStatus() != null ? STATUS : 0)
+                | (application.getLastModified() != null ? LAST_MODIFIED : 0)
+                | (application.getStatusHistory() != null ? STATUS_HISTORY : 0);
+        int coverLetter = application.getCoverLetterText() != null ? application.getCoverLetterText().length() : 0;
+        BinaryWriter out = new BinaryWriter(128 + coverLetter);
+        out.writeByte(VERSION);
+        out.writeVarInt(fields);
+        if ((fields & ID) != 0) {
+            out.writeString(application.getId());
+        }
+        if ((fields & JOB_ID) != 0) {
+            out.writeString(application.getJobId());
+        }
+        if ((fields & CANDIDATE_NAME) != 0) {
+            out.writeString(application.getCandidateName());
+        }
+        if ((fields & EMAIL) != 0) {
+            out.writeString(application.getEmail());
+        }
+        if ((fields & PHONE) != 0) {
+            out.writeString(application.getPhone());
+        }
+        if ((fields & RESUME_URL) != 0) {
+            out.writeString(application.getResumeUrl());
+        }
+        if ((fields & COVER_LETTER_TEXT) != 0) {
+            out.writeString(application.getCoverLetterText());
+        }
+        if ((fields & APPLICATION_DATE) != 0) {
+            out.writeDate(application.getApplicationDate());
+        }
+        if ((fields & STATUS) != 0) {
+            writeStatus(out, application.getStatus());
+        }
+        if ((fields & LAST_MODIFIED) != 0) {
+            out.writeInstant(application.getLastModified());
+        }
+        if ((fields & STATUS_HISTORY) != 0) {
+            out.writeVarInt(application.getStatusHistory().size());
+            for (StatusChange change : application.getStatusHistory()) {
+                writeStatus(out, change.getFrom());
+                writeStatus(out, change.getTo());
+                out.writeString(change.getActor() != null ? change.getActor() : "");
+                out.writeInstant(change.getAt() != null ? change.getAt() : Instant.EPOCH);
+            }
+        }
+        return out.toByteArray();
+    }
+
+    @Override
+    public Application decode(ByteBuffer buffer) {
+        BinaryReader in = new BinaryReader(buffer);
+        int version = in.readByte();
+        return switch (version) {
+            case 1 -> decodeVersion1(in);
+            default -> throw new IllegalArgumentException("Unsupported application encoding version " + version);
+        };
+    }
+
+    private Application decodeVersion1(BinaryReader in) {
+        int fields = in.readVarInt();
+        Application application = new Application();
+        if ((fields & ID) != 0) {
+            application.setId(in.readString());
+        }
+        if ((fields & JOB_ID) != 0) {
+            application.setJobId(in.readString());
+        }
+        if ((fields & CANDIDATE_NAME) != 0) {
+            application.setCandidateName(in.readString());
+        }
+        if ((fields & EMAIL) != 0) {
+            application.setEmail(in.readString());
+        }
+        if ((fields & PHONE) != 0) {
+            application.setPhone(in.readString());
+        }
+        if ((fields & RESUME_URL) != 0) {
+            application.setResumeUrl(in.readString());
+        }
+        if ((fields & COVER_LETTER_TEXT) != 0) {
+            application.setCoverLetterText(in.readString());
+        }
+        if ((fields & APPLICATION_DATE) != 0) {
+            application.setApplicationDate(in.readDate());
+        }
+        if ((fields & STATUS) != 0) {
+            application.setStatus(readStatus(in));
+        }
+        if ((fields & LAST_MODIFIED) != 0) {
+            application.setLastModified(in.readInstant());
+        }
+        if ((fields & STATUS_HISTORY) != 0) {
+            int count = in.readVarInt();
+            List<StatusChange> history = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                ApplicationStatus from = readStatus(in);
+                ApplicationStatus to = readStatus(in);
+                String actor = in.readString();
+                history.add(new StatusChange(from, to, actor.isEmpty() ? null : actor, in.readInstant()));
+            }
+            application.setStatusHistory(history);
+        }
+        return application;
+    }
+
+    private static void writeStatus(BinaryWriter out, ApplicationStatus status) {
+        if (status == null) {
+            out.writeByte(NO_STATUS);
+            return;
+        }
+        int code = STATUS_CODES.indexOf(status);
+        if (code >= 0) {
+            out.writeByte(code);
+        } else {
+            out.writeByte(STATUS_BY_NAME);
+            out.writeString(status.name());
+        }
+    }
+
+    private static ApplicationStatus readStatus(BinaryReader in) {
+        int code = in.readByte();
+        return switch (code) {
+            case NO_STATUS -> null;
+            case STATUS_BY_NAME -> ApplicationStatus.valueOf(in.readString());
+            default -> STATUS_CODES.get(code);
+        };
+    }
+}
@@ -0,0 +1,100 @@
+package org.example.oopproject1.codec;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads the encoding written by {@link BinaryWriter} straight from a buffer,
+ * which may be a read-only view of a memory-mapped file. Nothing is copied
+ * other than into the decoded strings themselves, and interned fields that
+ * hit their dictionary are not copied at all.
+ *
+ * @since 1.1
+ */
+final class BinaryReader {
+
+    private final ByteBuffer buffer;
+    private int position;
+
+    BinaryReader(ByteBuffer buffer) {
+        this.buffer = buffer;
+        this.position = buffer.position();
+    }
+
+    int readByte() {
+        return buffer.get(position++) & 0xFF;
+    }
+
+    int readVarInt() {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            byte b = buffer.get(position++);
+            value |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint");
+    }
+
+    long readVarLong() {
+        long zigzag = 0;
+        for (int shift = 0; shift < 70; shift += 7) {
+            byte b = buffer.get(position++);
+            zigzag |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return (zigzag >>> 1) ^ -(zigzag & 1);
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint");
+    }
+
+    double readDouble() {
+        long bits = buffer.getLong(position);
+        position += Long.BYTES;
+        return Double.longBitsToDouble(buffer.order() == ByteOrder.BIG_ENDIAN ? bits : Long.reverseBytes(bits));
+    }
+
+    LocalDate readDate() {
+        return LocalDate.ofEpochDay(readVarLong());
+    }
+
+    Instant readInstant() {
+        return Instant.ofEpochMilli(readVarLong());
+    }
+
+    String readString() {
+        int length = readVarInt();
+        String value;
+        if (buffer.hasArray()) {
+            value = new String(buffer.array(), buffer.arrayOffset() + position, length, StandardCharsets.UTF_8);
+        } else {
+            byte[] bytes = new byte[length];
+            buffer.get(position, bytes);
+            value = new String(bytes, StandardCharsets.UTF_8);
+        }
+        position += length;
+        return value;
+    }
+
+    String readString(StringInterner dictionary) {
+        int length = readVarInt();
+        String value = dictionary.intern(buffer, position, length);
+        position += length;
+        return value;
+    }
+
+    List<String> readStrings(StringInterner dictionary) {
+        int count = readVarInt();
+        List<String> values = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            values.add(readString(dictionary));
+        }
+        return values;
+    }
+}
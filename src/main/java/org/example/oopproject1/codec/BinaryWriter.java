@@ -0,0 +1,91 @@
+package org.example.oopproject1.codec;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Growable byte array the binary codecs encode into. Integers are unsigned
+ * LEB128 varints, signed values are zigzag encoded first, and strings are a
+ * varint byte length followed by UTF-8.
+ *
+ * @since 1.1
+ */
+final class BinaryWriter {
+
+    private byte[] bytes;
+    private int size;
+
+    BinaryWriter(int capacity) {
+        this.bytes = new byte[capacity];
+    }
+
+    void writeByte(int value) {
+        ensure(1);
+        bytes[size++] = (byte) value;
+    }
+
+    void writeVarInt(int value) {
+        ensure(5);
+        while ((value & ~0x7F) != 0) {
+            bytes[size++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        bytes[size++] = (byte) value;
+    }
+
+    void writeVarLong(long value) {
+        ensure(10);
+        long zigzag = (value << 1) ^ (value >> 63);
+        while ((zigzag & ~0x7FL) != 0) {
+            bytes[size++] = (byte) ((zigzag & 0x7F) | 0x80);
+            zigzag >>>= 7;
+        }
+        bytes[size++] = (byte) zigzag;
+    }
+
+    void writeDouble(double value) {
+        ensure(Long.BYTES);
+        long bits = Double.doubleToRawLongBits(value);
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            bytes[size++] = (byte) (bits >>> shift);
+        }
+    }
+
+    void writeDate(LocalDate value) {
+        writeVarLong(value.toEpochDay());
+    }
+
+    void writeInstant(Instant value) {
+        // millisecond precision, as MongoDB stores dates
+        writeVarLong(value.toEpochMilli());
+    }
+
+    void writeString(String value) {
+        // String.getBytes is intrinsified for Latin-1 strings and beats a hand-written char loop
+        byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(utf8.length);
+        ensure(utf8.length);
+        System.arraycopy(utf8, 0, bytes, size, utf8.length);
+        size += utf8.length;
+    }
+
+    void writeStrings(List<String> values) {
+        writeVarInt(values.size());
+        for (String value : values) {
+            writeString(value == null ? "" : value);
+        }
+    }
+
+    byte[] toByteArray() {
+        return Arrays.copyOf(bytes, size);
+    }
+
+    private void ensure(int extra) {
+        if (size + extra > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + extra));
+        }
+    }
+}
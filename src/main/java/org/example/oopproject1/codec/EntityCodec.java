@@ -0,0 +1,37 @@
+package org.example.oopproject1.codec;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Converts entities of one type to and from bytes, e.g. for the in-memory
+ * write-ahead log and snapshots or for cache and inter-process payloads.
+ *
+ * @param <T> the entity type
+ * @since 1.1
+ */
+public interface EntityCodec<T> {
+
+    /**
+     * Returns the entity class this codec handles.
+     *
+     * @return the entity class
+     */
+    Class<T> type();
+
+    /**
+     * Encodes an entity.
+     *
+     * @param entity the entity
+     * @return its encoded form
+     */
+    byte[] encode(T entity);
+
+    /**
+     * Decodes an entity from the remaining bytes of a buffer, which may be a
+     * read-only view of a memory-mapped file.
+     *
+     * @param buffer the encoded form, between position and limit
+     * @return the entity
+     */
+    T decode(ByteBuffer buffer);
+}
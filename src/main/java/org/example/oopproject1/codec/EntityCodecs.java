@@ -0,0 +1,132 @@
+package org.example.oopproject1.codec;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Looks up the {@link EntityCodec} for an entity type.
+ * <p>
+ * Codec beans take precedence; any other type is encoded as Smile, Jackson's
+ * binary JSON format, from its fields, so computed getters such as
+ * {@code User.getAuthorities()} are not stored.
+ * </p>
+ * <p>
+ * Registered codecs still decode Smile: bytes starting with the Smile header
+ * are read with the default codec, so data written before a type got its own
+ * codec stays readable. Registered codecs must therefore never start their
+ * encoding with {@code ':'} ({@code 0x3A}).
+ * </p>
+ *
+ * @since 1.1
+ */
+@Component
+public class EntityCodecs {
+
+    private static final byte SMILE_HEADER = ':';
+
+    private final Map<Class<?>, EntityCodec<?>> codecs = new ConcurrentHashMap<>();
+    private final ObjectMapper smileMapper = Jackson2ObjectMapperBuilder.smile()
+            .visibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.NONE)
+            .visibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY)
+            .build();
+
+    /**
+     * Constructs the registry from the codec beans in the context.
+     *
+     * @param codecs the codec beans
+     */
+    @Autowired
+    public EntityCodecs(ObjectProvider<EntityCodec<?>> codecs) {
+        this(codecs.orderedStream().toList());
+    }
+
+    /**
+     * Constructs the registry from explicit codecs, e.g. outside Spring.
+     *
+     * @param codecs codecs that replace the Smile default for their types
+     */
+    public EntityCodecs(List<? extends EntityCodec<?>> codecs) {
+        codecs.forEach(codec -> this.codecs.put(codec.type(), withSmileFallback(codec)));
+    }
+
+    /**
+     * Returns the codec for an entity type.
+     *
+     * @param type the entity class
+     * @param <T>  the entity type
+     * @return the registered codec, or a Smile codec if none is registered
+     */
+    @SuppressWarnings("unchecked")
+    public <T> EntityCodec<T> forType(Class<T> type) {
+        return (EntityCodec<T>) codecs.computeIfAbsent(type, SmileCodec::new);
+    }
+
+    private <T> EntityCodec<T> withSmileFallback(EntityCodec<T> codec) {
+        EntityCodec<T> smile = new SmileCodec<>(codec.type());
+        return new EntityCodec<>() {
+            @Override
+            public Class<T> type() {
+                return codec.type();
+            }
+
+            @Override
+            public byte[] encode(T entity) {
+                return codec.encode(entity);
+            }
+
+            @Override
+            public T decode(ByteBuffer buffer) {
+                boolean isSmile = buffer.hasRemaining() && buffer.get(buffer.position()) == SMILE_HEADER;
+                return isSmile ? smile.decode(buffer) : codec.decode(buffer);
+            }
+        };
+    }
+
+    private final class SmileCodec<T> implements EntityCodec<T> {
+        private final Class<T> type;
+
+        private SmileCodec(Class<T> type) {
+            this.type = type;
+        }
+
+        @Override
+        public Class<T> type() {
+            return type;
+        }
+
+        @Override
+        public byte[] encode(T entity) {
+            try {
+                return smileMapper.writeValueAsBytes(entity);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public T decode(ByteBuffer buffer) {
+            try {
+                if (buffer.hasArray()) {
+                    return smileMapper.readValue(buffer.array(), buffer.arrayOffset() + buffer.position(),
+                            buffer.remaining(), type);
+                }
+                return smileMapper.readValue(new ByteBufferBackedInputStream(buffer.duplicate()), type);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
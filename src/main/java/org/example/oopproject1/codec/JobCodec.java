@@ -0,0 +1,199 @@
+package org.example.oopproject1.codec;
+
+import org.example.oopproject1.model.Job;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Compact binary encoding of {@link Job}.
+ * <p>
+ * An encoded job is a version byte, a varint bit set of the fields present,
+ * then the present fields in declaration order; {@code isActive} is carried
+ * in the bit set itself. Company, location, employment type and skills are
+ * decoded through the {@link JobFieldDictionaries}, so every decoded job
+ * shares the same instances of those strings.
+ * </p>
+ * <p>
+ * Decoders are kept for every version ever written. A new optional field
+ * can be appended under the next free bit without a new version, since
+ * older encodings simply lack the bit; any other change to the layout bumps
+ * {@link #VERSION}, writes the new layout and adds a case for it to
+ * {@link #decode(ByteBuffer)}.
+ * </p>
+ *
+ * @since 1.1
+ */
+@Component
+public class JobCodec implements EntityCodec<Job> {
+
+    static final int VERSION = 1;
+
+    private static final int ID = 1;
+    private static final int TITLE = 1 << 1;
+    private static final int COMPANY = 1 << 2;
+    private static final int DESCRIPTION = 1 << 3;
+    private static final int REQUIRED_SKILLS = 1 << 4;
+    private static final int MIN_SALARY = 1 << 5;
+    private static final int MAX_SALARY = 1 << 6;
+    private static final int LOCATION = 1 << 7;
+    private static final int EMPLOYMENT_TYPE = 1 << 8;
+    private static final int POST_DATE = 1 << 9;
+    private static final int DEADLINE_DATE = 1 << 10;
+    private static final int ACTIVE = 1 << 11;
+    private static final int RECRUITER_ID = 1 << 12;
+    private static final int LAST_MODIFIED = 1 << 13;
+    private static final int COORDINATES = 1 << 14;
+
+    private final JobFieldDictionaries dictionaries;
+
+    /**
+     * Constructs a codec decoding through the shared dictionaries.
+     *
+     * @param dictionaries the dictionaries for the low-cardinality fields
+     */
+    @Autowired
+    public JobCodec(JobFieldDictionaries dictionaries) {
+        this.dictionaries = dictionaries;
+    }
+
+    /**
+     * Constructs a codec with dictionaries of its own, e.g. outside Spring.
+     */
+    public JobCodec() {
+        this(new JobFieldDictionaries(4096));
+    }
+
+    @Override
+    public Class<Job> type() {
+        return Job.class;
+    }
+
+    @Override
+    public byte[] encode(Job job) {
+        int fields = (job.getId() != null ? ID : 0)
+                | (job.getTitle() != null ? TITLE : 0)
+                | (job.getCompany() != null ? COMPANY : 0)
+                | (job.getDescription() != null ? DESCRIPTION : 0)
+                | (job.getRequiredSkills() != null ? REQUIRED_SKILLS : 0)
+                | (job.getMinSalary() != null ? MIN_SALARY : 0)
+                | (job.getMaxSalary() != null ? MAX_SALARY : 0)
+                | (job.getLocation() != null ? LOCATION : 0)
+                | (job.getEmploymentType() != null ? EMPLOYMENT_TYPE : 0)
+                | (job.getPostDate() != null ? POST_DATE : 0)
+                | (job.getDeadlineDate() != null ? DEADLINE_DATE : 0)
+                | (job.isActive() ? ACTIVE : 0)
+                | (job.getRecruiterId() != null ? RECRUITER_ID : 0)
+                | (job.getLastModified() != null ? LAST_MODIFIED : 0)
+                | (job.getCoordinates() != null ? COORDINATES : 0);
+        int description = job.getDescription() != null ? job.getDescription().length() : 0;
+        BinaryWriter out = new BinaryWriter(128 + description);
+        out.writeByte(VERSION);
+        out.writeVarInt(fields);
+        if ((fields & ID) != 0) {
+            out.writeString(job.getId());
+        }
+        if ((fields & TITLE) != 0) {
+            out.writeString(job.getTitle());
+        }
+        if ((fields & COMPANY) != 0) {
+            out.writeString(job.getCompany());
+        }
+        if ((fields & DESCRIPTION) != 0) {
+            out.writeString(job.getDescription());
+        }
+        if ((fields & REQUIRED_SKILLS) != 0) {
+            out.writeStrings(job.getRequiredSkills());
+        }
+        if ((fields & MIN_SALARY) != 0) {
+            out.writeDouble(job.getMinSalary());
+        }
+        if ((fields & MAX_SALARY) != 0) {
+            out.writeDouble(job.getMaxSalary());
+        }
+        if ((fields & LOCATION) != 0) {
+            out.writeString(job.getLocation());
+        }
+        if ((fields & EMPLOYMENT_TYPE) != 0) {
+            out.writeString(job.getEmploymentType());
+        }
+        if ((fields & POST_DATE) != 0) {
+            out.writeDate(job.getPostDate());
+        }
+        if ((fields & DEADLINE_DATE) != 0) {
+            out.writeDate(job.getDeadlineDate());
+        }
+        if ((fields & RECRUITER_ID) != 0) {
+            out.writeString(job.getRecruiterId());
+        }
+        if ((fields & LAST_MODIFIED) != 0) {
+            out.writeInstant(job.getLastModified());
+        }
+        if ((fields & COORDINATES) != 0) {
+            out.writeDouble(job.getCoordinates().getX());
+            out.writeDouble(job.getCoordinates().getY());
+        }
+        return out.toByteArray();
+    }
+
+    @Override
+    public Job decode(ByteBuffer buffer) {
+        BinaryReader in = new BinaryReader(buffer);
+        int version = in.readByte();
+        return switch (version) {
+            case 1 -> decodeVersion1(in);
+            default -> throw new IllegalArgumentException("Unsupported job encoding version " + version);
+        };
+    }
+
+    private Job decodeVersion1(BinaryReader in) {
+        int fields = in.readVarInt();
+        Job job = new Job();
+        if ((fields & ID) != 0) {
+            job.setId(in.readString());
+        }
+        if ((fields & TITLE) != 0) {
+            job.setTitle(in.readString());
+        }
+        if ((fields & COMPANY) != 0) {
+            job.setCompany(in.readString(dictionaries.companies()));
+        }
+        if ((fields & DESCRIPTION) != 0) {
+            job.setDescription(in.readString());
+        }
+        if ((fields & REQUIRED_SKILLS) != 0) {
+            job.setRequiredSkills(in.readStrings(dictionaries.skills()));
+        }
+        if ((fields & MIN_SALARY) != 0) {
+            job.setMinSalary(in.readDouble());
+        }
+        if ((fields & MAX_SALARY) != 0) {
+            job.setMaxSalary(in.readDouble());
+        }
+        if ((fields & LOCATION) != 0) {
+            job.setLocation(in.readString(dictionaries.locations()));
+        }
+        if ((fields & EMPLOYMENT_TYPE) != 0) {
+            job.setEmploymentType(in.readString(dictionaries.employmentTypes()));
+        }
+        if ((fields & POST_DATE) != 0) {
+            job.setPostDate(in.readDate());
+        }
+        if ((fields & DEADLINE_DATE) != 0) {
+            job.setDeadlineDate(in.readDate());
+        }
+        job.setActive((fields & ACTIVE) != 0);
+        if ((fields & RECRUITER_ID) != 0) {
+            job.setRecruiterId(in.readString());
+        }
+        if ((fields & LAST_MODIFIED) != 0) {
+            job.setLastModified(in.readInstant());
+        }
+        if ((fields & COORDINATES) != 0) {
+            job.setCoordinates(new GeoJsonPoint(in.readDouble(), in.readDouble()));
+        }
+        return job;
+    }
+}
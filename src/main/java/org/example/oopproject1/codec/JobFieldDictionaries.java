@@ -0,0 +1,84 @@
+package org.example.oopproject1.codec;
+
+import org.example.oopproject1.model.Job;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Shared dictionaries for the low-cardinality {@link Job} fields: company,
+ * location, employment type and required skills.
+ * <p>
+ * Jobs read from MongoDB and jobs decoded by {@link JobCodec} go through the
+ * same dictionaries, so however many jobs are held in caches or in a large
+ * page of results, each distinct value of these fields is one
+ * {@link String} instance.
+ * </p>
+ *
+ * @since 1.1
+ */
+@Component
+public class JobFieldDictionaries {
+
+    private final StringInterner companies;
+    private final StringInterner locations;
+    private final StringInterner employmentTypes;
+    private final StringInterner skills;
+
+    /**
+     * Constructs empty dictionaries.
+     *
+     * @param capacity maximum number of distinct values remembered per field
+     */
+    public JobFieldDictionaries(@Value("${app.interning.capacity:4096}") int capacity) {
+        this.companies = new StringInterner("company", capacity);
+        this.locations = new StringInterner("location", capacity);
+        this.employmentTypes = new StringInterner("employmentType", capacity);
+        this.skills = new StringInterner("requiredSkills", capacity);
+    }
+
+    /**
+     * Replaces the job's low-cardinality fields with their canonical instances.
+     *
+     * @param job the job, modified in place
+     * @return the same job
+     */
+    public Job intern(Job job) {
+        job.setCompany(companies.intern(job.getCompany()));
+        job.setLocation(locations.intern(job.getLocation()));
+        job.setEmploymentType(employmentTypes.intern(job.getEmploymentType()));
+        if (job.getRequiredSkills() != null) {
+            List<String> interned = new ArrayList<>(job.getRequiredSkills().size());
+            job.getRequiredSkills().forEach(skill -> interned.add(skills.intern(skill)));
+            job.setRequiredSkills(interned);
+        }
+        return job;
+    }
+
+    /**
+     * Returns every dictionary, e.g. for reporting.
+     *
+     * @return the dictionaries in field order
+     */
+    public List<StringInterner> all() {
+        return List.of(companies, locations, employmentTypes, skills);
+    }
+
+    StringInterner companies() {
+        return companies;
+    }
+
+    StringInterner locations() {
+        return locations;
+    }
+
+    StringInterner employmentTypes() {
+        return employmentTypes;
+    }
+
+    StringInterner skills() {
+        return skills;
+    }
+}
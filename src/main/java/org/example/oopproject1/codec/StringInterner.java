@@ -0,0 +1,219 @@
+package org.example.oopproject1.codec;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bounded dictionary of canonical strings for a low-cardinality field such
+ * as a company or location name.
+ * <p>
+ * Strings can be interned either as {@link String} values or directly from
+ * their UTF-8 bytes in a buffer; a hit on the byte path returns the canonical
+ * instance without decoding or allocating. Once {@code capacity} distinct
+ * values have been seen, new values are returned as they are rather than
+ * remembered, so a field that turns out to be high-cardinality cannot grow
+ * the dictionary without bound.
+ * </p>
+ * <p>
+ * Every lookup that returns an existing instance counts as a hit, and adds
+ * the estimated heap size of the duplicate it replaced to
+ * {@link #bytesSaved()}.
+ * </p>
+ *
+ * @since 1.1
+ */
+public final class StringInterner {
+
+    private final String name;
+    private final int capacity;
+    private final Map<String, String> strings = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder bytesSaved = new LongAdder();
+
+    /**
+     * Open-addressing table keyed by UTF-8 bytes; replaced on every insert so
+     * readers never lock. Inserts are rare once the dictionary is warm.
+     */
+    private volatile Entry[] table;
+    private int size;
+
+    /**
+     * Constructs an empty dictionary.
+     *
+     * @param name     name of the field the dictionary serves
+     * @param capacity maximum number of distinct values remembered
+     */
+    public StringInterner(String name, int capacity) {
+        this.name = name;
+        this.capacity = capacity;
+        this.table = new Entry[tableSize(16)];
+    }
+
+    /**
+     * Returns the name of the field the dictionary serves.
+     *
+     * @return the field name
+     */
+    public String name() {
+        return name;
+    }
+
+    /**
+     * Returns the number of distinct values remembered.
+     *
+     * @return the dictionary size
+     */
+    public int size() {
+        return strings.size();
+    }
+
+    /**
+     * Returns the maximum number of distinct values remembered.
+     *
+     * @return the capacity
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Returns the number of lookups answered with an existing instance.
+     *
+     * @return the hit count
+     */
+    public long hits() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the estimated heap not retained because hits shared an existing
+     * instance instead of keeping their own copy: per hit, a {@code String}
+     * and its Latin-1 backing array.
+     *
+     * @return the estimated bytes saved
+     */
+    public long bytesSaved() {
+        return bytesSaved.sum();
+    }
+
+    /**
+     * Returns the canonical instance of a string.
+     *
+     * @param value the string, may be {@code null}
+     * @return the canonical instance, or {@code value} itself if it is new and the dictionary is full
+     */
+    public String intern(String value) {
+        if (value == null) {
+            return null;
+        }
+        String canonical = strings.get(value);
+        if (canonical != null) {
+            if (canonical != value) {
+                hit(canonical);
+            }
+            return canonical;
+        }
+        return add(value, value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Returns the canonical instance of the string whose UTF-8 bytes are at
+     * the given absolute position of a buffer, leaving the buffer's position
+     * unchanged.
+     *
+     * @param buffer the buffer
+     * @param offset absolute index of the first byte
+     * @param length number of bytes
+     * @return the canonical instance, or a new string if it is new and the dictionary is full
+     */
+    public String intern(ByteBuffer buffer, int offset, int length) {
+        int hash = hash(buffer, offset, length);
+        Entry[] entries = table;
+        int mask = entries.length - 1;
+        for (int i = hash & mask; entries[i] != null; i = (i + 1) & mask) {
+            Entry entry = entries[i];
+            if (entry.hash == hash && entry.matches(buffer, offset, length)) {
+                hit(entry.value);
+                return entry.value;
+            }
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(offset, bytes);
+        return add(new String(bytes, StandardCharsets.UTF_8), bytes);
+    }
+
+    private synchronized String add(String value, byte[] bytes) {
+        String canonical = strings.get(value);
+        if (canonical != null) {
+            hit(canonical);
+            return canonical;
+        }
+        if (size >= capacity) {
+            return value;
+        }
+        Entry[] entries = table.length < tableSize(size + 1) ? new Entry[tableSize(size + 1)] : table.clone();
+        if (entries.length != table.length) {
+            for (Entry entry : table) {
+                if (entry != null) {
+                    put(entries, entry);
+                }
+            }
+        }
+        put(entries, new Entry(bytes, value, hash(ByteBuffer.wrap(bytes), 0, bytes.length)));
+        table = entries;
+        strings.put(value, value);
+        size++;
+        return value;
+    }
+
+    private void hit(String canonical) {
+        hits.increment();
+        // 24-byte String header plus a 16-byte array header and the characters, 8-byte aligned
+        bytesSaved.add(24 + ((16 + canonical.length() + 7) & ~7));
+    }
+
+    private static void put(Entry[] entries, Entry entry) {
+        int mask = entries.length - 1;
+        int i = entry.hash & mask;
+        while (entries[i] != null) {
+            i = (i + 1) & mask;
+        }
+        entries[i] = entry;
+    }
+
+    /**
+     * Table size keeping the load factor at or below one half.
+     */
+    private static int tableSize(int entries) {
+        return Integer.highestOneBit(Math.max(8, entries) * 2 - 1) << 1;
+    }
+
+    /**
+     * FNV-1a over the bytes.
+     */
+    private static int hash(ByteBuffer buffer, int offset, int length) {
+        int hash = 0x811C9DC5;
+        for (int i = 0; i < length; i++) {
+            hash = (hash ^ (buffer.get(offset + i) & 0xFF)) * 0x01000193;
+        }
+        return hash;
+    }
+
+    private record Entry(byte[] bytes, String value, int hash) {
+
+        boolean matches(ByteBuffer buffer, int offset, int length) {
+            if (bytes.length != length) {
+                return false;
+            }
+            for (int i = 0; i < length; i++) {
+                if (bytes[i] != buffer.get(offset + i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,5 @@
+/**
+ * Binary encodings of the model classes for persistence, caching and
+ * inter-process payloads, looked up by type through {@link org.example.oopproject1.codec.EntityCodecs}.
+ */
+package org.example.oopproject1.codec;
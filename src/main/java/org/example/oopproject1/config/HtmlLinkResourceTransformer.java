@@ -0,0 +1,51 @@
+package org.example.oopproject1.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.core.io.Resource;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.servlet.resource.ResourceTransformerChain;
+import org.springframework.web.servlet.resource.ResourceTransformerSupport;
+import org.springframework.web.servlet.resource.TransformedResource;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Rewrites the local script and stylesheet links of HTML pages to the URLs
+ * the resource chain resolves them to, which carry a content fingerprint.
+ * The counterpart of {@link org.springframework.web.servlet.resource.CssLinkResourceTransformer}
+ * for pages that are served as static files rather than rendered by templates.
+ *
+ * @since 1.1
+ */
+class HtmlLinkResourceTransformer extends ResourceTransformerSupport {
+
+    /**
+     * {@code src} or {@code href} attributes naming a relative or root-relative
+     * {@code .js} or {@code .css} file; URLs with a scheme are left alone.
+     */
+    private static final Pattern LINK = Pattern.compile("\\b(src|href)=\"([^\":?#]+\\.(?:js|css))\"");
+
+    @Override
+    public Resource transform(HttpServletRequest request, Resource resource, ResourceTransformerChain chain)
+            throws IOException {
+        resource = chain.transform(request, resource);
+        String filename = resource.getFilename();
+        if (filename == null || !filename.endsWith(".html")) {
+            return resource;
+        }
+
+        String content = new String(StreamUtils.copyToByteArray(resource.getInputStream()), StandardCharsets.UTF_8);
+        Matcher matcher = LINK.matcher(content);
+        StringBuilder rewritten = new StringBuilder(content.length() + 256);
+        while (matcher.find()) {
+            String link = resolveUrlPath(matcher.group(2), request, resource, chain);
+            matcher.appendReplacement(rewritten, Matcher.quoteReplacement(
+                    matcher.group(1) + "=\"" + (link != null ? link : matcher.group(2)) + "\""));
+        }
+        matcher.appendTail(rewritten);
+        return new TransformedResource(resource, rewritten.toString().getBytes(StandardCharsets.UTF_8));
+    }
+}
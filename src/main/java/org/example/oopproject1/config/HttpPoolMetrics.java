@@ -0,0 +1,70 @@
+package org.example.oopproject1.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.MultiGauge;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.core5.pool.PoolStats;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.ToIntFunction;
+
+/**
+ * Publishes the outbound HTTP connection pool as Micrometer gauges: the
+ * pool-wide {@code httpcomponents.httpclient.pool.*} gauges, and per target
+ * host {@code http.client.pool.route.leased}, {@code .available},
+ * {@code .pending} and {@code .max}, tagged {@code route}.
+ * <p>
+ * Routes come and go as hosts are called, so the per-route gauges are
+ * re-listed every {@code app.http.pool.metrics-interval}.
+ * </p>
+ *
+ * @since 1.1
+ */
+class HttpPoolMetrics {
+
+    private final PoolingHttpClientConnectionManager connectionManager;
+    private final List<RouteGauge> gauges = new ArrayList<>();
+
+    HttpPoolMetrics(PoolingHttpClientConnectionManager connectionManager, MeterRegistry registry) {
+        this.connectionManager = connectionManager;
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, "outbound").bindTo(registry);
+        gauges.add(new RouteGauge(registry, "leased", PoolStats::getLeased));
+        gauges.add(new RouteGauge(registry, "available", PoolStats::getAvailable));
+        gauges.add(new RouteGauge(registry, "pending", PoolStats::getPending));
+        gauges.add(new RouteGauge(registry, "max", PoolStats::getMax));
+    }
+
+    /**
+     * Re-lists the routes in the pool and their connection counts.
+     */
+    @Scheduled(fixedDelayString = "${app.http.pool.metrics-interval:PT10S}")
+    void refresh() {
+        List<HttpRoute> routes = List.copyOf(connectionManager.getRoutes());
+        List<PoolStats> stats = routes.stream().map(connectionManager::getStats).toList();
+        for (RouteGauge gauge : gauges) {
+            List<MultiGauge.Row<?>> rows = new ArrayList<>(routes.size());
+            for (int i = 0; i < routes.size(); i++) {
+                rows.add(MultiGauge.Row.of(Tags.of("route", routes.get(i).getTargetHost().toHostString()),
+                        gauge.value.applyAsInt(stats.get(i))));
+            }
+            gauge.multiGauge.register(rows, true);
+        }
+    }
+
+    private static final class RouteGauge {
+        private final MultiGauge multiGauge;
+        private final ToIntFunction<PoolStats> value;
+
+        private RouteGauge(MeterRegistry registry, String state, ToIntFunction<PoolStats> value) {
+            this.multiGauge = MultiGauge.builder("http.client.pool.route." + state)
+                    .description("Outbound HTTP connections per target host: " + state)
+                    .register(registry);
+            this.value = value;
+        }
+    }
+}
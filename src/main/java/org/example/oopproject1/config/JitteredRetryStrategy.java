@@ -0,0 +1,87 @@
+package org.example.oopproject1.config;
+
+import org.apache.hc.client5.http.impl.DefaultHttpRequestRetryStrategy;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.core5.http.HttpHeaders;
+import org.apache.hc.core5.http.HttpRequest;
+import org.apache.hc.core5.http.HttpStatus;
+import org.apache.hc.core5.http.HttpResponse;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.util.TimeValue;
+
+import javax.net.ssl.SSLException;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Retries idempotent outbound requests after an I/O error or a 429 or 503
+ * response, waiting an exponentially growing, fully jittered interval.
+ * <p>
+ * Refused, reset and closed connections and unresolved hosts are retried,
+ * as they are typical of a server restarting or a stale pooled connection.
+ * Timeouts are not, since the caller has already waited as long as it was
+ * willing to, and neither are TLS failures, which a retry does not fix.
+ * </p>
+ * <p>
+ * The wait before retry {@code n} is uniformly random between zero and
+ * {@code min(maxInterval, baseInterval * 2^(n-1))}, so clients that failed
+ * together do not retry together; a {@code Retry-After} header takes
+ * precedence. Unlike the default strategy, a POST or PATCH is never retried
+ * after a response either, since the server may already have acted on it.
+ * </p>
+ *
+ * @since 1.1
+ */
+class JitteredRetryStrategy extends DefaultHttpRequestRetryStrategy {
+
+    private final long baseIntervalMs;
+    private final long maxIntervalMs;
+
+    /**
+     * Constructs the strategy.
+     *
+     * @param maxRetries     retries after the first attempt; zero disables retrying
+     * @param baseIntervalMs upper bound of the first wait
+     * @param maxIntervalMs  upper bound of any wait
+     */
+    JitteredRetryStrategy(int maxRetries, long baseIntervalMs, long maxIntervalMs) {
+        super(maxRetries, TimeValue.ofMilliseconds(baseIntervalMs),
+                List.of(InterruptedIOException.class, SSLException.class),
+                List.of(HttpStatus.SC_TOO_MANY_REQUESTS, HttpStatus.SC_SERVICE_UNAVAILABLE));
+        this.baseIntervalMs = baseIntervalMs;
+        this.maxIntervalMs = maxIntervalMs;
+    }
+
+    @Override
+    public boolean retryRequest(HttpResponse response, int execCount, HttpContext context) {
+        HttpRequest request = HttpClientContext.adapt(context).getRequest();
+        return request != null && handleAsIdempotent(request) && super.retryRequest(response, execCount, context);
+    }
+
+    @Override
+    public TimeValue getRetryInterval(HttpResponse response, int execCount, HttpContext context) {
+        if (response.containsHeader(HttpHeaders.RETRY_AFTER)) {
+            return super.getRetryInterval(response, execCount, context);
+        }
+        return jittered(execCount);
+    }
+
+    @Override
+    public TimeValue getRetryInterval(HttpRequest request, IOException exception, int execCount,
+                                      HttpContext context) {
+        return jittered(execCount);
+    }
+
+    /**
+     * Draws the wait before a retry.
+     *
+     * @param execCount the number of attempts made so far
+     * @return the wait
+     */
+    TimeValue jittered(int execCount) {
+        long ceiling = baseIntervalMs << Math.min(Math.max(execCount - 1, 0), 20);
+        return TimeValue.ofMilliseconds(ThreadLocalRandom.current().nextLong(Math.min(ceiling, maxIntervalMs) + 1));
+    }
+}
@@ -0,0 +1,18 @@
+package org.example.oopproject1.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.config.EnableMongoAuditing;
+
+/**
+ * Enables MongoDB auditing, which stamps the {@code @LastModifiedDate}
+ * field of jobs and applications on every save. The in-memory repositories
+ * apply the same stamp themselves.
+ *
+ * @since 1.1
+ */
+@Configuration
+@Profile("!inmemory")
+@EnableMongoAuditing
+public class MongoAuditingConfig {
+}
@@ -0,0 +1,118 @@
+package org.example.oopproject1.config;
+
+import com.mongodb.MongoClientSettings;
+import com.mongodb.MongoCompressor;
+import com.mongodb.ReadPreference;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Applies the {@code app.mongo.*} pool, timeout, compression and read
+ * preference settings to the MongoDB client and attaches
+ * {@link MongoPoolMetrics}.
+ * <p>
+ * Runs after Spring Boot has applied {@code spring.data.mongodb.uri}, so
+ * these settings take precedence over the same options in the URI. The
+ * default pool wait is two seconds rather than the driver's two minutes: a
+ * request that cannot get a connection fails fast and shows up as
+ * {@code mongodb.pool.checkout{outcome=timeout}} instead of stalling.
+ * </p>
+ * <p>
+ * Compressors are offered to the server in the order listed and the first
+ * it supports is used. {@code zlib} needs nothing extra; {@code zstd} and
+ * {@code snappy} need {@code com.github.luben:zstd-jni} or
+ * {@code org.xerial.snappy:snappy-java} on the runtime classpath.
+ * </p>
+ *
+ * @since 1.1
+ */
+@Component
+@Profile("!inmemory")
+public class MongoClientTuning implements MongoClientSettingsBuilderCustomizer {
+
+    private final int maxPoolSize;
+    private final int minPoolSize;
+    private final int maxConnecting;
+    private final Duration maxWait;
+    private final Duration maxIdle;
+    private final Duration connectTimeout;
+    private final Duration readTimeout;
+    private final Duration serverSelectionTimeout;
+    private final List<String> compressors;
+    private final ReadPreference readPreference;
+    private final MongoPoolMetrics poolMetrics;
+
+    /**
+     * Constructor injection of the client settings.
+     *
+     * @param meterRegistry          registry receiving pool metrics
+     * @param maxPoolSize            maximum connections per server
+     * @param minPoolSize            connections kept open per server even when idle
+     * @param maxConnecting          maximum connections being established at once per server
+     * @param maxWait                longest wait for a pooled connection before failing
+     * @param maxIdle                idle time after which a pooled connection is closed; zero keeps it
+     * @param connectTimeout         TCP connect timeout
+     * @param readTimeout            socket read timeout; zero waits indefinitely
+     * @param serverSelectionTimeout longest wait for a suitable server
+     * @param compressors            wire compressors in order of preference: zstd, snappy or zlib
+     * @param readPreference         default read preference, e.g. {@code primary}
+     */
+    public MongoClientTuning(MeterRegistry meterRegistry,
+                             @Value("${app.mongo.pool.max-size:100}") int maxPoolSize,
+                             @Value("${app.mongo.pool.min-size:0}") int minPoolSize,
+                             @Value("${app.mongo.pool.max-connecting:2}") int maxConnecting,
+                             @Value("${app.mongo.pool.max-wait:PT2S}") Duration maxWait,
+                             @Value("${app.mongo.pool.max-idle:PT0S}") Duration maxIdle,
+                             @Value("${app.mongo.connect-timeout:PT10S}") Duration connectTimeout,
+                             @Value("${app.mongo.read-timeout:PT0S}") Duration readTimeout,
+                             @Value("${app.mongo.server-selection-timeout:PT30S}") Duration serverSelectionTimeout,
+                             @Value("${app.mongo.compressors:zlib}") List<String> compressors,
+                             @Value("${app.mongo.read-preference:primary}") String readPreference) {
+        this.maxPoolSize = maxPoolSize;
+        this.minPoolSize = minPoolSize;
+        this.maxConnecting = maxConnecting;
+        this.maxWait = maxWait;
+        this.maxIdle = maxIdle;
+        this.connectTimeout = connectTimeout;
+        this.readTimeout = readTimeout;
+        this.serverSelectionTimeout = serverSelectionTimeout;
+        this.compressors = compressors;
+        this.readPreference = ReadPreference.valueOf(readPreference);
+        this.poolMetrics = new MongoPoolMetrics(meterRegistry);
+    }
+
+    @Override
+    public void customize(MongoClientSettings.Builder builder) {
+        builder.applyToConnectionPoolSettings(pool -> pool
+                        .maxSize(maxPoolSize)
+                        .minSize(minPoolSize)
+                        .maxConnecting(maxConnecting)
+                        .maxWaitTime(maxWait.toMillis(), TimeUnit.MILLISECONDS)
+                        .maxConnectionIdleTime(maxIdle.toMillis(), TimeUnit.MILLISECONDS)
+                        .addConnectionPoolListener(poolMetrics))
+                .applyToSocketSettings(socket -> socket
+                        .connectTimeout((int) connectTimeout.toMillis(), TimeUnit.MILLISECONDS)
+                        .readTimeout((int) readTimeout.toMillis(), TimeUnit.MILLISECONDS))
+                .applyToClusterSettings(cluster -> cluster
+                        .serverSelectionTimeout(serverSelectionTimeout.toMillis(), TimeUnit.MILLISECONDS))
+                .compressorList(compressors.stream().map(MongoClientTuning::compressor).toList())
+                .readPreference(readPreference);
+    }
+
+    private static MongoCompressor compressor(String name) {
+        return switch (name.trim().toLowerCase(Locale.ROOT)) {
+            case "zstd" -> MongoCompressor.createZstdCompressor();
+            case "snappy" -> MongoCompressor.createSnappyCompressor();
+            case "zlib" -> MongoCompressor.createZlibCompressor();
+            default -> throw new IllegalArgumentException("Unknown MongoDB compressor " + name);
+        };
+    }
+}
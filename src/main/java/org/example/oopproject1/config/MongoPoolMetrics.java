@@ -0,0 +1,81 @@
+package org.example.oopproject1.config;
+
+import com.mongodb.connection.ServerId;
+import com.mongodb.event.ConnectionCheckOutFailedEvent;
+import com.mongodb.event.ConnectionCheckedOutEvent;
+import com.mongodb.event.ConnectionClosedEvent;
+import com.mongodb.event.ConnectionCreatedEvent;
+import com.mongodb.event.ConnectionPoolClearedEvent;
+import com.mongodb.event.ConnectionPoolListener;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records MongoDB connection pool events as Micrometer meters, tagged with
+ * the server address. Complements the pool size, checked-out and wait-queue
+ * gauges Spring Boot registers with what explains a stall:
+ * <ul>
+ *     <li>{@code mongodb.pool.checkout}: time spent waiting for a connection,
+ *     tagged {@code outcome} {@code success}, {@code timeout},
+ *     {@code connection_error} or {@code pool_closed};</li>
+ *     <li>{@code mongodb.pool.connections}: connections opened and closed,
+ *     tagged {@code event} and, for closures, {@code reason};</li>
+ *     <li>{@code mongodb.pool.cleared}: pool clears after a server error.</li>
+ * </ul>
+ *
+ * @since 1.1
+ */
+class MongoPoolMetrics implements ConnectionPoolListener {
+
+    private final MeterRegistry registry;
+
+    MongoPoolMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public void connectionCheckedOut(ConnectionCheckedOutEvent event) {
+        checkoutTimer(event.getConnectionId().getServerId(), "success")
+                .record(event.getElapsedTime(TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void connectionCheckOutFailed(ConnectionCheckOutFailedEvent event) {
+        checkoutTimer(event.getServerId(), event.getReason().name().toLowerCase(Locale.ROOT))
+                .record(event.getElapsedTime(TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void connectionCreated(ConnectionCreatedEvent event) {
+        registry.counter("mongodb.pool.connections",
+                "server.address", address(event.getConnectionId().getServerId()),
+                "event", "created", "reason", "none").increment();
+    }
+
+    @Override
+    public void connectionClosed(ConnectionClosedEvent event) {
+        registry.counter("mongodb.pool.connections",
+                "server.address", address(event.getConnectionId().getServerId()),
+                "event", "closed", "reason", event.getReason().name().toLowerCase(Locale.ROOT)).increment();
+    }
+
+    @Override
+    public void connectionPoolCleared(ConnectionPoolClearedEvent event) {
+        registry.counter("mongodb.pool.cleared", "server.address", address(event.getServerId())).increment();
+    }
+
+    private Timer checkoutTimer(ServerId serverId, String outcome) {
+        return Timer.builder("mongodb.pool.checkout")
+                .tag("server.address", address(serverId))
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    private static String address(ServerId serverId) {
+        return serverId.getAddress().toString();
+    }
+}
@@ -1,23 +1,133 @@
 package org.example.oopproject1.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.pool.PoolConcurrencyPolicy;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import java.time.Duration;
+
 /**
  * Configuration class for setting up HTTP clients used by the console application.
  * Provides a RestTemplate bean for making REST calls to the Job Portal API.
+ * <p>
+ * The template is backed by an Apache HttpClient with a pooled, keep-alive
+ * connection manager sized by {@code app.http.pool.*}, connect, response
+ * and pool-wait timeouts, gzip response decoding, and retries with
+ * jittered backoff for idempotent requests ({@link JitteredRetryStrategy}).
+ * Pool usage is published by {@link HttpPoolMetrics}, and, since the
+ * template is built with Spring Boot's {@link RestTemplateBuilder}, every
+ * call is timed as {@code http.client.requests}.
+ * </p>
  */
 @Configuration
 public class RestClientConfig {
 
+    /**
+     * Creates the pooled connection manager shared by outbound HTTP calls.
+     *
+     * @param maxTotal       maximum open connections across all hosts
+     * @param maxPerRoute    maximum open connections to one host
+     * @param connectTimeout TCP connect timeout
+     * @param socketTimeout  longest wait for data on an open connection
+     * @param timeToLive     age after which a connection is closed rather than reused
+     * @param validateAfter  idle time after which a pooled connection is checked before reuse
+     * @return the connection manager
+     */
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager httpConnectionManager(
+            @Value("${app.http.pool.max-total:100}") int maxTotal,
+            @Value("${app.http.pool.max-per-route:20}") int maxPerRoute,
+            @Value("${app.http.connect-timeout:PT2S}") Duration connectTimeout,
+            @Value("${app.http.socket-timeout:PT10S}") Duration socketTimeout,
+            @Value("${app.http.pool.time-to-live:PT5M}") Duration timeToLive,
+            @Value("${app.http.pool.validate-after-inactivity:PT2S}") Duration validateAfter) {
+        return PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxTotal)
+                .setMaxConnPerRoute(maxPerRoute)
+                .setPoolConcurrencyPolicy(PoolConcurrencyPolicy.STRICT)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(connectTimeout))
+                        .setSocketTimeout(Timeout.of(socketTimeout))
+                        .setTimeToLive(TimeValue.of(timeToLive))
+                        .setValidateAfterInactivity(TimeValue.of(validateAfter))
+                        .build())
+                .build();
+    }
+
+    /**
+     * Publishes pool-wide and per-host gauges of the connection manager.
+     *
+     * @param httpConnectionManager the connection manager
+     * @param meterRegistry         registry receiving the gauges
+     * @return the metrics, refreshed on a schedule
+     */
+    @Bean
+    HttpPoolMetrics httpPoolMetrics(PoolingHttpClientConnectionManager httpConnectionManager,
+                                    MeterRegistry meterRegistry) {
+        return new HttpPoolMetrics(httpConnectionManager, meterRegistry);
+    }
+
+    /**
+     * Creates the HTTP client behind the RestTemplate.
+     *
+     * @param httpConnectionManager the pooled connection manager
+     * @param responseTimeout       longest wait for a response once the request is sent
+     * @param poolTimeout           longest wait for a pooled connection
+     * @param maxRetries            retries of a failed idempotent request; zero disables retrying
+     * @param retryBase             upper bound of the wait before the first retry
+     * @param retryMax              upper bound of the wait before any retry
+     * @param gzip                  whether to request and decode compressed responses
+     * @return the client
+     */
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient httpClient(
+            PoolingHttpClientConnectionManager httpConnectionManager,
+            @Value("${app.http.response-timeout:PT10S}") Duration responseTimeout,
+            @Value("${app.http.pool.wait-timeout:PT2S}") Duration poolTimeout,
+            @Value("${app.http.retry.max-retries:2}") int maxRetries,
+            @Value("${app.http.retry.base-interval:PT0.2S}") Duration retryBase,
+            @Value("${app.http.retry.max-interval:PT2S}") Duration retryMax,
+            @Value("${app.http.gzip:true}") boolean gzip) {
+        HttpClientBuilder builder = HttpClients.custom()
+                .setConnectionManager(httpConnectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setResponseTimeout(Timeout.of(responseTimeout))
+                        .setConnectionRequestTimeout(Timeout.of(poolTimeout))
+                        .build())
+                .setRetryStrategy(new JitteredRetryStrategy(maxRetries, retryBase.toMillis(), retryMax.toMillis()))
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofMinutes(1));
+        if (!gzip) {
+            builder.disableContentCompression();
+        }
+        return builder.build();
+    }
+
     /**
      * Creates and configures a RestTemplate bean.
      *
+     * @param builder    Spring Boot's builder, which adds metrics and message converters
+     * @param httpClient the pooled HTTP client
      * @return a RestTemplate instance for performing HTTP requests
      */
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public RestTemplate restTemplate(RestTemplateBuilder builder, CloseableHttpClient httpClient) {
+        return builder
+                .requestFactory(() -> new HttpComponentsClientHttpRequestFactory(httpClient))
+                .build();
     }
-}
\ No newline at end of file
+}
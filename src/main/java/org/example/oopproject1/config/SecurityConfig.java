@@ -1,5 +1,6 @@
 package org.example.oopproject1.config;
 
+import jakarta.servlet.DispatcherType;
 import org.example.oopproject1.security.JwtAuthenticationFilter;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -88,9 +89,14 @@ public class SecurityConfig {
                 .csrf(csrf -> csrf.disable())
                 .sessionManagement(s -> s.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
+                        // async dispatches of already-authorized requests (SSE streams)
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         // static resources
                         .requestMatchers("/", "/index.html", "/css/**", "/js/**", "/*.html").permitAll()
                         .requestMatchers("/apidocs/**").permitAll()
+                        // health for load balancers; other actuator endpoints are for admins
+                        .requestMatchers("/actuator/health").permitAll()
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
                         // authentication endpoints
                         .requestMatchers("/api/auth/**").permitAll()
                         // allow clients to fetch their own profile
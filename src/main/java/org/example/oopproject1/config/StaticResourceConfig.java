@@ -0,0 +1,82 @@
+package org.example.oopproject1.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.CssLinkResourceTransformer;
+import org.springframework.web.servlet.resource.ResourceHttpRequestHandler;
+import org.springframework.web.servlet.resource.VersionResourceResolver;
+
+import java.time.Duration;
+import java.util.regex.Pattern;
+
+/**
+ * Serves the static front end with fingerprinted asset URLs.
+ * <p>
+ * Scripts and stylesheets are also served under names carrying an MD5 hash of
+ * their content, such as {@code js/main-3f2a….js}, and the links in HTML
+ * pages and CSS are rewritten to those names when the pages are served. A
+ * fingerprinted URL never changes content, so it is cached for
+ * {@code app.static.max-age} and marked immutable; pages and unversioned
+ * URLs are sent with {@code no-cache}, so browsers revalidate them with
+ * {@code Last-Modified} and pick up new fingerprints right after a deploy.
+ * </p>
+ * <p>
+ * Registered ahead of Spring Boot's own configuration, which then leaves
+ * {@code /**} to this handler.
+ * </p>
+ *
+ * @since 1.1
+ */
+@Configuration
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class StaticResourceConfig implements WebMvcConfigurer {
+
+    private static final Pattern FINGERPRINTED = Pattern.compile("-[0-9a-f]{32}\\.[a-z]+$");
+
+    private final CacheControl fingerprinted;
+
+    /**
+     * Constructs the configuration.
+     *
+     * @param maxAge how long browsers may keep fingerprinted assets
+     */
+    public StaticResourceConfig(@Value("${app.static.max-age:P365D}") Duration maxAge) {
+        this.fingerprinted = CacheControl.maxAge(maxAge).cachePublic().immutable();
+    }
+
+    @Override
+    public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        registry.addResourceHandler("/**")
+                .addResourceLocations("classpath:/static/")
+                .resourceChain(true)
+                .addResolver(new VersionResourceResolver().addContentVersionStrategy("/js/**", "/css/**"))
+                .addTransformer(new CssLinkResourceTransformer())
+                .addTransformer(new HtmlLinkResourceTransformer());
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new HandlerInterceptor() {
+            @Override
+            public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+                if (handler instanceof ResourceHttpRequestHandler) {
+                    CacheControl cacheControl = FINGERPRINTED.matcher(request.getRequestURI()).find()
+                            ? fingerprinted
+                            : CacheControl.noCache();
+                    response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl.getHeaderValue());
+                }
+                return true;
+            }
+        });
+    }
+}
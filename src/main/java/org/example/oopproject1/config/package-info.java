@@ -1,6 +1,9 @@
 /**
  * Spring configuration classes:
  * – RestClientConfig to expose RestTemplate
- * – SecurityConfig to wire up authentication, filters, and password encoding.
+ * – SecurityConfig to wire up authentication, filters, and password encoding
+ * – MongoAuditingConfig to stamp last-modified times on save
+ * – MongoClientTuning to size the connection pool, set timeouts and compression, and meter pool events
+ * – StaticResourceConfig to fingerprint and cache the static front end.
  */
 package org.example.oopproject1.config;
\ No newline at end of file
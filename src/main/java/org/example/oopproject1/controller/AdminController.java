@@ -1,10 +1,19 @@
 // src/main/java/org/example/oopproject1/controller/AdminController.java
 package org.example.oopproject1.controller;
 
+import org.example.oopproject1.audit.AuditLog;
+import org.example.oopproject1.audit.Audited;
+import org.example.oopproject1.codec.JobFieldDictionaries;
 import org.example.oopproject1.dto.CurrentUserDto;
+import org.example.oopproject1.dto.DictionaryStats;
+import org.example.oopproject1.model.AuditEntry;
 import org.example.oopproject1.model.User;
+import org.example.oopproject1.service.FunnelRollupService;
 import org.example.oopproject1.service.UserService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
@@ -19,10 +28,17 @@ import java.util.stream.Collectors;
 public class AdminController {
 
     private final UserService userService;
+    private final JobFieldDictionaries jobFieldDictionaries;
+    private final AuditLog auditLog;
+    private final FunnelRollupService funnelRollupService;
 
     @Autowired
-    public AdminController(UserService userService) {
+    public AdminController(UserService userService, JobFieldDictionaries jobFieldDictionaries, AuditLog auditLog,
+                           FunnelRollupService funnelRollupService) {
         this.userService = userService;
+        this.jobFieldDictionaries = jobFieldDictionaries;
+        this.auditLog = auditLog;
+        this.funnelRollupService = funnelRollupService;
     }
 
     /**
@@ -64,6 +80,7 @@ public class AdminController {
      * Returns 204 No Content on success.
      */
     @PutMapping("/users/{id}/status")
+    @Audited(action = "status", resource = "user")
     public ResponseEntity<Void> updateUserStatus(
             @PathVariable String id,
             @RequestParam boolean enabled
@@ -80,4 +97,46 @@ public class AdminController {
     public ResponseEntity<Map<String, Object>> getDashboardStats() {
         return ResponseEntity.ok(userService.getDashboardStats());
     }
+
+    /**
+     * GET /api/admin/dictionaries
+     * Returns the size, hit count and estimated memory saved of each
+     * dictionary interning low-cardinality job fields.
+     */
+    @GetMapping("/dictionaries")
+    public ResponseEntity<List<DictionaryStats>> getDictionaryStats() {
+        List<DictionaryStats> stats = jobFieldDictionaries.all().stream()
+                .map(d -> new DictionaryStats(d.name(), d.size(), d.capacity(), d.hits(), d.bytesSaved()))
+                .collect(Collectors.toList());
+        return ResponseEntity.ok(stats);
+    }
+
+    /**
+     * GET /api/admin/audit?actor=&resourceType=&resourceId=&page=0&size=50
+     * Returns audit log entries, newest first. Filters by document when
+     * resourceType and resourceId are given, otherwise by actor or by
+     * resourceType; with no filter, returns every entry.
+     */
+    @GetMapping("/audit")
+    public ResponseEntity<Page<AuditEntry>> getAuditLog(
+            @RequestParam(required = false) String actor,
+            @RequestParam(required = false) String resourceType,
+            @RequestParam(required = false) String resourceId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "50") int size
+    ) {
+        PageRequest pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "timestamp"));
+        return ResponseEntity.ok(auditLog.find(actor, resourceType, resourceId, pageable));
+    }
+
+    /**
+     * POST /api/admin/funnel/backfill
+     * Rebuilds the recruiter funnel rollups from all applications, including
+     * archived ones, and returns the number of daily buckets written.
+     */
+    @PostMapping("/funnel/backfill")
+    @Audited(action = "backfill", resource = "funnel")
+    public ResponseEntity<Map<String, Long>> backfillFunnel() {
+        return ResponseEntity.ok(Map.of("buckets", funnelRollupService.backfill()));
+    }
 }
@@ -1,5 +1,7 @@
 package org.example.oopproject1.controller;
 
+import org.example.oopproject1.audit.Audited;
+import org.example.oopproject1.dto.ApplicationSummary;
 import org.example.oopproject1.model.Application;
 import org.example.oopproject1.service.ApplicationService;
 import jakarta.validation.Valid;
@@ -20,6 +22,15 @@ import java.util.List;
  * <p>
  * Provides endpoints to create, retrieve, update, delete,
  * and search for applications, with optional pagination and sorting.
+ * Read endpoints accept {@code history=true} to include archived applications.
+ * List endpoints return {@link ApplicationSummary} objects without the cover
+ * letter and resume link, projected by the database; {@code view=full}
+ * returns whole {@link Application} documents instead.
+ * </p>
+ * <p>
+ * Single-application and paged responses carry an ETag derived from document
+ * modification times, and a conditional GET whose {@code If-None-Match}
+ * still matches is answered with {@code 304 Not Modified}.
  * </p>
  *
  * @since 1.0
@@ -28,17 +39,22 @@ import java.util.List;
 @RequestMapping("/api/applications")
 public class ApplicationController {
 
+    private static final String SUMMARY = "summary";
+
     @Autowired
     private ApplicationService applicationService;
 
     /**
      * Retrieves all applications.
      *
-     * @return ResponseEntity with list of all Application objects and HTTP 200
+     * @param view {@code summary} (default) for list fields only, or {@code full} for whole documents
+     * @return ResponseEntity with list of ApplicationSummary or Application objects and HTTP 200
      */
     @GetMapping
-    public ResponseEntity<List<Application>> getAllApplications() {
-        return ResponseEntity.ok(applicationService.getAllApplications());
+    public ResponseEntity<List<?>> getAllApplications(@RequestParam(defaultValue = SUMMARY) String view) {
+        return ResponseEntity.ok(isFull(view)
+                ? applicationService.getAllApplications()
+                : applicationService.getAllApplicationSummaries());
     }
 
     /**
@@ -48,42 +64,63 @@ public class ApplicationController {
      * @param size      page size (default 10)
      * @param sortBy    property name to sort by (default "applicationDate")
      * @param direction sort direction, either "asc" or "desc" (default "desc")
-     * @return ResponseEntity with a Page of Application objects and HTTP 200
+     * @param history   also include archived applications (default false)
+     * @param view      {@code summary} (default) or {@code full}
+     * @return ResponseEntity with a Page of ApplicationSummary or Application objects and HTTP 200
      */
     @GetMapping("/paged")
-    public ResponseEntity<Page<Application>> getPagedApplications(
+    public ResponseEntity<Page<?>> getPagedApplications(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "applicationDate") String sortBy,
-            @RequestParam(defaultValue = "desc") String direction) {
+            @RequestParam(defaultValue = "desc") String direction,
+            @RequestParam(defaultValue = "false") boolean history,
+            @RequestParam(defaultValue = SUMMARY) String view) {
 
         Sort.Direction sortDirection = direction.equalsIgnoreCase("asc") ?
                 Sort.Direction.ASC : Sort.Direction.DESC;
         Pageable pageable = PageRequest.of(page, size, Sort.by(sortDirection, sortBy));
-        return ResponseEntity.ok(applicationService.getAllApplications(pageable));
+        return ETags.ok(isFull(view)
+                ? applicationService.getAllApplications(pageable, history)
+                : applicationService.getAllApplicationSummaries(pageable, history));
     }
 
     /**
      * Retrieves a single application by its ID.
      *
-     * @param id application ID
+     * @param id      application ID
+     * @param history also look in the archive (default false)
      * @return ResponseEntity with the Application and HTTP 200
      */
     @GetMapping("/{id}")
-    public ResponseEntity<Application> getApplicationById(@PathVariable String id) {
-        return ResponseEntity.ok(applicationService.getApplicationById(id));
+    public ResponseEntity<Application> getApplicationById(
+            @PathVariable String id,
+            @RequestParam(defaultValue = "false") boolean history) {
+        return ETags.ok(applicationService.getApplicationById(id, history));
     }
 
     /**
      * Creates a new job application.
+     * <p>
+     * Clients should send a unique {@code Idempotency-Key} per submission; a retry
+     * with the same key returns the application created the first time instead of
+     * a duplicate. A second application for the same job and email is rejected
+     * with HTTP 409.
+     * </p>
      *
-     * @param application the Application object to create
+     * @param application    the Application object to create
+     * @param idempotencyKey optional key identifying this submission across retries
      * @return ResponseEntity with the created Application and HTTP 201
      */
     @PostMapping
+    @Audited(action = "create", resource = "application")
     public ResponseEntity<Application> createApplication(
-            @Valid @RequestBody Application application) {
-        Application createdApplication = applicationService.createApplication(application);
+            @Valid @RequestBody Application application,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
+        if (idempotencyKey != null && idempotencyKey.length() > 255) {
+            return ResponseEntity.badRequest().build();
+        }
+        Application createdApplication = applicationService.createApplication(application, idempotencyKey);
         return new ResponseEntity<>(createdApplication, HttpStatus.CREATED);
     }
 
@@ -95,6 +132,7 @@ public class ApplicationController {
      * @return ResponseEntity with the updated Application and HTTP 200
      */
     @PutMapping("/{id}")
+    @Audited(action = "update", resource = "application")
     public ResponseEntity<Application> updateApplication(
             @PathVariable String id,
             @Valid @RequestBody Application application) {
@@ -108,6 +146,7 @@ public class ApplicationController {
      * @return ResponseEntity with HTTP 204 (No Content)
      */
     @DeleteMapping("/{id}")
+    @Audited(action = "delete", resource = "application")
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<Void> deleteApplication(@PathVariable String id) {
         applicationService.deleteApplication(id);
@@ -117,12 +156,19 @@ public class ApplicationController {
     /**
      * Retrieves all applications for a specific job.
      *
-     * @param jobId the ID of the job
-     * @return ResponseEntity with list of Application objects and HTTP 200
+     * @param jobId   the ID of the job
+     * @param history also include archived applications (default false)
+     * @param view    {@code summary} (default) or {@code full}
+     * @return ResponseEntity with list of ApplicationSummary or Application objects and HTTP 200
      */
     @GetMapping("/job/{jobId}")
-    public ResponseEntity<List<Application>> getApplicationsByJobId(@PathVariable String jobId) {
-        return ResponseEntity.ok(applicationService.getApplicationsByJobId(jobId));
+    public ResponseEntity<List<?>> getApplicationsByJobId(
+            @PathVariable String jobId,
+            @RequestParam(defaultValue = "false") boolean history,
+            @RequestParam(defaultValue = SUMMARY) String view) {
+        return ResponseEntity.ok(isFull(view)
+                ? applicationService.getApplicationsByJobId(jobId, history)
+                : applicationService.getApplicationSummariesByJobId(jobId, history));
     }
 
     /**
@@ -133,31 +179,44 @@ public class ApplicationController {
      * @param size      page size
      * @param sortBy    field to sort by
      * @param direction sort direction ("asc" or "desc")
-     * @return ResponseEntity with a Page of Application objects and HTTP 200
+     * @param history   also include archived applications (default false)
+     * @param view      {@code summary} (default) or {@code full}
+     * @return ResponseEntity with a Page of ApplicationSummary or Application objects and HTTP 200
      */
     @GetMapping("/job/{jobId}/paged")
-    public ResponseEntity<Page<Application>> getPagedApplicationsByJobId(
+    public ResponseEntity<Page<?>> getPagedApplicationsByJobId(
             @PathVariable String jobId,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "applicationDate") String sortBy,
-            @RequestParam(defaultValue = "desc") String direction) {
+            @RequestParam(defaultValue = "desc") String direction,
+            @RequestParam(defaultValue = "false") boolean history,
+            @RequestParam(defaultValue = SUMMARY) String view) {
 
         Sort.Direction sortDirection = direction.equalsIgnoreCase("asc") ?
                 Sort.Direction.ASC : Sort.Direction.DESC;
         Pageable pageable = PageRequest.of(page, size, Sort.by(sortDirection, sortBy));
-        return ResponseEntity.ok(applicationService.getApplicationsByJobId(jobId, pageable));
+        return ETags.ok(isFull(view)
+                ? applicationService.getApplicationsByJobId(jobId, pageable, history)
+                : applicationService.getApplicationSummariesByJobId(jobId, pageable, history));
     }
 
     /**
      * Retrieves all applications submitted by a specific user email.
      *
-     * @param email the email address of the applicant
-     * @return ResponseEntity with list of Application objects and HTTP 200
+     * @param email   the email address of the applicant
+     * @param history also include archived applications (default false)
+     * @param view    {@code summary} (default) or {@code full}
+     * @return ResponseEntity with list of ApplicationSummary or Application objects and HTTP 200
      */
     @GetMapping("/email/{email}")
-    public ResponseEntity<List<Application>> getApplicationsByEmail(@PathVariable String email) {
-        return ResponseEntity.ok(applicationService.getApplicationsByEmail(email));
+    public ResponseEntity<List<?>> getApplicationsByEmail(
+            @PathVariable String email,
+            @RequestParam(defaultValue = "false") boolean history,
+            @RequestParam(defaultValue = SUMMARY) String view) {
+        return ResponseEntity.ok(isFull(view)
+                ? applicationService.getApplicationsByEmail(email, history)
+                : applicationService.getApplicationSummariesByEmail(email, history));
     }
 
     /**
@@ -168,31 +227,44 @@ public class ApplicationController {
      * @param size      page size
      * @param sortBy    field to sort by
      * @param direction sort direction ("asc" or "desc")
-     * @return ResponseEntity with a Page of Application objects and HTTP 200
+     * @param history   also include archived applications (default false)
+     * @param view      {@code summary} (default) or {@code full}
+     * @return ResponseEntity with a Page of ApplicationSummary or Application objects and HTTP 200
      */
     @GetMapping("/email/{email}/paged")
-    public ResponseEntity<Page<Application>> getPagedApplicationsByEmail(
+    public ResponseEntity<Page<?>> getPagedApplicationsByEmail(
             @PathVariable String email,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "applicationDate") String sortBy,
-            @RequestParam(defaultValue = "desc") String direction) {
+            @RequestParam(defaultValue = "desc") String direction,
+            @RequestParam(defaultValue = "false") boolean history,
+            @RequestParam(defaultValue = SUMMARY) String view) {
 
         Sort.Direction sortDirection = direction.equalsIgnoreCase("asc") ?
                 Sort.Direction.ASC : Sort.Direction.DESC;
         Pageable pageable = PageRequest.of(page, size, Sort.by(sortDirection, sortBy));
-        return ResponseEntity.ok(applicationService.getApplicationsByEmail(email, pageable));
+        return ETags.ok(isFull(view)
+                ? applicationService.getApplicationsByEmail(email, pageable, history)
+                : applicationService.getApplicationSummariesByEmail(email, pageable, history));
     }
 
     /**
      * Retrieves all applications filtered by status.
      *
-     * @param status the ApplicationStatus enum value to filter by
-     * @return ResponseEntity with list of Application objects and HTTP 200
+     * @param status  the ApplicationStatus enum value to filter by
+     * @param history also include archived applications (default false)
+     * @param view    {@code summary} (default) or {@code full}
+     * @return ResponseEntity with list of ApplicationSummary or Application objects and HTTP 200
      */
     @GetMapping("/status/{status}")
-    public ResponseEntity<List<Application>> getApplicationsByStatus(@PathVariable Application.ApplicationStatus status) {
-        return ResponseEntity.ok(applicationService.getApplicationsByStatus(status));
+    public ResponseEntity<List<?>> getApplicationsByStatus(
+            @PathVariable Application.ApplicationStatus status,
+            @RequestParam(defaultValue = "false") boolean history,
+            @RequestParam(defaultValue = SUMMARY) String view) {
+        return ResponseEntity.ok(isFull(view)
+                ? applicationService.getApplicationsByStatus(status, history)
+                : applicationService.getApplicationSummariesByStatus(status, history));
     }
 
     /**
@@ -203,19 +275,29 @@ public class ApplicationController {
      * @param size      page size
      * @param sortBy    field to sort by
      * @param direction sort direction ("asc" or "desc")
-     * @return ResponseEntity with a Page of Application objects and HTTP 200
+     * @param history   also include archived applications (default false)
+     * @param view      {@code summary} (default) or {@code full}
+     * @return ResponseEntity with a Page of ApplicationSummary or Application objects and HTTP 200
      */
     @GetMapping("/status/{status}/paged")
-    public ResponseEntity<Page<Application>> getPagedApplicationsByStatus(
+    public ResponseEntity<Page<?>> getPagedApplicationsByStatus(
             @PathVariable Application.ApplicationStatus status,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "applicationDate") String sortBy,
-            @RequestParam(defaultValue = "desc") String direction) {
+            @RequestParam(defaultValue = "desc") String direction,
+            @RequestParam(defaultValue = "false") boolean history,
+            @RequestParam(defaultValue = SUMMARY) String view) {
 
         Sort.Direction sortDirection = direction.equalsIgnoreCase("asc") ?
                 Sort.Direction.ASC : Sort.Direction.DESC;
         Pageable pageable = PageRequest.of(page, size, Sort.by(sortDirection, sortBy));
-        return ResponseEntity.ok(applicationService.getApplicationsByStatus(status, pageable));
+        return ETags.ok(isFull(view)
+                ? applicationService.getApplicationsByStatus(status, pageable, history)
+                : applicationService.getApplicationSummariesByStatus(status, pageable, history));
+    }
+
+    private static boolean isFull(String view) {
+        return "full".equalsIgnoreCase(view);
     }
-}
\ No newline at end of file
+}
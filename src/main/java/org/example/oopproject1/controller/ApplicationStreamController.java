@@ -0,0 +1,76 @@
+package org.example.oopproject1.controller;
+
+import org.example.oopproject1.model.Recruiter;
+import org.example.oopproject1.model.User;
+import org.example.oopproject1.service.ApplicationStreamService;
+import org.example.oopproject1.service.RecruiterService;
+import org.example.oopproject1.service.UserService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * REST controller exposing Server-Sent Event streams of application status changes.
+ * <p>
+ * Candidates receive updates for the applications they submitted; recruiters
+ * receive new applications and status changes for the jobs they posted.
+ * Subscriptions are always derived from the authenticated user, never from
+ * request parameters.
+ * </p>
+ *
+ * @since 1.1
+ */
+@RestController
+public class ApplicationStreamController {
+
+    private final ApplicationStreamService streamService;
+    private final UserService userService;
+    private final RecruiterService recruiterService;
+
+    @Autowired
+    public ApplicationStreamController(
+            ApplicationStreamService streamService,
+            UserService userService,
+            RecruiterService recruiterService
+    ) {
+        this.streamService    = streamService;
+        this.userService      = userService;
+        this.recruiterService = recruiterService;
+    }
+
+    /**
+     * Streams status changes for the authenticated candidate's applications.
+     *
+     * @param auth Spring Security Authentication
+     * @return an open SSE stream
+     */
+    @GetMapping(path = "/api/applications/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamMyApplications(Authentication auth) {
+        return streamService.subscribeCandidate(lookupCurrentUser(auth).getEmail());
+    }
+
+    /**
+     * Streams new applications and status changes for the authenticated recruiter's jobs.
+     *
+     * @param auth Spring Security Authentication
+     * @return an open SSE stream
+     */
+    @GetMapping(path = "/api/recruiters/me/applications/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("hasRole('RECRUITER')")
+    public SseEmitter streamMyJobApplications(Authentication auth) {
+        User u = lookupCurrentUser(auth);
+        Recruiter me = recruiterService.getRecruiterByEmail(u.getEmail())
+                .orElseThrow(() -> new RuntimeException("Recruiter profile not found for " + u.getEmail()));
+        return streamService.subscribeRecruiter(me.getId());
+    }
+
+    private User lookupCurrentUser(Authentication auth) {
+        String username = auth.getName();
+        return userService.findByUsername(username)
+                .orElseThrow(() -> new RuntimeException("User not found: " + username));
+    }
+}
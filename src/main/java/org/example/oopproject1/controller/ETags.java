@@ -0,0 +1,93 @@
+package org.example.oopproject1.controller;
+
+import org.example.oopproject1.model.Timestamped;
+import org.springframework.data.domain.Page;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * Builds responses carrying strong ETags derived from document IDs and
+ * modification times rather than from the serialized body.
+ * <p>
+ * Spring MVC compares the ETag with {@code If-None-Match} and answers a
+ * matching GET with {@code 304 Not Modified} and no body. Responses are
+ * marked {@code no-cache, private}: browsers keep them but revalidate every
+ * time, and shared caches do not store them, since what a caller may see
+ * depends on their credentials.
+ * </p>
+ *
+ * @since 1.1
+ */
+final class ETags {
+
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    private ETags() {
+    }
+
+    /**
+     * Returns a 200 response for a single document, tagged with its version.
+     *
+     * @param document the document
+     * @param <T>      the document type
+     * @return the response
+     */
+    static <T extends Timestamped> ResponseEntity<T> ok(T document) {
+        return ResponseEntity.ok().cacheControl(REVALIDATE).eTag(of(document)).body(document);
+    }
+
+    /**
+     * Returns a 200 response for a page, tagged with the versions of its
+     * contents and the total count, so any change that alters the page
+     * changes the tag.
+     *
+     * @param page the page
+     * @return the response
+     */
+    static ResponseEntity<Page<?>> ok(Page<?> page) {
+        return ResponseEntity.ok().cacheControl(REVALIDATE).eTag(of(page)).body(page);
+    }
+
+    /**
+     * Computes the ETag of a document: its ID and modification time, or a
+     * hash of its fields if it predates modification times.
+     *
+     * @param document the document
+     * @return the unquoted ETag value
+     */
+    static String of(Timestamped document) {
+        return document.getLastModified() != null
+                ? document.getId() + "-" + Long.toHexString(document.getLastModified().toEpochMilli())
+                : document.getId() + "-h" + Integer.toHexString(document.hashCode());
+    }
+
+    /**
+     * Computes the ETag of a page as a 64-bit FNV-1a hash over its position,
+     * total and the version of every element.
+     *
+     * @param page the page
+     * @return the unquoted ETag value
+     */
+    static String of(Page<?> page) {
+        long hash = 0xCBF29CE484222325L;
+        hash = mix(hash, page.getNumber());
+        hash = mix(hash, page.getSize());
+        hash = mix(hash, page.getTotalElements());
+        for (Object element : page.getContent()) {
+            if (element instanceof Timestamped document && document.getLastModified() != null) {
+                hash = mix(hash, document.getId() == null ? 0 : document.getId().hashCode());
+                hash = mix(hash, document.getLastModified().toEpochMilli());
+            } else {
+                hash = mix(hash, element == null ? 0 : element.hashCode());
+            }
+        }
+        return "p-" + Long.toHexString(hash);
+    }
+
+    private static long mix(long hash, long value) {
+        for (int shift = 0; shift < Long.SIZE; shift += 8) {
+            hash = (hash ^ ((value >>> shift) & 0xFF)) * 0x100000001B3L;
+        }
+        return hash;
+    }
+}
@@ -1,15 +1,23 @@
 package org.example.oopproject1.controller;
 
 import jakarta.validation.Valid;
+import org.example.oopproject1.audit.Audited;
+import org.example.oopproject1.dto.JobSuggestion;
+import org.example.oopproject1.dto.JobSummary;
+import org.example.oopproject1.dto.SalaryPercentiles;
 import org.example.oopproject1.model.Job;
 import org.example.oopproject1.model.User;
 import org.example.oopproject1.service.JobService;
+import org.example.oopproject1.service.JobSuggestionService;
+import org.example.oopproject1.service.SalaryAnalyticsService;
 import org.example.oopproject1.service.UserService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.geo.Point;
+import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -24,6 +32,16 @@ import java.util.List;
  * Provides endpoints to create, retrieve, update, delete, and search jobs,
  * with optional pagination and role-based access control.
  * </p>
+ * <p>
+ * List endpoints return {@link JobSummary} objects with the fields shown on
+ * job cards, projected by the database; {@code view=full} returns whole
+ * {@link Job} documents instead.
+ * </p>
+ * <p>
+ * Single-job and paged responses carry an ETag derived from document
+ * modification times, and a conditional GET whose {@code If-None-Match}
+ * still matches is answered with {@code 304 Not Modified}.
+ * </p>
  *
  * @since 1.0
  */
@@ -31,20 +49,34 @@ import java.util.List;
 @RequestMapping("/api/jobs")
 public class JobController {
 
+    private static final String SUMMARY = "summary";
+
+    /**
+     * Half the Earth's circumference; no two points are further apart.
+     */
+    private static final double MAX_RADIUS_KM = 20_038;
+
     @Autowired
     private JobService jobService;
 
     @Autowired
     private UserService userService;
 
+    @Autowired
+    private JobSuggestionService suggestionService;
+
+    @Autowired
+    private SalaryAnalyticsService salaryAnalyticsService;
+
     /**
      * Retrieves all jobs in the system.
      *
-     * @return ResponseEntity containing a list of all Job objects and HTTP 200 status
+     * @param view {@code summary} (default) for card fields only, or {@code full} for whole documents
+     * @return ResponseEntity containing a list of JobSummary or Job objects and HTTP 200 status
      */
     @GetMapping
-    public ResponseEntity<List<Job>> getAllJobs() {
-        return ResponseEntity.ok(jobService.getAllJobs());
+    public ResponseEntity<List<?>> getAllJobs(@RequestParam(defaultValue = SUMMARY) String view) {
+        return ResponseEntity.ok(isFull(view) ? jobService.getAllJobs() : jobService.getJobSummaries());
     }
 
     /**
@@ -54,30 +86,39 @@ public class JobController {
      * @param size      the size of the page to be returned (default 10)
      * @param sortBy    the field by which to sort results (default "postDate")
      * @param direction sort direction, either "asc" or "desc" (default "desc")
-     * @return ResponseEntity containing a Page of Job objects and HTTP 200 status
+     * @param history   also include archived jobs (default false)
+     * @param view      {@code summary} (default) for card fields only, or {@code full} for whole documents
+     * @return ResponseEntity containing a Page of JobSummary or Job objects and HTTP 200 status
      */
     @GetMapping("/paged")
-    public ResponseEntity<Page<Job>> getPagedJobs(
+    public ResponseEntity<Page<?>> getPagedJobs(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "postDate") String sortBy,
-            @RequestParam(defaultValue = "desc") String direction) {
+            @RequestParam(defaultValue = "desc") String direction,
+            @RequestParam(defaultValue = "false") boolean history,
+            @RequestParam(defaultValue = SUMMARY) String view) {
 
         Sort.Direction sortDirection = direction.equalsIgnoreCase("asc") ?
                 Sort.Direction.ASC : Sort.Direction.DESC;
         Pageable pageable = PageRequest.of(page, size, Sort.by(sortDirection, sortBy));
-        return ResponseEntity.ok(jobService.getAllJobs(pageable));
+        return ETags.ok(isFull(view)
+                ? jobService.getAllJobs(pageable, history)
+                : jobService.getJobSummaries(pageable, history));
     }
 
     /**
      * Retrieves a specific job by its ID.
      *
-     * @param id the unique identifier of the job
+     * @param id      the unique identifier of the job
+     * @param history also look in the archive (default false)
      * @return ResponseEntity containing the Job object and HTTP 200 status
      */
     @GetMapping("/{id}")
-    public ResponseEntity<Job> getJobById(@PathVariable String id) {
-        return ResponseEntity.ok(jobService.getJobById(id));
+    public ResponseEntity<Job> getJobById(
+            @PathVariable String id,
+            @RequestParam(defaultValue = "false") boolean history) {
+        return ETags.ok(jobService.getJobById(id, history));
     }
 
     /**
@@ -88,6 +129,7 @@ public class JobController {
      * @return ResponseEntity containing the created Job and HTTP 201 status
      */
     @PostMapping
+    @Audited(action = "create", resource = "job")
     @PreAuthorize("hasRole('RECRUITER') or hasRole('ADMIN')")
     public ResponseEntity<Job> createJob(@Valid @RequestBody Job job, Authentication authentication) {
         User currentUser = (User) authentication.getPrincipal();
@@ -108,6 +150,7 @@ public class JobController {
      * @return ResponseEntity containing the updated Job and HTTP 200 status
      */
     @PutMapping("/{id}")
+    @Audited(action = "update", resource = "job")
     public ResponseEntity<Job> updateJob(@PathVariable String id, @Valid @RequestBody Job job) {
         return ResponseEntity.ok(jobService.updateJob(id, job));
     }
@@ -119,6 +162,7 @@ public class JobController {
      * @return ResponseEntity with HTTP 204 (No Content) status
      */
     @DeleteMapping("/{id}")
+    @Audited(action = "delete", resource = "job")
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<Void> deleteJob(@PathVariable String id) {
         jobService.deleteJob(id);
@@ -129,11 +173,16 @@ public class JobController {
      * Retrieves jobs filtered by company name.
      *
      * @param company the company name to filter jobs by
-     * @return ResponseEntity containing a list of Job objects and HTTP 200 status
+     * @param view    {@code summary} (default) or {@code full}
+     * @return ResponseEntity containing a list of JobSummary or Job objects and HTTP 200 status
      */
     @GetMapping("/company/{company}")
-    public ResponseEntity<List<Job>> getJobsByCompany(@PathVariable String company) {
-        return ResponseEntity.ok(jobService.findJobsByCompany(company));
+    public ResponseEntity<List<?>> getJobsByCompany(
+            @PathVariable String company,
+            @RequestParam(defaultValue = SUMMARY) String view) {
+        return ResponseEntity.ok(isFull(view)
+                ? jobService.findJobsByCompany(company)
+                : jobService.findJobSummariesByCompany(company));
     }
 
     /**
@@ -144,20 +193,24 @@ public class JobController {
      * @param size     page size
      * @param sortBy   field to sort by
      * @param direction sort direction ("asc" or "desc")
-     * @return ResponseEntity containing a Page of Job objects and HTTP 200 status
+     * @param view      {@code summary} (default) or {@code full}
+     * @return ResponseEntity containing a Page of JobSummary or Job objects and HTTP 200 status
      */
     @GetMapping("/company/{company}/paged")
-    public ResponseEntity<Page<Job>> getPagedJobsByCompany(
+    public ResponseEntity<Page<?>> getPagedJobsByCompany(
             @PathVariable String company,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "postDate") String sortBy,
-            @RequestParam(defaultValue = "desc") String direction) {
+            @RequestParam(defaultValue = "desc") String direction,
+            @RequestParam(defaultValue = SUMMARY) String view) {
 
         Sort.Direction sortDirection = direction.equalsIgnoreCase("asc") ?
                 Sort.Direction.ASC : Sort.Direction.DESC;
         Pageable pageable = PageRequest.of(page, size, Sort.by(sortDirection, sortBy));
-        return ResponseEntity.ok(jobService.findJobsByCompany(company, pageable));
+        return ETags.ok(isFull(view)
+                ? jobService.findJobsByCompany(company, pageable)
+                : jobService.findJobSummariesByCompany(company, pageable));
     }
 
     /**
@@ -165,8 +218,10 @@ public class JobController {
      * location and employmentType.
      */
     @GetMapping("/search")
-    public ResponseEntity<List<Job>> searchJobsByKeyword(@RequestParam("keyword") String keyword) {
-        return ResponseEntity.ok(jobService.searchJobs(keyword));
+    public ResponseEntity<List<?>> searchJobsByKeyword(
+            @RequestParam("keyword") String keyword,
+            @RequestParam(defaultValue = SUMMARY) String view) {
+        return ResponseEntity.ok(isFull(view) ? jobService.searchJobs(keyword) : jobService.searchJobSummaries(keyword));
     }
 
     /**
@@ -178,14 +233,16 @@ public class JobController {
      * @param size      page size (default 10)
      * @param sortBy    field to sort by (default "postDate")
      * @param direction sort direction ("asc" or "desc", default "desc")
+     * @param view      {@code summary} (default) or {@code full}
      */
     @GetMapping("/search/paged")
-    public ResponseEntity<Page<Job>> searchPagedJobsByKeyword(
+    public ResponseEntity<Page<?>> searchPagedJobsByKeyword(
             @RequestParam("keyword") String keyword,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "postDate") String sortBy,
-            @RequestParam(defaultValue = "desc") String direction) {
+            @RequestParam(defaultValue = "desc") String direction,
+            @RequestParam(defaultValue = SUMMARY) String view) {
 
         Sort.Direction sortDirection = direction.equalsIgnoreCase("asc")
                 ? Sort.Direction.ASC
@@ -193,18 +250,104 @@ public class JobController {
         Pageable pageable = PageRequest.of(page, size, Sort.by(sortDirection, sortBy));
 
         // call the service’s keyword search (which in turn uses your regex-based repository query)
-        return ResponseEntity.ok(jobService.searchJobs(keyword, pageable));
+        return ETags.ok(isFull(view)
+                ? jobService.searchJobs(keyword, pageable)
+                : jobService.searchJobSummaries(keyword, pageable));
+    }
+
+    /**
+     * Suggests titles, companies, locations and skills for a search box as
+     * the user types, most common first. Served from memory.
+     *
+     * @param prefix the text typed so far
+     * @param field  {@code title}, {@code company}, {@code location} or {@code skill}; omitted for all fields
+     * @param limit  the maximum number of suggestions (default 10)
+     * @return ResponseEntity containing the suggestions and HTTP 200 status
+     */
+    @GetMapping("/suggest")
+    public ResponseEntity<List<JobSuggestion>> suggest(
+            @RequestParam("q") String prefix,
+            @RequestParam(required = false) String field,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(suggestionService.suggest(prefix, field, limit));
+    }
+
+    /**
+     * Estimates the salary distribution of the jobs with a given title,
+     * company, location or employment type. Served from in-memory sketches
+     * without reading any job.
+     *
+     * @param dimension   {@code title} (default), {@code company}, {@code location} or {@code employmentType}
+     * @param values      one or more values of the field, e.g. {@code value=London&value=Manchester}
+     * @param percentiles the percentiles to estimate (default 10, 25, 50, 75 and 90)
+     * @return ResponseEntity containing the distribution and HTTP 200 status,
+     *         400 for an unknown dimension or a percentile outside [0, 100],
+     *         or 404 if no job with a salary has any of the values
+     */
+    @GetMapping("/salaries")
+    public ResponseEntity<SalaryPercentiles> getSalaryPercentiles(
+            @RequestParam(defaultValue = "title") String dimension,
+            @RequestParam("value") List<String> values,
+            @RequestParam(name = "p", defaultValue = "10,25,50,75,90") List<Double> percentiles) {
+        if (!SalaryAnalyticsService.DIMENSIONS.contains(dimension)
+                || percentiles.stream().anyMatch(p -> !(p >= 0 && p <= 100))) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(salaryAnalyticsService.percentiles(dimension, values, percentiles));
+    }
+
+    /**
+     * Retrieves active jobs within a radius, nearest first, with pagination.
+     * The centre is either a place known to the gazetteer or a latitude and
+     * longitude; a named place also finds jobs listed under its aliases
+     * and neighbouring cities.
+     *
+     * @param location a place name, e.g. {@code NYC}; overrides {@code lat} and {@code lng}
+     * @param lat      latitude of the centre in degrees
+     * @param lng      longitude of the centre in degrees
+     * @param radiusKm the radius in kilometres (default 50)
+     * @param page     zero-based page index
+     * @param size     page size
+     * @return ResponseEntity containing a Page of NearbyJob objects and HTTP 200 status,
+     *         400 if neither a place nor valid coordinates and radius are given,
+     *         or 404 if the place is unknown
+     */
+    @GetMapping("/near")
+    public ResponseEntity<Page<?>> getJobsNear(
+            @RequestParam(required = false) String location,
+            @RequestParam(required = false) Double lat,
+            @RequestParam(required = false) Double lng,
+            @RequestParam(defaultValue = "50") double radiusKm,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+        if (!(radiusKm > 0 && radiusKm <= MAX_RADIUS_KM)) {
+            return ResponseEntity.badRequest().build();
+        }
+        Point center;
+        if (location != null && !location.isBlank()) {
+            center = jobService.locate(location);
+        } else if (lat != null && lng != null && Math.abs(lat) <= 90 && Math.abs(lng) <= 180) {
+            center = new GeoJsonPoint(lng, lat);
+        } else {
+            return ResponseEntity.badRequest().build();
+        }
+        return ETags.ok(jobService.findJobsNear(center, radiusKm, PageRequest.of(page, size)));
     }
 
     /**
      * Retrieves active jobs by location.
      *
      * @param location the location to filter active jobs
-     * @return ResponseEntity containing a list of active Job objects and HTTP 200 status
+     * @param view     {@code summary} (default) or {@code full}
+     * @return ResponseEntity containing a list of active JobSummary or Job objects and HTTP 200 status
      */
     @GetMapping("/location/{location}")
-    public ResponseEntity<List<Job>> getActiveJobsByLocation(@PathVariable String location) {
-        return ResponseEntity.ok(jobService.findActiveJobsByLocation(location));
+    public ResponseEntity<List<?>> getActiveJobsByLocation(
+            @PathVariable String location,
+            @RequestParam(defaultValue = SUMMARY) String view) {
+        return ResponseEntity.ok(isFull(view)
+                ? jobService.findActiveJobsByLocation(location)
+                : jobService.findActiveJobSummariesByLocation(location));
     }
 
     /**
@@ -215,31 +358,40 @@ public class JobController {
      * @param size     page size
      * @param sortBy   field to sort by
      * @param direction sort direction ("asc" or "desc")
-     * @return ResponseEntity containing a Page of active Job objects and HTTP 200 status
+     * @param view      {@code summary} (default) or {@code full}
+     * @return ResponseEntity containing a Page of active JobSummary or Job objects and HTTP 200 status
      */
     @GetMapping("/location/{location}/paged")
-    public ResponseEntity<Page<Job>> getPagedActiveJobsByLocation(
+    public ResponseEntity<Page<?>> getPagedActiveJobsByLocation(
             @PathVariable String location,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "postDate") String sortBy,
-            @RequestParam(defaultValue = "desc") String direction) {
+            @RequestParam(defaultValue = "desc") String direction,
+            @RequestParam(defaultValue = SUMMARY) String view) {
 
         Sort.Direction sortDirection = direction.equalsIgnoreCase("asc") ?
                 Sort.Direction.ASC : Sort.Direction.DESC;
         Pageable pageable = PageRequest.of(page, size, Sort.by(sortDirection, sortBy));
-        return ResponseEntity.ok(jobService.findActiveJobsByLocation(location, pageable));
+        return ETags.ok(isFull(view)
+                ? jobService.findActiveJobsByLocation(location, pageable)
+                : jobService.findActiveJobSummariesByLocation(location, pageable));
     }
 
     /**
      * Retrieves jobs posted by a specific recruiter.
      *
      * @param recruiterId the ID of the recruiter
-     * @return ResponseEntity containing a list of Job objects and HTTP 200 status
+     * @param view        {@code summary} (default) or {@code full}
+     * @return ResponseEntity containing a list of JobSummary or Job objects and HTTP 200 status
      */
     @GetMapping("/recruiter/{recruiterId}")
-    public ResponseEntity<List<Job>> getJobsByRecruiter(@PathVariable String recruiterId) {
-        return ResponseEntity.ok(jobService.findJobsByRecruiter(recruiterId));
+    public ResponseEntity<List<?>> getJobsByRecruiter(
+            @PathVariable String recruiterId,
+            @RequestParam(defaultValue = SUMMARY) String view) {
+        return ResponseEntity.ok(isFull(view)
+                ? jobService.findJobsByRecruiter(recruiterId)
+                : jobService.findJobSummariesByRecruiter(recruiterId));
     }
 
     /**
@@ -250,19 +402,27 @@ public class JobController {
      * @param size        page size
      * @param sortBy      field to sort by
      * @param direction   sort direction ("asc" or "desc")
-     * @return ResponseEntity containing a Page of Job objects and HTTP 200 status
+     * @param view      {@code summary} (default) or {@code full}
+     * @return ResponseEntity containing a Page of JobSummary or Job objects and HTTP 200 status
      */
     @GetMapping("/recruiter/{recruiterId}/paged")
-    public ResponseEntity<Page<Job>> getPagedJobsByRecruiter(
+    public ResponseEntity<Page<?>> getPagedJobsByRecruiter(
             @PathVariable String recruiterId,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "postDate") String sortBy,
-            @RequestParam(defaultValue = "desc") String direction) {
+            @RequestParam(defaultValue = "desc") String direction,
+            @RequestParam(defaultValue = SUMMARY) String view) {
 
         Sort.Direction sortDirection = direction.equalsIgnoreCase("asc") ?
                 Sort.Direction.ASC : Sort.Direction.DESC;
         Pageable pageable = PageRequest.of(page, size, Sort.by(sortDirection, sortBy));
-        return ResponseEntity.ok(jobService.findJobsByRecruiter(recruiterId, pageable));
+        return ETags.ok(isFull(view)
+                ? jobService.findJobsByRecruiter(recruiterId, pageable)
+                : jobService.findJobSummariesByRecruiter(recruiterId, pageable));
+    }
+
+    private static boolean isFull(String view) {
+        return "full".equalsIgnoreCase(view);
     }
-}
\ No newline at end of file
+}
@@ -1,11 +1,16 @@
 package org.example.oopproject1.controller;
 
 import jakarta.validation.Valid;
-import org.example.oopproject1.model.Application;
-import org.example.oopproject1.model.Job;
+import org.example.oopproject1.audit.Audited;
+import org.example.oopproject1.dto.ApplicationTransition;
+import org.example.oopproject1.dto.FunnelDay;
+import org.example.oopproject1.dto.FunnelReport;
+import org.example.oopproject1.dto.JobSummary;
+import org.example.oopproject1.exception.ResourceNotFoundException;
 import org.example.oopproject1.model.Recruiter;
 import org.example.oopproject1.model.User;
 import org.example.oopproject1.service.ApplicationService;
+import org.example.oopproject1.service.FunnelRollupService;
 import org.example.oopproject1.service.JobService;
 import org.example.oopproject1.service.RecruiterService;
 import org.example.oopproject1.service.UserService;
@@ -14,15 +19,18 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 /**
  * REST controller for managing recruiter profiles.
@@ -30,7 +38,10 @@ import java.util.stream.Collectors;
  * Provides endpoints to create, retrieve, update, delete, and search recruiters,
  * with optional pagination and role-based access control.
  * Also exposes “/me” endpoints for the authenticated recruiter to manage
- * their own profile, list their jobs, and view applications to their jobs.
+ * their own profile, list their jobs, view applications to their jobs, and
+ * read the hiring funnel and status transitions of the applications to their jobs.
+ * Their job and application lists return summaries; {@code view=full}
+ * returns whole documents instead.
  * </p>
  *
  * @since 1.0
@@ -39,22 +50,32 @@ import java.util.stream.Collectors;
 @RequestMapping("/api/recruiters")
 public class RecruiterController {
 
+    private static final String SUMMARY = "summary";
+
     private final RecruiterService recruiterService;
     private final UserService userService;
     private final JobService jobService;
     private final ApplicationService applicationService;
+    private final FunnelRollupService funnelRollupService;
+
+    /**
+     * Longest range of days a daily funnel series or transition listing may cover.
+     */
+    static final int MAX_DAILY_RANGE_DAYS = 366;
 
     @Autowired
     public RecruiterController(
             RecruiterService recruiterService,
             UserService userService,
             JobService jobService,
-            ApplicationService applicationService
+            ApplicationService applicationService,
+            FunnelRollupService funnelRollupService
     ) {
-        this.recruiterService   = recruiterService;
-        this.userService        = userService;
-        this.jobService         = jobService;
-        this.applicationService = applicationService;
+        this.recruiterService    = recruiterService;
+        this.userService         = userService;
+        this.jobService          = jobService;
+        this.applicationService  = applicationService;
+        this.funnelRollupService = funnelRollupService;
     }
 
     // ───────────────────────────────────────────────────────────────────────────
@@ -124,6 +145,7 @@ public class RecruiterController {
      * @return HTTP 201 with created recruiter
      */
     @PostMapping
+    @Audited(action = "create", resource = "recruiter")
     public ResponseEntity<Recruiter> createRecruiter(@Valid @RequestBody Recruiter recruiter) {
         recruiter.setId(null);
         try {
@@ -148,6 +170,7 @@ public class RecruiterController {
      * @return HTTP 200 with updated recruiter
      */
     @PutMapping("/{id}")
+    @Audited(action = "update", resource = "recruiter")
     public ResponseEntity<Recruiter> updateRecruiter(
             @PathVariable String id,
             @Valid @RequestBody Recruiter recruiter
@@ -172,6 +195,7 @@ public class RecruiterController {
      * @return HTTP 204
      */
     @DeleteMapping("/{id}")
+    @Audited(action = "delete", resource = "recruiter")
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<Void> deleteRecruiter(@PathVariable String id) {
         Recruiter rec = recruiterService.getRecruiterById(id);
@@ -253,6 +277,7 @@ public class RecruiterController {
      * @return HTTP 200 with updated profile
      */
     @PutMapping("/me")
+    @Audited(action = "update", resource = "recruiter")
     public ResponseEntity<Recruiter> updateMyProfile(
             Authentication auth,
             @Valid @RequestBody Recruiter updates
@@ -275,13 +300,16 @@ public class RecruiterController {
      *
      * @param auth     Spring Security Authentication
      * @param pageable pagination info
-     * @return HTTP 200 with Page of Job
+     * @param view     {@code summary} (default) for card fields only, or {@code full} for whole documents
+     * @return HTTP 200 with Page of JobSummary or Job
      */
     @GetMapping("/me/jobs")
-    public ResponseEntity<Page<Job>> myJobs(Authentication auth, Pageable pageable) {
+    public ResponseEntity<Page<?>> myJobs(Authentication auth, Pageable pageable,
+                                          @RequestParam(defaultValue = SUMMARY) String view) {
         Recruiter me = lookupCurrentRecruiter(auth);
-        Page<Job> jobs = jobService.findJobsByRecruiter(me.getId(), pageable);
-        return ResponseEntity.ok(jobs);
+        return ResponseEntity.ok(isFull(view)
+                ? jobService.findJobsByRecruiter(me.getId(), pageable)
+                : jobService.findJobSummariesByRecruiter(me.getId(), pageable));
     }
 
     /**
@@ -289,16 +317,117 @@ public class RecruiterController {
      *
      * @param auth     Spring Security Authentication
      * @param pageable pagination info
-     * @return HTTP 200 with Page of Application
+     * @param view     {@code summary} (default) for list fields only, or {@code full} for whole documents
+     * @return HTTP 200 with Page of ApplicationSummary or Application
      */
     @GetMapping("/me/applications")
-    public ResponseEntity<Page<Application>> myApplications(Authentication auth, Pageable pageable) {
-        Recruiter me = lookupCurrentRecruiter(auth);
-        List<String> jobIds = jobService.findJobsByRecruiter(me.getId())
-                .stream()
-                .map(Job::getId)
-                .collect(Collectors.toList());
-        Page<Application> page = applicationService.findByJobIds(jobIds, pageable);
-        return ResponseEntity.ok(page);
+    public ResponseEntity<Page<?>> myApplications(Authentication auth, Pageable pageable,
+                                                  @RequestParam(defaultValue = SUMMARY) String view) {
+        List<String> jobIds = myJobIds(lookupCurrentRecruiter(auth), null);
+        return ResponseEntity.ok(isFull(view)
+                ? applicationService.findByJobIds(jobIds, pageable)
+                : applicationService.findSummariesByJobIds(jobIds, pageable));
+    }
+
+    /**
+     * Funnel of the applications submitted to your jobs, or to one of them,
+     * within a range of submission days (default: the last 30 days, UTC).
+     *
+     * @param auth  Spring Security Authentication
+     * @param jobId optional ID of one of your jobs
+     * @param from  first submission day, inclusive
+     * @param to    last submission day, inclusive
+     * @return HTTP 200 with the funnel, 400 if {@code from} is after {@code to},
+     *         or 404 if the job is not one of yours
+     */
+    @GetMapping("/me/funnel")
+    public ResponseEntity<FunnelReport> myFunnel(
+            Authentication auth,
+            @RequestParam(required = false) String jobId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        LocalDate end = to != null ? to : LocalDate.now(ZoneOffset.UTC);
+        LocalDate start = from != null ? from : end.minusDays(29);
+        if (start.isAfter(end)) {
+            return ResponseEntity.badRequest().build();
+        }
+        List<String> jobIds = myJobIds(lookupCurrentRecruiter(auth), jobId);
+        return ResponseEntity.ok(funnelRollupService.funnel(jobIds, start, end));
+    }
+
+    /**
+     * Applications submitted to your jobs, or to one of them, on each day of
+     * a range of at most a year (default: the last 30 days, UTC), with the current
+     * status of each day's applications.
+     *
+     * @param auth  Spring Security Authentication
+     * @param jobId optional ID of one of your jobs
+     * @param from  first submission day, inclusive
+     * @param to    last submission day, inclusive
+     * @return HTTP 200 with one entry per day with submissions, 400 if the range is
+     *         empty or too long, or 404 if the job is not one of yours
+     */
+    @GetMapping("/me/funnel/daily")
+    public ResponseEntity<List<FunnelDay>> myFunnelDaily(
+            Authentication auth,
+            @RequestParam(required = false) String jobId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        LocalDate end = to != null ? to : LocalDate.now(ZoneOffset.UTC);
+        LocalDate start = from != null ? from : end.minusDays(29);
+        if (start.isAfter(end) || ChronoUnit.DAYS.between(start, end) >= MAX_DAILY_RANGE_DAYS) {
+            return ResponseEntity.badRequest().build();
+        }
+        List<String> jobIds = myJobIds(lookupCurrentRecruiter(auth), jobId);
+        return ResponseEntity.ok(funnelRollupService.daily(jobIds, start, end));
+    }
+
+    /**
+     * Status changes of the applications to your jobs, or to one of them,
+     * made on the days of a range of at most a year (default: the last 30
+     * days, UTC), oldest first.
+     *
+     * @param auth  Spring Security Authentication
+     * @param jobId optional ID of one of your jobs
+     * @param from  first day, inclusive
+     * @param to    last day, inclusive
+     * @return HTTP 200 with the changes, 400 if the range is empty or too long,
+     *         or 404 if the job is not one of yours
+     */
+    @GetMapping("/me/transitions")
+    public ResponseEntity<List<ApplicationTransition>> myTransitions(
+            Authentication auth,
+            @RequestParam(required = false) String jobId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        LocalDate end = to != null ? to : LocalDate.now(ZoneOffset.UTC);
+        LocalDate start = from != null ? from : end.minusDays(29);
+        if (start.isAfter(end) || ChronoUnit.DAYS.between(start, end) >= MAX_DAILY_RANGE_DAYS) {
+            return ResponseEntity.badRequest().build();
+        }
+        List<String> jobIds = myJobIds(lookupCurrentRecruiter(auth), jobId);
+        return ResponseEntity.ok(applicationService.getStatusChanges(jobIds,
+                start.atStartOfDay(ZoneOffset.UTC).toInstant(),
+                end.plusDays(1).atStartOfDay(ZoneOffset.UTC).toInstant()));
+    }
+
+    private static boolean isFull(String view) {
+        return "full".equalsIgnoreCase(view);
+    }
+
+    private List<String> myJobIds(Recruiter me, String jobId) {
+        List<String> jobIds = jobService.findJobSummariesByRecruiter(me.getId()).stream()
+                .map(JobSummary::getId)
+                .toList();
+        if (jobId == null) {
+            return jobIds;
+        }
+        if (!jobIds.contains(jobId)) {
+            throw new ResourceNotFoundException("Job not found with id: " + jobId);
+        }
+        return List.of(jobId);
     }
 }
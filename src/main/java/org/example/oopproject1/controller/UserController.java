@@ -1,5 +1,6 @@
 package org.example.oopproject1.controller;
 
+import org.example.oopproject1.audit.Audited;
 import org.example.oopproject1.dto.CurrentUserDto;
 import org.example.oopproject1.model.User;
 import org.example.oopproject1.service.UserService;
@@ -46,6 +47,7 @@ public class UserController {
      * Only the user themselves may call this.
      */
     @PutMapping("/{id}")
+    @Audited(action = "update", resource = "user")
     public ResponseEntity<CurrentUserDto> updateUser(
             @PathVariable String id,
             @RequestBody Map<String, String> updates,
@@ -0,0 +1,25 @@
+package org.example.oopproject1.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.example.oopproject1.model.Application;
+import org.example.oopproject1.model.StatusChange;
+
+import java.util.List;
+
+/**
+ * The status history of an {@link Application}, used as a projection so
+ * transition queries read only these fields.
+ *
+ * @since 1.1
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApplicationStatusHistory {
+
+    private String id;
+    private String jobId;
+    private List<StatusChange> statusHistory;
+}
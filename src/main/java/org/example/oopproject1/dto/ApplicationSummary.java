@@ -0,0 +1,47 @@
+package org.example.oopproject1.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.example.oopproject1.model.Application;
+import org.example.oopproject1.model.Timestamped;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * The fields of an {@link Application} shown in application lists, returned
+ * by the list endpoints unless {@code view=full} is requested.
+ * <p>
+ * Repositories use this class as a projection, so MongoDB returns only these
+ * fields and leaves out the cover letter and resume link.
+ * </p>
+ *
+ * @since 1.1
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApplicationSummary implements Timestamped {
+
+    private String id;
+    private String jobId;
+    private String candidateName;
+    private String email;
+    private String phone;
+    private LocalDate applicationDate;
+    private Application.ApplicationStatus status;
+    private Instant lastModified;
+
+    /**
+     * Creates the summary of a full application, for results that were not projected by the database.
+     *
+     * @param application the application
+     * @return its summary
+     */
+    public static ApplicationSummary from(Application application) {
+        return new ApplicationSummary(application.getId(), application.getJobId(), application.getCandidateName(),
+                application.getEmail(), application.getPhone(), application.getApplicationDate(),
+                application.getStatus(), application.getLastModified());
+    }
+}
@@ -0,0 +1,50 @@
+package org.example.oopproject1.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.example.oopproject1.model.Application.ApplicationStatus;
+
+import java.time.Instant;
+
+/**
+ * A status transition of one application, as returned by
+ * {@code GET /api/recruiters/me/transitions}.
+ *
+ * @since 1.1
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApplicationTransition {
+
+    /**
+     * The application whose status changed.
+     */
+    private String applicationId;
+
+    /**
+     * The job the application was submitted to.
+     */
+    private String jobId;
+
+    /**
+     * The status before the change, or {@code null} for the submission.
+     */
+    private ApplicationStatus from;
+
+    /**
+     * The status after the change.
+     */
+    private ApplicationStatus to;
+
+    /**
+     * Username of whoever made the change.
+     */
+    private String actor;
+
+    /**
+     * When the change was made.
+     */
+    private Instant at;
+}
@@ -0,0 +1,42 @@
+package org.example.oopproject1.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Size and effect of one string dictionary, as reported by
+ * {@code GET /api/admin/dictionaries}.
+ *
+ * @since 1.1
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DictionaryStats {
+
+    /**
+     * The field the dictionary serves, e.g. {@code company}.
+     */
+    private String field;
+
+    /**
+     * Number of distinct values held.
+     */
+    private int entries;
+
+    /**
+     * Maximum number of distinct values held; further values are not interned.
+     */
+    private int capacity;
+
+    /**
+     * Number of lookups answered with a shared instance.
+     */
+    private long hits;
+
+    /**
+     * Estimated heap, in bytes, not retained thanks to those hits.
+     */
+    private long bytesSaved;
+}
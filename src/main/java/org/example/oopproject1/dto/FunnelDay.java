@@ -0,0 +1,35 @@
+package org.example.oopproject1.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * Applications submitted to some jobs on one day, as returned by
+ * {@code GET /api/recruiters/me/funnel/daily}.
+ *
+ * @since 1.1
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FunnelDay {
+
+    /**
+     * The submission day.
+     */
+    private LocalDate day;
+
+    /**
+     * Number of applications submitted on the day.
+     */
+    private long submitted;
+
+    /**
+     * Number of those applications currently in each status.
+     */
+    private Map<String, Long> current;
+}
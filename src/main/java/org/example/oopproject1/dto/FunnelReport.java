@@ -0,0 +1,59 @@
+package org.example.oopproject1.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hiring funnel of the applications submitted to some jobs within a range
+ * of days, as returned by {@code GET /api/recruiters/me/funnel}.
+ *
+ * @since 1.1
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FunnelReport {
+
+    /**
+     * The jobs included.
+     */
+    private List<String> jobIds;
+
+    /**
+     * The first submission day included.
+     */
+    private LocalDate from;
+
+    /**
+     * The last submission day included.
+     */
+    private LocalDate to;
+
+    /**
+     * Number of applications submitted in the range.
+     */
+    private long submitted;
+
+    /**
+     * Number of those applications currently in each status.
+     */
+    private Map<String, Long> current;
+
+    /**
+     * Number of those applications that got at least as far as each stage,
+     * rejected ones included in the stages they passed before the rejection,
+     * and number of those currently {@code REJECTED}.
+     */
+    private Map<String, Long> reached;
+
+    /**
+     * Share of the applications reaching each stage out of those reaching the
+     * stage before it, keyed e.g. {@code SUBMITTED->REVIEWING}.
+     */
+    private Map<String, Double> conversion;
+}
@@ -0,0 +1,32 @@
+package org.example.oopproject1.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One autocomplete suggestion, as returned by {@code GET /api/jobs/suggest}.
+ *
+ * @since 1.1
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobSuggestion {
+
+    /**
+     * The job field the text occurs in: {@code title}, {@code company},
+     * {@code location} or {@code skill}.
+     */
+    private String field;
+
+    /**
+     * The suggested text.
+     */
+    private String text;
+
+    /**
+     * Number of jobs the text occurs in.
+     */
+    private long count;
+}
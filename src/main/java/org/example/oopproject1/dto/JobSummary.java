@@ -0,0 +1,53 @@
+package org.example.oopproject1.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.example.oopproject1.model.Job;
+import org.example.oopproject1.model.Timestamped;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * The fields of a {@link Job} shown on job cards and tables, returned by the
+ * list endpoints unless {@code view=full} is requested.
+ * <p>
+ * Repositories use this class as a projection, so MongoDB returns only these
+ * fields and leaves out the unbounded description and skill list. Field
+ * names match the stored document, and {@code isActive} is serialized as
+ * {@code active} exactly as on {@link Job}.
+ * </p>
+ *
+ * @since 1.1
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobSummary implements Timestamped {
+
+    private String id;
+    private String title;
+    private String company;
+    private String location;
+    private String employmentType;
+    private Double minSalary;
+    private Double maxSalary;
+    private LocalDate postDate;
+    private LocalDate deadlineDate;
+    private boolean isActive;
+    private String recruiterId;
+    private Instant lastModified;
+
+    /**
+     * Creates the summary of a full job, for results that were not projected by the database.
+     *
+     * @param job the job
+     * @return its summary
+     */
+    public static JobSummary from(Job job) {
+        return new JobSummary(job.getId(), job.getTitle(), job.getCompany(), job.getLocation(),
+                job.getEmploymentType(), job.getMinSalary(), job.getMaxSalary(), job.getPostDate(),
+                job.getDeadlineDate(), job.isActive(), job.getRecruiterId(), job.getLastModified());
+    }
+}
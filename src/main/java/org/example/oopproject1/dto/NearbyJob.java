@@ -0,0 +1,26 @@
+package org.example.oopproject1.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A job found by a radius search, as returned by {@code GET /api/jobs/near}.
+ *
+ * @since 1.1
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class NearbyJob {
+
+    /**
+     * Summary of the job.
+     */
+    private JobSummary job;
+
+    /**
+     * Great-circle distance from the searched point to the job's location, in kilometres.
+     */
+    private double distanceKm;
+}
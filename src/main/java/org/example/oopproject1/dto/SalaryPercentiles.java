@@ -0,0 +1,51 @@
+package org.example.oopproject1.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Salary distribution of a group of jobs, as returned by
+ * {@code GET /api/jobs/salaries}. Salaries are the midpoints of the jobs'
+ * salary ranges.
+ *
+ * @since 1.1
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SalaryPercentiles {
+
+    /**
+     * The job field grouped by: {@code title}, {@code company}, {@code location} or {@code employmentType}.
+     */
+    private String dimension;
+
+    /**
+     * The values of the field whose jobs are included, as last seen on a job.
+     */
+    private List<String> values;
+
+    /**
+     * Number of jobs with a salary in the group.
+     */
+    private long count;
+
+    /**
+     * The lowest salary.
+     */
+    private double min;
+
+    /**
+     * The highest salary.
+     */
+    private double max;
+
+    /**
+     * Estimated salary at each requested percentile, keyed e.g. {@code p50}.
+     */
+    private Map<String, Double> percentiles;
+}
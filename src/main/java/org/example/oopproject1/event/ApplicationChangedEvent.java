@@ -0,0 +1,77 @@
+package org.example.oopproject1.event;
+
+import org.example.oopproject1.model.Application;
+
+import java.time.Instant;
+
+/**
+ * Published when a job application is created, updated, or deleted.
+ * <p>
+ * {@code previousStatus} is known for changes made in this JVM. Events
+ * reconstructed from a change stream only carry the document after the
+ * change, so for them it is {@code null} and consumers have to treat the
+ * status as possibly changed.
+ * </p>
+ *
+ * @param changeType     the kind of change
+ * @param entityId       the ID of the application
+ * @param application    the application after the change, or {@code null} when deleted
+ * @param previousStatus the status before an update, or {@code null} if unknown or not applicable
+ * @param occurredAt     when the change was observed
+ * @since 1.1
+ */
+public record ApplicationChangedEvent(
+        ChangeType changeType,
+        String entityId,
+        Application application,
+        Application.ApplicationStatus previousStatus,
+        Instant occurredAt) implements DomainEvent {
+
+    /**
+     * Creates an event for a newly submitted application.
+     *
+     * @param application the saved application
+     * @return the event
+     */
+    public static ApplicationChangedEvent created(Application application) {
+        return new ApplicationChangedEvent(
+                ChangeType.CREATED, application.getId(), application, null, Instant.now());
+    }
+
+    /**
+     * Creates an event for an updated application.
+     *
+     * @param application    the saved application
+     * @param previousStatus the status before the update
+     * @return the event
+     */
+    public static ApplicationChangedEvent updated(Application application,
+                                                  Application.ApplicationStatus previousStatus) {
+        return new ApplicationChangedEvent(
+                ChangeType.UPDATED, application.getId(), application, previousStatus, Instant.now());
+    }
+
+    /**
+     * Creates an event for a deleted application.
+     *
+     * @param id the ID of the deleted application
+     * @return the event
+     */
+    public static ApplicationChangedEvent deleted(String id) {
+        return new ApplicationChangedEvent(ChangeType.DELETED, id, null, null, Instant.now());
+    }
+
+    /**
+     * Indicates whether the application's status may have changed.
+     *
+     * @return true for creations, for updates whose previous status differs,
+     *         and for updates whose previous status is unknown
+     */
+    public boolean isStatusTransition() {
+        if (changeType == ChangeType.CREATED) {
+            return true;
+        }
+        return changeType == ChangeType.UPDATED
+                && (previousStatus == null || previousStatus != application.getStatus());
+    }
+}
@@ -0,0 +1,49 @@
+package org.example.oopproject1.event;
+
+import org.example.oopproject1.model.Application;
+
+import java.time.Instant;
+
+/**
+ * Payload pushed to SSE clients whenever an application is created or its status changes.
+ * <p>
+ * Derived from an {@link ApplicationChangedEvent}. A newly created application
+ * carries a {@code null} previous status; so does a change observed through the
+ * database change stream, where the previous state is not available. It only
+ * contains the fields the candidate and recruiter views need.
+ * </p>
+ *
+ * @param applicationId  the ID of the application
+ * @param jobId          the ID of the job the application belongs to
+ * @param email          the candidate's email address
+ * @param previousStatus the status before the change, or {@code null} on creation
+ * @param status         the status after the change
+ * @param occurredAt     when the change was recorded
+ * @since 1.1
+ */
+public record ApplicationStatusChangedEvent(
+        String applicationId,
+        String jobId,
+        String email,
+        Application.ApplicationStatus previousStatus,
+        Application.ApplicationStatus status,
+        Instant occurredAt) {
+
+    /**
+     * Builds an event describing the given application in its current state.
+     *
+     * @param application    the saved application
+     * @param previousStatus the status before the change, or {@code null} on creation
+     * @return the event
+     */
+    public static ApplicationStatusChangedEvent of(Application application,
+                                                   Application.ApplicationStatus previousStatus) {
+        return new ApplicationStatusChangedEvent(
+                application.getId(),
+                application.getJobId(),
+                application.getEmail(),
+                previousStatus,
+                application.getStatus(),
+                Instant.now());
+    }
+}
@@ -0,0 +1,53 @@
+package org.example.oopproject1.event;
+
+import java.time.Instant;
+
+/**
+ * A change to one of the portal's domain documents.
+ * <p>
+ * Events are published by the service layer after a successful write and
+ * delivered through the {@link DomainEventBus} to in-memory structures
+ * (caches, search indexes, counters) that need to stay coherent with the
+ * database. Depending on the configured {@link DomainEventTransport}, events
+ * originate either in this JVM or from a MongoDB change stream that also
+ * carries writes made by other nodes.
+ * </p>
+ *
+ * @since 1.1
+ */
+public sealed interface DomainEvent
+        permits JobChangedEvent, ApplicationChangedEvent, RecruiterChangedEvent, UserChangedEvent {
+
+    /**
+     * Kind of change that was made to the document.
+     */
+    enum ChangeType {
+        /** The document was inserted. */
+        CREATED,
+        /** The document was modified or replaced. */
+        UPDATED,
+        /** The document was removed. */
+        DELETED
+    }
+
+    /**
+     * Returns the kind of change.
+     *
+     * @return the change type
+     */
+    ChangeType changeType();
+
+    /**
+     * Returns the ID of the changed document.
+     *
+     * @return the document ID
+     */
+    String entityId();
+
+    /**
+     * Returns when the change was observed.
+     *
+     * @return the event timestamp
+     */
+    Instant occurredAt();
+}
@@ -0,0 +1,130 @@
+package org.example.oopproject1.event;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Internal publish/subscribe bus for {@link DomainEvent}s.
+ * <p>
+ * Services publish an event after every successful write; caches and indexes
+ * subscribe to the event types they care about. Delivery goes through the
+ * configured {@link DomainEventTransport}, so subscribers see the same stream
+ * of events whether it originates in this JVM or from the database's change
+ * stream. A failing subscriber is logged and never affects the writer or the
+ * other subscribers.
+ * </p>
+ *
+ * @since 1.1
+ */
+@Component
+public class DomainEventBus {
+    private static final Logger logger = LoggerFactory.getLogger(DomainEventBus.class);
+
+    private final DomainEventTransport transport;
+    private final List<Subscription<?>> subscriptions = new CopyOnWriteArrayList<>();
+    private final List<Runnable> resyncListeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Constructs the bus on top of the selected transport.
+     *
+     * @param transport the transport that delivers events to subscribers
+     */
+    public DomainEventBus(DomainEventTransport transport) {
+        this.transport = transport;
+    }
+
+    /**
+     * Registers a handler for one type of event.
+     *
+     * @param type    the event type, e.g. {@code JobChangedEvent.class}
+     * @param handler the handler invoked for each delivered event of that type
+     * @param <E>     the event type
+     */
+    public <E extends DomainEvent> void subscribe(Class<E> type, Consumer<? super E> handler) {
+        subscriptions.add(new Subscription<>(type, handler));
+    }
+
+    /**
+     * Registers a callback invoked when the transport may have missed events,
+     * e.g. after the change-stream history was lost. Subscribers holding derived
+     * state should rebuild it from the database.
+     *
+     * @param listener the callback
+     */
+    public void onResync(Runnable listener) {
+        resyncListeners.add(listener);
+    }
+
+    /**
+     * Publishes an event describing a write that has just completed.
+     *
+     * @param event the event
+     */
+    public void publish(DomainEvent event) {
+        try {
+            transport.publish(event);
+        } catch (RuntimeException e) {
+            logger.error("Failed to publish {} for {}", event.getClass().getSimpleName(), event.entityId(), e);
+        }
+    }
+
+    /**
+     * Starts the transport once all subscribers have registered.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        transport.start(this::dispatch, this::resync);
+    }
+
+    /**
+     * Stops the transport on shutdown.
+     */
+    @PreDestroy
+    public void stop() {
+        transport.stop();
+    }
+
+    /**
+     * Delivers an event to every matching subscriber.
+     *
+     * @param event the event coming out of the transport
+     */
+    void dispatch(DomainEvent event) {
+        for (Subscription<?> subscription : subscriptions) {
+            subscription.deliver(event);
+        }
+    }
+
+    private void resync() {
+        for (Runnable listener : resyncListeners) {
+            try {
+                listener.run();
+            } catch (RuntimeException e) {
+                logger.error("Resync listener failed", e);
+            }
+        }
+    }
+
+    private record Subscription<E extends DomainEvent>(Class<E> type, Consumer<? super E> handler) {
+
+        void deliver(DomainEvent event) {
+            if (!type.isInstance(event)) {
+                return;
+            }
+            try {
+                handler.accept(type.cast(event));
+            } catch (RuntimeException e) {
+                logger.error("Subscriber failed on {} for {}",
+                        event.getClass().getSimpleName(), event.entityId(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package org.example.oopproject1.event;
+
+import java.util.function.Consumer;
+
+/**
+ * Moves domain events from the writers to the {@link DomainEventBus} subscribers.
+ * <p>
+ * Implementations decide where delivered events come from: the in-JVM
+ * transport hands published events straight back, while the change-stream
+ * transport ignores local publishes and instead tails the database so that
+ * writes from every node are delivered exactly once.
+ * </p>
+ *
+ * @since 1.1
+ */
+public interface DomainEventTransport {
+
+    /**
+     * Called by the bus after a service in this JVM completed a write.
+     *
+     * @param event the event describing the write
+     */
+    void publish(DomainEvent event);
+
+    /**
+     * Starts delivering events to the given sink.
+     *
+     * @param sink     receives every event that subscribers should see
+     * @param onResync invoked when events may have been missed and subscribers
+     *                 must rebuild their state from the database
+     */
+    void start(Consumer<DomainEvent> sink, Runnable onResync);
+
+    /**
+     * Stops delivering events and releases any resources.
+     */
+    void stop();
+}
@@ -0,0 +1,90 @@
+package org.example.oopproject1.event;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.function.Consumer;
+
+/**
+ * Delivers published events synchronously to subscribers in the same JVM.
+ * <p>
+ * Suitable for tests, single-node deployments, and local development where
+ * no other node writes to the database. Selected by default or with
+ * {@code app.events.transport=in-jvm}.
+ * </p>
+ * <p>
+ * Events published before {@link #start} (by startup initialisers and
+ * backfills) are held and delivered in order when the transport starts. If
+ * more than {@value #MAX_EARLY_EVENTS} arrive, the rest are dropped and
+ * subscribers are asked to resync instead.
+ * </p>
+ *
+ * @since 1.1
+ */
+@Component
+@ConditionalOnProperty(name = "app.events.transport", havingValue = "in-jvm", matchIfMissing = true)
+public class InJvmEventTransport implements DomainEventTransport {
+    private static final Logger logger = LoggerFactory.getLogger(InJvmEventTransport.class);
+
+    /**
+     * Most events held until the transport starts.
+     */
+    static final int MAX_EARLY_EVENTS = 10_000;
+
+    private final Queue<DomainEvent> early = new ArrayDeque<>();
+    private volatile Consumer<DomainEvent> sink;
+    private boolean overflowed;
+    private boolean stopped;
+
+    @Override
+    public void publish(DomainEvent event) {
+        Consumer<DomainEvent> current = sink;
+        if (current == null) {
+            synchronized (this) {
+                current = sink;
+                if (current == null) {
+                    hold(event);
+                    return;
+                }
+            }
+        }
+        current.accept(event);
+    }
+
+    @Override
+    public synchronized void start(Consumer<DomainEvent> sink, Runnable onResync) {
+        DomainEvent event;
+        while ((event = early.poll()) != null) {
+            sink.accept(event);
+        }
+        if (overflowed) {
+            onResync.run();
+            overflowed = false;
+        }
+        stopped = false;
+        this.sink = sink;
+    }
+
+    @Override
+    public synchronized void stop() {
+        this.sink = null;
+        stopped = true;
+        early.clear();
+    }
+
+    private void hold(DomainEvent event) {
+        if (stopped) {
+            return;
+        }
+        if (early.size() < MAX_EARLY_EVENTS) {
+            early.add(event);
+        } else if (!overflowed) {
+            logger.warn("More than {} events published before startup; subscribers will resync", MAX_EARLY_EVENTS);
+            overflowed = true;
+        }
+    }
+}
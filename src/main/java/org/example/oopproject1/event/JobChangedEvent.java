@@ -0,0 +1,42 @@
+package org.example.oopproject1.event;
+
+import org.example.oopproject1.model.Job;
+
+import java.time.Instant;
+
+/**
+ * Published when a job posting is created, updated, or deleted.
+ *
+ * @param changeType the kind of change
+ * @param entityId   the ID of the job
+ * @param job        the job after the change, or {@code null} when deleted
+ * @param occurredAt when the change was observed
+ * @since 1.1
+ */
+public record JobChangedEvent(
+        ChangeType changeType,
+        String entityId,
+        Job job,
+        Instant occurredAt) implements DomainEvent {
+
+    /**
+     * Creates an event for a saved job.
+     *
+     * @param changeType CREATED or UPDATED
+     * @param job        the saved job
+     * @return the event
+     */
+    public static JobChangedEvent of(ChangeType changeType, Job job) {
+        return new JobChangedEvent(changeType, job.getId(), job, Instant.now());
+    }
+
+    /**
+     * Creates an event for a deleted job.
+     *
+     * @param id the ID of the deleted job
+     * @return the event
+     */
+    public static JobChangedEvent deleted(String id) {
+        return new JobChangedEvent(ChangeType.DELETED, id, null, Instant.now());
+    }
+}
@@ -0,0 +1,294 @@
+package org.example.oopproject1.event;
+
+import com.mongodb.MongoCommandException;
+import com.mongodb.client.MongoChangeStreamCursor;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.FullDocument;
+import com.mongodb.client.model.changestream.UpdateDescription;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.example.oopproject1.event.DomainEvent.ChangeType;
+import org.example.oopproject1.model.Application;
+import org.example.oopproject1.model.Job;
+import org.example.oopproject1.model.Recruiter;
+import org.example.oopproject1.model.User;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Delivers domain events by tailing MongoDB change streams.
+ * <p>
+ * Every node watches the {@code jobs}, {@code applications}, {@code recruiters}
+ * and {@code users} collections, so subscribers see writes made by any node,
+ * the CLI, or direct database edits. Local publishes are ignored because the
+ * same write arrives through the stream. Each collection is tailed on its own
+ * virtual thread, and the resume token per node and collection is stored in
+ * {@value #TOKEN_COLLECTION} every {@code checkpoint-every} changes or
+ * {@code checkpoint-interval}, whichever comes first, so that a restarted node
+ * continues where it stopped. Changes after the last checkpoint are delivered
+ * again after a restart. A node without a configured {@code app.events.node-id}
+ * gets a random one per process, so its tokens are not resumed after a
+ * restart but never collide with another node's. If the token has fallen off the oplog, the stream restarts from
+ * the current position and subscribers are asked to resync.
+ * </p>
+ * <p>
+ * Requires a replica set or sharded cluster. Selected with
+ * {@code app.events.transport=change-stream}.
+ * </p>
+ *
+ * @since 1.1
+ */
+@Component
+@ConditionalOnProperty(name = "app.events.transport", havingValue = "change-stream")
+public class MongoChangeStreamTransport implements DomainEventTransport {
+    private static final Logger logger = LoggerFactory.getLogger(MongoChangeStreamTransport.class);
+
+    /**
+     * Collection holding the last processed resume token per node and watched collection.
+     */
+    static final String TOKEN_COLLECTION = "event_resume_tokens";
+
+    /**
+     * Server error codes meaning the stored resume token can no longer be used.
+     */
+    private static final Set<Integer> HISTORY_LOST_CODES = Set.of(260, 280, 286);
+
+    private final MongoTemplate mongoTemplate;
+    private final String nodeId;
+    private final int checkpointEvery;
+    private final Duration checkpointInterval;
+    private final List<Thread> watchers = new CopyOnWriteArrayList<>();
+    private final List<MongoChangeStreamCursor<?>> cursors = new CopyOnWriteArrayList<>();
+    private volatile boolean running;
+
+    /**
+     * Constructs the transport.
+     *
+     * @param mongoTemplate      template used to open the change streams and store resume tokens
+     * @param nodeId             identifies this node's resume tokens; must be stable across restarts
+     *                           and unique, or blank for a random ID per process
+     * @param checkpointEvery    most changes delivered between two stored resume tokens
+     * @param checkpointInterval longest time a delivered change waits for its resume token to be stored
+     */
+    public MongoChangeStreamTransport(MongoTemplate mongoTemplate,
+                                      @Value("${app.events.node-id:}") String nodeId,
+                                      @Value("${app.events.checkpoint-every:100}") int checkpointEvery,
+                                      @Value("${app.events.checkpoint-interval:PT1S}") Duration checkpointInterval) {
+        this.mongoTemplate = mongoTemplate;
+        this.nodeId = nodeId.isBlank() ? UUID.randomUUID().toString() : nodeId;
+        this.checkpointEvery = checkpointEvery;
+        this.checkpointInterval = checkpointInterval;
+    }
+
+    /**
+     * Does nothing; the write reaches subscribers through the change stream.
+     *
+     * @param event the event describing the write
+     */
+    @Override
+    public void publish(DomainEvent event) {
+        // delivered by the change stream
+    }
+
+    @Override
+    public void start(Consumer<DomainEvent> sink, Runnable onResync) {
+        running = true;
+        watch("jobs", sink, onResync, this::toJobEvent);
+        watch("applications", sink, onResync, this::toApplicationEvent);
+        watch("recruiters", sink, onResync, this::toRecruiterEvent);
+        watch("users", sink, onResync, this::toUserEvent);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        cursors.forEach(MongoChangeStreamCursor::close);
+        watchers.forEach(Thread::interrupt);
+        cursors.clear();
+        watchers.clear();
+    }
+
+    private void watch(String collection, Consumer<DomainEvent> sink, Runnable onResync,
+                       EventMapper mapper) {
+        Thread watcher = Thread.ofVirtual()
+                .name("change-stream-" + collection)
+                .start(() -> tail(collection, sink, onResync, mapper));
+        watchers.add(watcher);
+    }
+
+    private void tail(String collection, Consumer<DomainEvent> sink, Runnable onResync, EventMapper mapper) {
+        while (running) {
+            BsonDocument resumeToken = loadResumeToken(collection);
+            var stream = mongoTemplate.getCollection(collection)
+                    .watch()
+                    .fullDocument(FullDocument.UPDATE_LOOKUP);
+            if (resumeToken != null) {
+                stream = stream.resumeAfter(resumeToken);
+            }
+            BsonDocument pending = null;
+            int unsaved = 0;
+            Instant savedAt = Instant.now();
+            try (MongoChangeStreamCursor<ChangeStreamDocument<Document>> cursor = stream.cursor()) {
+                cursors.add(cursor);
+                while (running) {
+                    // tryNext returns null once the server's await time passes, so idle streams still checkpoint
+                    ChangeStreamDocument<Document> change = cursor.tryNext();
+                    if (change != null) {
+                        DomainEvent event = mapper.map(change);
+                        if (event != null) {
+                            sink.accept(event);
+                        }
+                        pending = change.getResumeToken();
+                        unsaved++;
+                    }
+                    if (unsaved > 0 && (unsaved >= checkpointEvery
+                            || Duration.between(savedAt, Instant.now()).compareTo(checkpointInterval) >= 0)) {
+                        saveResumeToken(collection, pending);
+                        unsaved = 0;
+                        savedAt = Instant.now();
+                    }
+                }
+                saveResumeToken(collection, unsaved > 0 ? pending : null);
+            } catch (MongoCommandException e) {
+                if (!HISTORY_LOST_CODES.contains(e.getErrorCode())) {
+                    retryAfterFailure(collection, e);
+                    continue;
+                }
+                logger.warn("Change stream history lost for {}; restarting from now and resyncing", collection);
+                mongoTemplate.remove(tokenQuery(collection), TOKEN_COLLECTION);
+                onResync.run();
+            } catch (RuntimeException e) {
+                if (running) {
+                    retryAfterFailure(collection, e);
+                }
+            }
+        }
+    }
+
+    private void retryAfterFailure(String collection, RuntimeException e) {
+        logger.error("Change stream on {} failed; retrying", collection, e);
+        try {
+            Thread.sleep(1000);
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+
+    private BsonDocument loadResumeToken(String collection) {
+        Document stored = mongoTemplate.findOne(tokenQuery(collection), Document.class, TOKEN_COLLECTION);
+        if (stored == null || stored.getString("token") == null) {
+            return null;
+        }
+        return BsonDocument.parse(stored.getString("token"));
+    }
+
+    private void saveResumeToken(String collection, BsonDocument token) {
+        if (token == null) {
+            return;
+        }
+        mongoTemplate.upsert(tokenQuery(collection),
+                new Update().set("token", token.toJson()).set("updatedAt", Instant.now()),
+                TOKEN_COLLECTION);
+    }
+
+    private Query tokenQuery(String collection) {
+        return new Query(Criteria.where("_id").is(nodeId + ":" + collection));
+    }
+
+    private DomainEvent toJobEvent(ChangeStreamDocument<Document> change) {
+        ChangeType type = changeType(change);
+        if (type == ChangeType.DELETED) {
+            return JobChangedEvent.deleted(documentId(change));
+        }
+        Job job = read(Job.class, change);
+        return job == null ? null : new JobChangedEvent(type, job.getId(), job, Instant.now());
+    }
+
+    private DomainEvent toRecruiterEvent(ChangeStreamDocument<Document> change) {
+        ChangeType type = changeType(change);
+        if (type == ChangeType.DELETED) {
+            return RecruiterChangedEvent.deleted(documentId(change));
+        }
+        Recruiter recruiter = read(Recruiter.class, change);
+        return recruiter == null ? null
+                : new RecruiterChangedEvent(type, recruiter.getId(), recruiter, Instant.now());
+    }
+
+    private DomainEvent toUserEvent(ChangeStreamDocument<Document> change) {
+        ChangeType type = changeType(change);
+        if (type == ChangeType.DELETED) {
+            return UserChangedEvent.deleted(documentId(change));
+        }
+        User user = read(User.class, change);
+        return user == null ? null : new UserChangedEvent(type, user.getId(), user, Instant.now());
+    }
+
+    /**
+     * Maps an application change. An in-place update that did not touch the
+     * status field is reported with its current status as the previous one, so
+     * subscribers do not mistake it for a status transition; replacements and
+     * status updates leave the previous status unknown.
+     */
+    private DomainEvent toApplicationEvent(ChangeStreamDocument<Document> change) {
+        ChangeType type = changeType(change);
+        if (type == ChangeType.DELETED) {
+            return ApplicationChangedEvent.deleted(documentId(change));
+        }
+        Application application = read(Application.class, change);
+        if (application == null) {
+            return null;
+        }
+        if (type == ChangeType.CREATED) {
+            return ApplicationChangedEvent.created(application);
+        }
+        UpdateDescription update = change.getUpdateDescription();
+        boolean statusUntouched = update != null
+                && update.getUpdatedFields() != null
+                && !update.getUpdatedFields().containsKey("status");
+        return ApplicationChangedEvent.updated(application, statusUntouched ? application.getStatus() : null);
+    }
+
+    private ChangeType changeType(ChangeStreamDocument<Document> change) {
+        return switch (change.getOperationType()) {
+            case INSERT -> ChangeType.CREATED;
+            case DELETE -> ChangeType.DELETED;
+            default -> ChangeType.UPDATED;
+        };
+    }
+
+    private <T> T read(Class<T> type, ChangeStreamDocument<Document> change) {
+        Document document = change.getFullDocument();
+        // null when the document was deleted before the update lookup ran
+        return document == null ? null : mongoTemplate.getConverter().read(type, document);
+    }
+
+    private String documentId(ChangeStreamDocument<Document> change) {
+        BsonValue id = change.getDocumentKey() == null ? null : change.getDocumentKey().get("_id");
+        if (id == null) {
+            return null;
+        }
+        return id.isObjectId() ? id.asObjectId().getValue().toHexString() : id.asString().getValue();
+    }
+
+    @FunctionalInterface
+    private interface EventMapper {
+        DomainEvent map(ChangeStreamDocument<Document> change);
+    }
+}
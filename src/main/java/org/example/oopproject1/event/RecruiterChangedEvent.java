@@ -0,0 +1,42 @@
+package org.example.oopproject1.event;
+
+import org.example.oopproject1.model.Recruiter;
+
+import java.time.Instant;
+
+/**
+ * Published when a recruiter profile is created, updated, or deleted.
+ *
+ * @param changeType the kind of change
+ * @param entityId   the ID of the recruiter
+ * @param recruiter  the recruiter after the change, or {@code null} when deleted
+ * @param occurredAt when the change was observed
+ * @since 1.1
+ */
+public record RecruiterChangedEvent(
+        ChangeType changeType,
+        String entityId,
+        Recruiter recruiter,
+        Instant occurredAt) implements DomainEvent {
+
+    /**
+     * Creates an event for a saved recruiter.
+     *
+     * @param changeType CREATED or UPDATED
+     * @param recruiter  the saved recruiter
+     * @return the event
+     */
+    public static RecruiterChangedEvent of(ChangeType changeType, Recruiter recruiter) {
+        return new RecruiterChangedEvent(changeType, recruiter.getId(), recruiter, Instant.now());
+    }
+
+    /**
+     * Creates an event for a deleted recruiter.
+     *
+     * @param id the ID of the deleted recruiter
+     * @return the event
+     */
+    public static RecruiterChangedEvent deleted(String id) {
+        return new RecruiterChangedEvent(ChangeType.DELETED, id, null, Instant.now());
+    }
+}
@@ -0,0 +1,42 @@
+package org.example.oopproject1.event;
+
+import org.example.oopproject1.model.User;
+
+import java.time.Instant;
+
+/**
+ * Published when a user account is created, updated, or deleted.
+ *
+ * @param changeType the kind of change
+ * @param entityId   the ID of the user
+ * @param user       the user after the change, or {@code null} when deleted
+ * @param occurredAt when the change was observed
+ * @since 1.1
+ */
+public record UserChangedEvent(
+        ChangeType changeType,
+        String entityId,
+        User user,
+        Instant occurredAt) implements DomainEvent {
+
+    /**
+     * Creates an event for a saved user.
+     *
+     * @param changeType CREATED or UPDATED
+     * @param user       the saved user
+     * @return the event
+     */
+    public static UserChangedEvent of(ChangeType changeType, User user) {
+        return new UserChangedEvent(changeType, user.getId(), user, Instant.now());
+    }
+
+    /**
+     * Creates an event for a deleted user.
+     *
+     * @param id the ID of the deleted user
+     * @return the event
+     */
+    public static UserChangedEvent deleted(String id) {
+        return new UserChangedEvent(ChangeType.DELETED, id, null, Instant.now());
+    }
+}
@@ -0,0 +1,6 @@
+/**
+ * Domain events published by the service layer when domain objects
+ * change, the bus and transports that deliver them, and the payloads
+ * consumed by streaming endpoints and caches.
+ */
+package org.example.oopproject1.event;
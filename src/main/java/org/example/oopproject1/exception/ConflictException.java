@@ -0,0 +1,26 @@
+package org.example.oopproject1.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Exception thrown when a request conflicts with the current state of a resource,
+ * such as a second application for the same job and email.
+ * <p>
+ * Clients receiving this exception will get an HTTP 409 Conflict status.
+ * </p>
+ *
+ * @since 1.1
+ */
+@ResponseStatus(HttpStatus.CONFLICT)
+public class ConflictException extends RuntimeException {
+
+    /**
+     * Constructs a new ConflictException with the specified detail message.
+     *
+     * @param message the detail message explaining the conflict
+     */
+    public ConflictException(String message) {
+        super(message);
+    }
+}
@@ -35,6 +35,20 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorResponse, HttpStatus.NOT_FOUND);
     }
 
+    /**
+     * Handles ConflictException and returns a 409 response.
+     *
+     * @param ex the ConflictException thrown when a request conflicts with existing data
+     * @return ResponseEntity containing a map with "error" and "message" keys and HTTP 409 status
+     */
+    @ExceptionHandler(ConflictException.class)
+    public ResponseEntity<Map<String, String>> handleConflictException(ConflictException ex) {
+        Map<String, String> errorResponse = new HashMap<>();
+        errorResponse.put("error", "Conflict");
+        errorResponse.put("message", ex.getMessage());
+        return new ResponseEntity<>(errorResponse, HttpStatus.CONFLICT);
+    }
+
     /**
      * Handles validation errors and returns a 400 response with field-specific messages.
      *
@@ -4,18 +4,34 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.util.List;
 
 /**
  * Represents a job application submitted by a candidate.
  * <p>
  * Stores details such as the associated job ID, candidate information,
  * resume URL, cover letter text, application date, and current status.
+ * A candidate can apply to each job only once: the (jobId, email) pair is
+ * backed by a unique index, built by
+ * {@link org.example.oopproject1.service.ApplicationDeduplicationService}
+ * once no duplicates remain rather than declared here, where automatic
+ * index creation would stop startup on existing duplicates.
+ * </p>
+ * <p>
+ * Every status change is appended to {@link #statusHistory} in the same
+ * write that changes the status, keeping the latest
+ * {@link #STATUS_HISTORY_LIMIT} entries. The {@code job_status_history}
+ * index serves time-range queries over the transitions of a job's, or a
+ * recruiter's, applications.
  * </p>
  *
  * @since 1.0
@@ -24,7 +40,13 @@ import java.time.LocalDate;
 @NoArgsConstructor
 @AllArgsConstructor
 @Document(collection = "applications")
-public class Application {
+@CompoundIndex(name = "job_status_history", def = "{'jobId': 1, 'statusHistory.at': 1}")
+public class Application implements Timestamped {
+
+    /**
+     * Maximum number of entries kept in {@link #statusHistory}; older ones are dropped.
+     */
+    public static final int STATUS_HISTORY_LIMIT = 50;
 
     /**
      * Unique identifier for this application.
@@ -79,6 +101,18 @@ public class Application {
     @NotNull(message = "Status is required")
     private ApplicationStatus status;
 
+    /**
+     * When the application was last saved; set by auditing and used for ETags.
+     */
+    @LastModifiedDate
+    private Instant lastModified;
+
+    /**
+     * Status transitions, oldest first, starting with the submission; maintained
+     * by the application service and ignored in request bodies.
+     */
+    private List<StatusChange> statusHistory;
+
     /**
      * Enumeration of possible application statuses.
      */
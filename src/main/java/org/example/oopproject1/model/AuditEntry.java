@@ -0,0 +1,76 @@
+package org.example.oopproject1.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+/**
+ * One write request recorded in the audit log: who did what to which document.
+ * <p>
+ * Entries are queried newest first, by actor or by document, and the
+ * indexes are laid out for exactly those queries.
+ * </p>
+ *
+ * @since 1.1
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "audit_log")
+@CompoundIndex(name = "actor_time", def = "{'actor': 1, 'timestamp': -1}")
+@CompoundIndex(name = "resource_time", def = "{'resourceType': 1, 'resourceId': 1, 'timestamp': -1}")
+public class AuditEntry {
+
+    /**
+     * Unique identifier of the entry.
+     */
+    @Id
+    private String id;
+
+    /**
+     * When the request completed.
+     */
+    @Indexed
+    private Instant timestamp;
+
+    /**
+     * Username of the authenticated caller, or {@code anonymous}.
+     */
+    private String actor;
+
+    /**
+     * What was done, e.g. {@code create}, {@code update} or {@code delete}.
+     */
+    private String action;
+
+    /**
+     * Kind of document written, e.g. {@code job} or {@code user}.
+     */
+    private String resourceType;
+
+    /**
+     * ID of the document written, or {@code null} if the request failed before one was known.
+     */
+    private String resourceId;
+
+    /**
+     * HTTP method of the request.
+     */
+    private String method;
+
+    /**
+     * Request path.
+     */
+    private String path;
+
+    /**
+     * HTTP status of the response; failed and denied attempts are recorded too.
+     */
+    private int status;
+}
@@ -0,0 +1,94 @@
+package org.example.oopproject1.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Daily rollup of the applications to one job: how many of the
+ * applications submitted on a day are currently in each status, and how
+ * many got at most as far as each of the {@link #STAGES}.
+ * <p>
+ * Buckets are keyed by submission day, so every write to an application
+ * only moves counts within its own bucket, and summing a range of buckets
+ * gives the funnel of the applications submitted in that range. The unique
+ * (jobId, day) index serves both the upserts and range queries over a
+ * recruiter's jobs.
+ * </p>
+ *
+ * @since 1.1
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "funnel_rollups")
+@CompoundIndex(name = "job_day", def = "{'jobId': 1, 'day': 1}", unique = true)
+public class FunnelBucket {
+
+    /**
+     * The stages every successful application passes through, in order.
+     */
+    public static final List<Application.ApplicationStatus> STAGES = List.of(
+            Application.ApplicationStatus.SUBMITTED, Application.ApplicationStatus.REVIEWING,
+            Application.ApplicationStatus.INTERVIEWED, Application.ApplicationStatus.ACCEPTED);
+
+    /**
+     * Unique identifier of the bucket.
+     */
+    @Id
+    private String id;
+
+    /**
+     * Identifier of the job the applications were submitted to.
+     */
+    private String jobId;
+
+    /**
+     * The day the applications were submitted.
+     */
+    private LocalDate day;
+
+    /**
+     * Number of applications in each status, keyed by {@link Application.ApplicationStatus} name.
+     */
+    private Map<String, Long> counts;
+
+    /**
+     * Number of applications whose furthest stage is each of the {@link #STAGES},
+     * keyed by stage name. A rejected application counts at the last stage it
+     * reached before the rejection.
+     */
+    private Map<String, Long> furthest;
+
+    /**
+     * Finds the furthest of the {@link #STAGES} an application has reached,
+     * judging by its status and every status in its history. Each stage
+     * implies the ones before it, so an application moved straight to
+     * {@code INTERVIEWED} has also passed {@code REVIEWING}.
+     *
+     * @param status  the current status, or {@code null}
+     * @param history the status history, or {@code null}
+     * @return the furthest stage; {@code SUBMITTED} if no status is a later stage
+     */
+    public static Application.ApplicationStatus furthestStage(Application.ApplicationStatus status,
+                                                              List<StatusChange> history) {
+        int furthest = Math.max(0, stageIndex(status));
+        if (history != null) {
+            for (StatusChange change : history) {
+                furthest = Math.max(furthest, Math.max(stageIndex(change.getFrom()), stageIndex(change.getTo())));
+            }
+        }
+        return STAGES.get(furthest);
+    }
+
+    private static int stageIndex(Application.ApplicationStatus status) {
+        return status != null ? STAGES.indexOf(status) : -1;
+    }
+}
@@ -0,0 +1,54 @@
+package org.example.oopproject1.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+/**
+ * Remembers the outcome of a request submitted with an {@code Idempotency-Key} header.
+ * <p>
+ * The record is inserted before the request is processed, which reserves the
+ * key, and completed with the ID of the created resource afterwards. MongoDB
+ * removes it once {@link #expiresAt} has passed.
+ * </p>
+ *
+ * @since 1.1
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "idempotency_keys")
+public class IdempotencyRecord {
+
+    /**
+     * The client-supplied idempotency key.
+     */
+    @Id
+    private String key;
+
+    /**
+     * Fingerprint of the request the key was first used with.
+     */
+    private String requestFingerprint;
+
+    /**
+     * ID of the resource created by the request, or {@code null} while it is still being processed.
+     */
+    private String resourceId;
+
+    /**
+     * When the key was first seen.
+     */
+    private Instant createdAt;
+
+    /**
+     * When the key may be reused; a TTL index deletes the record after this instant.
+     */
+    @Indexed(expireAfterSeconds = 0)
+    private Instant expiresAt;
+}
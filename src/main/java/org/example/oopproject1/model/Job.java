@@ -1,13 +1,18 @@
 package org.example.oopproject1.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.List;
 
@@ -18,6 +23,12 @@ import java.util.List;
  * salary range, location, employment type, posting and deadline dates,
  * active status, and the recruiter who posted it.
  * </p>
+ * <p>
+ * The {@code coordinates_active} index is the collection's only 2dsphere
+ * index, which {@code $geoNear} requires; leading with the point and
+ * following with {@code isActive} lets radius searches over active jobs
+ * filter and sort by distance inside the index.
+ * </p>
  *
  * @since 1.0
  */
@@ -25,7 +36,9 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 @Document(collection = "jobs")
-public class Job {
+@CompoundIndex(name = "active_deadline", def = "{'isActive': 1, 'deadlineDate': 1}")
+@CompoundIndex(name = "coordinates_active", def = "{'coordinates': '2dsphere', 'isActive': 1}")
+public class Job implements Timestamped {
 
     /**
      * Unique identifier for the job posting.
@@ -98,4 +111,17 @@ public class Job {
      * Identifier of the recruiter who created this job posting.
      */
     private String recruiterId;
-}
\ No newline at end of file
+
+    /**
+     * When the job was last saved; set by auditing and used for ETags.
+     */
+    @LastModifiedDate
+    private Instant lastModified;
+
+    /**
+     * GeoJSON point of the location, looked up in the gazetteer whenever the
+     * job is saved; {@code null} for remote jobs and unknown places.
+     */
+    @JsonIgnore
+    private GeoJsonPoint coordinates;
+}
@@ -0,0 +1,94 @@
+package org.example.oopproject1.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * Progress of one bulk maintenance operation, checkpointed after every chunk.
+ * <p>
+ * Documents are processed in ID order, and {@link #lastId} is the last ID of
+ * the last chunk written, so an interrupted run continues from there instead
+ * of starting over.
+ * </p>
+ *
+ * @since 1.1
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "maintenance_runs")
+public class MaintenanceRun {
+
+    /**
+     * The bulk operations that can be run.
+     */
+    public enum Operation {
+        DEACTIVATE_COMPANY_JOBS, REASSIGN_JOBS, PURGE_APPLICATIONS
+    }
+
+    /**
+     * Where a run stands.
+     */
+    public enum Status {
+        RUNNING, INTERRUPTED, FAILED, COMPLETED
+    }
+
+    /**
+     * Unique identifier of the run, used to resume it.
+     */
+    @Id
+    private String id;
+
+    /**
+     * The operation being run.
+     */
+    private Operation operation;
+
+    /**
+     * The operation's filter and arguments, by name.
+     */
+    private Map<String, String> parameters;
+
+    /**
+     * ID of the last document of the last completed chunk; {@code null} before the first.
+     */
+    private String lastId;
+
+    /**
+     * How many documents matched the filter when the run started.
+     */
+    private long matched;
+
+    /**
+     * How many documents have been changed or deleted so far.
+     */
+    private long processed;
+
+    /**
+     * Where the run stands.
+     */
+    private Status status;
+
+    /**
+     * Why the run failed, if it did.
+     */
+    private String error;
+
+    /**
+     * When the run was started.
+     */
+    @Indexed
+    private Instant startedAt;
+
+    /**
+     * When the run last wrote a checkpoint.
+     */
+    private Instant updatedAt;
+}
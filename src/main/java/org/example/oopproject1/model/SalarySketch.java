@@ -0,0 +1,73 @@
+package org.example.oopproject1.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+/**
+ * A persisted t-digest of the salaries of one group of jobs, such as all
+ * jobs titled "backend engineer".
+ * <p>
+ * Sketches are derived data: the salary analytics service rebuilds them
+ * from the jobs and saves them periodically, so a restarted node can answer
+ * percentile queries before it has read the jobs again.
+ * </p>
+ *
+ * @since 1.1
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "salary_sketches")
+public class SalarySketch {
+
+    /**
+     * The dimension and normalized key, e.g. {@code title:backend engineer}.
+     */
+    @Id
+    private String id;
+
+    /**
+     * The job field grouped by: {@code title}, {@code company}, {@code location} or {@code employmentType}.
+     */
+    private String dimension;
+
+    /**
+     * The value of the field as last seen on a job, e.g. {@code Backend Engineer}.
+     */
+    private String label;
+
+    /**
+     * The digest's compression.
+     */
+    private double compression;
+
+    /**
+     * Centroid means in ascending order.
+     */
+    private double[] means;
+
+    /**
+     * Centroid weights, in the order of {@link #means}.
+     */
+    private double[] weights;
+
+    /**
+     * The lowest salary in the group.
+     */
+    private double min;
+
+    /**
+     * The highest salary in the group.
+     */
+    private double max;
+
+    /**
+     * When the sketch was saved.
+     */
+    private Instant updatedAt;
+}
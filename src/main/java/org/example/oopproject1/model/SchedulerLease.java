@@ -0,0 +1,42 @@
+package org.example.oopproject1.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+/**
+ * A time-bounded lease granting one node the right to run a scheduled task.
+ * <p>
+ * A node holds the lease while {@link #expiresAt} lies in the future; after
+ * that any node may take it over, so a crashed holder blocks the task for at
+ * most one lease period.
+ * </p>
+ *
+ * @since 1.1
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "scheduler_leases")
+public class SchedulerLease {
+
+    /**
+     * Name of the task the lease protects.
+     */
+    @Id
+    private String name;
+
+    /**
+     * Identifier of the node currently holding the lease.
+     */
+    private String owner;
+
+    /**
+     * When the lease lapses unless renewed.
+     */
+    private Instant expiresAt;
+}
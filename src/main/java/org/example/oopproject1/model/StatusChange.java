@@ -0,0 +1,40 @@
+package org.example.oopproject1.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.example.oopproject1.model.Application.ApplicationStatus;
+
+import java.time.Instant;
+
+/**
+ * One status transition of an {@link Application}, kept in its
+ * {@link Application#getStatusHistory() status history}.
+ *
+ * @since 1.1
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StatusChange {
+
+    /**
+     * The status before the change, or {@code null} for the submission.
+     */
+    private ApplicationStatus from;
+
+    /**
+     * The status after the change.
+     */
+    private ApplicationStatus to;
+
+    /**
+     * Username of whoever made the change, or {@code system} when no one is signed in.
+     */
+    private String actor;
+
+    /**
+     * When the change was made.
+     */
+    private Instant at;
+}
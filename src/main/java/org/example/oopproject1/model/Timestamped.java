@@ -0,0 +1,31 @@
+package org.example.oopproject1.model;
+
+import java.time.Instant;
+
+/**
+ * A document that records when it was last written.
+ * <p>
+ * Implemented by the entities and their summary projections, so controllers
+ * can derive ETags from the identifier and modification time instead of
+ * hashing the serialized response.
+ * </p>
+ *
+ * @since 1.1
+ */
+public interface Timestamped {
+
+    /**
+     * Returns the document identifier.
+     *
+     * @return the ID
+     */
+    String getId();
+
+    /**
+     * Returns when the document was last saved, or {@code null} for documents
+     * written before the field existed.
+     *
+     * @return the modification time
+     */
+    Instant getLastModified();
+}
@@ -3,22 +3,26 @@ package org.example.oopproject1.repository;
 import org.example.oopproject1.model.Application;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Range;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 
 /**
  * Repository interface for accessing Application entities in MongoDB.
  * <p>
  * Extends MongoRepository to provide CRUD operations, as well as custom
- * methods for pagination and filtering by job ID, email, and application status.
+ * methods for pagination and filtering by job ID, email, and application status,
+ * and the atomic {@link ApplicationUpdates}.
  * </p>
  *
  * @since 1.0
  */
 @Repository
-public interface ApplicationRepository extends MongoRepository<Application, String> {
+public interface ApplicationRepository extends MongoRepository<Application, String>, ApplicationUpdates {
 
     /**
      * Retrieves a paginated list of all applications.
@@ -82,4 +86,114 @@ public interface ApplicationRepository extends MongoRepository<Application, Stri
      * @return a List of Application objects matching the status
      */
     List<Application> findByStatus(Application.ApplicationStatus status);
+
+    // Dynamic projections: MongoDB returns only the fields the requested type declares,
+    // so a summary DTO skips the large text fields.
+
+    /**
+     * Retrieves all applications as the given type.
+     *
+     * @param type the projection type, or {@link Application} for full documents
+     * @param <T>  the projection type
+     * @return a List of projected applications
+     */
+    <T> List<T> findAllBy(Class<T> type);
+
+    /**
+     * Retrieves a page of all applications as the given type.
+     *
+     * @param pageable pagination and sorting information
+     * @param type     the projection type, or {@link Application} for full documents
+     * @param <T>      the projection type
+     * @return a Page of projected applications
+     */
+    <T> Page<T> findAllBy(Pageable pageable, Class<T> type);
+
+    /**
+     * Retrieves applications for a job as the given type.
+     *
+     * @param jobId the job ID to filter by
+     * @param type  the projection type, or {@link Application} for full documents
+     * @param <T>   the projection type
+     * @return a List of projected applications
+     */
+    <T> List<T> findByJobId(String jobId, Class<T> type);
+
+    /**
+     * Retrieves a page of applications for a job as the given type.
+     *
+     * @param jobId    the job ID to filter by
+     * @param pageable pagination and sorting information
+     * @param type     the projection type, or {@link Application} for full documents
+     * @param <T>      the projection type
+     * @return a Page of projected applications
+     */
+    <T> Page<T> findByJobId(String jobId, Pageable pageable, Class<T> type);
+
+    /**
+     * Retrieves a page of applications to any of some jobs as the given type.
+     *
+     * @param jobIds   the job IDs to filter by
+     * @param pageable pagination and sorting information
+     * @param type     the projection type, or {@link Application} for full documents
+     * @param <T>      the projection type
+     * @return a Page of projected applications
+     */
+    <T> Page<T> findByJobIdIn(List<String> jobIds, Pageable pageable, Class<T> type);
+
+    /**
+     * Retrieves applications by email as the given type.
+     *
+     * @param email the candidate email to filter by
+     * @param type  the projection type, or {@link Application} for full documents
+     * @param <T>   the projection type
+     * @return a List of projected applications
+     */
+    <T> List<T> findByEmail(String email, Class<T> type);
+
+    /**
+     * Retrieves a page of applications by email as the given type.
+     *
+     * @param email    the candidate email to filter by
+     * @param pageable pagination and sorting information
+     * @param type     the projection type, or {@link Application} for full documents
+     * @param <T>      the projection type
+     * @return a Page of projected applications
+     */
+    <T> Page<T> findByEmail(String email, Pageable pageable, Class<T> type);
+
+    /**
+     * Retrieves applications by status as the given type.
+     *
+     * @param status the application status to filter by
+     * @param type   the projection type, or {@link Application} for full documents
+     * @param <T>    the projection type
+     * @return a List of projected applications
+     */
+    <T> List<T> findByStatus(Application.ApplicationStatus status, Class<T> type);
+
+    /**
+     * Retrieves a page of applications by status as the given type.
+     *
+     * @param status   the application status to filter by
+     * @param pageable pagination and sorting information
+     * @param type     the projection type, or {@link Application} for full documents
+     * @param <T>      the projection type
+     * @return a Page of projected applications
+     */
+    <T> Page<T> findByStatus(Application.ApplicationStatus status, Pageable pageable, Class<T> type);
+
+    /**
+     * Retrieves, as the given type, the applications to any of some jobs
+     * with a status change in a time range. Served by the
+     * {@code job_status_history} index; an application may also match when
+     * its changes merely straddle the range, so callers filter the changes.
+     *
+     * @param jobIds the job IDs
+     * @param at     the time range of the changes
+     * @param type   the projection type, or {@link Application} for full documents
+     * @param <T>    the projection type
+     * @return a List of projected applications
+     */
+    <T> List<T> findByJobIdInAndStatusHistoryAtBetween(Collection<String> jobIds, Range<Instant> at, Class<T> type);
 }
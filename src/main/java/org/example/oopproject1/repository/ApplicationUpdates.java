@@ -0,0 +1,35 @@
+package org.example.oopproject1.repository;
+
+import org.example.oopproject1.model.Application;
+import org.example.oopproject1.model.StatusChange;
+
+import java.util.Optional;
+
+/**
+ * Atomic updates of {@link Application}s, mixed into {@link ApplicationRepository}.
+ * <p>
+ * A full-document save of an application read earlier would overwrite any
+ * status change made in between and drop it from the status history; these
+ * updates change only the given fields, and only while the application is
+ * still in the status the caller read.
+ * </p>
+ *
+ * @since 1.1
+ */
+public interface ApplicationUpdates {
+
+    /**
+     * Atomically sets the candidate details, resume, cover letter and status of
+     * an application that is still in the expected status, appending a status
+     * change to its history and keeping the latest
+     * {@link Application#STATUS_HISTORY_LIMIT} entries.
+     *
+     * @param id       the application ID
+     * @param expected the status the application must still be in
+     * @param details  the new values of the updated fields
+     * @param change   the change to append, or {@code null} if the status stays the same
+     * @return the updated application, or empty if none has the ID and the expected status
+     */
+    Optional<Application> updateIfStatus(String id, Application.ApplicationStatus expected, Application details,
+                                         StatusChange change);
+}
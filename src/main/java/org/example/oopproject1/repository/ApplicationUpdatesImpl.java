@@ -0,0 +1,57 @@
+package org.example.oopproject1.repository;
+
+import org.example.oopproject1.model.Application;
+import org.example.oopproject1.model.StatusChange;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * MongoDB implementation of {@link ApplicationUpdates}, picked up by Spring
+ * Data as a fragment of {@link ApplicationRepository}.
+ * <p>
+ * Each update is a single {@code findAndModify} filtered on the ID and the
+ * expected status, with {@code $set} for the fields and
+ * {@code $push}/{@code $each}/{@code $slice} for the history. Since it
+ * bypasses the entity callbacks, it stamps {@code lastModified} itself.
+ * </p>
+ *
+ * @since 1.1
+ */
+public class ApplicationUpdatesImpl implements ApplicationUpdates {
+
+    private final MongoTemplate mongoTemplate;
+
+    /**
+     * Constructs the fragment.
+     *
+     * @param mongoTemplate template used for the updates
+     */
+    public ApplicationUpdatesImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public Optional<Application> updateIfStatus(String id, Application.ApplicationStatus expected,
+                                                Application details, StatusChange change) {
+        Query query = new Query(Criteria.where("_id").is(id).and("status").is(expected));
+        Update update = new Update()
+                .set("candidateName", details.getCandidateName())
+                .set("email", details.getEmail())
+                .set("phone", details.getPhone())
+                .set("resumeUrl", details.getResumeUrl())
+                .set("coverLetterText", details.getCoverLetterText())
+                .set("status", details.getStatus())
+                .set("lastModified", Instant.now());
+        if (change != null) {
+            update.push("statusHistory").slice(-Application.STATUS_HISTORY_LIMIT).each(change);
+        }
+        return Optional.ofNullable(mongoTemplate.findAndModify(query, update,
+                FindAndModifyOptions.options().returnNew(true), Application.class));
+    }
+}
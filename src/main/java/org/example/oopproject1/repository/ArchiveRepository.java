@@ -0,0 +1,79 @@
+package org.example.oopproject1.repository;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Repository for the archive tier of the {@code jobs} and {@code applications} collections.
+ * <p>
+ * Hot-collection repositories never look at the archive; the methods here are
+ * used when a caller explicitly asks for history, and by the archival job that
+ * moves old documents over.
+ * </p>
+ *
+ * @since 1.1
+ */
+public interface ArchiveRepository {
+
+    /**
+     * Suffix appended to a hot collection name to form its archive collection name.
+     */
+    String ARCHIVE_SUFFIX = "_archive";
+
+    /**
+     * Looks up an entity in the archive only.
+     *
+     * @param id   the entity ID
+     * @param type the entity class
+     * @param <T>  the entity type
+     * @return the archived entity, if any
+     */
+    <T> Optional<T> findArchivedById(String id, Class<T> type);
+
+    /**
+     * Finds matching entities in both the hot collection and the archive.
+     *
+     * @param criteria filter applied to both collections; values must be stored representations
+     * @param type     the entity class
+     * @param <T>      the entity type
+     * @return hot matches followed by archived matches
+     */
+    <T> List<T> findIncludingArchive(Criteria criteria, Class<T> type);
+
+    /**
+     * Finds one page of matching entities across the hot collection and the archive.
+     * Sorting and paging apply to the union.
+     *
+     * @param criteria filter applied to both collections; values must be stored representations
+     * @param pageable pagination and sorting information
+     * @param type     the entity class
+     * @param <T>      the entity type
+     * @return the requested page of the union
+     */
+    <T> Page<T> findIncludingArchive(Criteria criteria, Pageable pageable, Class<T> type);
+
+    /**
+     * Moves up to {@code limit} matching entities from the hot collection into the archive.
+     * <p>
+     * Entities are first copied into the archive and only then removed from the
+     * hot collection, so an interrupted move is completed by the next run without
+     * losing or duplicating documents. The removal re-checks the query and that
+     * the entity is unchanged since it was read; an entity that fails the check
+     * stays in the hot collection and its copy is withdrawn.
+     * </p>
+     *
+     * @param query filter selecting the entities to move
+     * @param limit maximum number of entities to move
+     * @param type  the entity class
+     * @param idOf  extracts the entity ID
+     * @param <T>   the entity type
+     * @return the entities that were moved, as they were removed
+     */
+    <T> List<T> moveToArchive(Query query, int limit, Class<T> type, Function<T, String> idOf);
+}
@@ -0,0 +1,49 @@
+package org.example.oopproject1.repository;
+
+import org.example.oopproject1.model.AuditEntry;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository for the {@code audit_log} collection.
+ * <p>
+ * Entries are inserted in batches by the audit writer and only read by
+ * administrators; each finder is served by one of the indexes declared on
+ * {@link AuditEntry} when sorted by timestamp.
+ * </p>
+ *
+ * @since 1.1
+ */
+@Repository
+public interface AuditEntryRepository extends MongoRepository<AuditEntry, String> {
+
+    /**
+     * Retrieves the entries recorded for one caller.
+     *
+     * @param actor    the username
+     * @param pageable pagination and sorting information
+     * @return a Page of AuditEntry objects
+     */
+    Page<AuditEntry> findByActor(String actor, Pageable pageable);
+
+    /**
+     * Retrieves the entries recorded for one kind of document.
+     *
+     * @param resourceType the document kind, e.g. {@code job}
+     * @param pageable     pagination and sorting information
+     * @return a Page of AuditEntry objects
+     */
+    Page<AuditEntry> findByResourceType(String resourceType, Pageable pageable);
+
+    /**
+     * Retrieves the entries recorded for one document.
+     *
+     * @param resourceType the document kind, e.g. {@code job}
+     * @param resourceId   the document ID
+     * @param pageable     pagination and sorting information
+     * @return a Page of AuditEntry objects
+     */
+    Page<AuditEntry> findByResourceTypeAndResourceId(String resourceType, String resourceId, Pageable pageable);
+}
@@ -0,0 +1,47 @@
+package org.example.oopproject1.repository;
+
+import org.example.oopproject1.model.Application.ApplicationStatus;
+import org.example.oopproject1.model.FunnelBucket;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Repository for the {@code funnel_rollups} collection of
+ * {@link FunnelBucket}s.
+ *
+ * @since 1.1
+ */
+public interface FunnelRollupRepository {
+
+    /**
+     * Atomically adds to the counts of one bucket, creating it if needed.
+     *
+     * @param jobId       the job ID
+     * @param day         the submission day
+     * @param deltas      the change per status, e.g. -1 for the old status and +1 for the new one
+     * @param stageDeltas the change per furthest stage reached
+     */
+    void increment(String jobId, LocalDate day, Map<ApplicationStatus, Long> deltas,
+                   Map<ApplicationStatus, Long> stageDeltas);
+
+    /**
+     * Finds the buckets of some jobs within a range of days.
+     *
+     * @param jobIds the job IDs
+     * @param from   the first day, inclusive
+     * @param to     the last day, inclusive
+     * @return the buckets, in no particular order
+     */
+    List<FunnelBucket> findBuckets(Collection<String> jobIds, LocalDate from, LocalDate to);
+
+    /**
+     * Replaces every bucket with counts computed from the applications,
+     * hot and archived, in a single pass.
+     *
+     * @return the number of buckets written
+     */
+    long rebuild();
+}
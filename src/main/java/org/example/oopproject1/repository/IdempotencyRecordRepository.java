@@ -0,0 +1,29 @@
+package org.example.oopproject1.repository;
+
+import org.example.oopproject1.model.IdempotencyRecord;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+
+/**
+ * Repository interface for accessing IdempotencyRecord entities in MongoDB.
+ * <p>
+ * Keys are the document IDs, so {@code insert} fails with a duplicate-key
+ * error when the key has already been reserved.
+ * </p>
+ *
+ * @since 1.1
+ */
+@Repository
+public interface IdempotencyRecordRepository extends MongoRepository<IdempotencyRecord, String> {
+
+    /**
+     * Deletes a key's record only if it expired before the given time, in one conditional write.
+     *
+     * @param key  the idempotency key
+     * @param time the time the record must have expired by
+     * @return 1 if the record was deleted, otherwise 0
+     */
+    long deleteByKeyAndExpiresAtBefore(String key, Instant time);
+}
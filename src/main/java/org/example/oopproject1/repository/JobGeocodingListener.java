@@ -0,0 +1,30 @@
+package org.example.oopproject1.repository;
+
+import org.example.oopproject1.model.Job;
+import org.example.oopproject1.search.Gazetteer;
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.BeforeConvertEvent;
+import org.springframework.stereotype.Component;
+
+/**
+ * Sets the coordinates of every {@link Job} written to MongoDB from its
+ * location, so the point can never disagree with the place name whichever
+ * path saved the job.
+ *
+ * @since 1.1
+ */
+@Component
+public class JobGeocodingListener extends AbstractMongoEventListener<Job> {
+
+    private final Gazetteer gazetteer;
+
+    public JobGeocodingListener(Gazetteer gazetteer) {
+        this.gazetteer = gazetteer;
+    }
+
+    @Override
+    public void onBeforeConvert(BeforeConvertEvent<Job> event) {
+        Job job = event.getSource();
+        job.setCoordinates(gazetteer.locate(job.getLocation()).orElse(null));
+    }
+}
@@ -0,0 +1,29 @@
+package org.example.oopproject1.repository;
+
+import org.example.oopproject1.codec.JobFieldDictionaries;
+import org.example.oopproject1.model.Job;
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.AfterConvertEvent;
+import org.springframework.stereotype.Component;
+
+/**
+ * Interns the low-cardinality fields of every {@link Job} the MongoDB
+ * converter reads, so the jobs of a large page or cache share one instance
+ * of each company, location, employment type and skill.
+ *
+ * @since 1.1
+ */
+@Component
+public class JobInterningListener extends AbstractMongoEventListener<Job> {
+
+    private final JobFieldDictionaries dictionaries;
+
+    public JobInterningListener(JobFieldDictionaries dictionaries) {
+        this.dictionaries = dictionaries;
+    }
+
+    @Override
+    public void onAfterConvert(AfterConvertEvent<Job> event) {
+        dictionaries.intern(event.getSource());
+    }
+}
@@ -1,14 +1,20 @@
 package org.example.oopproject1.repository;
 
+import org.bson.types.ObjectId;
+import org.example.oopproject1.dto.JobSummary;
 import org.example.oopproject1.model.Job;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.geo.Distance;
+import org.springframework.data.geo.GeoPage;
+import org.springframework.data.geo.Point;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for accessing Job entities in MongoDB.
@@ -23,6 +29,22 @@ import java.util.List;
 @Repository
 public interface JobRepository extends MongoRepository<Job, String> {
 
+    /**
+     * Case-insensitive regex match of {@code ?0} against title, company,
+     * description, location and employment type.
+     */
+    String KEYWORD_QUERY = "{ $or: [ " +
+            "{ 'title': { $regex: ?0, $options: 'i' } }, " +
+            "{ 'company': { $regex: ?0, $options: 'i' } }, " +
+            "{ 'description': { $regex: ?0, $options: 'i' } }, " +
+            "{ 'location': { $regex: ?0, $options: 'i' } }, " +
+            "{ 'employmentType': { $regex: ?0, $options: 'i' } } ] }";
+
+    /**
+     * {@link #KEYWORD_QUERY} restricted to IDs after {@code ?1}.
+     */
+    String KEYWORD_AFTER_QUERY = "{ $and: [ " + KEYWORD_QUERY + ", { '_id': { $gt: ?1 } } ] }";
+
     /**
      * Retrieves a paginated list of all jobs.
      *
@@ -122,12 +144,7 @@ public interface JobRepository extends MongoRepository<Job, String> {
      * @param keyword the search term for matching title, company, or description
      * @return a List of Job objects matching the keyword
      */
-    @Query("{ $or: [ " +
-            "{ 'title': { $regex: ?0, $options: 'i' } }, " +
-            "{ 'company': { $regex: ?0, $options: 'i' } }, " +
-            "{ 'description': { $regex: ?0, $options: 'i' } }, " +
-            "{ 'location': { $regex: ?0, $options: 'i' } }, " +
-            "{ 'employmentType': { $regex: ?0, $options: 'i' } } ] }")
+    @Query(KEYWORD_QUERY)
     List<Job> searchByKeyword(String keyword);
 
 
@@ -138,12 +155,218 @@ public interface JobRepository extends MongoRepository<Job, String> {
      * @param pageable pagination and sorting information
      * @return a Page of Job objects matching the keyword
      */
-    @Query("{ $or: [ " +
-            "{ 'title': { $regex: ?0, $options: 'i' } }, " +
-            "{ 'company': { $regex: ?0, $options: 'i' } }, " +
-            "{ 'description': { $regex: ?0, $options: 'i' } }, " +
-            "{ 'location': { $regex: ?0, $options: 'i' } }, " +
-            "{ 'employmentType': { $regex: ?0, $options: 'i' } } ] }")
+    @Query(KEYWORD_QUERY)
     Page<Job> searchByKeyword(String keyword, Pageable pageable);
 
+    // Dynamic projections: MongoDB returns only the fields the requested type declares,
+    // so a summary DTO skips the large text fields.
+
+    /**
+     * Retrieves all jobs as the given type.
+     *
+     * @param type the projection type, or {@link Job} for full documents
+     * @param <T>  the projection type
+     * @return a List of projected jobs
+     */
+    <T> List<T> findAllBy(Class<T> type);
+
+    /**
+     * Retrieves a page of all jobs as the given type.
+     *
+     * @param pageable pagination and sorting information
+     * @param type     the projection type, or {@link Job} for full documents
+     * @param <T>      the projection type
+     * @return a Page of projected jobs
+     */
+    <T> Page<T> findAllBy(Pageable pageable, Class<T> type);
+
+    /**
+     * Retrieves jobs of a company as the given type.
+     *
+     * @param company the company name to filter by
+     * @param type    the projection type
+     * @param <T>     the projection type
+     * @return a List of projected jobs
+     */
+    <T> List<T> findByCompany(String company, Class<T> type);
+
+    /**
+     * Retrieves a page of jobs of a company as the given type.
+     *
+     * @param company  the company name to filter by
+     * @param pageable pagination and sorting information
+     * @param type     the projection type
+     * @param <T>      the projection type
+     * @return a Page of projected jobs
+     */
+    <T> Page<T> findByCompany(String company, Pageable pageable, Class<T> type);
+
+    /**
+     * Retrieves active jobs in a location as the given type.
+     *
+     * @param location the location to filter active jobs by
+     * @param type     the projection type
+     * @param <T>      the projection type
+     * @return a List of projected jobs
+     */
+    <T> List<T> findByLocationAndIsActiveTrue(String location, Class<T> type);
+
+    /**
+     * Retrieves a page of active jobs in a location as the given type.
+     *
+     * @param location the location to filter active jobs by
+     * @param pageable pagination and sorting information
+     * @param type     the projection type
+     * @param <T>      the projection type
+     * @return a Page of projected jobs
+     */
+    <T> Page<T> findByLocationAndIsActiveTrue(String location, Pageable pageable, Class<T> type);
+
+    /**
+     * Retrieves jobs posted by a recruiter as the given type.
+     *
+     * @param recruiterId the ID of the recruiter
+     * @param type        the projection type
+     * @param <T>         the projection type
+     * @return a List of projected jobs
+     */
+    <T> List<T> findByRecruiterId(String recruiterId, Class<T> type);
+
+    /**
+     * Retrieves a page of jobs posted by a recruiter as the given type.
+     *
+     * @param recruiterId the ID of the recruiter
+     * @param pageable    pagination and sorting information
+     * @param type        the projection type
+     * @param <T>         the projection type
+     * @return a Page of projected jobs
+     */
+    <T> Page<T> findByRecruiterId(String recruiterId, Pageable pageable, Class<T> type);
+
+    /**
+     * Searches jobs by keyword as the given type.
+     *
+     * @param keyword the search term
+     * @param type    the projection type
+     * @param <T>     the projection type
+     * @return a List of projected jobs matching the keyword
+     */
+    @Query(KEYWORD_QUERY)
+    <T> List<T> searchByKeyword(String keyword, Class<T> type);
+
+    /**
+     * Searches jobs by keyword with pagination as the given type.
+     *
+     * @param keyword  the search term
+     * @param pageable pagination and sorting information
+     * @param type     the projection type
+     * @param <T>      the projection type
+     * @return a Page of projected jobs matching the keyword
+     */
+    @Query(KEYWORD_QUERY)
+    <T> Page<T> searchByKeyword(String keyword, Pageable pageable, Class<T> type);
+
+    // Keyset pages: with a pageable sorted by ID, each call returns the page after the given ID,
+    // walking the _id index instead of skipping, so every page costs the same and nothing is counted.
+    // The ID is an ObjectId because the query mapper does not convert the operand of $gt.
+
+    /**
+     * Retrieves the jobs with IDs after the given one as the given type.
+     *
+     * @param afterId  the last ID already read
+     * @param pageable page size and sorting information; the page number should be zero
+     * @param type     the projection type
+     * @param <T>      the projection type
+     * @return a List of projected jobs
+     */
+    <T> List<T> findByIdGreaterThan(ObjectId afterId, Pageable pageable, Class<T> type);
+
+    /**
+     * Retrieves the jobs of a company with IDs after the given one as the given type.
+     *
+     * @param company  the company name to filter by
+     * @param afterId  the last ID already read
+     * @param pageable page size and sorting information; the page number should be zero
+     * @param type     the projection type
+     * @param <T>      the projection type
+     * @return a List of projected jobs
+     */
+    <T> List<T> findByCompanyAndIdGreaterThan(String company, ObjectId afterId, Pageable pageable,
+                                               Class<T> type);
+
+    /**
+     * Retrieves the jobs whose titles contain a keyword with IDs after the given one as the given type.
+     *
+     * @param title    the keyword to search for in job titles
+     * @param afterId  the last ID already read
+     * @param pageable page size and sorting information; the page number should be zero
+     * @param type     the projection type
+     * @param <T>      the projection type
+     * @return a List of projected jobs
+     */
+    <T> List<T> findByTitleContainingAndIdGreaterThan(String title, ObjectId afterId, Pageable pageable,
+                                                       Class<T> type);
+
+    /**
+     * Retrieves the active jobs in a location with IDs after the given one as the given type.
+     *
+     * @param location the location to filter active jobs by
+     * @param afterId  the last ID already read
+     * @param pageable page size and sorting information; the page number should be zero
+     * @param type     the projection type
+     * @param <T>      the projection type
+     * @return a List of projected jobs
+     */
+    <T> List<T> findByLocationAndIsActiveTrueAndIdGreaterThan(String location, ObjectId afterId,
+                                                               Pageable pageable, Class<T> type);
+
+    /**
+     * Retrieves the jobs posted by a recruiter with IDs after the given one as the given type.
+     *
+     * @param recruiterId the ID of the recruiter
+     * @param afterId     the last ID already read
+     * @param pageable    page size and sorting information; the page number should be zero
+     * @param type        the projection type
+     * @param <T>         the projection type
+     * @return a List of projected jobs
+     */
+    <T> List<T> findByRecruiterIdAndIdGreaterThan(String recruiterId, ObjectId afterId, Pageable pageable,
+                                                   Class<T> type);
+
+    /**
+     * Searches jobs by keyword with IDs after the given one as the given type.
+     *
+     * @param keyword  the search term
+     * @param afterId  the last ID already read
+     * @param pageable page size and sorting information; the page number should be zero
+     * @param type     the projection type
+     * @param <T>      the projection type
+     * @return a List of projected jobs matching the keyword
+     */
+    @Query(KEYWORD_AFTER_QUERY)
+    <T> List<T> searchByKeywordAndIdGreaterThan(String keyword, ObjectId afterId, Pageable pageable,
+                                                 Class<T> type);
+
+    /**
+     * Finds active jobs within a distance of a point, nearest first.
+     * <p>
+     * Runs as a {@code $geoNear} stage on the {@code coordinates_active}
+     * index, which filters, sorts by distance and pages in one pass; the
+     * total is counted with the equivalent {@code $geoWithin} query.
+     * </p>
+     *
+     * @param point       the centre, x being the longitude and y the latitude
+     * @param maxDistance the radius
+     * @param pageable    pagination information; its sort is ignored
+     * @return a page of job summaries with their distances from the point
+     */
+    GeoPage<JobSummary> findByCoordinatesNearAndIsActiveTrue(Point point, Distance maxDistance, Pageable pageable);
+
+    /**
+     * Streams all jobs from an open cursor, for building in-memory indexes
+     * without holding every job at once. The stream must be closed.
+     *
+     * @return a Stream of all jobs
+     */
+    Stream<Job> streamAllBy();
 }
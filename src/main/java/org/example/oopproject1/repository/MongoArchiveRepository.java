@@ -0,0 +1,135 @@
+package org.example.oopproject1.repository;
+
+import com.mongodb.client.result.DeleteResult;
+import org.bson.Document;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.aggregation.UnionWithOperation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * MongoDB implementation of {@link ArchiveRepository}.
+ * <p>
+ * Each archived entity type lives in a sibling collection named after its hot
+ * collection with an {@code _archive} suffix, using the same document shape.
+ * </p>
+ * <p>
+ * A move removes a document from the hot collection only if it still matches
+ * the query and its {@code lastModified} is the one that was copied, so a
+ * document changed after it was read stays live and its copy is withdrawn.
+ * </p>
+ *
+ * @since 1.1
+ */
+@Repository
+@Profile("!inmemory")
+public class MongoArchiveRepository implements ArchiveRepository {
+
+    /**
+     * Field compared to tell whether a document changed between its copy and its removal.
+     */
+    private static final String VERSION_FIELD = "lastModified";
+
+    private final MongoTemplate mongoTemplate;
+
+    /**
+     * Constructs the repository.
+     *
+     * @param mongoTemplate template used for both hot and archive collections
+     */
+    public MongoArchiveRepository(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    /**
+     * Returns the name of the archive collection for an entity type.
+     *
+     * @param type the entity class
+     * @return the archive collection name, e.g. {@code jobs_archive}
+     */
+    public String archiveCollection(Class<?> type) {
+        return mongoTemplate.getCollectionName(type) + ARCHIVE_SUFFIX;
+    }
+
+    @Override
+    public <T> Optional<T> findArchivedById(String id, Class<T> type) {
+        return Optional.ofNullable(mongoTemplate.findById(id, type, archiveCollection(type)));
+    }
+
+    @Override
+    public <T> List<T> findIncludingArchive(Criteria criteria, Class<T> type) {
+        List<T> results = new ArrayList<>(mongoTemplate.find(new Query(criteria), type));
+        results.addAll(mongoTemplate.find(new Query(criteria), type, archiveCollection(type)));
+        return results;
+    }
+
+    @Override
+    public <T> Page<T> findIncludingArchive(Criteria criteria, Pageable pageable, Class<T> type) {
+        List<AggregationOperation> stages = new ArrayList<>();
+        stages.add(Aggregation.match(criteria));
+        stages.add(UnionWithOperation.unionWith(archiveCollection(type)).pipeline(Aggregation.match(criteria)));
+        if (pageable.getSort().isSorted()) {
+            stages.add(Aggregation.sort(pageable.getSort()));
+        }
+        if (pageable.isPaged()) {
+            stages.add(Aggregation.skip(pageable.getOffset()));
+            stages.add(Aggregation.limit(pageable.getPageSize()));
+        }
+        List<T> content = mongoTemplate.aggregate(
+                Aggregation.newAggregation(stages), mongoTemplate.getCollectionName(type), type)
+                .getMappedResults();
+        long total = mongoTemplate.count(new Query(criteria), type)
+                + mongoTemplate.count(new Query(criteria), archiveCollection(type));
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    @Override
+    public <T> List<T> moveToArchive(Query query, int limit, Class<T> type, Function<T, String> idOf) {
+        List<T> batch = mongoTemplate.find(Query.of(query).limit(limit), type);
+        if (batch.isEmpty()) {
+            return batch;
+        }
+        String archive = archiveCollection(type);
+        BulkOperations copies = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, type, archive);
+        List<Criteria> unchanged = new ArrayList<>(batch.size());
+        for (T entity : batch) {
+            String id = idOf.apply(entity);
+            // read the version before queuing the copy, which may stamp a new one through auditing
+            Document stored = new Document();
+            mongoTemplate.getConverter().write(entity, stored);
+            unchanged.add(Criteria.where("_id").is(id).and(VERSION_FIELD).is(stored.get(VERSION_FIELD)));
+            copies.replaceOne(new Query(Criteria.where("_id").is(id)), entity, FindAndReplaceOptions.options().upsert());
+        }
+        copies.execute();
+
+        DeleteResult removed = mongoTemplate.remove(
+                Query.of(query).addCriteria(new Criteria().orOperator(unchanged)), type);
+        if (removed.getDeletedCount() == batch.size()) {
+            return batch;
+        }
+        // some documents changed after the read: keep them live and withdraw their copies
+        List<String> ids = batch.stream().map(idOf).toList();
+        Query stillLive = new Query(Criteria.where("_id").in(ids));
+        stillLive.fields().include("_id");
+        Set<String> kept = new HashSet<>();
+        mongoTemplate.find(stillLive, type).forEach(entity -> kept.add(idOf.apply(entity)));
+        mongoTemplate.remove(new Query(Criteria.where("_id").in(kept)), archive);
+        return batch.stream().filter(entity -> !kept.contains(idOf.apply(entity))).toList();
+    }
+}
@@ -0,0 +1,112 @@
+package org.example.oopproject1.repository;
+
+import org.bson.Document;
+import org.example.oopproject1.model.Application;
+import org.example.oopproject1.model.Application.ApplicationStatus;
+import org.example.oopproject1.model.FunnelBucket;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * MongoDB implementation of {@link FunnelRollupRepository}.
+ * <p>
+ * Increments are {@code $inc} upserts on the unique (jobId, day) index, so
+ * concurrent writers on any node never lose a count. The rebuild is one
+ * aggregation over {@code applications} and its archive that works out
+ * each application's furthest stage from its status history, counts by
+ * job and day, and replaces the rollup collection with {@code $out};
+ * increments made while it runs may be lost, so it is meant for a first
+ * backfill or a repair.
+ * </p>
+ *
+ * @since 1.1
+ */
+@Repository
+@Profile("!inmemory")
+public class MongoFunnelRollupRepository implements FunnelRollupRepository {
+
+    private final MongoTemplate mongoTemplate;
+
+    /**
+     * Constructs the repository.
+     *
+     * @param mongoTemplate template used for the rollups and applications
+     */
+    public MongoFunnelRollupRepository(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public void increment(String jobId, LocalDate day, Map<ApplicationStatus, Long> deltas,
+                          Map<ApplicationStatus, Long> stageDeltas) {
+        Query bucket = new Query(Criteria.where("jobId").is(jobId).and("day").is(day));
+        Update update = new Update();
+        deltas.forEach((status, delta) -> update.inc("counts." + status.name(), delta));
+        stageDeltas.forEach((stage, delta) -> update.inc("furthest." + stage.name(), delta));
+        try {
+            mongoTemplate.upsert(bucket, update, FunnelBucket.class);
+        } catch (DuplicateKeyException e) {
+            // another writer created the bucket first; now it exists and the upsert updates it
+            mongoTemplate.upsert(bucket, update, FunnelBucket.class);
+        }
+    }
+
+    @Override
+    public List<FunnelBucket> findBuckets(Collection<String> jobIds, LocalDate from, LocalDate to) {
+        return mongoTemplate.find(new Query(Criteria.where("jobId").in(jobIds).and("day").gte(from).lte(to)),
+                FunnelBucket.class);
+    }
+
+    @Override
+    public long rebuild() {
+        String applications = mongoTemplate.getCollectionName(Application.class);
+        String rollups = mongoTemplate.getCollectionName(FunnelBucket.class);
+        List<String> stages = FunnelBucket.STAGES.stream().map(ApplicationStatus::name).toList();
+        // the furthest stage is the latest of the stages among the status and the history's statuses
+        Document statuses = new Document("$concatArrays", List.of(List.of("$status"),
+                new Document("$ifNull", List.of("$statusHistory.from", List.of())),
+                new Document("$ifNull", List.of("$statusHistory.to", List.of()))));
+        Document furthest = new Document("$arrayElemAt", List.of(stages, new Document("$max",
+                new Document("$concatArrays", List.of(List.of(0), new Document("$map",
+                        new Document("input", statuses).append("as", "s")
+                                .append("in", new Document("$indexOfArray", List.of(stages, "$$s")))))))));
+        Document group = new Document("_id", new Document("jobId", "$jobId").append("day", "$applicationDate"));
+        Document counts = new Document();
+        Document stageCounts = new Document();
+        for (ApplicationStatus status : ApplicationStatus.values()) {
+            group.append("counts_" + status.name(), countIf("$status", status));
+            counts.append(status.name(), "$counts_" + status.name());
+        }
+        for (ApplicationStatus stage : FunnelBucket.STAGES) {
+            group.append("furthest_" + stage.name(), countIf("$furthest", stage));
+            stageCounts.append(stage.name(), "$furthest_" + stage.name());
+        }
+        List<Document> pipeline = List.of(
+                new Document("$unionWith", applications + ArchiveRepository.ARCHIVE_SUFFIX),
+                new Document("$match", new Document("applicationDate", new Document("$ne", null))
+                        .append("status", new Document("$ne", null))),
+                new Document("$project", new Document("jobId", 1).append("applicationDate", 1).append("status", 1)
+                        .append("furthest", furthest)),
+                new Document("$group", group),
+                new Document("$project", new Document("_id", 0).append("jobId", "$_id.jobId")
+                        .append("day", "$_id.day").append("counts", counts).append("furthest", stageCounts)),
+                new Document("$out", rollups));
+        mongoTemplate.getCollection(applications).aggregate(pipeline).allowDiskUse(true).toCollection();
+        return mongoTemplate.getCollection(rollups).estimatedDocumentCount();
+    }
+
+    private static Document countIf(String field, ApplicationStatus status) {
+        return new Document("$sum", new Document("$cond", List.of(
+                new Document("$eq", List.of(field, status.name())), 1L, 0L)));
+    }
+}
@@ -1,5 +1,6 @@
 package org.example.oopproject1.repository;
 
+import org.bson.types.ObjectId;
 import org.example.oopproject1.model.Recruiter;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -46,6 +47,15 @@ public interface RecruiterRepository extends MongoRepository<Recruiter, String>
      */
     List<Recruiter> findByCompany(String company);
 
+    /**
+     * Retrieves the recruiters with IDs after the given one, one keyset page at a time.
+     *
+     * @param afterId  the last ID already read
+     * @param pageable page size and sorting information; the page number should be zero
+     * @return a List of Recruiter objects
+     */
+    List<Recruiter> findByIdGreaterThan(ObjectId afterId, Pageable pageable);
+
     /**
      * Retrieves a recruiter by their email address.
      *
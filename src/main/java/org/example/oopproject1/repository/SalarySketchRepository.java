@@ -0,0 +1,15 @@
+package org.example.oopproject1.repository;
+
+import org.example.oopproject1.model.SalarySketch;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository for the {@code salary_sketches} collection, which is only
+ * ever read whole at startup and written by ID.
+ *
+ * @since 1.1
+ */
+@Repository
+public interface SalarySketchRepository extends MongoRepository<SalarySketch, String> {
+}
@@ -0,0 +1,214 @@
+package org.example.oopproject1.repository.inmemory;
+
+import org.example.oopproject1.codec.EntityCodec;
+import org.example.oopproject1.codec.EntityCodecs;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+import java.util.zip.CRC32C;
+
+/**
+ * Reads and writes binary snapshots of in-memory collections.
+ * <p>
+ * A snapshot is {@code [magic][int version][long sequence][int collections]},
+ * then per collection its name and block count, then the blocks. Each block
+ * is {@code [int records][int length][int crc32c]} followed by its records,
+ * each {@code [int length][encoded document]}. Blocks are encoded and decoded
+ * independently, so both directions run in parallel and a snapshot can be
+ * loaded with every core.
+ * </p>
+ *
+ * @since 1.1
+ */
+final class BinarySnapshot {
+
+    private static final long MAGIC = 0x4A50534E41505348L; // "JPSNAPSH"
+    private static final int VERSION = 1;
+    private static final int BLOCK_RECORDS = 4096;
+
+    private BinarySnapshot() {
+    }
+
+    /**
+     * Result of loading a snapshot.
+     *
+     * @param sequence  the last log sequence number the snapshot covers
+     * @param documents the number of documents loaded
+     */
+    record Loaded(long sequence, long documents) {
+    }
+
+    /**
+     * Writes a snapshot and forces it to disk.
+     *
+     * @param file        the file to write
+     * @param sequence    the last log sequence number whose change is included
+     * @param collections the collections to write
+     * @param codecs      codecs encoding the documents
+     */
+    static void write(Path file, long sequence, List<InMemoryCollection<?>> collections, EntityCodecs codecs) {
+        try (FileOutputStream stream = new FileOutputStream(file.toFile());
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(stream, 1 << 20))) {
+            out.writeLong(MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(sequence);
+            out.writeInt(collections.size());
+            for (InMemoryCollection<?> collection : collections) {
+                List<byte[]> blocks = encodeBlocks(collection, codecs);
+                out.writeUTF(collection.name());
+                out.writeInt(blocks.size());
+                for (byte[] block : blocks) {
+                    out.write(block);
+                }
+            }
+            out.flush();
+            stream.getFD().sync();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write snapshot " + file, e);
+        }
+    }
+
+    /**
+     * Loads a snapshot into the named collections, decoding blocks in parallel.
+     * Collections missing from the snapshot are left unchanged.
+     *
+     * @param file        the snapshot file
+     * @param collections the collections by name
+     * @param codecs      codecs decoding the documents
+     * @param executor    executor running the decoding tasks
+     * @return the covered sequence number and document count
+     */
+    static Loaded read(Path file, Map<String, InMemoryCollection<?>> collections, EntityCodecs codecs,
+                       ExecutorService executor) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer header = read(channel, 0, Long.BYTES + Integer.BYTES + Long.BYTES + Integer.BYTES);
+            if (header.getLong() != MAGIC || header.getInt() != VERSION) {
+                throw new IllegalStateException(file + " is not a version " + VERSION + " snapshot");
+            }
+            long sequence = header.getLong();
+            int collectionCount = header.getInt();
+            long position = header.capacity();
+
+            Map<InMemoryCollection<?>, List<Future<List<Object>>>> decoded = new LinkedHashMap<>();
+            long documents = 0;
+            for (int c = 0; c < collectionCount; c++) {
+                int nameLength = Short.toUnsignedInt(read(channel, position, Short.BYTES).getShort());
+                String name = StandardCharsets.UTF_8.decode(read(channel, position + Short.BYTES, nameLength)).toString();
+                position += Short.BYTES + nameLength;
+                int blockCount = read(channel, position, Integer.BYTES).getInt();
+                position += Integer.BYTES;
+
+                InMemoryCollection<?> collection = collections.get(name);
+                List<Future<List<Object>>> blocks = new ArrayList<>();
+                for (int b = 0; b < blockCount; b++) {
+                    ByteBuffer blockHeader = read(channel, position, 3 * Integer.BYTES);
+                    int records = blockHeader.getInt();
+                    int length = blockHeader.getInt();
+                    int crc = blockHeader.getInt();
+                    if (collection != null) {
+                        ByteBuffer block = channel.map(FileChannel.MapMode.READ_ONLY,
+                                position + 3 * Integer.BYTES, length);
+                        EntityCodec<?> codec = codecs.forType(collection.type());
+                        blocks.add(executor.submit(() -> decodeBlock(block, records, crc, codec)));
+                    }
+                    documents += records;
+                    position += 3 * Integer.BYTES + length;
+                }
+                if (collection != null) {
+                    decoded.put(collection, blocks);
+                }
+            }
+            // wait for decoding here rather than in the restore tasks, which could starve the executor
+            List<Future<?>> restores = new ArrayList<>();
+            for (Map.Entry<InMemoryCollection<?>, List<Future<List<Object>>>> entry : decoded.entrySet()) {
+                List<Object> collectionDocuments = new ArrayList<>();
+                for (Future<List<Object>> block : entry.getValue()) {
+                    collectionDocuments.addAll(block.get());
+                }
+                restores.add(executor.submit(() -> entry.getKey().load(collectionDocuments)));
+            }
+            for (Future<?> restore : restores) {
+                restore.get();
+            }
+            return new Loaded(sequence, documents);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read snapshot " + file, e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Could not load snapshot " + file, e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while loading snapshot " + file, e);
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static List<byte[]> encodeBlocks(InMemoryCollection<?> collection, EntityCodecs codecs) {
+        List<?> documents = collection.snapshot();
+        EntityCodec codec = codecs.forType(collection.type());
+        int blockCount = (documents.size() + BLOCK_RECORDS - 1) / BLOCK_RECORDS;
+        return IntStream.range(0, blockCount).parallel()
+                .mapToObj(b -> encodeBlock(documents.subList(b * BLOCK_RECORDS,
+                        Math.min(documents.size(), (b + 1) * BLOCK_RECORDS)), codec))
+                .toList();
+    }
+
+    private static byte[] encodeBlock(List<?> documents, EntityCodec<Object> codec) {
+        List<byte[]> encoded = new ArrayList<>(documents.size());
+        int length = 0;
+        for (Object document : documents) {
+            byte[] bytes = codec.encode(document);
+            encoded.add(bytes);
+            length += Integer.BYTES + bytes.length;
+        }
+        ByteBuffer block = ByteBuffer.allocate(3 * Integer.BYTES + length);
+        block.putInt(documents.size()).putInt(length).putInt(0);
+        for (byte[] bytes : encoded) {
+            block.putInt(bytes.length).put(bytes);
+        }
+        CRC32C crc = new CRC32C();
+        crc.update(block.array(), 3 * Integer.BYTES, length);
+        block.putInt(2 * Integer.BYTES, (int) crc.getValue());
+        return block.array();
+    }
+
+    private static List<Object> decodeBlock(ByteBuffer block, int records, int crc, EntityCodec<?> codec) {
+        CRC32C check = new CRC32C();
+        check.update(block.duplicate());
+        if ((int) check.getValue() != crc) {
+            throw new IllegalStateException("Snapshot block checksum mismatch");
+        }
+        List<Object> documents = new ArrayList<>(records);
+        for (int i = 0; i < records; i++) {
+            int length = block.getInt();
+            documents.add(codec.decode(block.slice(block.position(), length)));
+            block.position(block.position() + length);
+        }
+        return documents;
+    }
+
+    private static ByteBuffer read(FileChannel channel, long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("Unexpected end of snapshot");
+            }
+        }
+        return buffer.flip();
+    }
+}
@@ -0,0 +1,73 @@
+package org.example.oopproject1.repository.inmemory;
+
+/**
+ * Receives the mutations of {@link InMemoryCollection}s, e.g. to make them durable.
+ * <p>
+ * The recording methods are called while the collection's write lock is
+ * held, after the change has been applied in memory, and return a sequence
+ * number. The writer then calls {@link #awaitDurable(long)} without the lock,
+ * so that concurrent writers can share one flush.
+ * </p>
+ *
+ * @since 1.1
+ */
+public interface CollectionJournal {
+
+    /**
+     * Journal that records nothing.
+     */
+    CollectionJournal NONE = new CollectionJournal() {
+        @Override
+        public long put(InMemoryCollection<?> collection, String id, Object document) {
+            return 0;
+        }
+
+        @Override
+        public long remove(InMemoryCollection<?> collection, String id) {
+            return 0;
+        }
+
+        @Override
+        public long clear(InMemoryCollection<?> collection) {
+            return 0;
+        }
+
+        @Override
+        public void awaitDurable(long sequence) {
+        }
+    };
+
+    /**
+     * Records that a document was inserted or replaced.
+     *
+     * @param collection the collection
+     * @param id         the document ID
+     * @param document   the stored document, which is never modified afterwards
+     * @return the sequence number of the record
+     */
+    long put(InMemoryCollection<?> collection, String id, Object document);
+
+    /**
+     * Records that a document was removed.
+     *
+     * @param collection the collection
+     * @param id         the document ID
+     * @return the sequence number of the record
+     */
+    long remove(InMemoryCollection<?> collection, String id);
+
+    /**
+     * Records that a collection was emptied.
+     *
+     * @param collection the collection
+     * @return the sequence number of the record
+     */
+    long clear(InMemoryCollection<?> collection);
+
+    /**
+     * Blocks until the record with the given sequence number, and all before it, are durable.
+     *
+     * @param sequence the sequence number
+     */
+    void awaitDurable(long sequence);
+}
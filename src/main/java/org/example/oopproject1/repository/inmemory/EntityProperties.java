@@ -0,0 +1,228 @@
+package org.example.oopproject1.repository.inmemory;
+
+import org.springframework.beans.BeanUtils;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.domain.Sort;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.util.StringUtils;
+
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Field;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Reflective access to entity properties by their stored field names.
+ * <p>
+ * Field names follow the MongoDB mapping: {@code _id} is the {@code id}
+ * property and boolean fields such as {@code isActive} resolve to the
+ * {@code active} bean property Lombok generates for them. Values are
+ * compared the way MongoDB orders them for the types used by the entities:
+ * {@code null} first, enums by name, numbers by value.
+ * </p>
+ *
+ * @since 1.1
+ */
+final class EntityProperties {
+
+    private static final Map<Class<?>, Map<String, PropertyDescriptor>> PROPERTIES = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, Optional<Field>> LAST_MODIFIED = new ConcurrentHashMap<>();
+
+    private EntityProperties() {
+    }
+
+    /**
+     * Creates a copy of an entity that shares no mutable lists with the original.
+     *
+     * @param entity the entity to copy
+     * @param <T>    the entity type
+     * @return the copy
+     */
+    @SuppressWarnings("unchecked")
+    static <T> T copy(T entity) {
+        return (T) transfer(entity, BeanUtils.instantiateClass(entity.getClass()));
+    }
+
+    /**
+     * Creates an instance of a projection type holding the entity's values of
+     * the properties both types declare, like a MongoDB field projection
+     * followed by mapping. Projecting onto the entity's own class copies it.
+     *
+     * @param entity the entity
+     * @param type   the projection type, with a no-argument constructor
+     * @param <R>    the projection type
+     * @return the projection
+     */
+    static <R> R project(Object entity, Class<R> type) {
+        return transfer(entity, BeanUtils.instantiateClass(type));
+    }
+
+    /**
+     * Sets the entity's {@link LastModifiedDate} field to the current time, at
+     * the millisecond precision MongoDB stores, as auditing does on save.
+     *
+     * @param entity the entity, modified in place
+     */
+    static void touch(Object entity) {
+        LAST_MODIFIED.computeIfAbsent(entity.getClass(), type -> {
+            Field[] found = new Field[1];
+            ReflectionUtils.doWithFields(type, field -> {
+                ReflectionUtils.makeAccessible(field);
+                found[0] = field;
+            }, field -> field.isAnnotationPresent(LastModifiedDate.class) && field.getType() == Instant.class);
+            return Optional.ofNullable(found[0]);
+        }).ifPresent(field -> ReflectionUtils.setField(field, entity, Instant.now().truncatedTo(ChronoUnit.MILLIS)));
+    }
+
+    /**
+     * Sets every writable property of {@code target} that {@code source} also
+     * has, copying lists so the two share no mutable state.
+     */
+    private static <R> R transfer(Object source, R target) {
+        Map<String, PropertyDescriptor> sourceProperties = properties(source.getClass());
+        for (PropertyDescriptor property : properties(target.getClass()).values()) {
+            PropertyDescriptor read = sourceProperties.get(property.getName());
+            if (property.getWriteMethod() == null || read == null) {
+                continue;
+            }
+            Object value = ReflectionUtils.invokeMethod(read.getReadMethod(), source);
+            if (value instanceof List<?> list) {
+                value = new ArrayList<>(list);
+            }
+            ReflectionUtils.invokeMethod(property.getWriteMethod(), target, value);
+        }
+        return target;
+    }
+
+    /**
+     * Reads a field of an entity.
+     *
+     * @param entity the entity
+     * @param field  the stored field name
+     * @return the value, or {@code null} if the entity has no such field
+     */
+    static Object read(Object entity, String field) {
+        PropertyDescriptor property = resolve(entity.getClass(), field);
+        return property == null ? null : ReflectionUtils.invokeMethod(property.getReadMethod(), entity);
+    }
+
+    /**
+     * Builds a comparator for a sort specification, breaking ties by ID so
+     * that paging is stable.
+     *
+     * @param sort the sort specification; may be unsorted
+     * @param idOf extracts the entity ID
+     * @param <T>  the entity type
+     * @return the comparator
+     */
+    static <T> Comparator<T> comparator(Sort sort, Function<T, String> idOf) {
+        Comparator<T> order = null;
+        for (Sort.Order property : sort) {
+            Comparator<T> next = (a, b) -> compareValues(
+                    read(a, property.getProperty()), read(b, property.getProperty()));
+            if (property.isDescending()) {
+                next = next.reversed();
+            }
+            order = order == null ? next : order.thenComparing(next);
+        }
+        Comparator<T> byId = Comparator.comparing(idOf, Comparator.nullsFirst(Comparator.naturalOrder()));
+        return order == null ? byId : order.thenComparing(byId);
+    }
+
+    /**
+     * Compares two field values.
+     *
+     * @param a the first value
+     * @param b the second value
+     * @return a negative number, zero or a positive number as {@code a} sorts before, with or after {@code b}
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static int compareValues(Object a, Object b) {
+        a = normalize(a);
+        b = normalize(b);
+        if (a == b) {
+            return 0;
+        }
+        if (a == null) {
+            return -1;
+        }
+        if (b == null) {
+            return 1;
+        }
+        if (a instanceof Number x && b instanceof Number y) {
+            return Double.compare(x.doubleValue(), y.doubleValue());
+        }
+        if (a.getClass() == b.getClass() && a instanceof Comparable comparable) {
+            return comparable.compareTo(b);
+        }
+        return a.toString().compareTo(b.toString());
+    }
+
+    /**
+     * Tests two field values for equality, treating an enum and its name as equal.
+     *
+     * @param a the first value
+     * @param b the second value
+     * @return true if the values are equal
+     */
+    static boolean valuesEqual(Object a, Object b) {
+        a = normalize(a);
+        b = normalize(b);
+        if (a instanceof Number x && b instanceof Number y) {
+            return Double.compare(x.doubleValue(), y.doubleValue()) == 0;
+        }
+        return a == null ? b == null : a.equals(b);
+    }
+
+    /**
+     * Tests whether a value equals any element of a collection.
+     *
+     * @param value      the value
+     * @param candidates the collection
+     * @return true if any candidate equals the value
+     */
+    static boolean containsValue(Object value, Collection<?> candidates) {
+        for (Object candidate : candidates) {
+            if (valuesEqual(value, candidate)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Object normalize(Object value) {
+        return value instanceof Enum<?> constant ? constant.name() : value;
+    }
+
+    private static PropertyDescriptor resolve(Class<?> type, String field) {
+        Map<String, PropertyDescriptor> properties = properties(type);
+        String name = "_id".equals(field) ? "id" : field;
+        PropertyDescriptor property = properties.get(name);
+        if (property == null && name.length() > 2 && name.startsWith("is")) {
+            property = properties.get(StringUtils.uncapitalize(name.substring(2)));
+        }
+        return property;
+    }
+
+    private static Map<String, PropertyDescriptor> properties(Class<?> type) {
+        return PROPERTIES.computeIfAbsent(type, key -> {
+            Map<String, PropertyDescriptor> properties = new LinkedHashMap<>();
+            for (PropertyDescriptor property : BeanUtils.getPropertyDescriptors(key)) {
+                if (property.getReadMethod() != null && !"class".equals(property.getName())) {
+                    properties.put(property.getName(), property);
+                }
+            }
+            return Collections.unmodifiableMap(properties);
+        });
+    }
+}
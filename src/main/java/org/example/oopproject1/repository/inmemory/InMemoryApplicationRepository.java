@@ -0,0 +1,157 @@
+package org.example.oopproject1.repository.inmemory;
+
+import org.example.oopproject1.model.Application;
+import org.example.oopproject1.model.StatusChange;
+import org.example.oopproject1.repository.ApplicationRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Range;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * In-memory {@link ApplicationRepository}.
+ * <p>
+ * Job, email and status lookups use secondary indexes, and the
+ * {@code job_email_unique} constraint is enforced like the MongoDB index.
+ * Conditional updates run under the collection's write lock.
+ * </p>
+ *
+ * @since 1.1
+ */
+@Repository
+@Profile("inmemory")
+public class InMemoryApplicationRepository extends InMemoryMongoRepository<Application>
+        implements ApplicationRepository {
+
+    /**
+     * Constructs the repository with an empty collection.
+     */
+    public InMemoryApplicationRepository() {
+        super(new InMemoryCollection<>("applications", Application.class, Application::getId, Application::setId)
+                .index("jobId", Application::getJobId)
+                .index("email", Application::getEmail)
+                .index("status", Application::getStatus)
+                .uniqueIndex("job_email_unique", app -> Arrays.asList(app.getJobId(), app.getEmail())));
+    }
+
+    @Override
+    public Page<Application> findByJobId(String jobId, Pageable pageable) {
+        return collection.page(collection.lookup("jobId", jobId), pageable);
+    }
+
+    @Override
+    public Page<Application> findByEmail(String email, Pageable pageable) {
+        return collection.page(collection.lookup("email", email), pageable);
+    }
+
+    @Override
+    public Page<Application> findByStatus(Application.ApplicationStatus status, Pageable pageable) {
+        return collection.page(collection.lookup("status", status), pageable);
+    }
+
+    @Override
+    public Page<Application> findByJobIdIn(List<String> jobIds, Pageable pageable) {
+        return collection.page(byJobIds(jobIds), pageable);
+    }
+
+    @Override
+    public List<Application> findByJobId(String jobId) {
+        return collection.list(collection.lookup("jobId", jobId), Sort.unsorted());
+    }
+
+    @Override
+    public List<Application> findByJobIdIn(List<String> jobIds) {
+        return collection.list(byJobIds(jobIds), Sort.unsorted());
+    }
+
+    @Override
+    public List<Application> findByEmail(String email) {
+        return collection.list(collection.lookup("email", email), Sort.unsorted());
+    }
+
+    @Override
+    public List<Application> findByStatus(Application.ApplicationStatus status) {
+        return collection.list(collection.lookup("status", status), Sort.unsorted());
+    }
+
+    @Override
+    public <T> List<T> findByJobId(String jobId, Class<T> type) {
+        return collection.list(collection.lookup("jobId", jobId), Sort.unsorted(), type);
+    }
+
+    @Override
+    public <T> Page<T> findByJobId(String jobId, Pageable pageable, Class<T> type) {
+        return collection.page(collection.lookup("jobId", jobId), pageable, type);
+    }
+
+    @Override
+    public <T> Page<T> findByJobIdIn(List<String> jobIds, Pageable pageable, Class<T> type) {
+        return collection.page(byJobIds(jobIds), pageable, type);
+    }
+
+    @Override
+    public <T> List<T> findByEmail(String email, Class<T> type) {
+        return collection.list(collection.lookup("email", email), Sort.unsorted(), type);
+    }
+
+    @Override
+    public <T> Page<T> findByEmail(String email, Pageable pageable, Class<T> type) {
+        return collection.page(collection.lookup("email", email), pageable, type);
+    }
+
+    @Override
+    public <T> List<T> findByStatus(Application.ApplicationStatus status, Class<T> type) {
+        return collection.list(collection.lookup("status", status), Sort.unsorted(), type);
+    }
+
+    @Override
+    public <T> Page<T> findByStatus(Application.ApplicationStatus status, Pageable pageable, Class<T> type) {
+        return collection.page(collection.lookup("status", status), pageable, type);
+    }
+
+    @Override
+    public <T> List<T> findByJobIdInAndStatusHistoryAtBetween(Collection<String> jobIds, Range<Instant> at,
+                                                              Class<T> type) {
+        Stream<Application> matches = byJobIds(jobIds)
+                .filter(app -> app.getStatusHistory() != null && app.getStatusHistory().stream()
+                        .anyMatch(change -> change.getAt() != null && at.contains(change.getAt())));
+        return collection.list(matches, Sort.unsorted(), type);
+    }
+
+    @Override
+    public Optional<Application> updateIfStatus(String id, Application.ApplicationStatus expected,
+                                                Application details, StatusChange change) {
+        return Optional.ofNullable(collection.update(id, app -> app.getStatus() == expected, app -> {
+            app.setCandidateName(details.getCandidateName());
+            app.setEmail(details.getEmail());
+            app.setPhone(details.getPhone());
+            app.setResumeUrl(details.getResumeUrl());
+            app.setCoverLetterText(details.getCoverLetterText());
+            app.setStatus(details.getStatus());
+            if (change != null) {
+                List<StatusChange> history = app.getStatusHistory() != null
+                        ? new ArrayList<>(app.getStatusHistory())
+                        : new ArrayList<>();
+                history.add(change);
+                if (history.size() > Application.STATUS_HISTORY_LIMIT) {
+                    history.subList(0, history.size() - Application.STATUS_HISTORY_LIMIT).clear();
+                }
+                app.setStatusHistory(history);
+            }
+        }));
+    }
+
+    private Stream<Application> byJobIds(Collection<String> jobIds) {
+        return jobIds.stream().distinct().flatMap(jobId -> collection.lookup("jobId", jobId));
+    }
+}
@@ -0,0 +1,114 @@
+package org.example.oopproject1.repository.inmemory;
+
+import org.example.oopproject1.repository.ArchiveRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * In-memory {@link ArchiveRepository}.
+ * <p>
+ * Keeps an archive collection beside each in-memory repository's collection
+ * and evaluates criteria with {@link InMemoryCriteria}.
+ * </p>
+ *
+ * @since 1.1
+ */
+@Repository
+@Profile("inmemory")
+public class InMemoryArchiveRepository implements ArchiveRepository {
+
+    private final Map<Class<?>, InMemoryCollection<?>> hot = new HashMap<>();
+    private final Map<Class<?>, InMemoryCollection<?>> archives = new HashMap<>();
+
+    /**
+     * Constructs the repository with an empty archive for each repository's collection.
+     *
+     * @param repositories the in-memory repositories holding the hot collections
+     */
+    public InMemoryArchiveRepository(List<InMemoryMongoRepository<?>> repositories) {
+        for (InMemoryMongoRepository<?> repository : repositories) {
+            InMemoryCollection<?> collection = repository.collection();
+            hot.put(collection.type(), collection);
+            archives.put(collection.type(), collection.sibling(collection.name() + ARCHIVE_SUFFIX));
+        }
+    }
+
+    /**
+     * Returns the archive collections, e.g. for snapshots.
+     *
+     * @return the archive collections
+     */
+    public List<InMemoryCollection<?>> collections() {
+        return List.copyOf(archives.values());
+    }
+
+    @Override
+    public <T> Optional<T> findArchivedById(String id, Class<T> type) {
+        return archive(type).findById(id);
+    }
+
+    @Override
+    public <T> List<T> findIncludingArchive(Criteria criteria, Class<T> type) {
+        Predicate<T> filter = InMemoryCriteria.of(criteria.getCriteriaObject());
+        List<T> results = new ArrayList<>(hot(type).list(hot(type).scan().filter(filter), Sort.unsorted()));
+        results.addAll(archive(type).list(archive(type).scan().filter(filter), Sort.unsorted()));
+        return results;
+    }
+
+    @Override
+    public <T> Page<T> findIncludingArchive(Criteria criteria, Pageable pageable, Class<T> type) {
+        Predicate<T> filter = InMemoryCriteria.of(criteria.getCriteriaObject());
+        return hot(type).page(Stream.concat(hot(type).scan(), archive(type).scan()).filter(filter), pageable);
+    }
+
+    @Override
+    public <T> List<T> moveToArchive(Query query, int limit, Class<T> type, Function<T, String> idOf) {
+        InMemoryCollection<T> source = hot(type);
+        Predicate<T> filter = InMemoryCriteria.of(query.getQueryObject());
+        List<T> batch = source.list(source.scan().filter(filter).limit(limit), Sort.unsorted());
+        List<T> moved = new ArrayList<>(batch.size());
+        for (T entity : batch) {
+            String id = idOf.apply(entity);
+            archive(type).save(entity);
+            // re-checked under the write lock, so an entity changed to no longer match stays live
+            T removed = source.remove(id, filter);
+            if (removed == null) {
+                archive(type).remove(id);
+            } else {
+                // the entity may have changed and still matched; archive it as it was removed
+                archive(type).save(removed);
+                moved.add(removed);
+            }
+        }
+        return moved;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> InMemoryCollection<T> hot(Class<T> type) {
+        InMemoryCollection<T> collection = (InMemoryCollection<T>) hot.get(type);
+        if (collection == null) {
+            throw new IllegalArgumentException("No in-memory repository for " + type.getSimpleName());
+        }
+        return collection;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> InMemoryCollection<T> archive(Class<T> type) {
+        hot(type);
+        return (InMemoryCollection<T>) archives.get(type);
+    }
+}
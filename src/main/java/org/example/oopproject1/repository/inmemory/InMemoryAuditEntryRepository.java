@@ -0,0 +1,46 @@
+package org.example.oopproject1.repository.inmemory;
+
+import org.example.oopproject1.model.AuditEntry;
+import org.example.oopproject1.repository.AuditEntryRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Repository;
+
+import java.util.Arrays;
+
+/**
+ * In-memory {@link AuditEntryRepository} with actor and document indexes.
+ *
+ * @since 1.1
+ */
+@Repository
+@Profile("inmemory")
+public class InMemoryAuditEntryRepository extends InMemoryMongoRepository<AuditEntry> implements AuditEntryRepository {
+
+    /**
+     * Constructs the repository with an empty collection.
+     */
+    public InMemoryAuditEntryRepository() {
+        super(new InMemoryCollection<>("audit_log", AuditEntry.class, AuditEntry::getId, AuditEntry::setId)
+                .index("actor", AuditEntry::getActor)
+                .index("resourceType", AuditEntry::getResourceType)
+                .index("resource", entry -> Arrays.asList(entry.getResourceType(), entry.getResourceId())));
+    }
+
+    @Override
+    public Page<AuditEntry> findByActor(String actor, Pageable pageable) {
+        return collection.page(collection.lookup("actor", actor), pageable);
+    }
+
+    @Override
+    public Page<AuditEntry> findByResourceType(String resourceType, Pageable pageable) {
+        return collection.page(collection.lookup("resourceType", resourceType), pageable);
+    }
+
+    @Override
+    public Page<AuditEntry> findByResourceTypeAndResourceId(String resourceType, String resourceId,
+                                                          Pageable pageable) {
+        return collection.page(collection.lookup("resource", Arrays.asList(resourceType, resourceId)), pageable);
+    }
+}
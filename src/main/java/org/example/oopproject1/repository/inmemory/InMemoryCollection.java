@@ -0,0 +1,638 @@
+package org.example.oopproject1.repository.inmemory;
+
+import org.bson.types.ObjectId;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * A concurrent in-memory collection of entities with secondary indexes.
+ * <p>
+ * Documents are kept in a {@link ConcurrentHashMap} keyed by ID. Each
+ * secondary index maps a key extracted from the document to the IDs holding
+ * it, so equality queries touch only their matches. Writes are serialised by
+ * a lock that keeps documents and indexes in step; reads take no lock and
+ * re-check index candidates against the document, so a read racing a write
+ * sees either the old or the new version.
+ * </p>
+ * <p>
+ * Stored documents are private copies that are never modified, and every
+ * document handed out is a fresh copy, matching the isolation callers get
+ * from MongoDB. Writes stamp the {@code @LastModifiedDate} field as MongoDB
+ * auditing does.
+ * </p>
+ * <p>
+ * Mutations are reported to the attached {@link CollectionJournal}; a write
+ * returns once the journal has made it durable. If recording fails, the
+ * change is undone in memory and the failure is rethrown.
+ * </p>
+ *
+ * @param <T> the entity type
+ * @since 1.1
+ */
+public final class InMemoryCollection<T> {
+
+    /**
+     * Index key standing in for {@code null}, which concurrent maps cannot hold.
+     */
+    private static final Object NULL_KEY = new Object();
+
+    private final String name;
+    private final Class<T> type;
+    private final Function<T, String> idOf;
+    private final BiConsumer<T, String> assignId;
+    private final Map<String, T> documents = new ConcurrentHashMap<>();
+    private final Map<String, Index<T>> indexes = new ConcurrentHashMap<>();
+    private final List<Index<T>> indexList = new CopyOnWriteArrayList<>();
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private volatile CollectionJournal journal = CollectionJournal.NONE;
+
+    /**
+     * Creates an empty collection.
+     *
+     * @param name     the collection name, as used by MongoDB
+     * @param type     the entity class
+     * @param idOf     extracts the entity ID
+     * @param assignId sets a generated ID on an entity saved without one
+     */
+    public InMemoryCollection(String name, Class<T> type, Function<T, String> idOf, BiConsumer<T, String> assignId) {
+        this.name = name;
+        this.type = type;
+        this.idOf = idOf;
+        this.assignId = assignId;
+    }
+
+    /**
+     * Adds a secondary index.
+     *
+     * @param indexName the index name
+     * @param key       extracts the indexed key; use a list for compound keys
+     * @return this collection
+     */
+    public InMemoryCollection<T> index(String indexName, Function<T, ?> key) {
+        return addIndex(new Index<>(indexName, key, false));
+    }
+
+    /**
+     * Adds a unique secondary index; writes that would duplicate a key fail
+     * with {@link DuplicateKeyException}.
+     *
+     * @param indexName the index name
+     * @param key       extracts the indexed key; use a list for compound keys
+     * @return this collection
+     */
+    public InMemoryCollection<T> uniqueIndex(String indexName, Function<T, ?> key) {
+        return addIndex(new Index<>(indexName, key, true));
+    }
+
+    /**
+     * Creates an empty collection with the same entity type and no secondary indexes.
+     *
+     * @param siblingName the new collection's name
+     * @return the new collection
+     */
+    public InMemoryCollection<T> sibling(String siblingName) {
+        return new InMemoryCollection<>(siblingName, type, idOf, assignId);
+    }
+
+    /**
+     * Attaches the journal that receives this collection's mutations.
+     *
+     * @param journal the journal; {@link CollectionJournal#NONE} detaches
+     */
+    public void attach(CollectionJournal journal) {
+        this.journal = journal;
+    }
+
+    /**
+     * Returns the collection name.
+     *
+     * @return the name
+     */
+    public String name() {
+        return name;
+    }
+
+    /**
+     * Returns the entity class.
+     *
+     * @return the entity class
+     */
+    public Class<T> type() {
+        return type;
+    }
+
+    /**
+     * Returns the ID of an entity.
+     *
+     * @param entity the entity
+     * @return its ID, or {@code null} if it has none yet
+     */
+    public String idOf(T entity) {
+        return idOf.apply(entity);
+    }
+
+    /**
+     * Inserts or replaces an entity, assigning a new ObjectId-style ID when it has none.
+     *
+     * @param entity the entity; its ID is set if generated
+     * @param <S>    the entity type
+     * @return the given entity
+     * @throws DuplicateKeyException if a unique index already holds the entity's key under another ID
+     */
+    public <S extends T> S save(S entity) {
+        return write(entity, false);
+    }
+
+    /**
+     * Inserts an entity, assigning a new ObjectId-style ID when it has none.
+     *
+     * @param entity the entity; its ID is set if generated
+     * @param <S>    the entity type
+     * @return the given entity
+     * @throws DuplicateKeyException if the ID exists, or a unique index already holds the entity's key
+     */
+    public <S extends T> S insert(S entity) {
+        return write(entity, true);
+    }
+
+    /**
+     * Looks up an entity by ID.
+     *
+     * @param id the ID
+     * @return a copy of the entity, if present
+     */
+    public Optional<T> findById(String id) {
+        T document = id == null ? null : documents.get(id);
+        return Optional.ofNullable(document).map(EntityProperties::copy);
+    }
+
+    /**
+     * Tests whether an entity with the given ID exists.
+     *
+     * @param id the ID
+     * @return true if it exists
+     */
+    public boolean exists(String id) {
+        return id != null && documents.containsKey(id);
+    }
+
+    /**
+     * Returns the number of entities.
+     *
+     * @return the count
+     */
+    public long count() {
+        return documents.size();
+    }
+
+    /**
+     * Changes an entity by ID if it matches a condition, checked under the write lock.
+     *
+     * @param id        the ID
+     * @param condition the condition the stored entity must meet
+     * @param change    the change, applied to a copy of the stored entity
+     * @return the changed entity, or {@code null} if there was none or it did not match
+     * @throws DuplicateKeyException if a unique index already holds the changed entity's key under another ID
+     */
+    public T update(String id, Predicate<? super T> condition, Consumer<? super T> change) {
+        if (id == null) {
+            return null;
+        }
+        T updated;
+        long sequence;
+        writeLock.lock();
+        try {
+            T previous = documents.get(id);
+            if (previous == null || !condition.test(previous)) {
+                return null;
+            }
+            updated = EntityProperties.copy(previous);
+            change.accept(updated);
+            sequence = put(updated, false);
+        } finally {
+            writeLock.unlock();
+        }
+        journal.awaitDurable(sequence);
+        return updated;
+    }
+
+    /**
+     * Removes an entity by ID.
+     *
+     * @param id the ID
+     * @return the removed entity, or {@code null} if there was none
+     */
+    public T remove(String id) {
+        return remove(id, document -> true);
+    }
+
+    /**
+     * Removes an entity by ID if it matches a condition, checked under the write lock.
+     *
+     * @param id        the ID
+     * @param condition the condition the stored entity must meet
+     * @return the removed entity, or {@code null} if there was none or it did not match
+     */
+    public T remove(String id, Predicate<? super T> condition) {
+        if (id == null) {
+            return null;
+        }
+        T previous;
+        long sequence;
+        writeLock.lock();
+        try {
+            previous = documents.get(id);
+            if (previous == null || !condition.test(previous)) {
+                return null;
+            }
+            removeDocument(id, previous);
+            try {
+                sequence = journal.remove(this, id);
+            } catch (RuntimeException e) {
+                putDocument(id, previous, null);
+                throw e;
+            }
+        } finally {
+            writeLock.unlock();
+        }
+        journal.awaitDurable(sequence);
+        return previous;
+    }
+
+    /**
+     * Removes all entities matching a predicate.
+     *
+     * @param filter the predicate
+     * @return the number of entities removed
+     */
+    public int removeIf(Predicate<? super T> filter) {
+        int removed = 0;
+        for (T document : scan().filter(filter).toList()) {
+            // re-checked, so an entity changed since the scan is left alone
+            if (remove(idOf.apply(document), filter) != null) {
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Removes all entities.
+     */
+    public void clear() {
+        long sequence;
+        writeLock.lock();
+        try {
+            Map<String, T> previous = Map.copyOf(documents);
+            clearDocuments();
+            try {
+                sequence = journal.clear(this);
+            } catch (RuntimeException e) {
+                previous.forEach((id, document) -> putDocument(id, document, null));
+                throw e;
+            }
+        } finally {
+            writeLock.unlock();
+        }
+        journal.awaitDurable(sequence);
+    }
+
+    /**
+     * Streams all stored documents. The documents must not be modified or
+     * handed to callers; pass the stream to {@link #list} or {@link #page}.
+     *
+     * @return the stored documents
+     */
+    public Stream<T> scan() {
+        return documents.values().stream();
+    }
+
+    /**
+     * Streams the stored documents whose indexed key equals the given key.
+     * The same rules as for {@link #scan()} apply.
+     *
+     * @param indexName the index name
+     * @param key       the key to look up; may be {@code null}
+     * @return the matching documents
+     * @throws IllegalArgumentException if the index does not exist
+     */
+    public Stream<T> lookup(String indexName, Object key) {
+        Index<T> index = indexes.get(indexName);
+        if (index == null) {
+            throw new IllegalArgumentException("No index " + indexName + " on " + name);
+        }
+        Object wanted = key == null ? NULL_KEY : key;
+        return index.ids(wanted).stream()
+                .map(documents::get)
+                .filter(Objects::nonNull)
+                // the document may have been replaced since the index was read
+                .filter(document -> index.keyOf(document).equals(wanted));
+    }
+
+    /**
+     * Copies matching documents into a list.
+     *
+     * @param matches documents obtained from {@link #scan()} or {@link #lookup}
+     * @param sort    the order; unsorted keeps the map's order
+     * @return copies of the documents
+     */
+    public List<T> list(Stream<T> matches, Sort sort) {
+        return list(matches, sort, type);
+    }
+
+    /**
+     * Projects matching documents into a list.
+     *
+     * @param matches    documents obtained from {@link #scan()} or {@link #lookup}
+     * @param sort       the order; unsorted keeps the map's order
+     * @param projection the result type; properties it shares with the document are copied
+     * @param <R>        the result type
+     * @return projections of the documents
+     */
+    public <R> List<R> list(Stream<T> matches, Sort sort, Class<R> projection) {
+        Stream<T> ordered = sort.isSorted() ? matches.sorted(EntityProperties.comparator(sort, idOf)) : matches;
+        return ordered.map(document -> EntityProperties.project(document, projection)).toList();
+    }
+
+    /**
+     * Copies one page of matching documents.
+     *
+     * @param matches  documents obtained from {@link #scan()} or {@link #lookup}
+     * @param pageable pagination and sorting information
+     * @return the requested page of copies
+     * @see #page(Stream, Pageable, Class)
+     */
+    public Page<T> page(Stream<T> matches, Pageable pageable) {
+        return page(matches, pageable, type);
+    }
+
+    /**
+     * Projects one page of matching documents.
+     * <p>
+     * Only the documents up to the end of the requested page are ordered,
+     * using a bounded heap, so early pages of large collections cost a single
+     * pass. Documents with equal sort keys are ordered by ID. Only the
+     * documents on the page are projected.
+     * </p>
+     *
+     * @param matches    documents obtained from {@link #scan()} or {@link #lookup}
+     * @param pageable   pagination and sorting information
+     * @param projection the result type; properties it shares with the document are copied
+     * @param <R>        the result type
+     * @return the requested page of projections
+     */
+    public <R> Page<R> page(Stream<T> matches, Pageable pageable, Class<R> projection) {
+        List<T> all = matches.toList();
+        Comparator<T> order = EntityProperties.comparator(pageable.getSort(), idOf);
+        Function<T, R> project = document -> EntityProperties.project(document, projection);
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(all.stream().sorted(order).map(project).toList(), pageable, all.size());
+        }
+        if (pageable.getOffset() >= all.size()) {
+            return new PageImpl<>(List.of(), pageable, all.size());
+        }
+        int end = (int) Math.min(all.size(), pageable.getOffset() + pageable.getPageSize());
+        List<R> content = smallest(all, end, order).subList((int) pageable.getOffset(), end).stream()
+                .map(project)
+                .toList();
+        return new PageImpl<>(content, pageable, all.size());
+    }
+
+    /**
+     * Returns all stored documents for writing a snapshot. Stored documents
+     * are never modified, so they can be serialised while writes continue.
+     *
+     * @return the stored documents
+     */
+    public List<T> snapshot() {
+        return List.copyOf(documents.values());
+    }
+
+    /**
+     * Replaces the contents of the collection without journaling, e.g. when
+     * loading a snapshot.
+     *
+     * @param entities the new contents
+     */
+    public void restore(Collection<? extends T> entities) {
+        writeLock.lock();
+        try {
+            clearDocuments();
+            for (T entity : entities) {
+                if (idOf.apply(entity) == null) {
+                    assignId.accept(entity, new ObjectId().toHexString());
+                }
+                putDocument(idOf.apply(entity), EntityProperties.copy(entity), null);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Replaces the contents of the collection with freshly decoded documents
+     * during recovery, without copying or journaling them.
+     *
+     * @param decoded the documents, which must not be shared
+     */
+    void load(Collection<?> decoded) {
+        writeLock.lock();
+        try {
+            clearDocuments();
+            for (Object document : decoded) {
+                T entity = type.cast(document);
+                putDocument(idOf.apply(entity), entity, null);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Re-applies a journaled insert or replacement during recovery, without journaling.
+     *
+     * @param id       the document ID
+     * @param document the decoded document, which must not be shared
+     */
+    void recoverPut(String id, Object document) {
+        writeLock.lock();
+        try {
+            putDocument(id, type.cast(document), documents.get(id));
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Re-applies a journaled removal during recovery, without journaling.
+     *
+     * @param id the document ID
+     */
+    void recoverRemove(String id) {
+        writeLock.lock();
+        try {
+            T previous = documents.get(id);
+            if (previous != null) {
+                removeDocument(id, previous);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private InMemoryCollection<T> addIndex(Index<T> index) {
+        writeLock.lock();
+        try {
+            documents.forEach((id, document) -> index.add(document, id));
+            indexes.put(index.name, index);
+            indexList.add(index);
+            return this;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private <S extends T> S write(S entity, boolean insertOnly) {
+        long sequence;
+        writeLock.lock();
+        try {
+            sequence = put(entity, insertOnly);
+        } finally {
+            writeLock.unlock();
+        }
+        journal.awaitDurable(sequence);
+        return entity;
+    }
+
+    private long put(T entity, boolean insertOnly) {
+        if (idOf.apply(entity) == null) {
+            assignId.accept(entity, new ObjectId().toHexString());
+        }
+        String id = idOf.apply(entity);
+        T previous = documents.get(id);
+        if (insertOnly && previous != null) {
+            throw duplicateKey("_id_", id);
+        }
+        EntityProperties.touch(entity);
+        T stored = EntityProperties.copy(entity);
+        for (Index<T> index : indexList) {
+            if (index.unique && index.ids(index.keyOf(stored)).stream().anyMatch(other -> !other.equals(id))) {
+                throw duplicateKey(index.name, index.key.apply(stored));
+            }
+        }
+        putDocument(id, stored, previous);
+        try {
+            return journal.put(this, id, stored);
+        } catch (RuntimeException e) {
+            if (previous == null) {
+                removeDocument(id, stored);
+            } else {
+                putDocument(id, previous, stored);
+            }
+            throw e;
+        }
+    }
+
+    private void putDocument(String id, T document, T previous) {
+        documents.put(id, document);
+        for (Index<T> index : indexList) {
+            if (previous != null) {
+                index.remove(previous, id);
+            }
+            index.add(document, id);
+        }
+    }
+
+    private void removeDocument(String id, T document) {
+        documents.remove(id);
+        indexList.forEach(index -> index.remove(document, id));
+    }
+
+    private void clearDocuments() {
+        documents.clear();
+        indexList.forEach(Index::clear);
+    }
+
+    private DuplicateKeyException duplicateKey(String indexName, Object key) {
+        return new DuplicateKeyException("E11000 duplicate key error collection: " + name
+                + " index: " + indexName + " dup key: " + key);
+    }
+
+    private static <T> List<T> smallest(List<T> items, int count, Comparator<T> order) {
+        if (count >= items.size() / 2) {
+            List<T> sorted = new ArrayList<>(items);
+            sorted.sort(order);
+            return sorted;
+        }
+        PriorityQueue<T> heap = new PriorityQueue<>(count, order.reversed());
+        for (T item : items) {
+            if (heap.size() < count) {
+                heap.add(item);
+            } else if (order.compare(item, heap.peek()) < 0) {
+                heap.poll();
+                heap.add(item);
+            }
+        }
+        List<T> result = new ArrayList<>(heap);
+        result.sort(order);
+        return result;
+    }
+
+    private static final class Index<T> {
+        private final String name;
+        private final Function<T, ?> key;
+        private final boolean unique;
+        private final Map<Object, Set<String>> entries = new ConcurrentHashMap<>();
+
+        private Index(String name, Function<T, ?> key, boolean unique) {
+            this.name = name;
+            this.key = key;
+            this.unique = unique;
+        }
+
+        private Object keyOf(T document) {
+            Object value = key.apply(document);
+            return value == null ? NULL_KEY : value;
+        }
+
+        private Set<String> ids(Object indexKey) {
+            return entries.getOrDefault(indexKey, Set.of());
+        }
+
+        private void add(T document, String id) {
+            entries.computeIfAbsent(keyOf(document), k -> ConcurrentHashMap.newKeySet()).add(id);
+        }
+
+        private void remove(T document, String id) {
+            entries.computeIfPresent(keyOf(document), (k, ids) -> {
+                ids.remove(id);
+                return ids.isEmpty() ? null : ids;
+            });
+        }
+
+        private void clear() {
+            entries.clear();
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package org.example.oopproject1.repository.inmemory;
+
+import org.bson.Document;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Evaluates MongoDB filter documents, as built by {@code Criteria} and
+ * {@code Query}, against entities in memory.
+ * <p>
+ * Supports field equality, {@code $eq}, {@code $ne}, {@code $lt},
+ * {@code $lte}, {@code $gt}, {@code $gte}, {@code $in}, {@code $nin},
+ * {@code $and} and {@code $or}, which covers the filters the services
+ * build. Anything else is rejected rather than silently mismatched.
+ * </p>
+ *
+ * @since 1.1
+ */
+final class InMemoryCriteria {
+
+    private InMemoryCriteria() {
+    }
+
+    /**
+     * Turns a filter document into a predicate.
+     *
+     * @param filter the filter, e.g. {@code criteria.getCriteriaObject()}
+     * @param <T>    the entity type
+     * @return a predicate matching the entities the filter selects
+     * @throws UnsupportedOperationException if the filter uses an unsupported operator
+     */
+    static <T> Predicate<T> of(Document filter) {
+        return entity -> matches(filter, entity);
+    }
+
+    private static boolean matches(Document filter, Object entity) {
+        for (Map.Entry<String, Object> clause : filter.entrySet()) {
+            boolean matched = switch (clause.getKey()) {
+                case "$and" -> subFilters(clause.getValue()).stream().allMatch(sub -> matches(sub, entity));
+                case "$or" -> subFilters(clause.getValue()).stream().anyMatch(sub -> matches(sub, entity));
+                default -> matchesCondition(EntityProperties.read(entity, clause.getKey()), clause.getValue());
+            };
+            if (!matched) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean matchesCondition(Object actual, Object condition) {
+        if (!(condition instanceof Document operators) || !isOperatorDocument(operators)) {
+            return EntityProperties.valuesEqual(actual, condition);
+        }
+        for (Map.Entry<String, Object> operator : operators.entrySet()) {
+            Object operand = operator.getValue();
+            boolean matched = switch (operator.getKey()) {
+                case "$eq" -> EntityProperties.valuesEqual(actual, operand);
+                case "$ne" -> !EntityProperties.valuesEqual(actual, operand);
+                case "$lt" -> actual != null && EntityProperties.compareValues(actual, operand) < 0;
+                case "$lte" -> actual != null && EntityProperties.compareValues(actual, operand) <= 0;
+                case "$gt" -> actual != null && EntityProperties.compareValues(actual, operand) > 0;
+                case "$gte" -> actual != null && EntityProperties.compareValues(actual, operand) >= 0;
+                case "$in" -> EntityProperties.containsValue(actual, (Collection<?>) operand);
+                case "$nin" -> !EntityProperties.containsValue(actual, (Collection<?>) operand);
+                default -> throw new UnsupportedOperationException(
+                        "Operator " + operator.getKey() + " is not supported by the in-memory repositories");
+            };
+            if (!matched) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isOperatorDocument(Document document) {
+        return !document.isEmpty() && document.keySet().stream().allMatch(key -> key.startsWith("$"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Document> subFilters(Object value) {
+        return (List<Document>) value;
+    }
+}
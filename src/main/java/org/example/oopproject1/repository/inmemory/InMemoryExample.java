@@ -0,0 +1,89 @@
+package org.example.oopproject1.repository.inmemory;
+
+import org.springframework.data.domain.Example;
+import org.springframework.data.domain.ExampleMatcher;
+import org.springframework.data.support.ExampleMatcherAccessor;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * Evaluates query-by-example probes against entities in memory.
+ * <p>
+ * Follows the {@link ExampleMatcher} rules MongoDB applies to the probe's
+ * top-level fields: ignored paths, null handling, value transformers,
+ * all/any matching and, for strings, the string matcher and case
+ * sensitivity. Primitive fields always take part, as they do with MongoDB.
+ * Other values, including nested objects and lists, must be equal.
+ * </p>
+ *
+ * @since 1.1
+ */
+final class InMemoryExample {
+
+    private InMemoryExample() {
+    }
+
+    /**
+     * Turns an example into a predicate.
+     *
+     * @param example the probe and its matcher
+     * @param <T>     the entity type
+     * @return a predicate matching the entities the example selects
+     */
+    static <T> Predicate<T> of(Example<?> example) {
+        ExampleMatcher matcher = example.getMatcher();
+        ExampleMatcherAccessor accessor = new ExampleMatcherAccessor(matcher);
+        List<Predicate<Object>> conditions = new ArrayList<>();
+        ReflectionUtils.doWithFields(example.getProbeType(), field -> {
+            String path = field.getName();
+            if (accessor.isIgnoredPath(path)) {
+                return;
+            }
+            Object probe = accessor.getValueTransformerForPath(path)
+                    .apply(Optional.ofNullable(EntityProperties.read(example.getProbe(), path)))
+                    .orElse(null);
+            if (probe == null) {
+                if (accessor.getNullHandler() == ExampleMatcher.NullHandler.INCLUDE) {
+                    conditions.add(entity -> EntityProperties.read(entity, path) == null);
+                }
+                return;
+            }
+            conditions.add(probe instanceof String text
+                    ? entity -> matchesString(EntityProperties.read(entity, path), text, accessor, path)
+                    : entity -> EntityProperties.valuesEqual(EntityProperties.read(entity, path), probe));
+        }, field -> !Modifier.isStatic(field.getModifiers()) && !Modifier.isTransient(field.getModifiers()));
+
+        if (matcher.isAnyMatching() && !conditions.isEmpty()) {
+            return entity -> conditions.stream().anyMatch(condition -> condition.test(entity));
+        }
+        return entity -> conditions.stream().allMatch(condition -> condition.test(entity));
+    }
+
+    private static boolean matchesString(Object actual, String probe, ExampleMatcherAccessor accessor, String path) {
+        if (!(actual instanceof String value)) {
+            return false;
+        }
+        boolean ignoreCase = accessor.isIgnoreCaseForPath(path);
+        ExampleMatcher.StringMatcher stringMatcher = accessor.getStringMatcherForPath(path);
+        if (stringMatcher == ExampleMatcher.StringMatcher.REGEX) {
+            return Pattern.compile(probe, ignoreCase ? Pattern.CASE_INSENSITIVE : 0).matcher(value).find();
+        }
+        if (ignoreCase) {
+            value = value.toLowerCase(Locale.ROOT);
+            probe = probe.toLowerCase(Locale.ROOT);
+        }
+        return switch (stringMatcher) {
+            case STARTING -> value.startsWith(probe);
+            case ENDING -> value.endsWith(probe);
+            case CONTAINING -> value.contains(probe);
+            default -> value.equals(probe);
+        };
+    }
+}
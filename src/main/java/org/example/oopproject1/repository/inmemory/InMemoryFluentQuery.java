@@ -0,0 +1,118 @@
+package org.example.oopproject1.repository.inmemory;
+
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.repository.query.FluentQuery;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * The fluent query of {@code findBy(Example, ...)} over an {@link InMemoryCollection}.
+ * <p>
+ * Results are copies of the stored documents, or projections onto the type
+ * given to {@link #as}. Property projections are accepted but, as every
+ * property is copied anyway, change nothing. Scrolling is not supported.
+ * </p>
+ *
+ * @param <T> the entity type
+ * @param <R> the result type
+ * @since 1.1
+ */
+final class InMemoryFluentQuery<T, R> implements FluentQuery.FetchableFluentQuery<R> {
+
+    private final InMemoryCollection<T> collection;
+    private final Predicate<T> filter;
+    private final Sort sort;
+    private final int limit;
+    private final Class<R> resultType;
+
+    InMemoryFluentQuery(InMemoryCollection<T> collection, Predicate<T> filter, Sort sort, int limit,
+                        Class<R> resultType) {
+        this.collection = collection;
+        this.filter = filter;
+        this.sort = sort;
+        this.limit = limit;
+        this.resultType = resultType;
+    }
+
+    @Override
+    public FetchableFluentQuery<R> sortBy(Sort sort) {
+        return new InMemoryFluentQuery<>(collection, filter, this.sort.and(sort), limit, resultType);
+    }
+
+    @Override
+    public FetchableFluentQuery<R> limit(int limit) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("Limit must not be negative");
+        }
+        return new InMemoryFluentQuery<>(collection, filter, sort, limit, resultType);
+    }
+
+    @Override
+    public <S> FetchableFluentQuery<S> as(Class<S> resultType) {
+        return new InMemoryFluentQuery<>(collection, filter, sort, limit, resultType);
+    }
+
+    @Override
+    public FetchableFluentQuery<R> project(Collection<String> properties) {
+        return this;
+    }
+
+    @Override
+    public R oneValue() {
+        List<R> results = first(2);
+        if (results.size() > 1) {
+            throw new IncorrectResultSizeDataAccessException(1, results.size());
+        }
+        return results.isEmpty() ? null : results.get(0);
+    }
+
+    @Override
+    public R firstValue() {
+        List<R> results = first(1);
+        return results.isEmpty() ? null : results.get(0);
+    }
+
+    @Override
+    public List<R> all() {
+        return limit > 0 ? first(limit) : collection.list(matches(), sort, resultType);
+    }
+
+    @Override
+    public Page<R> page(Pageable pageable) {
+        Pageable sorted = pageable.isPaged() && pageable.getSort().isUnsorted() && sort.isSorted()
+                ? PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), sort)
+                : pageable;
+        return collection.page(matches(), sorted, resultType);
+    }
+
+    @Override
+    public Stream<R> stream() {
+        return all().stream();
+    }
+
+    @Override
+    public long count() {
+        return matches().count();
+    }
+
+    @Override
+    public boolean exists() {
+        return matches().findAny().isPresent();
+    }
+
+    private List<R> first(int count) {
+        int size = limit > 0 ? Math.min(limit, count) : count;
+        return collection.page(matches(), PageRequest.of(0, size, sort), resultType).getContent();
+    }
+
+    private Stream<T> matches() {
+        return collection.scan().filter(filter);
+    }
+}
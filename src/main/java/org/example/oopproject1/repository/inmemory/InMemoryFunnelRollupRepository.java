@@ -0,0 +1,93 @@
+package org.example.oopproject1.repository.inmemory;
+
+import org.example.oopproject1.model.Application;
+import org.example.oopproject1.model.Application.ApplicationStatus;
+import org.example.oopproject1.model.FunnelBucket;
+import org.example.oopproject1.repository.ArchiveRepository;
+import org.example.oopproject1.repository.FunnelRollupRepository;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * In-memory {@link FunnelRollupRepository}.
+ * <p>
+ * The archive repository is injected lazily because it is itself built from
+ * every in-memory repository, this one included.
+ * </p>
+ *
+ * @since 1.1
+ */
+@Repository
+@Profile("inmemory")
+public class InMemoryFunnelRollupRepository extends InMemoryMongoRepository<FunnelBucket>
+        implements FunnelRollupRepository {
+
+    private static final String JOB_DAY = "job_day";
+
+    private final ArchiveRepository archiveRepository;
+
+    /**
+     * Constructs the repository with an empty collection.
+     *
+     * @param archiveRepository repository reading applications including the archive, for rebuilds
+     */
+    public InMemoryFunnelRollupRepository(@Lazy ArchiveRepository archiveRepository) {
+        super(new InMemoryCollection<>("funnel_rollups", FunnelBucket.class, FunnelBucket::getId, FunnelBucket::setId)
+                .uniqueIndex(JOB_DAY, bucket -> List.of(bucket.getJobId(), bucket.getDay())));
+        this.archiveRepository = archiveRepository;
+    }
+
+    @Override
+    public synchronized void increment(String jobId, LocalDate day, Map<ApplicationStatus, Long> deltas,
+                                       Map<ApplicationStatus, Long> stageDeltas) {
+        FunnelBucket existing = collection.lookup(JOB_DAY, List.of(jobId, day)).findFirst().orElse(null);
+        // stored documents are shared, so write copies rather than mutating the counts in place
+        Map<String, Long> counts = copy(existing != null ? existing.getCounts() : null);
+        Map<String, Long> furthest = copy(existing != null ? existing.getFurthest() : null);
+        deltas.forEach((status, delta) -> counts.merge(status.name(), delta, Long::sum));
+        stageDeltas.forEach((stage, delta) -> furthest.merge(stage.name(), delta, Long::sum));
+        collection.save(new FunnelBucket(existing != null ? existing.getId() : null, jobId, day, counts, furthest));
+    }
+
+    @Override
+    public List<FunnelBucket> findBuckets(Collection<String> jobIds, LocalDate from, LocalDate to) {
+        Set<String> jobs = Set.copyOf(jobIds);
+        return collection.scan()
+                .filter(bucket -> jobs.contains(bucket.getJobId()))
+                .filter(bucket -> !bucket.getDay().isBefore(from) && !bucket.getDay().isAfter(to))
+                .toList();
+    }
+
+    @Override
+    public synchronized long rebuild() {
+        Map<List<Object>, FunnelBucket> buckets = new HashMap<>();
+        for (Application application : archiveRepository.findIncludingArchive(new Criteria(), Application.class)) {
+            if (application.getJobId() != null && application.getApplicationDate() != null
+                    && application.getStatus() != null) {
+                FunnelBucket bucket = buckets.computeIfAbsent(
+                        List.of(application.getJobId(), application.getApplicationDate()),
+                        key -> new FunnelBucket(null, application.getJobId(), application.getApplicationDate(),
+                                new HashMap<>(), new HashMap<>()));
+                bucket.getCounts().merge(application.getStatus().name(), 1L, Long::sum);
+                bucket.getFurthest().merge(FunnelBucket.furthestStage(application.getStatus(),
+                        application.getStatusHistory()).name(), 1L, Long::sum);
+            }
+        }
+        collection.clear();
+        buckets.values().forEach(collection::insert);
+        return buckets.size();
+    }
+
+    private static Map<String, Long> copy(Map<String, Long> counts) {
+        return counts != null ? new HashMap<>(counts) : new HashMap<>();
+    }
+}
@@ -0,0 +1,51 @@
+package org.example.oopproject1.repository.inmemory;
+
+import org.example.oopproject1.model.IdempotencyRecord;
+import org.example.oopproject1.repository.IdempotencyRecordRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In-memory {@link IdempotencyRecordRepository}.
+ * <p>
+ * Stands in for the MongoDB TTL index by dropping expired records every
+ * {@value #PURGE_EVERY} inserts.
+ * </p>
+ *
+ * @since 1.1
+ */
+@Repository
+@Profile("inmemory")
+public class InMemoryIdempotencyRecordRepository extends InMemoryMongoRepository<IdempotencyRecord>
+        implements IdempotencyRecordRepository {
+
+    private static final int PURGE_EVERY = 1024;
+
+    private final AtomicInteger inserts = new AtomicInteger();
+
+    /**
+     * Constructs the repository with an empty collection.
+     */
+    public InMemoryIdempotencyRecordRepository() {
+        super(new InMemoryCollection<>("idempotency_keys", IdempotencyRecord.class,
+                IdempotencyRecord::getKey, IdempotencyRecord::setKey));
+    }
+
+    @Override
+    public <S extends IdempotencyRecord> S insert(S entity) {
+        if (inserts.incrementAndGet() % PURGE_EVERY == 0) {
+            Instant now = Instant.now();
+            collection.removeIf(record -> record.getExpiresAt() != null && record.getExpiresAt().isBefore(now));
+        }
+        return super.insert(entity);
+    }
+
+    @Override
+    public long deleteByKeyAndExpiresAtBefore(String key, Instant time) {
+        return collection.remove(key, record -> record.getExpiresAt() != null
+                && record.getExpiresAt().isBefore(time)) != null ? 1 : 0;
+    }
+}
@@ -0,0 +1,264 @@
+package org.example.oopproject1.repository.inmemory;
+
+import org.bson.types.ObjectId;
+import org.example.oopproject1.dto.JobSummary;
+import org.example.oopproject1.model.Job;
+import org.example.oopproject1.repository.JobRepository;
+import org.example.oopproject1.search.Gazetteer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.geo.Distance;
+import org.springframework.data.geo.GeoPage;
+import org.springframework.data.geo.GeoResult;
+import org.springframework.data.geo.GeoResults;
+import org.springframework.data.geo.Metrics;
+import org.springframework.data.geo.Point;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * In-memory {@link JobRepository}.
+ * <p>
+ * Company, recruiter and (location, active) lookups use secondary indexes;
+ * title, deadline, keyword and radius queries scan the collection, as the
+ * corresponding MongoDB queries do without their indexes. Jobs are geocoded
+ * on every write, as {@code JobGeocodingListener} does for MongoDB.
+ * </p>
+ *
+ * @since 1.1
+ */
+@Repository
+@Profile("inmemory")
+public class InMemoryJobRepository extends InMemoryMongoRepository<Job> implements JobRepository {
+
+    private final Gazetteer gazetteer;
+
+    /**
+     * Constructs the repository with an empty collection, geocoding through
+     * the bundled gazetteer.
+     */
+    public InMemoryJobRepository() {
+        this(new Gazetteer(new ClassPathResource("gazetteer/cities.csv")));
+    }
+
+    /**
+     * Constructs the repository with an empty collection.
+     *
+     * @param gazetteer the gazetteer setting the coordinates of saved jobs
+     */
+    @Autowired
+    public InMemoryJobRepository(Gazetteer gazetteer) {
+        super(new InMemoryCollection<>("jobs", Job.class, Job::getId, Job::setId)
+                .index("company", Job::getCompany)
+                .index("recruiterId", Job::getRecruiterId)
+                .index("location_active", job -> Arrays.asList(job.getLocation(), job.isActive())));
+        this.gazetteer = gazetteer;
+    }
+
+    @Override
+    protected void beforeWrite(Job job) {
+        job.setCoordinates(gazetteer.locate(job.getLocation()).orElse(null));
+    }
+
+    @Override
+    public Page<Job> findByCompany(String company, Pageable pageable) {
+        return collection.page(collection.lookup("company", company), pageable);
+    }
+
+    @Override
+    public Page<Job> findByTitleContaining(String title, Pageable pageable) {
+        return collection.page(titleContaining(title), pageable);
+    }
+
+    @Override
+    public Page<Job> findByLocationAndIsActiveTrue(String location, Pageable pageable) {
+        return collection.page(activeInLocation(location), pageable);
+    }
+
+    @Override
+    public Page<Job> findByDeadlineDateAfter(LocalDate date, Pageable pageable) {
+        return collection.page(deadlineAfter(date), pageable);
+    }
+
+    @Override
+    public Page<Job> findByRecruiterId(String recruiterId, Pageable pageable) {
+        return collection.page(collection.lookup("recruiterId", recruiterId), pageable);
+    }
+
+    @Override
+    public List<Job> findByCompany(String company) {
+        return collection.list(collection.lookup("company", company), Sort.unsorted());
+    }
+
+    @Override
+    public List<Job> findByTitleContaining(String title) {
+        return collection.list(titleContaining(title), Sort.unsorted());
+    }
+
+    @Override
+    public List<Job> findByLocationAndIsActiveTrue(String location) {
+        return collection.list(activeInLocation(location), Sort.unsorted());
+    }
+
+    @Override
+    public List<Job> findByDeadlineDateAfter(LocalDate date) {
+        return collection.list(deadlineAfter(date), Sort.unsorted());
+    }
+
+    @Override
+    public List<Job> findByRecruiterId(String recruiterId) {
+        return collection.list(collection.lookup("recruiterId", recruiterId), Sort.unsorted());
+    }
+
+    @Override
+    public List<Job> searchByKeyword(String keyword) {
+        return collection.list(collection.scan().filter(keywordMatcher(keyword)), Sort.unsorted());
+    }
+
+    @Override
+    public Page<Job> searchByKeyword(String keyword, Pageable pageable) {
+        return collection.page(collection.scan().filter(keywordMatcher(keyword)), pageable);
+    }
+
+    @Override
+    public <T> List<T> findByCompany(String company, Class<T> type) {
+        return collection.list(collection.lookup("company", company), Sort.unsorted(), type);
+    }
+
+    @Override
+    public <T> Page<T> findByCompany(String company, Pageable pageable, Class<T> type) {
+        return collection.page(collection.lookup("company", company), pageable, type);
+    }
+
+    @Override
+    public <T> List<T> findByLocationAndIsActiveTrue(String location, Class<T> type) {
+        return collection.list(activeInLocation(location), Sort.unsorted(), type);
+    }
+
+    @Override
+    public <T> Page<T> findByLocationAndIsActiveTrue(String location, Pageable pageable, Class<T> type) {
+        return collection.page(activeInLocation(location), pageable, type);
+    }
+
+    @Override
+    public <T> List<T> findByRecruiterId(String recruiterId, Class<T> type) {
+        return collection.list(collection.lookup("recruiterId", recruiterId), Sort.unsorted(), type);
+    }
+
+    @Override
+    public <T> Page<T> findByRecruiterId(String recruiterId, Pageable pageable, Class<T> type) {
+        return collection.page(collection.lookup("recruiterId", recruiterId), pageable, type);
+    }
+
+    @Override
+    public <T> List<T> searchByKeyword(String keyword, Class<T> type) {
+        return collection.list(collection.scan().filter(keywordMatcher(keyword)), Sort.unsorted(), type);
+    }
+
+    @Override
+    public <T> Page<T> searchByKeyword(String keyword, Pageable pageable, Class<T> type) {
+        return collection.page(collection.scan().filter(keywordMatcher(keyword)), pageable, type);
+    }
+
+    @Override
+    public <T> List<T> findByIdGreaterThan(ObjectId afterId, Pageable pageable, Class<T> type) {
+        return collection.page(collection.scan().filter(after(afterId)), pageable, type).getContent();
+    }
+
+    @Override
+    public <T> List<T> findByCompanyAndIdGreaterThan(String company, ObjectId afterId, Pageable pageable,
+                                                     Class<T> type) {
+        return collection.page(collection.lookup("company", company).filter(after(afterId)), pageable, type)
+                .getContent();
+    }
+
+    @Override
+    public <T> List<T> findByTitleContainingAndIdGreaterThan(String title, ObjectId afterId, Pageable pageable,
+                                                              Class<T> type) {
+        return collection.page(titleContaining(title).filter(after(afterId)), pageable, type).getContent();
+    }
+
+    @Override
+    public <T> List<T> findByLocationAndIsActiveTrueAndIdGreaterThan(String location, ObjectId afterId,
+                                                                      Pageable pageable, Class<T> type) {
+        return collection.page(activeInLocation(location).filter(after(afterId)), pageable, type).getContent();
+    }
+
+    @Override
+    public <T> List<T> findByRecruiterIdAndIdGreaterThan(String recruiterId, ObjectId afterId, Pageable pageable,
+                                                          Class<T> type) {
+        return collection.page(collection.lookup("recruiterId", recruiterId).filter(after(afterId)), pageable, type)
+                .getContent();
+    }
+
+    @Override
+    public <T> List<T> searchByKeywordAndIdGreaterThan(String keyword, ObjectId afterId, Pageable pageable,
+                                                        Class<T> type) {
+        return collection.page(collection.scan().filter(keywordMatcher(keyword)).filter(after(afterId)),
+                pageable, type).getContent();
+    }
+
+    @Override
+    public GeoPage<JobSummary> findByCoordinatesNearAndIsActiveTrue(Point point, Distance maxDistance,
+                                                                    Pageable pageable) {
+        double maxKm = maxDistance.in(Metrics.KILOMETERS).getValue();
+        List<GeoResult<JobSummary>> matches = collection.scan()
+                .filter(job -> job.isActive() && job.getCoordinates() != null)
+                .map(job -> new GeoResult<>(EntityProperties.project(job, JobSummary.class),
+                        new Distance(Gazetteer.distanceKm(point, job.getCoordinates()), Metrics.KILOMETERS)))
+                .filter(result -> result.getDistance().getValue() <= maxKm)
+                .sorted(Comparator.comparingDouble(result -> result.getDistance().getValue()))
+                .toList();
+        List<GeoResult<JobSummary>> content = pageable.isPaged()
+                ? matches.stream().skip(pageable.getOffset()).limit(pageable.getPageSize()).toList()
+                : matches;
+        return new GeoPage<>(new GeoResults<>(content, Metrics.KILOMETERS), pageable, matches.size());
+    }
+
+    @Override
+    public Stream<Job> streamAllBy() {
+        return collection.list(collection.scan(), Sort.unsorted()).stream();
+    }
+
+    private Stream<Job> activeInLocation(String location) {
+        return collection.lookup("location_active", Arrays.asList(location, true));
+    }
+
+    private Stream<Job> titleContaining(String title) {
+        return collection.scan().filter(job -> job.getTitle() != null && job.getTitle().contains(title));
+    }
+
+    private Stream<Job> deadlineAfter(LocalDate date) {
+        return collection.scan().filter(job -> job.getDeadlineDate() != null && job.getDeadlineDate().isAfter(date));
+    }
+
+    /**
+     * Mirrors {@code _id > afterId}; ObjectId hex strings sort as the ObjectIds do.
+     */
+    private static Predicate<Job> after(ObjectId afterId) {
+        String after = afterId.toHexString();
+        return job -> job.getId().compareTo(after) > 0;
+    }
+
+    /**
+     * Mirrors the case-insensitive {@code $regex} of the MongoDB query over
+     * title, company, description, location and employment type.
+     */
+    private static Predicate<Job> keywordMatcher(String keyword) {
+        Pattern pattern = Pattern.compile(keyword, Pattern.CASE_INSENSITIVE);
+        return job -> Stream.of(job.getTitle(), job.getCompany(), job.getDescription(),
+                        job.getLocation(), job.getEmploymentType())
+                .anyMatch(field -> field != null && pattern.matcher(field).find());
+    }
+}
@@ -0,0 +1,210 @@
+package org.example.oopproject1.repository.inmemory;
+
+import org.springframework.data.domain.Example;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.repository.query.FluentQuery;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Base class implementing the {@link MongoRepository} operations on an
+ * {@link InMemoryCollection}.
+ * <p>
+ * Subclasses implement a repository interface's derived queries on top of the
+ * collection's indexes. Query by example scans the collection, matching
+ * probes with {@link InMemoryExample}.
+ * </p>
+ *
+ * @param <T> the entity type
+ * @since 1.1
+ */
+public abstract class InMemoryMongoRepository<T> implements MongoRepository<T, String> {
+
+    /**
+     * The collection holding the entities.
+     */
+    protected final InMemoryCollection<T> collection;
+
+    /**
+     * Constructs the repository.
+     *
+     * @param collection the collection holding the entities, with the indexes the subclass queries
+     */
+    protected InMemoryMongoRepository(InMemoryCollection<T> collection) {
+        this.collection = collection;
+    }
+
+    /**
+     * Returns the underlying collection, e.g. for snapshots.
+     *
+     * @return the collection
+     */
+    public InMemoryCollection<T> collection() {
+        return collection;
+    }
+
+    /**
+     * Called with each entity about to be saved or inserted, like MongoDB's
+     * {@code BeforeConvertEvent}; does nothing unless overridden.
+     *
+     * @param entity the entity
+     */
+    protected void beforeWrite(T entity) {
+    }
+
+    @Override
+    public <S extends T> S save(S entity) {
+        beforeWrite(entity);
+        return collection.save(entity);
+    }
+
+    @Override
+    public <S extends T> List<S> saveAll(Iterable<S> entities) {
+        List<S> saved = new ArrayList<>();
+        entities.forEach(entity -> saved.add(save(entity)));
+        return saved;
+    }
+
+    @Override
+    public <S extends T> S insert(S entity) {
+        beforeWrite(entity);
+        return collection.insert(entity);
+    }
+
+    @Override
+    public <S extends T> List<S> insert(Iterable<S> entities) {
+        List<S> inserted = new ArrayList<>();
+        entities.forEach(entity -> inserted.add(insert(entity)));
+        return inserted;
+    }
+
+    @Override
+    public Optional<T> findById(String id) {
+        return collection.findById(id);
+    }
+
+    @Override
+    public boolean existsById(String id) {
+        return collection.exists(id);
+    }
+
+    @Override
+    public List<T> findAll() {
+        return collection.list(collection.scan(), Sort.unsorted());
+    }
+
+    @Override
+    public List<T> findAll(Sort sort) {
+        return collection.list(collection.scan(), sort);
+    }
+
+    @Override
+    public Page<T> findAll(Pageable pageable) {
+        return collection.page(collection.scan(), pageable);
+    }
+
+    /**
+     * Projects all entities, for repositories declaring the dynamic-projection
+     * query {@code <R> List<R> findAllBy(Class<R> type)}.
+     *
+     * @param type the projection type
+     * @param <R>  the projection type
+     * @return the projected entities
+     */
+    public <R> List<R> findAllBy(Class<R> type) {
+        return collection.list(collection.scan(), Sort.unsorted(), type);
+    }
+
+    /**
+     * Projects one page of all entities, for repositories declaring
+     * {@code <R> Page<R> findAllBy(Pageable pageable, Class<R> type)}.
+     *
+     * @param pageable pagination and sorting information
+     * @param type     the projection type
+     * @param <R>      the projection type
+     * @return the requested page of projections
+     */
+    public <R> Page<R> findAllBy(Pageable pageable, Class<R> type) {
+        return collection.page(collection.scan(), pageable, type);
+    }
+
+    @Override
+    public List<T> findAllById(Iterable<String> ids) {
+        List<T> found = new ArrayList<>();
+        ids.forEach(id -> collection.findById(id).ifPresent(found::add));
+        return found;
+    }
+
+    @Override
+    public long count() {
+        return collection.count();
+    }
+
+    @Override
+    public void deleteById(String id) {
+        collection.remove(id);
+    }
+
+    @Override
+    public void delete(T entity) {
+        collection.remove(collection.idOf(entity));
+    }
+
+    @Override
+    public void deleteAllById(Iterable<? extends String> ids) {
+        ids.forEach(collection::remove);
+    }
+
+    @Override
+    public void deleteAll(Iterable<? extends T> entities) {
+        entities.forEach(this::delete);
+    }
+
+    @Override
+    public void deleteAll() {
+        collection.clear();
+    }
+
+    @Override
+    public <S extends T> Optional<S> findOne(Example<S> example) {
+        return findBy(example, query -> query.first());
+    }
+
+    @Override
+    public <S extends T> List<S> findAll(Example<S> example) {
+        return findBy(example, FluentQuery.FetchableFluentQuery::all);
+    }
+
+    @Override
+    public <S extends T> List<S> findAll(Example<S> example, Sort sort) {
+        return findBy(example, query -> query.sortBy(sort).all());
+    }
+
+    @Override
+    public <S extends T> Page<S> findAll(Example<S> example, Pageable pageable) {
+        return findBy(example, query -> query.page(pageable));
+    }
+
+    @Override
+    public <S extends T> long count(Example<S> example) {
+        return findBy(example, FluentQuery.FetchableFluentQuery::count);
+    }
+
+    @Override
+    public <S extends T> boolean exists(Example<S> example) {
+        return findBy(example, FluentQuery.FetchableFluentQuery::exists);
+    }
+
+    @Override
+    public <S extends T, R> R findBy(Example<S> example,
+                                     Function<FluentQuery.FetchableFluentQuery<S>, R> queryFunction) {
+        return queryFunction.apply(new InMemoryFluentQuery<>(collection, InMemoryExample.of(example), Sort.unsorted(),
+                0, example.getProbeType()));
+    }
+}
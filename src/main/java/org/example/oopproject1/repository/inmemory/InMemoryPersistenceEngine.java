@@ -0,0 +1,303 @@
+package org.example.oopproject1.repository.inmemory;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.example.oopproject1.codec.EntityCodecs;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+/**
+ * Makes the in-memory collections durable with a write-ahead log and periodic
+ * binary snapshots.
+ * <p>
+ * Disabled unless {@code app.inmemory.data-dir} is set. At startup the newest
+ * snapshot is loaded and the log records after it are replayed, both in
+ * parallel: snapshot blocks decode independently, and log records are
+ * partitioned by document so that each document's changes are applied in
+ * order while different documents replay concurrently. Afterwards every
+ * mutation is appended to the {@link WriteAheadLog} before the write returns.
+ * </p>
+ * <p>
+ * Every {@code app.inmemory.snapshot-interval-ms}, and on shutdown, a new
+ * snapshot is written and the log segments it covers are deleted. A snapshot
+ * records the last log sequence number appended before it started; changes
+ * made while it is written may also be in it, which is harmless because
+ * replaying a record stores the same document again.
+ * </p>
+ *
+ * @since 1.1
+ */
+@Component
+@Profile("inmemory")
+public class InMemoryPersistenceEngine {
+    private static final Logger logger = LoggerFactory.getLogger(InMemoryPersistenceEngine.class);
+
+    private static final String SNAPSHOT_PREFIX = "snapshot-";
+    private static final String SNAPSHOT_SUFFIX = ".bin";
+
+    private final Map<String, InMemoryCollection<?>> collections = new LinkedHashMap<>();
+    private final EntityCodecs codecs;
+    private final Path dataDirectory;
+    private final WriteAheadLog.SyncMode syncMode;
+    private final int segmentSize;
+    private final int recoveryThreads;
+    private WriteAheadLog log;
+
+    /**
+     * Result of recovering the collections at startup.
+     *
+     * @param snapshotDocuments documents loaded from the snapshot
+     * @param logRecords        log records replayed after the snapshot
+     * @param duration          time taken
+     */
+    public record Recovery(long snapshotDocuments, long logRecords, Duration duration) {
+    }
+
+    /**
+     * Constructs the engine.
+     *
+     * @param repositories      the in-memory repositories to persist
+     * @param archiveRepository the in-memory archive to persist
+     * @param codecs            codecs encoding the documents
+     * @param dataDirectory     directory for the log and snapshots; empty keeps data in memory only
+     * @param syncMode          {@code group} to wait for a shared fsync on every write, {@code async} to flush periodically
+     * @param segmentSize       size of each log segment file in bytes
+     * @param recoveryThreads   threads used for recovery; 0 uses one per processor
+     */
+    public InMemoryPersistenceEngine(List<InMemoryMongoRepository<?>> repositories,
+                                     InMemoryArchiveRepository archiveRepository,
+                                     EntityCodecs codecs,
+                                     @Value("${app.inmemory.data-dir:}") String dataDirectory,
+                                     @Value("${app.inmemory.wal.sync:group}") String syncMode,
+                                     @Value("${app.inmemory.wal.segment-size:67108864}") int segmentSize,
+                                     @Value("${app.inmemory.recovery-threads:0}") int recoveryThreads) {
+        repositories.forEach(repository -> collections.put(repository.collection().name(), repository.collection()));
+        archiveRepository.collections().forEach(collection -> collections.put(collection.name(), collection));
+        this.codecs = codecs;
+        this.dataDirectory = dataDirectory.isBlank() ? null : Path.of(dataDirectory);
+        this.syncMode = WriteAheadLog.SyncMode.valueOf(syncMode.toUpperCase(Locale.ROOT));
+        this.segmentSize = segmentSize;
+        this.recoveryThreads = recoveryThreads > 0 ? recoveryThreads : Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * Recovers the collections at startup if persistence is enabled.
+     */
+    @PostConstruct
+    public void start() {
+        if (dataDirectory != null) {
+            recover();
+        }
+    }
+
+    /**
+     * Loads the newest snapshot, replays the log after it, and starts logging mutations.
+     *
+     * @return what was recovered and how long it took
+     */
+    public synchronized Recovery recover() {
+        long started = System.nanoTime();
+        ExecutorService executor = Executors.newFixedThreadPool(recoveryThreads);
+        try {
+            long sequence = 0;
+            long snapshotDocuments = 0;
+            Path snapshot = latestSnapshot();
+            if (snapshot != null) {
+                BinarySnapshot.Loaded loaded = BinarySnapshot.read(snapshot, collections, codecs, executor);
+                sequence = loaded.sequence();
+                snapshotDocuments = loaded.documents();
+            }
+            List<WriteAheadLog.Record> records = WriteAheadLog.read(dataDirectory, sequence);
+            replay(records, executor);
+            if (!records.isEmpty()) {
+                sequence = records.get(records.size() - 1).sequence();
+            }
+
+            log = new WriteAheadLog(dataDirectory, segmentSize, syncMode, codecs);
+            log.open(sequence + 1);
+            collections.values().forEach(collection -> collection.attach(log));
+
+            Recovery recovery = new Recovery(snapshotDocuments, records.size(),
+                    Duration.ofNanos(System.nanoTime() - started));
+            logger.info("Recovered {} snapshot documents and {} log records from {} in {} ms",
+                    recovery.snapshotDocuments(), recovery.logRecords(), dataDirectory,
+                    recovery.duration().toMillis());
+            return recovery;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Writes a snapshot periodically.
+     */
+    @Scheduled(fixedDelayString = "${app.inmemory.snapshot-interval-ms:300000}",
+            initialDelayString = "${app.inmemory.snapshot-interval-ms:300000}")
+    public void scheduledSnapshot() {
+        if (log != null) {
+            snapshot();
+        }
+    }
+
+    /**
+     * Flushes the log periodically; only needed in {@code async} sync mode.
+     */
+    @Scheduled(fixedDelayString = "${app.inmemory.wal.flush-interval-ms:1000}")
+    public void flush() {
+        if (log != null && syncMode == WriteAheadLog.SyncMode.ASYNC) {
+            log.flush();
+        }
+    }
+
+    /**
+     * Writes a snapshot of all collections and deletes the log segments it covers.
+     *
+     * @return the last log sequence number the snapshot covers
+     * @throws IllegalStateException if persistence has not been started
+     */
+    public synchronized long snapshot() {
+        if (log == null) {
+            throw new IllegalStateException("In-memory persistence is not enabled");
+        }
+        long sequence = log.lastSequence();
+        Path target = dataDirectory.resolve(String.format("%s%020d%s", SNAPSHOT_PREFIX, sequence, SNAPSHOT_SUFFIX));
+        Path temp = dataDirectory.resolve(target.getFileName() + ".tmp");
+        BinarySnapshot.write(temp, sequence, List.copyOf(collections.values()), codecs);
+        try {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            try (FileChannel directory = FileChannel.open(dataDirectory, StandardOpenOption.READ)) {
+                directory.force(true);
+            }
+            for (Path older : snapshotFiles()) {
+                if (!older.equals(target)) {
+                    Files.deleteIfExists(older);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not install snapshot " + target, e);
+        }
+        log.truncateThrough(sequence);
+        return sequence;
+    }
+
+    /**
+     * Writes a final snapshot and closes the log.
+     */
+    @PreDestroy
+    public synchronized void close() {
+        if (log == null) {
+            return;
+        }
+        snapshot();
+        collections.values().forEach(collection -> collection.attach(CollectionJournal.NONE));
+        log.close();
+        log = null;
+    }
+
+    /**
+     * Replays log records. A {@code CLEAR} empties its collection first and
+     * makes earlier records of that collection irrelevant; the remaining
+     * records are partitioned by document across the executor.
+     */
+    private void replay(List<WriteAheadLog.Record> records, ExecutorService executor) {
+        Map<String, Long> lastClear = new HashMap<>();
+        for (WriteAheadLog.Record record : records) {
+            if (record.op() == WriteAheadLog.CLEAR) {
+                lastClear.put(record.collection(), record.sequence());
+            }
+        }
+        lastClear.keySet().stream()
+                .map(collections::get)
+                .filter(Objects::nonNull)
+                .forEach(collection -> collection.load(List.of()));
+
+        List<List<WriteAheadLog.Record>> partitions = new ArrayList<>();
+        for (int i = 0; i < recoveryThreads; i++) {
+            partitions.add(new ArrayList<>());
+        }
+        for (WriteAheadLog.Record record : records) {
+            if (record.op() == WriteAheadLog.CLEAR
+                    || record.sequence() < lastClear.getOrDefault(record.collection(), 0L)) {
+                continue;
+            }
+            if (!collections.containsKey(record.collection())) {
+                logger.warn("Skipping log record {} for unknown collection {}", record.sequence(), record.collection());
+                continue;
+            }
+            int partition = Math.floorMod((record.collection() + '\u0000' + record.id()).hashCode(), recoveryThreads);
+            partitions.get(partition).add(record);
+        }
+
+        List<Callable<Void>> tasks = partitions.stream()
+                .filter(partition -> !partition.isEmpty())
+                .<Callable<Void>>map(partition -> () -> {
+                    partition.forEach(this::apply);
+                    return null;
+                })
+                .toList();
+        try {
+            for (Future<Void> result : executor.invokeAll(tasks)) {
+                result.get();
+            }
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Could not replay write-ahead log", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while replaying write-ahead log", e);
+        }
+    }
+
+    private void apply(WriteAheadLog.Record record) {
+        InMemoryCollection<?> collection = collections.get(record.collection());
+        if (record.op() == WriteAheadLog.PUT) {
+            collection.recoverPut(record.id(), codecs.forType(collection.type()).decode(record.payload()));
+        } else if (record.op() == WriteAheadLog.REMOVE) {
+            collection.recoverRemove(record.id());
+        }
+    }
+
+    private Path latestSnapshot() {
+        List<Path> snapshots = snapshotFiles();
+        return snapshots.isEmpty() ? null : snapshots.get(snapshots.size() - 1);
+    }
+
+    private List<Path> snapshotFiles() {
+        if (!Files.isDirectory(dataDirectory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(dataDirectory)) {
+            return files.filter(path -> path.getFileName().toString().startsWith(SNAPSHOT_PREFIX)
+                            && path.getFileName().toString().endsWith(SNAPSHOT_SUFFIX))
+                    .sorted()
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not list " + dataDirectory, e);
+        }
+    }
+}
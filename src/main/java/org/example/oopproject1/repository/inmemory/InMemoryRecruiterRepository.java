@@ -0,0 +1,54 @@
+package org.example.oopproject1.repository.inmemory;
+
+import org.bson.types.ObjectId;
+import org.example.oopproject1.model.Recruiter;
+import org.example.oopproject1.repository.RecruiterRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * In-memory {@link RecruiterRepository} with company and email indexes.
+ *
+ * @since 1.1
+ */
+@Repository
+@Profile("inmemory")
+public class InMemoryRecruiterRepository extends InMemoryMongoRepository<Recruiter> implements RecruiterRepository {
+
+    /**
+     * Constructs the repository with an empty collection.
+     */
+    public InMemoryRecruiterRepository() {
+        super(new InMemoryCollection<>("recruiters", Recruiter.class, Recruiter::getId, Recruiter::setId)
+                .index("company", Recruiter::getCompany)
+                .index("email", Recruiter::getEmail));
+    }
+
+    @Override
+    public Page<Recruiter> findByCompany(String company, Pageable pageable) {
+        return collection.page(collection.lookup("company", company), pageable);
+    }
+
+    @Override
+    public List<Recruiter> findByCompany(String company) {
+        return collection.list(collection.lookup("company", company), Sort.unsorted());
+    }
+
+    @Override
+    public List<Recruiter> findByIdGreaterThan(ObjectId afterId, Pageable pageable) {
+        String after = afterId.toHexString();
+        return collection.page(collection.scan().filter(recruiter -> recruiter.getId().compareTo(after) > 0),
+                pageable).getContent();
+    }
+
+    @Override
+    public Optional<Recruiter> findByEmail(String email) {
+        return collection.list(collection.lookup("email", email).limit(1), Sort.unsorted()).stream().findFirst();
+    }
+}
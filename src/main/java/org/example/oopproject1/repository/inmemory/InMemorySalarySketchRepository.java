@@ -0,0 +1,25 @@
+package org.example.oopproject1.repository.inmemory;
+
+import org.example.oopproject1.model.SalarySketch;
+import org.example.oopproject1.repository.SalarySketchRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+/**
+ * In-memory {@link SalarySketchRepository}.
+ *
+ * @since 1.1
+ */
+@Repository
+@Profile("inmemory")
+public class InMemorySalarySketchRepository extends InMemoryMongoRepository<SalarySketch>
+        implements SalarySketchRepository {
+
+    /**
+     * Constructs the repository with an empty collection.
+     */
+    public InMemorySalarySketchRepository() {
+        super(new InMemoryCollection<>("salary_sketches", SalarySketch.class,
+                SalarySketch::getId, SalarySketch::setId));
+    }
+}
@@ -0,0 +1,52 @@
+package org.example.oopproject1.repository.inmemory;
+
+import org.example.oopproject1.model.User;
+import org.example.oopproject1.repository.UserRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * In-memory {@link UserRepository} with username and email indexes.
+ *
+ * @since 1.1
+ */
+@Repository
+@Profile("inmemory")
+public class InMemoryUserRepository extends InMemoryMongoRepository<User> implements UserRepository {
+
+    /**
+     * Constructs the repository with an empty collection.
+     */
+    public InMemoryUserRepository() {
+        super(new InMemoryCollection<>("users", User.class, User::getId, User::setId)
+                .index("username", User::getUsername)
+                .index("email", User::getEmail));
+    }
+
+    @Override
+    public Optional<User> findByUsername(String username) {
+        return first("username", username);
+    }
+
+    @Override
+    public Optional<User> findByEmail(String email) {
+        return first("email", email);
+    }
+
+    @Override
+    public Boolean existsByUsername(String username) {
+        return collection.lookup("username", username).findAny().isPresent();
+    }
+
+    @Override
+    public Boolean existsByEmail(String email) {
+        return collection.lookup("email", email).findAny().isPresent();
+    }
+
+    private Optional<User> first(String index, String key) {
+        return collection.list(collection.lookup(index, key).limit(1), Sort.unsorted()).stream().findFirst();
+    }
+}
@@ -0,0 +1,448 @@
+package org.example.oopproject1.repository.inmemory;
+
+import org.example.oopproject1.codec.EntityCodec;
+import org.example.oopproject1.codec.EntityCodecs;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Append-only log of collection mutations in memory-mapped segment files.
+ * <p>
+ * Each record is {@code [int length][int crc32c][long sequence][byte op]
+ * [short name length][name][short id length][id][payload]}, where the CRC
+ * covers everything after it. Segments are named {@code wal-<first sequence>.log}
+ * and preallocated to {@code segmentSize} bytes; unused space stays zero, so
+ * a reader stops at the first zero length or checksum mismatch, which is
+ * where a torn final write would be.
+ * </p>
+ * <p>
+ * In {@link SyncMode#GROUP} mode a writer waits until its record has been
+ * forced to disk. The first waiter forces everything appended so far while
+ * later arrivals wait for it, so concurrent writers share one {@code msync}.
+ * In {@link SyncMode#ASYNC} mode writers do not wait and {@link #flush()} is
+ * called periodically instead, trading the last moments of writes on a crash
+ * for throughput.
+ * </p>
+ *
+ * @since 1.1
+ */
+public final class WriteAheadLog implements CollectionJournal, Closeable {
+    private static final Logger logger = LoggerFactory.getLogger(WriteAheadLog.class);
+
+    /**
+     * When writers wait for their records to reach the disk.
+     */
+    public enum SyncMode {
+        /** Writers wait for an fsync shared with concurrent writers. */
+        GROUP,
+        /** Writers return immediately; the log is flushed periodically. */
+        ASYNC
+    }
+
+    static final byte PUT = 1;
+    static final byte REMOVE = 2;
+    static final byte CLEAR = 3;
+
+    private static final int HEADER_BYTES = 8;
+    private static final String PREFIX = "wal-";
+    private static final String SUFFIX = ".log";
+    private static final String DISCARDED_SUFFIX = ".discarded";
+
+    private final Path directory;
+    private final int segmentSize;
+    private final SyncMode syncMode;
+    private final EntityCodecs codecs;
+
+    private final ReentrantLock appendLock = new ReentrantLock();
+    private final List<Segment> closedSegments = new ArrayList<>();
+    private Segment current;
+    private long lastSequence;
+
+    private final ReentrantLock syncLock = new ReentrantLock();
+    private final Condition synced = syncLock.newCondition();
+    private boolean syncing;
+    private volatile long durableSequence;
+
+    /**
+     * Creates a log; call {@link #open(long)} before appending.
+     *
+     * @param directory   directory holding the segment files
+     * @param segmentSize size of each segment file in bytes
+     * @param syncMode    when writers wait for the disk
+     * @param codecs      codecs encoding the documents
+     */
+    public WriteAheadLog(Path directory, int segmentSize, SyncMode syncMode, EntityCodecs codecs) {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.syncMode = syncMode;
+        this.codecs = codecs;
+    }
+
+    /**
+     * Starts appending in a new segment. Existing segments are kept until
+     * {@link #truncateThrough(long)} drops them, except those starting at or
+     * after {@code nextSequence}: their records were not recovered and the
+     * new records reuse their sequence numbers, so empty ones are deleted and
+     * the others renamed to {@code *.log.discarded}, out of every later replay.
+     *
+     * @param nextSequence the sequence number of the next record
+     */
+    public void open(long nextSequence) {
+        appendLock.lock();
+        try {
+            Files.createDirectories(directory);
+            for (Path path : segmentFiles(directory)) {
+                if (firstSequence(path) < nextSequence) {
+                    closedSegments.add(new Segment(path, firstSequence(path)));
+                } else {
+                    discard(path);
+                }
+            }
+            lastSequence = nextSequence - 1;
+            durableSequence = lastSequence;
+            current = Segment.create(directory, nextSequence, segmentSize);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not open write-ahead log in " + directory, e);
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public long put(InMemoryCollection<?> collection, String id, Object document) {
+        EntityCodec codec = codecs.forType(collection.type());
+        return append(PUT, collection.name(), id, codec.encode(document));
+    }
+
+    @Override
+    public long remove(InMemoryCollection<?> collection, String id) {
+        return append(REMOVE, collection.name(), id, new byte[0]);
+    }
+
+    @Override
+    public long clear(InMemoryCollection<?> collection) {
+        return append(CLEAR, collection.name(), "", new byte[0]);
+    }
+
+    @Override
+    public void awaitDurable(long sequence) {
+        if (syncMode == SyncMode.GROUP) {
+            sync(sequence);
+        }
+    }
+
+    /**
+     * Forces every record appended so far to disk.
+     */
+    public void flush() {
+        sync(lastSequence());
+    }
+
+    /**
+     * Returns the sequence number of the last appended record.
+     *
+     * @return the sequence number, or the one before {@link #open(long)}'s argument if nothing was appended
+     */
+    public long lastSequence() {
+        appendLock.lock();
+        try {
+            return lastSequence;
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    /**
+     * Deletes the closed segments that hold only records up to the given
+     * sequence number, e.g. once a snapshot covers them.
+     *
+     * @param sequence the last sequence number that no longer needs the log
+     */
+    public void truncateThrough(long sequence) {
+        appendLock.lock();
+        try {
+            while (!closedSegments.isEmpty()) {
+                long nextFirst = closedSegments.size() > 1 ? closedSegments.get(1).firstSequence : current.firstSequence;
+                if (nextFirst - 1 > sequence) {
+                    break;
+                }
+                Files.deleteIfExists(closedSegments.remove(0).path);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not delete write-ahead log segment", e);
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    /**
+     * Forces outstanding records and closes the current segment.
+     */
+    @Override
+    public void close() {
+        flush();
+        appendLock.lock();
+        try {
+            current.close();
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    /**
+     * Reads the valid records of all segments in a directory, in sequence order.
+     * <p>
+     * Payloads are read-only views of the mapped segment files, so nothing is
+     * copied until a record is decoded.
+     * </p>
+     *
+     * @param directory     directory holding the segment files
+     * @param afterSequence records up to and including this sequence number are skipped
+     * @return the records
+     */
+    public static List<Record> read(Path directory, long afterSequence) {
+        List<Record> records = new ArrayList<>();
+        for (Path path : segmentFiles(directory)) {
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                readSegment(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()), afterSequence, records);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not read write-ahead log segment " + path, e);
+            }
+        }
+        return records;
+    }
+
+    private long append(byte op, String collection, String id, byte[] payload) {
+        byte[] name = collection.getBytes(StandardCharsets.UTF_8);
+        byte[] idBytes = id.getBytes(StandardCharsets.UTF_8);
+        int bodyLength = Long.BYTES + 1 + Short.BYTES + name.length + Short.BYTES + idBytes.length + payload.length;
+        ByteBuffer record = ByteBuffer.allocate(HEADER_BYTES + bodyLength);
+        appendLock.lock();
+        try {
+            long sequence = lastSequence + 1;
+            record.putInt(bodyLength).putInt(0).putLong(sequence).put(op)
+                    .putShort((short) name.length).put(name)
+                    .putShort((short) idBytes.length).put(idBytes)
+                    .put(payload);
+            CRC32C crc = new CRC32C();
+            crc.update(record.array(), HEADER_BYTES, bodyLength);
+            record.putInt(Integer.BYTES, (int) crc.getValue());
+            if (current.remaining() < record.capacity()) {
+                roll(sequence, record.capacity());
+            }
+            current.write(record.array());
+            lastSequence = sequence;
+            return sequence;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not append to write-ahead log", e);
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    private void roll(long nextSequence, int recordSize) throws IOException {
+        current.force(current.position);
+        current.close();
+        closedSegments.add(current);
+        current = Segment.create(directory, nextSequence, Math.max(segmentSize, recordSize));
+    }
+
+    /**
+     * Group commit: the first waiter forces the log on behalf of everyone
+     * who appended before it started; the others wait for that to finish.
+     */
+    private void sync(long sequence) {
+        if (durableSequence >= sequence) {
+            return;
+        }
+        syncLock.lock();
+        try {
+            while (durableSequence < sequence) {
+                if (syncing) {
+                    synced.awaitUninterruptibly();
+                    continue;
+                }
+                syncing = true;
+                long forced = durableSequence;
+                syncLock.unlock();
+                try {
+                    forced = forceAppended();
+                } finally {
+                    syncLock.lock();
+                    syncing = false;
+                    durableSequence = Math.max(durableSequence, forced);
+                    synced.signalAll();
+                }
+            }
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    private long forceAppended() {
+        Segment segment;
+        int end;
+        long target;
+        appendLock.lock();
+        try {
+            segment = current;
+            end = segment.position;
+            target = lastSequence;
+        } finally {
+            appendLock.unlock();
+        }
+        // earlier segments were forced when they were rolled
+        segment.force(end);
+        return target;
+    }
+
+    private static void readSegment(ByteBuffer segment, long afterSequence, List<Record> records) {
+        CRC32C crc = new CRC32C();
+        while (segment.remaining() >= HEADER_BYTES) {
+            int start = segment.position();
+            int bodyLength = segment.getInt(start);
+            if (bodyLength <= 0 || bodyLength > segment.remaining() - HEADER_BYTES) {
+                return;
+            }
+            ByteBuffer body = segment.slice(start + HEADER_BYTES, bodyLength);
+            crc.reset();
+            crc.update(body.duplicate());
+            if ((int) crc.getValue() != segment.getInt(start + Integer.BYTES)) {
+                return;
+            }
+            long sequence = body.getLong();
+            byte op = body.get();
+            String collection = readString(body);
+            String id = readString(body);
+            if (sequence > afterSequence) {
+                records.add(new Record(sequence, op, collection, id, body.slice()));
+            }
+            segment.position(start + HEADER_BYTES + bodyLength);
+        }
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getShort()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void discard(Path path) throws IOException {
+        List<Record> records = new ArrayList<>();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            readSegment(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()), Long.MIN_VALUE, records);
+        }
+        if (records.isEmpty()) {
+            Files.delete(path);
+            return;
+        }
+        Path target = path.resolveSibling(path.getFileName() + DISCARDED_SUFFIX);
+        Files.move(path, target, StandardCopyOption.REPLACE_EXISTING);
+        logger.warn("Discarded write-ahead log segment {} with {} records (sequences {} to {}) past the recovered "
+                        + "log; kept as {}", path.getFileName(), records.size(), records.get(0).sequence(),
+                records.get(records.size() - 1).sequence(), target.getFileName());
+    }
+
+    private static List<Path> segmentFiles(Path directory) {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.getFileName().toString().startsWith(PREFIX)
+                            && path.getFileName().toString().endsWith(SUFFIX))
+                    .sorted()
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not list " + directory, e);
+        }
+    }
+
+    private static long firstSequence(Path path) {
+        String name = path.getFileName().toString();
+        return Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length()));
+    }
+
+    /**
+     * One record read back from the log.
+     *
+     * @param sequence   the record's sequence number
+     * @param op         {@link #PUT}, {@link #REMOVE} or {@link #CLEAR}
+     * @param collection the collection name
+     * @param id         the document ID; empty for {@link #CLEAR}
+     * @param payload    the encoded document for {@link #PUT}; empty otherwise
+     */
+    public record Record(long sequence, byte op, String collection, String id, ByteBuffer payload) {
+    }
+
+    private static final class Segment {
+        private final Path path;
+        private final long firstSequence;
+        private FileChannel channel;
+        private MappedByteBuffer buffer;
+        private int position;
+        private int forcedPosition;
+
+        private Segment(Path path, long firstSequence) {
+            this.path = path;
+            this.firstSequence = firstSequence;
+        }
+
+        private static Segment create(Path directory, long firstSequence, int size) throws IOException {
+            Segment segment = new Segment(directory.resolve(String.format("%s%020d%s", PREFIX, firstSequence, SUFFIX)),
+                    firstSequence);
+            segment.channel = FileChannel.open(segment.path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+            segment.buffer = segment.channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            return segment;
+        }
+
+        private int remaining() {
+            return buffer.capacity() - position;
+        }
+
+        private void write(byte[] record) {
+            buffer.put(position, record);
+            position += record.length;
+        }
+
+        /**
+         * Forces the bytes written since the last force, up to {@code end},
+         * which the caller read while holding the append lock.
+         */
+        private synchronized void force(int end) {
+            if (end > forcedPosition) {
+                buffer.force(forcedPosition, end - forcedPosition);
+                forcedPosition = end;
+            }
+        }
+
+        private void close() {
+            try {
+                if (channel != null) {
+                    channel.close();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
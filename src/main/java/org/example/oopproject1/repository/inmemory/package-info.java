@@ -0,0 +1,5 @@
+/**
+ * In-memory implementations of the repository interfaces, active under the
+ * {@code inmemory} profile for benchmarking and runs without MongoDB.
+ */
+package org.example.oopproject1.repository.inmemory;
\ No newline at end of file
@@ -0,0 +1,47 @@
+package org.example.oopproject1.routing;
+
+import com.mongodb.ReadPreference;
+
+/**
+ * The read preference chosen for the current thread, if any.
+ * <p>
+ * Routing is decided once, at the outermost routed call or at the start of
+ * a request, and nested calls keep that decision: a read made while a write
+ * is running, or during a request pinned to the primary, stays on the
+ * primary even if the read itself is marked {@link SecondaryReads}.
+ * </p>
+ *
+ * @since 1.1
+ */
+public final class ReadRoute {
+
+    private static final ThreadLocal<ReadPreference> CURRENT = new ThreadLocal<>();
+
+    private ReadRoute() {
+    }
+
+    /**
+     * Returns the read preference chosen for the current thread.
+     *
+     * @return the read preference, or {@code null} if nothing has been decided
+     */
+    public static ReadPreference current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Chooses the read preference for the current thread.
+     *
+     * @param readPreference the read preference, or {@code null} to clear it
+     * @return the previous read preference, to be restored afterwards
+     */
+    static ReadPreference set(ReadPreference readPreference) {
+        ReadPreference previous = CURRENT.get();
+        if (readPreference == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(readPreference);
+        }
+        return previous;
+    }
+}
@@ -0,0 +1,62 @@
+package org.example.oopproject1.routing;
+
+import com.mongodb.ReadPreference;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Chooses the {@link ReadRoute} for calls into {@link SecondaryReads} beans:
+ * reads go to the secondary read preference, anything else to the primary.
+ * A call made while a route is already chosen keeps it.
+ *
+ * @since 1.1
+ */
+final class ReadRoutingAdvice implements MethodInterceptor {
+
+    private static final List<String> READ_PREFIXES = List.of("get", "find", "search", "count", "exists");
+
+    private final ReadPreference secondary;
+    private final Map<Method, Boolean> reads = new ConcurrentHashMap<>();
+
+    ReadRoutingAdvice(ReadPreference secondary) {
+        this.secondary = secondary;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        if (ReadRoute.current() != null) {
+            return invocation.proceed();
+        }
+        ReadPreference previous = ReadRoute.set(isRead(invocation) ? secondary : ReadPreference.primary());
+        try {
+            return invocation.proceed();
+        } finally {
+            ReadRoute.set(previous);
+        }
+    }
+
+    private boolean isRead(MethodInvocation invocation) {
+        Class<?> target = invocation.getThis() != null
+                ? AopUtils.getTargetClass(invocation.getThis())
+                : invocation.getMethod().getDeclaringClass();
+        Method method = AopUtils.getMostSpecificMethod(invocation.getMethod(), target);
+        return reads.computeIfAbsent(method, m -> isRead(m, target));
+    }
+
+    static boolean isRead(Method method, Class<?> target) {
+        if (AnnotatedElementUtils.hasAnnotation(method, SecondaryReads.class)) {
+            return true;
+        }
+        return AnnotatedElementUtils.hasAnnotation(target, SecondaryReads.class)
+                && Modifier.isPublic(method.getModifiers())
+                && READ_PREFIXES.stream().anyMatch(method.getName()::startsWith);
+    }
+}
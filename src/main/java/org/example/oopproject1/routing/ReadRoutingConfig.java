@@ -0,0 +1,96 @@
+package org.example.oopproject1.routing;
+
+import com.mongodb.ReadPreference;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.annotation.Role;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Routes {@link SecondaryReads} to secondaries with bounded staleness, and
+ * keeps writes and the reads of users who just wrote on the primary.
+ * <p>
+ * Replaces Boot's {@code mongoTemplate} with a {@link RoutingMongoTemplate},
+ * so repositories route as well. The advice is applied through Spring AOP
+ * proxies, hence only to calls made from outside the annotated bean; a
+ * service calling its own read method runs it with the caller's route.
+ * </p>
+ *
+ * @since 1.1
+ */
+@Configuration
+@Profile("!inmemory")
+@ConditionalOnProperty(name = "app.mongo.routing.enabled", havingValue = "true", matchIfMissing = true)
+public class ReadRoutingConfig {
+
+    /**
+     * The smallest maxStalenessSeconds a MongoDB server accepts.
+     */
+    static final Duration MIN_STALENESS = Duration.ofSeconds(90);
+
+    /**
+     * Builds the secondaryPreferred read preference used for routed reads.
+     *
+     * @param maxStaleness how far behind the primary a secondary may be to serve reads
+     * @return the read preference
+     * @throws IllegalArgumentException if {@code maxStaleness} is below what the server accepts
+     */
+    static ReadPreference secondaryPreferred(Duration maxStaleness) {
+        if (maxStaleness.compareTo(MIN_STALENESS) < 0) {
+            throw new IllegalArgumentException("app.mongo.routing.max-staleness must be at least "
+                    + MIN_STALENESS + ", was " + maxStaleness);
+        }
+        return ReadPreference.secondaryPreferred(maxStaleness.toSeconds(), TimeUnit.SECONDS);
+    }
+
+    /**
+     * Applies the {@link ReadRoutingAdvice} to beans and methods annotated {@link SecondaryReads}.
+     *
+     * @param maxStaleness how far behind the primary a secondary may be to serve reads
+     * @return the advisor
+     */
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor readRoutingAdvisor(@Value("${app.mongo.routing.max-staleness:PT90S}") Duration maxStaleness) {
+        ComposablePointcut pointcut = new ComposablePointcut(
+                AnnotationMatchingPointcut.forClassAnnotation(SecondaryReads.class))
+                .union(AnnotationMatchingPointcut.forMethodAnnotation(SecondaryReads.class));
+        return new DefaultPointcutAdvisor(pointcut, new ReadRoutingAdvice(secondaryPreferred(maxStaleness)));
+    }
+
+    /**
+     * The template used by repositories and services, reading with the current {@link ReadRoute}.
+     *
+     * @param mongoDatabaseFactory the database factory
+     * @param mongoConverter       the converter
+     * @return the template
+     */
+    @Bean
+    public MongoTemplate mongoTemplate(MongoDatabaseFactory mongoDatabaseFactory, MongoConverter mongoConverter) {
+        return new RoutingMongoTemplate(mongoDatabaseFactory, mongoConverter);
+    }
+
+    /**
+     * Memory of recent writers, whose reads stay on the primary.
+     *
+     * @param pinAfterWrite how long after a write the user's reads stay on the primary
+     * @return the memory
+     */
+    @Bean
+    public RecentWriters recentWriters(@Value("${app.mongo.routing.pin-after-write:PT90S}") Duration pinAfterWrite) {
+        return new RecentWriters(pinAfterWrite);
+    }
+}
@@ -0,0 +1,95 @@
+package org.example.oopproject1.routing;
+
+import com.mongodb.ReadPreference;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.security.Principal;
+import java.time.Instant;
+import java.util.Set;
+
+/**
+ * Pins requests to the primary where secondaries could be behind: every
+ * write request, and every request from a user who wrote within the
+ * {@link RecentWriters} window. Other requests are left to the
+ * {@link ReadRoutingAdvice}.
+ * <p>
+ * Write responses also set the {@value #LAST_WRITE_COOKIE} cookie to the
+ * time of the write, so that the client's reads stay pinned on every
+ * instance, not only on the one that took the write.
+ * </p>
+ *
+ * @since 1.1
+ */
+class ReadRoutingInterceptor implements HandlerInterceptor {
+
+    private static final Set<String> SAFE_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+    private static final String PINNED = ReadRoutingInterceptor.class.getName() + ".PINNED";
+
+    /**
+     * Cookie holding the epoch millisecond of the client's last write.
+     */
+    static final String LAST_WRITE_COOKIE = "last_write";
+
+    private final RecentWriters recentWriters;
+
+    ReadRoutingInterceptor(RecentWriters recentWriters) {
+        this.recentWriters = recentWriters;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        Principal principal = request.getUserPrincipal();
+        String user = principal != null ? principal.getName() : null;
+        boolean write = !SAFE_METHODS.contains(request.getMethod());
+        if (write) {
+            if (user != null) {
+                recentWriters.wrote(user);
+            }
+            response.addHeader(HttpHeaders.SET_COOKIE, lastWriteCookie(Instant.now()).toString());
+        }
+        if (write || (user != null && recentWriters.isPinned(user)) || wroteRecently(request)) {
+            ReadRoute.set(ReadPreference.primary());
+            request.setAttribute(PINNED, Boolean.TRUE);
+        }
+        return true;
+    }
+
+    private ResponseCookie lastWriteCookie(Instant now) {
+        return ResponseCookie.from(LAST_WRITE_COOKIE, Long.toString(now.toEpochMilli()))
+                .path("/")
+                .maxAge(recentWriters.window())
+                .httpOnly(true)
+                .sameSite("Lax")
+                .build();
+    }
+
+    private boolean wroteRecently(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return false;
+        }
+        for (Cookie cookie : cookies) {
+            if (LAST_WRITE_COOKIE.equals(cookie.getName())) {
+                try {
+                    return recentWriters.isWithinWindow(Instant.ofEpochMilli(Long.parseLong(cookie.getValue())));
+                } catch (NumberFormatException e) {
+                    return false;
+                }
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        if (request.getAttribute(PINNED) != null) {
+            ReadRoute.set(null);
+        }
+    }
+}
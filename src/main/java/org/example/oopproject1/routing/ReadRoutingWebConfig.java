@@ -0,0 +1,34 @@
+package org.example.oopproject1.routing;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Registers the {@link ReadRoutingInterceptor} for the REST API. Without
+ * {@link RecentWriters}, e.g. with routing disabled or in controller tests,
+ * requests are not pinned.
+ *
+ * @since 1.1
+ */
+@Configuration
+public class ReadRoutingWebConfig implements WebMvcConfigurer {
+
+    private final ObjectProvider<RecentWriters> recentWriters;
+
+    /**
+     * Constructs the configuration.
+     *
+     * @param recentWriters the memory of recent writers, if present in the context
+     */
+    public ReadRoutingWebConfig(ObjectProvider<RecentWriters> recentWriters) {
+        this.recentWriters = recentWriters;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        recentWriters.ifAvailable(writers ->
+                registry.addInterceptor(new ReadRoutingInterceptor(writers)).addPathPatterns("/api/**"));
+    }
+}
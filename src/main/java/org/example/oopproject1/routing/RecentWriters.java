@@ -0,0 +1,90 @@
+package org.example.oopproject1.routing;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remembers which users wrote recently, so that their reads can stay on the
+ * primary until secondaries are guaranteed to have caught up with the write.
+ * <p>
+ * The memory is local to this instance. Behind a load balancer, the
+ * {@link ReadRoutingInterceptor} also hands clients the time of their last
+ * write in a cookie, which {@link #isWithinWindow(Instant)} checks on
+ * whichever instance the next request reaches; clients that drop cookies see
+ * their own writes only while their requests reach the same instance.
+ * </p>
+ *
+ * @since 1.1
+ */
+public class RecentWriters {
+
+    private static final int PURGE_THRESHOLD = 10_000;
+
+    private final Duration window;
+    private final long windowNanos;
+    private final Map<String, Long> lastWrites = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs an empty memory.
+     *
+     * @param window how long after a write the user's reads stay on the primary
+     */
+    public RecentWriters(Duration window) {
+        this.window = window;
+        this.windowNanos = window.toNanos();
+    }
+
+    /**
+     * Returns how long after a write reads stay on the primary.
+     *
+     * @return the window
+     */
+    public Duration window() {
+        return window;
+    }
+
+    /**
+     * Records that a user is writing now.
+     *
+     * @param user the user name
+     */
+    public void wrote(String user) {
+        long now = System.nanoTime();
+        lastWrites.put(user, now);
+        if (lastWrites.size() > PURGE_THRESHOLD) {
+            lastWrites.values().removeIf(at -> now - at >= windowNanos);
+        }
+    }
+
+    /**
+     * Checks whether a user's reads must stay on the primary.
+     *
+     * @param user the user name
+     * @return {@code true} if the user wrote within the window
+     */
+    public boolean isPinned(String user) {
+        Long at = lastWrites.get(user);
+        if (at == null) {
+            return false;
+        }
+        if (System.nanoTime() - at < windowNanos) {
+            return true;
+        }
+        lastWrites.remove(user, at);
+        return false;
+    }
+
+    /**
+     * Checks whether a write made at the given time, by this or another
+     * instance, is recent enough for reads to stay on the primary. Instances
+     * are assumed to keep their clocks within a small fraction of the window.
+     *
+     * @param writtenAt when the write was made
+     * @return {@code true} if the write is within the window
+     */
+    public boolean isWithinWindow(Instant writtenAt) {
+        return writtenAt.isAfter(Instant.now().minus(window));
+    }
+}
@@ -0,0 +1,50 @@
+package org.example.oopproject1.routing;
+
+import com.mongodb.ReadPreference;
+import com.mongodb.client.MongoCollection;
+import org.bson.Document;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+
+/**
+ * {@link MongoTemplate} that reads with the {@link ReadRoute} of the calling
+ * thread. Without a route it behaves as a plain template, reading with the
+ * client's default read preference. A read preference set on an individual
+ * query still takes precedence.
+ *
+ * @since 1.1
+ */
+public class RoutingMongoTemplate extends MongoTemplate {
+
+    /**
+     * Constructs the template.
+     *
+     * @param mongoDbFactory the database factory
+     * @param mongoConverter the converter
+     */
+    public RoutingMongoTemplate(MongoDatabaseFactory mongoDbFactory, MongoConverter mongoConverter) {
+        super(mongoDbFactory, mongoConverter);
+    }
+
+    @Override
+    protected MongoCollection<Document> prepareCollection(MongoCollection<Document> collection) {
+        MongoCollection<Document> prepared = super.prepareCollection(collection);
+        ReadPreference route = ReadRoute.current();
+        if (route == null || route.equals(prepared.getReadPreference())) {
+            return prepared;
+        }
+        return prepared.withReadPreference(route);
+    }
+
+    @Override
+    public boolean hasReadPreference() {
+        return ReadRoute.current() != null || super.hasReadPreference();
+    }
+
+    @Override
+    public ReadPreference getReadPreference() {
+        ReadPreference route = ReadRoute.current();
+        return route != null ? route : super.getReadPreference();
+    }
+}
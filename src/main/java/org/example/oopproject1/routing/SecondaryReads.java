@@ -0,0 +1,25 @@
+package org.example.oopproject1.routing;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks reads that may be served by a secondary within the configured
+ * staleness bound.
+ * <p>
+ * On a method, that method is routed. On a type, the public methods whose
+ * names start with {@code get}, {@code find}, {@code search}, {@code count}
+ * or {@code exists} are routed, and every other public method is treated as
+ * a write: it runs on the primary, and so does every read it makes.
+ * </p>
+ *
+ * @since 1.1
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+public @interface SecondaryReads {
+}
@@ -0,0 +1,7 @@
+/**
+ * Read/write routing for MongoDB: the {@link org.example.oopproject1.routing.SecondaryReads}
+ * marker for browsing reads, the advice and web interceptor that decide where
+ * each call runs, and the template that applies the decision to every
+ * collection it touches.
+ */
+package org.example.oopproject1.routing;
@@ -0,0 +1,348 @@
+package org.example.oopproject1.search;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * Typo-tolerant word index over documents, answering "which documents
+ * contain words within a small edit distance of every query word".
+ * <p>
+ * Words are indexed by their trigrams, padded with a boundary marker so
+ * that the first and last letters count as well. A query word is compared,
+ * by bounded Levenshtein distance, only with indexed words of similar
+ * length sharing enough trigrams with it: one edit changes at most three
+ * trigrams, so a word within distance {@code d} of a query word with
+ * {@code n} distinct trigrams shares at least {@code n - 3d} of them. The allowed
+ * distance grows with the word length: none up to three letters, one up to
+ * six, two beyond.
+ * </p>
+ * <p>
+ * Queries share a read lock and never block each other; updates take the
+ * write lock.
+ * </p>
+ *
+ * @since 1.1
+ */
+public final class FuzzyIndex {
+
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}+#]+");
+    private static final char BOUNDARY = '\u0000';
+
+    /** Word to the documents containing it. */
+    private final Map<String, Set<String>> postings = new HashMap<>();
+    /** Trigram to the words containing it. */
+    private final Map<String, Set<String>> trigrams = new HashMap<>();
+    /** Document to its distinct words, to retract them on update. */
+    private final Map<String, String[]> words = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Indexes a document, replacing its previous text.
+     *
+     * @param id    the document ID
+     * @param texts the document's text fields; {@code null} elements are skipped
+     */
+    public void put(String id, Collection<String> texts) {
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String text : texts) {
+            tokens.addAll(tokenize(text));
+        }
+        lock.writeLock().lock();
+        try {
+            retract(id);
+            if (tokens.isEmpty()) {
+                return;
+            }
+            words.put(id, tokens.toArray(String[]::new));
+            for (String token : tokens) {
+                Set<String> documents = postings.computeIfAbsent(token, t -> new HashSet<>());
+                if (documents.isEmpty()) {
+                    for (String trigram : trigrams(token)) {
+                        trigrams.computeIfAbsent(trigram, g -> new HashSet<>()).add(token);
+                    }
+                }
+                documents.add(id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes a document.
+     *
+     * @param id the document ID
+     */
+    public void remove(String id) {
+        lock.writeLock().lock();
+        try {
+            retract(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Finds the documents matching every word of a query within the allowed
+     * edit distance, closest first.
+     * <p>
+     * A one-word query reads the postings of the closest words first and
+     * stops at {@code limit}. Longer queries start from the word with the
+     * fewest postings and check the remaining words against those
+     * candidates only.
+     * </p>
+     *
+     * @param query the query
+     * @param limit the maximum number of document IDs returned
+     * @return the matching document IDs, by total edit distance
+     */
+    public List<String> search(String query, int limit) {
+        List<String> tokens = tokenize(query);
+        if (tokens.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            List<List<Map.Entry<String, Integer>>> similar = new ArrayList<>(tokens.size());
+            for (String token : new LinkedHashSet<>(tokens)) {
+                List<Map.Entry<String, Integer>> words = new ArrayList<>(similarWords(token).entrySet());
+                if (words.isEmpty()) {
+                    return List.of();
+                }
+                words.sort(Map.Entry.comparingByValue());
+                similar.add(words);
+            }
+            if (similar.size() == 1) {
+                Set<String> found = new LinkedHashSet<>();
+                for (Map.Entry<String, Integer> word : similar.get(0)) {
+                    for (String id : postings.get(word.getKey())) {
+                        found.add(id);
+                        if (found.size() == limit) {
+                            return new ArrayList<>(found);
+                        }
+                    }
+                }
+                return new ArrayList<>(found);
+            }
+            similar.sort(Comparator.comparingLong(this::postingCount));
+            Map<String, Integer> scores = new HashMap<>();
+            for (Map.Entry<String, Integer> word : similar.get(0)) {
+                for (String id : postings.get(word.getKey())) {
+                    scores.putIfAbsent(id, word.getValue());
+                }
+            }
+            for (List<Map.Entry<String, Integer>> words : similar.subList(1, similar.size())) {
+                scores.replaceAll((id, score) -> {
+                    for (Map.Entry<String, Integer> word : words) {
+                        if (postings.get(word.getKey()).contains(id)) {
+                            return score + word.getValue();
+                        }
+                    }
+                    return null;
+                });
+                scores.values().removeIf(Objects::isNull);
+            }
+            return scores.entrySet().stream()
+                    .sorted(Map.Entry.comparingByValue())
+                    .limit(limit)
+                    .map(Map.Entry::getKey)
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private long postingCount(List<Map.Entry<String, Integer>> words) {
+        long count = 0;
+        for (Map.Entry<String, Integer> word : words) {
+            count += postings.get(word.getKey()).size();
+        }
+        return count;
+    }
+
+    /**
+     * Returns the indexed words within the allowed distance of a query word.
+     *
+     * @param token a normalized query word
+     * @return the similar words and their distances
+     */
+    Map<String, Integer> similarWords(String token) {
+        int maxDistance = maxDistance(token.length());
+        Map<String, Integer> similar = new HashMap<>();
+        if (maxDistance == 0) {
+            if (postings.containsKey(token)) {
+                similar.put(token, 0);
+            }
+            return similar;
+        }
+        Set<String> grams = trigrams(token);
+        int minShared = grams.size() - 3 * maxDistance;
+        Map<String, Integer> shared = new HashMap<>();
+        for (String trigram : grams) {
+            for (String word : trigrams.getOrDefault(trigram, Set.of())) {
+                shared.merge(word, 1, Integer::sum);
+            }
+        }
+        shared.forEach((word, count) -> {
+            if (Math.abs(word.length() - token.length()) <= maxDistance
+                    && count >= minShared) {
+                int distance = distance(token, word, maxDistance);
+                if (distance <= maxDistance) {
+                    similar.put(word, distance);
+                }
+            }
+        });
+        return similar;
+    }
+
+    /**
+     * Returns the number of indexed documents.
+     *
+     * @return the document count
+     */
+    public int documents() {
+        lock.readLock().lock();
+        try {
+            return words.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the number of distinct indexed words.
+     *
+     * @return the vocabulary size
+     */
+    public int terms() {
+        lock.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the number of entries in the word and trigram posting lists,
+     * the bulk of the index's memory.
+     *
+     * @return the total posting count
+     */
+    public long postings() {
+        lock.readLock().lock();
+        try {
+            long total = 0;
+            for (Set<String> documents : postings.values()) {
+                total += documents.size();
+            }
+            for (Set<String> tokens : trigrams.values()) {
+                total += tokens.size();
+            }
+            return total;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the largest edit distance tolerated for a query word.
+     *
+     * @param length the length of the query word
+     * @return the largest tolerated distance
+     */
+    public static int maxDistance(int length) {
+        return length <= 3 ? 0 : length <= 6 ? 1 : 2;
+    }
+
+    /**
+     * Computes the Levenshtein distance between two words, stopping as soon
+     * as it is known to exceed a bound.
+     *
+     * @param a   a word
+     * @param b   another word
+     * @param max the bound
+     * @return the distance, or {@code max + 1} if it exceeds {@code max}
+     */
+    public static int distance(String a, String b, int max) {
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMin = i;
+            for (int j = 1; j <= b.length(); j++) {
+                int substitution = previous[j - 1] + (a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1);
+                current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+                rowMin = Math.min(rowMin, current[j]);
+            }
+            if (rowMin > max) {
+                return max + 1;
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return Math.min(previous[b.length()], max + 1);
+    }
+
+    /**
+     * Splits text into lower-case words; {@code +} and {@code #} are kept, as in "C++" or "C#".
+     */
+    static List<String> tokenize(String text) {
+        if (text == null) {
+            return List.of();
+        }
+        List<String> tokens = new ArrayList<>();
+        for (String token : SEPARATORS.split(text.toLowerCase(Locale.ROOT))) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    private static Set<String> trigrams(String word) {
+        String padded = BOUNDARY + word + BOUNDARY;
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            grams.add(padded.substring(i, i + 3));
+        }
+        return grams;
+    }
+
+    private void retract(String id) {
+        String[] previous = words.remove(id);
+        if (previous == null) {
+            return;
+        }
+        for (String token : previous) {
+            Set<String> documents = postings.get(token);
+            documents.remove(id);
+            if (documents.isEmpty()) {
+                postings.remove(token);
+                for (String trigram : trigrams(token)) {
+                    Set<String> tokens = trigrams.get(trigram);
+                    tokens.remove(token);
+                    if (tokens.isEmpty()) {
+                        trigrams.remove(trigram);
+                    }
+                }
+            }
+        }
+    }
+}
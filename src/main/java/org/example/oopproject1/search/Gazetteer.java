@@ -0,0 +1,128 @@
+package org.example.oopproject1.search;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.data.geo.Point;
+import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.text.Normalizer;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * Offline place-name lookup turning job locations into coordinates.
+ * <p>
+ * Places are read from a semicolon-separated file of name, aliases
+ * separated by {@code |}, latitude and longitude; lines starting with
+ * {@code #} are comments. Names match ignoring case, accents, punctuation
+ * and repeated spaces, and a location not found as a whole is looked up
+ * again without anything after its first comma, so "London, UK" finds
+ * London. Nothing is fetched over the network.
+ * </p>
+ *
+ * @since 1.1
+ */
+@Component
+public class Gazetteer {
+
+    private static final double EARTH_RADIUS_KM = 6371.0088;
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern PUNCTUATION = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private final Map<String, GeoJsonPoint> places = new HashMap<>();
+
+    /**
+     * Loads the gazetteer.
+     *
+     * @param resource the place file
+     * @throws UncheckedIOException if the file cannot be read
+     * @throws IllegalArgumentException if a line is malformed
+     */
+    public Gazetteer(@Value("${app.geo.gazetteer:classpath:gazetteer/cities.csv}") Resource resource) {
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            int number = 0;
+            while ((line = reader.readLine()) != null) {
+                number++;
+                if (line.isBlank() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] columns = line.split(";", -1);
+                if (columns.length != 4) {
+                    throw new IllegalArgumentException(resource.getDescription() + " line " + number
+                            + ": expected name;aliases;latitude;longitude");
+                }
+                GeoJsonPoint point = new GeoJsonPoint(Double.parseDouble(columns[3].strip()),
+                        Double.parseDouble(columns[2].strip()));
+                places.putIfAbsent(normalize(columns[0]), point);
+                for (String alias : columns[1].split("\\|")) {
+                    if (!alias.isBlank()) {
+                        places.putIfAbsent(normalize(alias), point);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read gazetteer " + resource.getDescription(), e);
+        }
+    }
+
+    /**
+     * Looks up the coordinates of a location.
+     *
+     * @param location a place name as entered on a job, e.g. {@code "NYC"} or {@code "Berlin, Germany"}
+     * @return the coordinates, or empty for unknown places and {@code null}
+     */
+    public Optional<GeoJsonPoint> locate(String location) {
+        if (location == null) {
+            return Optional.empty();
+        }
+        GeoJsonPoint point = places.get(normalize(location));
+        int comma = location.indexOf(',');
+        if (point == null && comma > 0) {
+            point = places.get(normalize(location.substring(0, comma)));
+        }
+        return Optional.ofNullable(point);
+    }
+
+    /**
+     * Returns the number of names and aliases known.
+     *
+     * @return the name count
+     */
+    public int size() {
+        return places.size();
+    }
+
+    /**
+     * Computes the great-circle distance between two points with the
+     * haversine formula.
+     *
+     * @param a a point, x being the longitude and y the latitude
+     * @param b another point
+     * @return the distance in kilometres
+     */
+    public static double distanceKm(Point a, Point b) {
+        double lat1 = Math.toRadians(a.getY());
+        double lat2 = Math.toRadians(b.getY());
+        double sinLat = Math.sin((lat2 - lat1) / 2);
+        double sinLng = Math.sin(Math.toRadians(b.getX() - a.getX()) / 2);
+        double h = sinLat * sinLat + Math.cos(lat1) * Math.cos(lat2) * sinLng * sinLng;
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(h)));
+    }
+
+    private static String normalize(String name) {
+        String decomposed = Normalizer.normalize(name, Normalizer.Form.NFD);
+        String plain = MARKS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+        return PUNCTUATION.matcher(plain).replaceAll(" ").strip();
+    }
+}
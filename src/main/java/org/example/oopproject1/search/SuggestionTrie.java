@@ -0,0 +1,331 @@
+package org.example.oopproject1.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Compressed (radix) trie of weighted terms answering "most frequent terms
+ * starting with this prefix" queries.
+ * <p>
+ * Matching ignores case and repeated whitespace, and a term also matches
+ * from the start of each of its words, so "eng" suggests "Backend
+ * Engineer". Each node caches the heaviest terms below it, so a query only
+ * walks down the prefix and copies a cached list, whatever the number of
+ * terms; weight changes recompute those lists along the term's paths only.
+ * </p>
+ * <p>
+ * Queries share a read lock and never block each other; updates take the
+ * write lock.
+ * </p>
+ *
+ * @since 1.1
+ */
+public final class SuggestionTrie {
+
+    private static final Comparator<Term> HEAVIEST_FIRST =
+            Comparator.comparingLong((Term term) -> -term.weight).thenComparing(term -> term.key);
+
+    private final int cacheSize;
+    private final Node root = new Node("");
+    private final Map<String, Term> terms = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * A suggested term and how often it occurs.
+     *
+     * @param text   the term as first seen
+     * @param weight the number of occurrences
+     */
+    public record Match(String text, long weight) {
+    }
+
+    /**
+     * Constructs an empty trie.
+     *
+     * @param cacheSize the number of suggestions cached per node, i.e. the most a query can return
+     */
+    public SuggestionTrie(int cacheSize) {
+        this.cacheSize = cacheSize;
+    }
+
+    /**
+     * Adds occurrences of a term, or removes them when {@code delta} is
+     * negative. A term whose weight drops to zero is removed.
+     *
+     * @param text  the term; {@code null} and blank terms are ignored
+     * @param delta the change in occurrences
+     */
+    public void add(String text, long delta) {
+        String key = normalize(text);
+        if (key.isEmpty() || delta == 0) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            Term term = terms.get(key);
+            if (term == null) {
+                if (delta < 0) {
+                    return;
+                }
+                term = new Term(key, text.strip());
+                terms.put(key, term);
+                for (String suffix : wordSuffixes(key)) {
+                    insert(suffix).attach(term);
+                }
+            }
+            term.weight += delta;
+            if (term.weight <= 0) {
+                terms.remove(key);
+                for (String suffix : wordSuffixes(key)) {
+                    detach(suffix, term);
+                }
+            }
+            for (String suffix : wordSuffixes(key)) {
+                refresh(path(suffix));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the heaviest terms matching a prefix.
+     *
+     * @param prefix the prefix typed so far
+     * @param limit  the maximum number of suggestions, at most the cache size
+     * @return the suggestions, heaviest first
+     */
+    public List<Match> suggest(String prefix, int limit) {
+        String key = normalize(prefix);
+        lock.readLock().lock();
+        try {
+            Node node = root;
+            int i = 0;
+            while (i < key.length()) {
+                Node child = node.child(key.charAt(i));
+                if (child == null) {
+                    return List.of();
+                }
+                int length = Math.min(child.label.length(), key.length() - i);
+                if (!child.label.regionMatches(0, key, i, length)) {
+                    return List.of();
+                }
+                node = child;
+                i += length;
+            }
+            int count = Math.min(limit, node.top.length);
+            List<Match> matches = new ArrayList<>(count);
+            for (int j = 0; j < count; j++) {
+                matches.add(new Match(node.top[j].text, node.top[j].weight));
+            }
+            return matches;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the number of distinct terms.
+     *
+     * @return the term count
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return terms.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Lower-cases a term and collapses its whitespace.
+     */
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return String.join(" ", text.strip().toLowerCase(Locale.ROOT).split("\\s+"));
+    }
+
+    /**
+     * The normalized term and its suffixes starting at each later word.
+     */
+    private static List<String> wordSuffixes(String key) {
+        List<String> suffixes = new ArrayList<>(2);
+        suffixes.add(key);
+        for (int i = key.indexOf(' '); i >= 0; i = key.indexOf(' ', i + 1)) {
+            suffixes.add(key.substring(i + 1));
+        }
+        return suffixes;
+    }
+
+    private Node insert(String key) {
+        Node node = root;
+        int i = 0;
+        while (i < key.length()) {
+            Node child = node.child(key.charAt(i));
+            if (child == null) {
+                child = new Node(key.substring(i));
+                node.addChild(child);
+                return child;
+            }
+            int common = 0;
+            int max = Math.min(child.label.length(), key.length() - i);
+            while (common < max && child.label.charAt(common) == key.charAt(i + common)) {
+                common++;
+            }
+            if (common < child.label.length()) {
+                Node split = new Node(child.label.substring(0, common));
+                node.replaceChild(child, split);
+                child.label = child.label.substring(common);
+                split.addChild(child);
+                split.top = child.top;
+                child = split;
+            }
+            node = child;
+            i += common;
+        }
+        return node;
+    }
+
+    private void detach(String key, Term term) {
+        List<Node> path = path(key);
+        Node node = path.get(path.size() - 1);
+        node.detach(term);
+        for (int i = path.size() - 1; i > 0 && path.get(i).isEmpty(); i--) {
+            path.get(i - 1).removeChild(path.get(i));
+        }
+    }
+
+    /**
+     * The nodes from the root to an inserted key, or as far as they still exist.
+     */
+    private List<Node> path(String key) {
+        List<Node> path = new ArrayList<>();
+        Node node = root;
+        path.add(node);
+        int i = 0;
+        while (i < key.length()) {
+            node = node.child(key.charAt(i));
+            if (node == null || !key.startsWith(node.label, i)) {
+                break;
+            }
+            path.add(node);
+            i += node.label.length();
+        }
+        return path;
+    }
+
+    private void refresh(List<Node> path) {
+        for (int i = path.size() - 1; i >= 0; i--) {
+            path.get(i).refresh(cacheSize);
+        }
+    }
+
+    private static final class Term {
+
+        final String key;
+        final String text;
+        long weight;
+
+        Term(String key, String text) {
+            this.key = key;
+            this.text = text;
+        }
+    }
+
+    private static final class Node {
+
+        private static final Node[] NO_CHILDREN = new Node[0];
+        private static final Term[] NO_TERMS = new Term[0];
+
+        String label;
+        /** Children sorted by the first character of their label. */
+        Node[] children = NO_CHILDREN;
+        /** Terms ending exactly here; usually one. */
+        Term[] terms = NO_TERMS;
+        /** The heaviest terms at or below this node. */
+        Term[] top = NO_TERMS;
+
+        Node(String label) {
+            this.label = label;
+        }
+
+        Node child(char first) {
+            int low = 0;
+            int high = children.length - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                char c = children[mid].label.charAt(0);
+                if (c < first) {
+                    low = mid + 1;
+                } else if (c > first) {
+                    high = mid - 1;
+                } else {
+                    return children[mid];
+                }
+            }
+            return null;
+        }
+
+        void addChild(Node child) {
+            char first = child.label.charAt(0);
+            int at = 0;
+            while (at < children.length && children[at].label.charAt(0) < first) {
+                at++;
+            }
+            Node[] grown = new Node[children.length + 1];
+            System.arraycopy(children, 0, grown, 0, at);
+            grown[at] = child;
+            System.arraycopy(children, at, grown, at + 1, children.length - at);
+            children = grown;
+        }
+
+        void replaceChild(Node old, Node replacement) {
+            for (int i = 0; i < children.length; i++) {
+                if (children[i] == old) {
+                    children[i] = replacement;
+                    return;
+                }
+            }
+        }
+
+        void removeChild(Node child) {
+            children = Arrays.stream(children).filter(c -> c != child).toArray(Node[]::new);
+        }
+
+        void attach(Term term) {
+            terms = Arrays.copyOf(terms, terms.length + 1);
+            terms[terms.length - 1] = term;
+        }
+
+        void detach(Term term) {
+            terms = Arrays.stream(terms).filter(t -> t != term).toArray(Term[]::new);
+        }
+
+        boolean isEmpty() {
+            return terms.length == 0 && children.length == 0;
+        }
+
+        void refresh(int cacheSize) {
+            List<Term> candidates = new ArrayList<>(Arrays.asList(terms));
+            for (Node child : children) {
+                for (Term term : child.top) {
+                    if (!candidates.contains(term)) {
+                        candidates.add(term);
+                    }
+                }
+            }
+            candidates.sort(HEAVIEST_FIRST);
+            top = candidates.subList(0, Math.min(cacheSize, candidates.size())).toArray(NO_TERMS);
+        }
+    }
+}
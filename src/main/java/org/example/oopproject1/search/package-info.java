@@ -0,0 +1,7 @@
+/**
+ * In-memory search structures kept alongside the database, such as the
+ * prefix index behind job autocomplete. They are plain data structures;
+ * the services in {@code org.example.oopproject1.service} build them and
+ * keep them current from domain events.
+ */
+package org.example.oopproject1.search;
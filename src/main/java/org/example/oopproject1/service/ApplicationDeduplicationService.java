@@ -0,0 +1,150 @@
+package org.example.oopproject1.service;
+
+import org.bson.Document;
+import org.example.oopproject1.event.ApplicationChangedEvent;
+import org.example.oopproject1.event.DomainEventBus;
+import org.example.oopproject1.model.Application;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOptions;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Builds the unique {@value #INDEX_NAME} index on {@code applications},
+ * removing duplicate (jobId, email) pairs first when asked to.
+ * <p>
+ * The index is not declared on {@link Application} because automatic index
+ * creation would fail at startup on a collection that still holds
+ * duplicates, stopping the application. Instead, when the application is
+ * ready, this service checks for duplicates: if there are none it builds
+ * the index; otherwise it reports them and leaves the index unbuilt, unless
+ * {@code app.applications.dedupe-on-startup} is set, in which case it
+ * de-duplicates as {@link #deduplicate()} does. The {@code dedupe-applications}
+ * shell command runs the same de-duplication on demand.
+ * </p>
+ *
+ * @since 1.1
+ */
+@Service
+@Profile("!inmemory")
+public class ApplicationDeduplicationService {
+    private static final Logger logger = LoggerFactory.getLogger(ApplicationDeduplicationService.class);
+
+    /**
+     * Name of the unique (jobId, email) index.
+     */
+    public static final String INDEX_NAME = "job_email_unique";
+
+    /**
+     * Most duplicate pairs named in the startup report.
+     */
+    private static final int REPORTED_PAIRS = 10;
+
+    private final MongoTemplate mongoTemplate;
+    private final DomainEventBus eventBus;
+    private final FunnelRollupService funnelRollupService;
+    private final boolean dedupeOnStartup;
+
+    /**
+     * Constructs the service.
+     *
+     * @param mongoTemplate       template used for the applications and the index
+     * @param eventBus            bus on which removed duplicates are published
+     * @param funnelRollupService service told about removed duplicates
+     * @param dedupeOnStartup     whether to remove duplicates when the application is ready
+     */
+    public ApplicationDeduplicationService(MongoTemplate mongoTemplate,
+                                           DomainEventBus eventBus,
+                                           FunnelRollupService funnelRollupService,
+                                           @Value("${app.applications.dedupe-on-startup:false}") boolean dedupeOnStartup) {
+        this.mongoTemplate = mongoTemplate;
+        this.eventBus = eventBus;
+        this.funnelRollupService = funnelRollupService;
+        this.dedupeOnStartup = dedupeOnStartup;
+    }
+
+    /**
+     * Builds the unique index at startup, de-duplicating first if configured
+     * to, or reports the duplicates that prevent it.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureUniqueIndex() {
+        if (hasUniqueIndex()) {
+            return;
+        }
+        if (dedupeOnStartup) {
+            deduplicate();
+            return;
+        }
+        List<Document> duplicates = duplicates();
+        if (duplicates.isEmpty()) {
+            createIndex();
+            return;
+        }
+        logger.warn("Index {} not built: {} (jobId, email) pairs have more than one application, e.g. {}; "
+                        + "run dedupe-applications or set app.applications.dedupe-on-startup",
+                INDEX_NAME, duplicates.size(), duplicates.stream().limit(REPORTED_PAIRS).map(group -> group.get("_id"))
+                        .toList());
+    }
+
+    /**
+     * Keeps the earliest application of every (jobId, email) pair, by submission
+     * day and then ID, removes the others and builds the unique index.
+     *
+     * @return the number of applications removed
+     */
+    public long deduplicate() {
+        long removed = 0;
+        for (Document group : duplicates()) {
+            List<?> ids = group.getList("ids", Object.class);
+            List<Application> extra = mongoTemplate.findAllAndRemove(
+                    new Query(Criteria.where("_id").in(ids.subList(1, ids.size()))), Application.class);
+            for (Application application : extra) {
+                logger.info("Removed application {} duplicating {} for job {}", application.getId(), ids.get(0),
+                        application.getJobId());
+                funnelRollupService.recordDeleted(application);
+                eventBus.publish(ApplicationChangedEvent.deleted(application.getId()));
+            }
+            removed += extra.size();
+        }
+        createIndex();
+        logger.info("Removed {} duplicate applications and built index {}", removed, INDEX_NAME);
+        return removed;
+    }
+
+    private List<Document> duplicates() {
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.sort(Sort.by("applicationDate", "id")),
+                Aggregation.group("jobId", "email").push("_id").as("ids").count().as("count"),
+                Aggregation.match(Criteria.where("count").gt(1)))
+                .withOptions(AggregationOptions.builder().allowDiskUse(true).build());
+        return mongoTemplate.aggregate(aggregation, Application.class, Document.class).getMappedResults();
+    }
+
+    private boolean hasUniqueIndex() {
+        return indexOps().getIndexInfo().stream().map(IndexInfo::getName).anyMatch(INDEX_NAME::equals);
+    }
+
+    private void createIndex() {
+        indexOps().ensureIndex(new Index().on("jobId", Sort.Direction.ASC).on("email", Sort.Direction.ASC)
+                .unique().named(INDEX_NAME));
+    }
+
+    private IndexOperations indexOps() {
+        return mongoTemplate.indexOps(Application.class);
+    }
+}
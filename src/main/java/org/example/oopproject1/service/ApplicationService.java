@@ -1,22 +1,43 @@
 package org.example.oopproject1.service;
 
+import org.example.oopproject1.dto.ApplicationStatusHistory;
+import org.example.oopproject1.dto.ApplicationSummary;
+import org.example.oopproject1.dto.ApplicationTransition;
+import org.example.oopproject1.event.ApplicationChangedEvent;
+import org.example.oopproject1.event.DomainEventBus;
+import org.example.oopproject1.exception.ConflictException;
 import org.example.oopproject1.exception.ResourceNotFoundException;
 import org.example.oopproject1.model.Application;
+import org.example.oopproject1.model.StatusChange;
 import org.example.oopproject1.repository.ApplicationRepository;
+import org.example.oopproject1.repository.ArchiveRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Range;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 
+import java.time.Instant;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Service for managing job applications.
  * <p>
  * Provides methods to create, retrieve, update, and delete applications,
  * with support for pagination, default value initialization,
- * and multi‐job ID lookups.
+ * and multi‐job ID lookups. Every write is published on the
+ * {@link DomainEventBus} as an {@link ApplicationChangedEvent} and counted
+ * in the {@link FunnelRollupService} rollups, and every status change is
+ * appended to the application's status history in the same atomic update. Read methods
+ * taking an {@code includeHistory} flag also search the archive tier.
  * </p>
  *
  * @since 1.0
@@ -24,16 +45,37 @@ import java.util.List;
 @Service
 public class ApplicationService {
 
+    /**
+     * Times an update is tried before giving up on concurrent status changes.
+     */
+    private static final int MAX_UPDATE_ATTEMPTS = 3;
+
     private final ApplicationRepository applicationRepository;
+    private final DomainEventBus eventBus;
+    private final IdempotencyService idempotencyService;
+    private final ArchiveRepository archiveRepository;
+    private final FunnelRollupService funnelRollupService;
 
     /**
-     * Constructor injection of the repository.
+     * Constructor injection of the repositories, event bus, idempotency and rollup services.
      *
      * @param applicationRepository repository for Application entities
+     * @param eventBus              bus on which application changes are published
+     * @param idempotencyService    service remembering idempotent submissions
+     * @param archiveRepository     repository for archived applications
+     * @param funnelRollupService   service keeping the recruiter funnel rollups
      */
     @Autowired
-    public ApplicationService(ApplicationRepository applicationRepository) {
+    public ApplicationService(ApplicationRepository applicationRepository,
+                              DomainEventBus eventBus,
+                              IdempotencyService idempotencyService,
+                              ArchiveRepository archiveRepository,
+                              FunnelRollupService funnelRollupService) {
         this.applicationRepository = applicationRepository;
+        this.eventBus = eventBus;
+        this.idempotencyService = idempotencyService;
+        this.archiveRepository = archiveRepository;
+        this.funnelRollupService = funnelRollupService;
     }
 
     /**
@@ -55,6 +97,20 @@ public class ApplicationService {
         return applicationRepository.findAll(pageable);
     }
 
+    /**
+     * Retrieves a paginated list of applications, optionally including archived ones.
+     *
+     * @param pageable       pagination information
+     * @param includeHistory whether to also search the archive
+     * @return page of Application objects
+     */
+    public Page<Application> getAllApplications(Pageable pageable, boolean includeHistory) {
+        if (!includeHistory) {
+            return getAllApplications(pageable);
+        }
+        return archiveRepository.findIncludingArchive(new Criteria(), pageable, Application.class);
+    }
+
     /**
      * Retrieves an application by its unique identifier.
      *
@@ -67,11 +123,29 @@ public class ApplicationService {
                 .orElseThrow(() -> new ResourceNotFoundException("Application not found with id: " + id));
     }
 
+    /**
+     * Retrieves an application by ID, falling back to the archive if requested.
+     *
+     * @param id             the ID of the application to retrieve
+     * @param includeHistory whether to also search the archive
+     * @return the Application object
+     * @throws ResourceNotFoundException if no application is found with the given ID
+     */
+    public Application getApplicationById(String id, boolean includeHistory) {
+        if (!includeHistory) {
+            return getApplicationById(id);
+        }
+        return applicationRepository.findById(id)
+                .or(() -> archiveRepository.findArchivedById(id, Application.class))
+                .orElseThrow(() -> new ResourceNotFoundException("Application not found with id: " + id));
+    }
+
     /**
      * Creates a new application, initializing default values if needed, and saves it.
      *
      * @param application the Application object to create
      * @return the saved Application object
+     * @throws ConflictException if the candidate has already applied to the job
      */
     public Application createApplication(Application application) {
         application.setId(null);
@@ -81,25 +155,93 @@ public class ApplicationService {
         if (application.getStatus() == null) {
             application.setStatus(Application.ApplicationStatus.SUBMITTED);
         }
-        return applicationRepository.save(application);
+        application.setStatusHistory(new ArrayList<>());
+        appendStatusChange(application, null);
+        Application saved;
+        try {
+            saved = applicationRepository.insert(application);
+        } catch (DuplicateKeyException e) {
+            throw new ConflictException("An application for this job has already been submitted with "
+                    + application.getEmail());
+        }
+        funnelRollupService.recordCreated(saved);
+        eventBus.publish(ApplicationChangedEvent.created(saved));
+        return saved;
+    }
+
+    /**
+     * Creates a new application at most once per idempotency key.
+     * <p>
+     * A retry carrying the key of a completed submission returns the application
+     * created the first time, without writing or publishing anything. Without a
+     * key this behaves like {@link #createApplication(Application)}.
+     * </p>
+     *
+     * @param application    the Application object to create
+     * @param idempotencyKey the client-supplied key, or {@code null}
+     * @return the saved or previously created Application object
+     * @throws ConflictException if the candidate has already applied to the job, or the
+     *                           key is in flight or was used for a different job or email
+     */
+    public Application createApplication(Application application, String idempotencyKey) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return createApplication(application);
+        }
+        String fingerprint = application.getJobId() + "|" + application.getEmail();
+        Optional<String> previousId = idempotencyService.reserve(idempotencyKey, fingerprint);
+        if (previousId.isPresent()) {
+            return getApplicationById(previousId.get());
+        }
+        try {
+            Application saved = createApplication(application);
+            idempotencyService.complete(idempotencyKey, saved.getId());
+            return saved;
+        } catch (RuntimeException e) {
+            idempotencyService.release(idempotencyKey);
+            throw e;
+        }
     }
 
     /**
      * Updates an existing application identified by its ID.
+     * <p>
+     * The update applies only while the application is still in the status
+     * read beforehand, and appends a status change to the status history in
+     * the same atomic write, so concurrent changes are never lost; if the
+     * status changed in between, the update is retried against the new one.
+     * The published event carries the previous status so that subscribers
+     * can tell status transitions from edits of the other fields.
+     * </p>
      *
      * @param id                 the ID of the application to update
      * @param applicationDetails the Application object containing updated details
      * @return the updated Application object
+     * @throws ConflictException if another application to the job has the new email,
+     *                           or the status kept changing concurrently
      */
     public Application updateApplication(String id, Application applicationDetails) {
-        Application application = getApplicationById(id);
-        application.setCandidateName(applicationDetails.getCandidateName());
-        application.setEmail(applicationDetails.getEmail());
-        application.setPhone(applicationDetails.getPhone());
-        application.setResumeUrl(applicationDetails.getResumeUrl());
-        application.setCoverLetterText(applicationDetails.getCoverLetterText());
-        application.setStatus(applicationDetails.getStatus());
-        return applicationRepository.save(application);
+        for (int attempt = 1; ; attempt++) {
+            Application.ApplicationStatus previousStatus = getApplicationById(id).getStatus();
+            StatusChange change = applicationDetails.getStatus() != previousStatus
+                    ? new StatusChange(previousStatus, applicationDetails.getStatus(), currentActor(), Instant.now())
+                    : null;
+            Optional<Application> updated;
+            try {
+                updated = applicationRepository.updateIfStatus(id, previousStatus, applicationDetails, change);
+            } catch (DuplicateKeyException e) {
+                throw new ConflictException("An application for this job has already been submitted with "
+                        + applicationDetails.getEmail());
+            }
+            if (updated.isPresent()) {
+                Application saved = updated.get();
+                funnelRollupService.recordStatusChange(saved, previousStatus);
+                eventBus.publish(ApplicationChangedEvent.updated(saved, previousStatus));
+                return saved;
+            }
+            if (attempt == MAX_UPDATE_ATTEMPTS) {
+                throw new ConflictException("Application " + id + " is being updated concurrently; try again");
+            }
+        }
     }
 
     /**
@@ -110,6 +252,38 @@ public class ApplicationService {
     public void deleteApplication(String id) {
         Application application = getApplicationById(id);
         applicationRepository.delete(application);
+        funnelRollupService.recordDeleted(application);
+        eventBus.publish(ApplicationChangedEvent.deleted(id));
+    }
+
+    /**
+     * Lists the status changes of the applications to some jobs within a
+     * time range, oldest first. Applications archived since are not included,
+     * and changes older than the {@link Application#STATUS_HISTORY_LIMIT}
+     * latest of an application have been dropped.
+     *
+     * @param jobIds the job IDs
+     * @param from   the start of the range, inclusive
+     * @param to     the end of the range, exclusive
+     * @return the changes in the range
+     */
+    public List<ApplicationTransition> getStatusChanges(List<String> jobIds, Instant from, Instant to) {
+        if (jobIds.isEmpty()) {
+            return List.of();
+        }
+        Range<Instant> range = Range.rightOpen(from, to);
+        List<ApplicationTransition> transitions = new ArrayList<>();
+        for (ApplicationStatusHistory history : applicationRepository.findByJobIdInAndStatusHistoryAtBetween(
+                jobIds, range, ApplicationStatusHistory.class)) {
+            for (StatusChange change : history.getStatusHistory()) {
+                if (change.getAt() != null && range.contains(change.getAt())) {
+                    transitions.add(new ApplicationTransition(history.getId(), history.getJobId(),
+                            change.getFrom(), change.getTo(), change.getActor(), change.getAt()));
+                }
+            }
+        }
+        transitions.sort(Comparator.comparing(ApplicationTransition::getAt));
+        return transitions;
     }
 
     /**
@@ -133,6 +307,36 @@ public class ApplicationService {
         return applicationRepository.findByJobId(jobId, pageable);
     }
 
+    /**
+     * Retrieves applications by jobId (non-paginated), optionally including archived ones.
+     *
+     * @param jobId          the job ID to filter applications by
+     * @param includeHistory whether to also search the archive
+     * @return list of matching Application objects
+     */
+    public List<Application> getApplicationsByJobId(String jobId, boolean includeHistory) {
+        if (!includeHistory) {
+            return getApplicationsByJobId(jobId);
+        }
+        return archiveRepository.findIncludingArchive(Criteria.where("jobId").is(jobId), Application.class);
+    }
+
+    /**
+     * Retrieves a paginated list of applications by jobId, optionally including archived ones.
+     *
+     * @param jobId          the job ID to filter applications by
+     * @param pageable       pagination information
+     * @param includeHistory whether to also search the archive
+     * @return page of matching Application objects
+     */
+    public Page<Application> getApplicationsByJobId(String jobId, Pageable pageable, boolean includeHistory) {
+        if (!includeHistory) {
+            return getApplicationsByJobId(jobId, pageable);
+        }
+        return archiveRepository.findIncludingArchive(
+                Criteria.where("jobId").is(jobId), pageable, Application.class);
+    }
+
     /**
      * Retrieves all applications submitted by a specific email (non-paginated).
      *
@@ -154,6 +358,36 @@ public class ApplicationService {
         return applicationRepository.findByEmail(email, pageable);
     }
 
+    /**
+     * Retrieves applications by email (non-paginated), optionally including archived ones.
+     *
+     * @param email          the email address of the candidate
+     * @param includeHistory whether to also search the archive
+     * @return list of matching Application objects
+     */
+    public List<Application> getApplicationsByEmail(String email, boolean includeHistory) {
+        if (!includeHistory) {
+            return getApplicationsByEmail(email);
+        }
+        return archiveRepository.findIncludingArchive(Criteria.where("email").is(email), Application.class);
+    }
+
+    /**
+     * Retrieves a paginated list of applications by email, optionally including archived ones.
+     *
+     * @param email          the email address of the candidate
+     * @param pageable       pagination information
+     * @param includeHistory whether to also search the archive
+     * @return page of matching Application objects
+     */
+    public Page<Application> getApplicationsByEmail(String email, Pageable pageable, boolean includeHistory) {
+        if (!includeHistory) {
+            return getApplicationsByEmail(email, pageable);
+        }
+        return archiveRepository.findIncludingArchive(
+                Criteria.where("email").is(email), pageable, Application.class);
+    }
+
     /**
      * Retrieves all applications with a specific status (non-paginated).
      *
@@ -175,6 +409,38 @@ public class ApplicationService {
         return applicationRepository.findByStatus(status, pageable);
     }
 
+    /**
+     * Retrieves applications by status (non-paginated), optionally including archived ones.
+     *
+     * @param status         the ApplicationStatus to filter by
+     * @param includeHistory whether to also search the archive
+     * @return list of matching Application objects
+     */
+    public List<Application> getApplicationsByStatus(Application.ApplicationStatus status,
+                                                     boolean includeHistory) {
+        if (!includeHistory) {
+            return getApplicationsByStatus(status);
+        }
+        return archiveRepository.findIncludingArchive(Criteria.where("status").is(status.name()), Application.class);
+    }
+
+    /**
+     * Retrieves a paginated list of applications by status, optionally including archived ones.
+     *
+     * @param status         the ApplicationStatus to filter by
+     * @param pageable       pagination information
+     * @param includeHistory whether to also search the archive
+     * @return page of matching Application objects
+     */
+    public Page<Application> getApplicationsByStatus(Application.ApplicationStatus status, Pageable pageable,
+                                                     boolean includeHistory) {
+        if (!includeHistory) {
+            return getApplicationsByStatus(status, pageable);
+        }
+        return archiveRepository.findIncludingArchive(
+                Criteria.where("status").is(status.name()), pageable, Application.class);
+    }
+
     /**
      * Fetches applications across multiple job IDs (paginated).
      *
@@ -186,6 +452,17 @@ public class ApplicationService {
         return applicationRepository.findByJobIdIn(jobIds, pageable);
     }
 
+    /**
+     * Fetches summaries of applications across multiple job IDs (paginated).
+     *
+     * @param jobIds   list of job IDs
+     * @param pageable pagination information
+     * @return page of ApplicationSummary objects matching any of the job IDs
+     */
+    public Page<ApplicationSummary> findSummariesByJobIds(List<String> jobIds, Pageable pageable) {
+        return applicationRepository.findByJobIdIn(jobIds, pageable, ApplicationSummary.class);
+    }
+
     /**
      * Fetches applications across multiple job IDs (non-paginated).
      *
@@ -195,4 +472,145 @@ public class ApplicationService {
     public List<Application> findByJobIds(List<String> jobIds) {
         return applicationRepository.findByJobIdIn(jobIds);
     }
+
+    /**
+     * Retrieves summaries of all applications (non-paginated).
+     *
+     * @return list of ApplicationSummary objects
+     */
+    public List<ApplicationSummary> getAllApplicationSummaries() {
+        return applicationRepository.findAllBy(ApplicationSummary.class);
+    }
+
+    /**
+     * Retrieves a paginated list of application summaries, optionally including archived ones.
+     * Summaries of hot applications are projected by the database; archived
+     * results are summarized after loading.
+     *
+     * @param pageable       pagination information
+     * @param includeHistory whether to also search the archive
+     * @return page of ApplicationSummary objects
+     */
+    public Page<ApplicationSummary> getAllApplicationSummaries(Pageable pageable, boolean includeHistory) {
+        if (!includeHistory) {
+            return applicationRepository.findAllBy(pageable, ApplicationSummary.class);
+        }
+        return archiveRepository.findIncludingArchive(new Criteria(), pageable, Application.class)
+                .map(ApplicationSummary::from);
+    }
+
+    /**
+     * Retrieves summaries of applications for a specific job (non-paginated), optionally including archived ones.
+     *
+     * @param jobId          the job ID to filter applications by
+     * @param includeHistory whether to also search the archive
+     * @return list of matching ApplicationSummary objects
+     */
+    public List<ApplicationSummary> getApplicationSummariesByJobId(String jobId, boolean includeHistory) {
+        if (!includeHistory) {
+            return applicationRepository.findByJobId(jobId, ApplicationSummary.class);
+        }
+        return archiveRepository.findIncludingArchive(Criteria.where("jobId").is(jobId), Application.class).stream()
+                .map(ApplicationSummary::from)
+                .toList();
+    }
+
+    /**
+     * Retrieves a paginated list of summaries of applications for a specific job, optionally including archived ones.
+     *
+     * @param jobId          the job ID to filter applications by
+     * @param pageable       pagination information
+     * @param includeHistory whether to also search the archive
+     * @return page of matching ApplicationSummary objects
+     */
+    public Page<ApplicationSummary> getApplicationSummariesByJobId(String jobId, Pageable pageable,
+            boolean includeHistory) {
+        if (!includeHistory) {
+            return applicationRepository.findByJobId(jobId, pageable, ApplicationSummary.class);
+        }
+        return archiveRepository.findIncludingArchive(Criteria.where("jobId").is(jobId), pageable, Application.class)
+                .map(ApplicationSummary::from);
+    }
+
+    /**
+     * Retrieves summaries of applications submitted by a specific email (non-paginated), optionally including archived ones.
+     *
+     * @param email          the email address of the candidate
+     * @param includeHistory whether to also search the archive
+     * @return list of matching ApplicationSummary objects
+     */
+    public List<ApplicationSummary> getApplicationSummariesByEmail(String email, boolean includeHistory) {
+        if (!includeHistory) {
+            return applicationRepository.findByEmail(email, ApplicationSummary.class);
+        }
+        return archiveRepository.findIncludingArchive(Criteria.where("email").is(email), Application.class).stream()
+                .map(ApplicationSummary::from)
+                .toList();
+    }
+
+    /**
+     * Retrieves a paginated list of summaries of applications submitted by a specific email, optionally including archived ones.
+     *
+     * @param email          the email address of the candidate
+     * @param pageable       pagination information
+     * @param includeHistory whether to also search the archive
+     * @return page of matching ApplicationSummary objects
+     */
+    public Page<ApplicationSummary> getApplicationSummariesByEmail(String email, Pageable pageable,
+            boolean includeHistory) {
+        if (!includeHistory) {
+            return applicationRepository.findByEmail(email, pageable, ApplicationSummary.class);
+        }
+        return archiveRepository.findIncludingArchive(Criteria.where("email").is(email), pageable, Application.class)
+                .map(ApplicationSummary::from);
+    }
+
+    /**
+     * Retrieves summaries of applications with a specific status (non-paginated), optionally including archived ones.
+     *
+     * @param status         the ApplicationStatus to filter by
+     * @param includeHistory whether to also search the archive
+     * @return list of matching ApplicationSummary objects
+     */
+    public List<ApplicationSummary> getApplicationSummariesByStatus(Application.ApplicationStatus status, boolean includeHistory) {
+        if (!includeHistory) {
+            return applicationRepository.findByStatus(status, ApplicationSummary.class);
+        }
+        return archiveRepository.findIncludingArchive(Criteria.where("status").is(status.name()), Application.class).stream()
+                .map(ApplicationSummary::from)
+                .toList();
+    }
+
+    /**
+     * Retrieves a paginated list of summaries of applications with a specific status, optionally including archived ones.
+     *
+     * @param status         the ApplicationStatus to filter by
+     * @param pageable       pagination information
+     * @param includeHistory whether to also search the archive
+     * @return page of matching ApplicationSummary objects
+     */
+    public Page<ApplicationSummary> getApplicationSummariesByStatus(Application.ApplicationStatus status, Pageable pageable,
+            boolean includeHistory) {
+        if (!includeHistory) {
+            return applicationRepository.findByStatus(status, pageable, ApplicationSummary.class);
+        }
+        return archiveRepository.findIncludingArchive(Criteria.where("status").is(status.name()), pageable, Application.class)
+                .map(ApplicationSummary::from);
+    }
+
+    private static void appendStatusChange(Application application, Application.ApplicationStatus previousStatus) {
+        List<StatusChange> history = application.getStatusHistory() != null
+                ? new ArrayList<>(application.getStatusHistory())
+                : new ArrayList<>();
+        history.add(new StatusChange(previousStatus, application.getStatus(), currentActor(), Instant.now()));
+        if (history.size() > Application.STATUS_HISTORY_LIMIT) {
+            history.subList(0, history.size() - Application.STATUS_HISTORY_LIMIT).clear();
+        }
+        application.setStatusHistory(history);
+    }
+
+    private static String currentActor() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.isAuthenticated() ? authentication.getName() : "system";
+    }
 }
@@ -0,0 +1,236 @@
+package org.example.oopproject1.service;
+
+import jakarta.annotation.PreDestroy;
+import org.example.oopproject1.event.ApplicationChangedEvent;
+import org.example.oopproject1.event.ApplicationStatusChangedEvent;
+import org.example.oopproject1.event.DomainEventBus;
+import org.example.oopproject1.model.Job;
+import org.example.oopproject1.repository.JobRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Fan-out registry for Server-Sent Event subscriptions to application status changes.
+ * <p>
+ * Candidates subscribe by their email address and recruiters by their recruiter ID.
+ * Subscriptions are held in concurrent key sets so that publishing an event only
+ * touches the emitters registered for that email or for the recruiter who owns the
+ * job, which is looked up when the event arrives so that jobs posted after
+ * subscribing are streamed too. The lookups run one at a time, in publishing
+ * order, on a virtual thread of their own rather than on the thread that
+ * published the change. Each emitter drains its own queue on a virtual
+ * thread, so a slow client never delays the others or the request that triggered
+ * the change, events reach a client one at a time in the order they were
+ * published, and idle connections cost no platform threads.
+ * </p>
+ *
+ * @since 1.1
+ */
+@Service
+public class ApplicationStreamService {
+    private static final Logger logger = LoggerFactory.getLogger(ApplicationStreamService.class);
+
+    /**
+     * SSE event name used for every status notification.
+     */
+    static final String EVENT_NAME = "application-status";
+
+    private final ConcurrentMap<String, Set<Subscriber>> subscribersByEmail = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Set<Subscriber>> subscribersByRecruiterId = new ConcurrentHashMap<>();
+    private final Set<Subscriber> allSubscribers = ConcurrentHashMap.newKeySet();
+    private final ExecutorService dispatcher = Executors.newVirtualThreadPerTaskExecutor();
+    private final ExecutorService ownerLookups =
+            Executors.newSingleThreadExecutor(Thread.ofVirtual().name("sse-job-owner").factory());
+    private final JobRepository jobRepository;
+    private final long timeoutMs;
+
+    /**
+     * Constructs the registry.
+     *
+     * @param eventBus      bus delivering application changes from every node
+     * @param jobRepository repository resolving the recruiter who owns an application's job
+     * @param timeoutMs     how long an emitter may stay open before the client has to reconnect
+     */
+    public ApplicationStreamService(DomainEventBus eventBus,
+                                    JobRepository jobRepository,
+                                    @Value("${app.sse.timeout-ms:1800000}") long timeoutMs) {
+        this.jobRepository = jobRepository;
+        this.timeoutMs = timeoutMs;
+        eventBus.subscribe(ApplicationChangedEvent.class, this::onApplicationChanged);
+    }
+
+    /**
+     * Opens a stream delivering status changes for applications submitted with the given email.
+     *
+     * @param email the candidate's email address
+     * @return the emitter to return from the controller
+     */
+    public SseEmitter subscribeCandidate(String email) {
+        return register(subscribersByEmail, email);
+    }
+
+    /**
+     * Opens a stream delivering new applications and status changes for the jobs a recruiter owns,
+     * including jobs posted after subscribing.
+     *
+     * @param recruiterId the recruiter's ID
+     * @return the emitter to return from the controller
+     */
+    public SseEmitter subscribeRecruiter(String recruiterId) {
+        return register(subscribersByRecruiterId, recruiterId);
+    }
+
+    /**
+     * Pushes status transitions to every emitter subscribed to the application's
+     * email or to the recruiter owning its job. Edits that leave the status unchanged and deletions are ignored.
+     * The job's owner is looked up asynchronously, so the publisher never waits on the database.
+     *
+     * @param change the change delivered by the {@link DomainEventBus}
+     */
+    public void onApplicationChanged(ApplicationChangedEvent change) {
+        if (!change.isStatusTransition()) {
+            return;
+        }
+        ApplicationStatusChangedEvent event =
+                ApplicationStatusChangedEvent.of(change.application(), change.previousStatus());
+        deliver(subscribersByEmail.get(event.email()), event);
+        if (!subscribersByRecruiterId.isEmpty() && event.jobId() != null) {
+            ownerLookups.execute(() -> deliverToOwner(event));
+        }
+    }
+
+    /**
+     * Sends an SSE comment to every open stream so that proxies keep idle
+     * connections alive and disconnected clients are detected and removed.
+     */
+    @Scheduled(fixedRateString = "${app.sse.heartbeat-ms:25000}")
+    public void sendHeartbeats() {
+        for (Subscriber subscriber : allSubscribers) {
+            subscriber.enqueue(SseEmitter.event().comment("heartbeat"));
+        }
+    }
+
+    /**
+     * Returns the number of currently open streams on this node.
+     *
+     * @return the number of registered emitters
+     */
+    public int getSubscriberCount() {
+        return allSubscribers.size();
+    }
+
+    /**
+     * Completes all open streams and stops the dispatcher on shutdown.
+     */
+    @PreDestroy
+    public void shutdown() {
+        allSubscribers.forEach(subscriber -> subscriber.emitter.complete());
+        ownerLookups.shutdown();
+        dispatcher.shutdown();
+    }
+
+    private SseEmitter register(ConcurrentMap<String, Set<Subscriber>> index, String key) {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Subscriber subscriber = new Subscriber(emitter);
+        index.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(subscriber);
+        allSubscribers.add(subscriber);
+
+        Runnable cleanup = () -> unregister(index, key, subscriber);
+        emitter.onCompletion(cleanup);
+        emitter.onTimeout(cleanup);
+        emitter.onError(e -> cleanup.run());
+        return emitter;
+    }
+
+    private void unregister(ConcurrentMap<String, Set<Subscriber>> index, String key, Subscriber subscriber) {
+        allSubscribers.remove(subscriber);
+        index.computeIfPresent(key, (k, subscribers) -> {
+            subscribers.remove(subscriber);
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+    }
+
+    private void deliverToOwner(ApplicationStatusChangedEvent event) {
+        try {
+            jobRepository.findById(event.jobId())
+                    .map(Job::getRecruiterId)
+                    .ifPresent(recruiterId -> deliver(subscribersByRecruiterId.get(recruiterId), event));
+        } catch (RuntimeException e) {
+            logger.warn("Could not resolve the owner of job {}: {}", event.jobId(), e.getMessage());
+        }
+    }
+
+    private void deliver(Set<Subscriber> subscribers, ApplicationStatusChangedEvent event) {
+        if (subscribers == null) {
+            return;
+        }
+        for (Subscriber subscriber : subscribers) {
+            subscriber.enqueue(SseEmitter.event()
+                    .id(event.applicationId())
+                    .name(EVENT_NAME)
+                    .data(event));
+        }
+    }
+
+    /**
+     * An emitter with its queue of pending events. At most one drain task per
+     * subscriber is scheduled at a time, so {@link SseEmitter#send} is never
+     * called concurrently and events leave in the order they were queued.
+     */
+    private final class Subscriber {
+        private final SseEmitter emitter;
+        private final Queue<SseEmitter.SseEventBuilder> pending = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        void enqueue(SseEmitter.SseEventBuilder event) {
+            pending.add(event);
+            if (draining.compareAndSet(false, true)) {
+                dispatcher.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            while (true) {
+                SseEmitter.SseEventBuilder event;
+                while ((event = pending.poll()) != null) {
+                    send(event);
+                }
+                draining.set(false);
+                // an event queued after the last poll but before the flag cleared must not be stranded
+                if (pending.isEmpty() || !draining.compareAndSet(false, true)) {
+                    return;
+                }
+            }
+        }
+
+        private void send(SseEmitter.SseEventBuilder event) {
+            try {
+                emitter.send(event);
+            } catch (IOException | IllegalStateException e) {
+                // client went away; completing triggers the cleanup callback
+                logger.debug("Dropping SSE subscriber: {}", e.getMessage());
+                pending.clear();
+                emitter.completeWithError(e);
+            }
+        }
+    }
+}
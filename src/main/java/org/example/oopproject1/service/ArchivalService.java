@@ -0,0 +1,165 @@
+package org.example.oopproject1.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.example.oopproject1.event.ApplicationChangedEvent;
+import org.example.oopproject1.event.DomainEventBus;
+import org.example.oopproject1.event.JobChangedEvent;
+import org.example.oopproject1.model.Application;
+import org.example.oopproject1.model.Job;
+import org.example.oopproject1.repository.ArchiveRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.List;
+import java.util.function.IntSupplier;
+
+/**
+ * Periodically moves closed jobs and decided applications into the archive tier.
+ * <p>
+ * Jobs qualify once they are inactive and their deadline lies more than
+ * {@code app.archive.job-age} in the past; applications once they are
+ * {@code REJECTED} or {@code ACCEPTED} and were submitted more than
+ * {@code app.archive.application-age} ago. Documents move in bounded batches
+ * under the same kind of lease as the expiry sweeper, and each move is
+ * published as a deletion so hot-set caches and indexes drop the document.
+ * Archived documents stay readable through the {@code history=true} variants
+ * of the read APIs.
+ * </p>
+ *
+ * @since 1.1
+ */
+@Service
+@ConditionalOnProperty(name = "app.archive.enabled", havingValue = "true", matchIfMissing = true)
+public class ArchivalService {
+    private static final Logger logger = LoggerFactory.getLogger(ArchivalService.class);
+
+    /**
+     * Name of the lease guarding archival runs.
+     */
+    static final String LEASE_NAME = "archival";
+
+    private final ArchiveRepository archiveRepository;
+    private final SchedulerLeaseService leaseService;
+    private final DomainEventBus eventBus;
+    private final int batchSize;
+    private final int maxBatches;
+    private final Period jobAge;
+    private final Period applicationAge;
+    private final Duration leaseDuration;
+
+    private final Counter archivedJobs;
+    private final Counter archivedApplications;
+
+    /**
+     * Constructor injection of collaborators and archival thresholds.
+     *
+     * @param archiveRepository repository moving documents into the archive
+     * @param leaseService      service guarding runs across nodes
+     * @param eventBus          bus on which archived documents are published
+     * @param meterRegistry     registry receiving archival metrics
+     * @param batchSize         maximum number of documents moved per batch
+     * @param maxBatches        maximum number of batches per collection and run
+     * @param jobAge            how long after its deadline an inactive job is archived
+     * @param applicationAge    how long after submission a decided application is archived
+     * @param leaseDuration     how long the lease is held without renewal
+     */
+    public ArchivalService(ArchiveRepository archiveRepository,
+                           SchedulerLeaseService leaseService,
+                           DomainEventBus eventBus,
+                           MeterRegistry meterRegistry,
+                           @Value("${app.archive.batch-size:500}") int batchSize,
+                           @Value("${app.archive.max-batches:20}") int maxBatches,
+                           @Value("${app.archive.job-age:P90D}") Period jobAge,
+                           @Value("${app.archive.application-age:P180D}") Period applicationAge,
+                           @Value("${app.archive.lease:PT10M}") Duration leaseDuration) {
+        this.archiveRepository = archiveRepository;
+        this.leaseService = leaseService;
+        this.eventBus = eventBus;
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+        this.jobAge = jobAge;
+        this.applicationAge = applicationAge;
+        this.leaseDuration = leaseDuration;
+        this.archivedJobs = meterRegistry.counter("archive.moved", "collection", "jobs");
+        this.archivedApplications = meterRegistry.counter("archive.moved", "collection", "applications");
+    }
+
+    /**
+     * Scheduled entry point; archives if this node can take the lease.
+     */
+    @Scheduled(fixedDelayString = "${app.archive.interval-ms:3600000}",
+            initialDelayString = "${app.archive.initial-delay-ms:120000}")
+    public void archiveOldRecords() {
+        if (!leaseService.tryAcquire(LEASE_NAME, leaseDuration)) {
+            return;
+        }
+        try {
+            LocalDate today = LocalDate.now();
+            int jobs = inBatches(() -> archiveJobBatch(today.minus(jobAge)));
+            int applications = 0;
+            if (leaseService.tryAcquire(LEASE_NAME, leaseDuration)) {
+                applications = inBatches(() -> archiveApplicationBatch(today.minus(applicationAge)));
+            } else {
+                logger.warn("Lost the archive lease after {} jobs; leaving applications to the next run", jobs);
+            }
+            if (jobs + applications > 0) {
+                logger.info("Archived {} jobs and {} applications", jobs, applications);
+            }
+        } finally {
+            leaseService.release(LEASE_NAME);
+        }
+    }
+
+    /**
+     * Moves one batch of inactive jobs whose deadline is before the cutoff.
+     *
+     * @param cutoff the latest deadline that is still kept hot
+     * @return the number of jobs moved
+     */
+    int archiveJobBatch(LocalDate cutoff) {
+        Query query = new Query(Criteria.where("isActive").is(false).and("deadlineDate").lt(cutoff));
+        List<Job> moved = archiveRepository.moveToArchive(query, batchSize, Job.class, Job::getId);
+        moved.forEach(job -> eventBus.publish(JobChangedEvent.deleted(job.getId())));
+        archivedJobs.increment(moved.size());
+        return moved.size();
+    }
+
+    /**
+     * Moves one batch of decided applications submitted before the cutoff.
+     *
+     * @param cutoff the latest application date that is still kept hot
+     * @return the number of applications moved
+     */
+    int archiveApplicationBatch(LocalDate cutoff) {
+        Query query = new Query(Criteria.where("status")
+                .in(Application.ApplicationStatus.REJECTED, Application.ApplicationStatus.ACCEPTED)
+                .and("applicationDate").lt(cutoff));
+        List<Application> moved = archiveRepository.moveToArchive(
+                query, batchSize, Application.class, Application::getId);
+        moved.forEach(app -> eventBus.publish(ApplicationChangedEvent.deleted(app.getId())));
+        archivedApplications.increment(moved.size());
+        return moved.size();
+    }
+
+    private int inBatches(IntSupplier batch) {
+        int total = 0;
+        for (int i = 0; i < maxBatches; i++) {
+            int moved = batch.getAsInt();
+            total += moved;
+            if (moved < batchSize || !leaseService.tryAcquire(LEASE_NAME, leaseDuration)) {
+                break;
+            }
+        }
+        return total;
+    }
+}
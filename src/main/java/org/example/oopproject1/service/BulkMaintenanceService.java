@@ -0,0 +1,385 @@
+package org.example.oopproject1.service;
+
+import com.mongodb.client.result.UpdateResult;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.bson.types.ObjectId;
+import org.example.oopproject1.event.ApplicationChangedEvent;
+import org.example.oopproject1.event.DomainEvent.ChangeType;
+import org.example.oopproject1.event.DomainEventBus;
+import org.example.oopproject1.event.JobChangedEvent;
+import org.example.oopproject1.exception.ConflictException;
+import org.example.oopproject1.exception.ResourceNotFoundException;
+import org.example.oopproject1.model.Application;
+import org.example.oopproject1.model.Job;
+import org.example.oopproject1.model.MaintenanceRun;
+import org.example.oopproject1.model.MaintenanceRun.Operation;
+import org.example.oopproject1.model.MaintenanceRun.Status;
+import org.example.oopproject1.model.Recruiter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+/**
+ * Runs bulk maintenance operations on the server: deactivating a company's
+ * jobs, reassigning jobs between recruiters and purging applications.
+ * <p>
+ * A run works through the matching documents in ID order, in chunks of
+ * {@code chunkSize}: it reads a chunk, changes it with one
+ * {@code updateMulti} or {@code findAllAndRemove} that re-checks the filter,
+ * publishes the documents it actually changed on the {@link DomainEventBus}
+ * as single writes would (changed jobs are told apart by a fresh ObjectId the
+ * update sets in {@value #CHUNK_FIELD}), and checkpoints its {@link MaintenanceRun}. Between chunks it pauses for
+ * {@code throttle} so replication and regular traffic keep up with the
+ * primary. A run that is interrupted or fails is continued from its last
+ * checkpoint by {@link #resume}; a lease per run keeps two nodes from
+ * running it at once. Changed documents are counted as
+ * {@code maintenance.processed}, tagged with the operation.
+ * </p>
+ *
+ * @since 1.1
+ */
+@Service
+@Profile("!inmemory")
+public class BulkMaintenanceService {
+    private static final Logger logger = LoggerFactory.getLogger(BulkMaintenanceService.class);
+
+    /**
+     * Prefix of the lease guarding a run; the run ID follows.
+     */
+    static final String LEASE_PREFIX = "maintenance-";
+
+    /**
+     * Job field recording the chunk that last changed the job.
+     */
+    static final String CHUNK_FIELD = "maintenanceChunk";
+
+    /**
+     * Parameter naming the company whose jobs are deactivated.
+     */
+    public static final String COMPANY = "company";
+
+    /**
+     * Parameter naming the recruiter whose jobs are reassigned.
+     */
+    public static final String FROM_RECRUITER = "fromRecruiterId";
+
+    /**
+     * Parameter naming the recruiter receiving reassigned jobs.
+     */
+    public static final String TO_RECRUITER = "toRecruiterId";
+
+    /**
+     * Parameter holding a case-insensitive regular expression on the applicant's email.
+     */
+    public static final String EMAIL_PATTERN = "emailPattern";
+
+    /**
+     * Parameter naming the job whose applications are purged.
+     */
+    public static final String JOB_ID = "jobId";
+
+    /**
+     * Parameter naming the status of the applications purged.
+     */
+    public static final String STATUS = "status";
+
+    /**
+     * Parameter holding the ISO date before which purged applications were submitted.
+     */
+    public static final String SUBMITTED_BEFORE = "submittedBefore";
+
+    private final MongoTemplate mongoTemplate;
+    private final SchedulerLeaseService leaseService;
+    private final DomainEventBus eventBus;
+    private final FunnelRollupService funnelRollupService;
+    private final MeterRegistry meterRegistry;
+    private final int defaultChunkSize;
+    private final Duration defaultThrottle;
+    private final Duration leaseDuration;
+
+    /**
+     * Constructor injection of collaborators and defaults.
+     *
+     * @param mongoTemplate       template reading and changing the documents and the runs
+     * @param leaseService        service guarding each run across nodes
+     * @param eventBus            bus on which changed documents are published
+     * @param funnelRollupService service told about purged applications
+     * @param meterRegistry       registry receiving the processed counts
+     * @param defaultChunkSize    documents per chunk unless a run asks otherwise
+     * @param defaultThrottle     pause between chunks unless a run asks otherwise
+     * @param leaseDuration       how long a run's lease is held without renewal
+     */
+    public BulkMaintenanceService(MongoTemplate mongoTemplate,
+                                  SchedulerLeaseService leaseService,
+                                  DomainEventBus eventBus,
+                                  FunnelRollupService funnelRollupService,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${app.bulk.chunk-size:500}") int defaultChunkSize,
+                                  @Value("${app.bulk.throttle:PT0.2S}") Duration defaultThrottle,
+                                  @Value("${app.bulk.lease:PT5M}") Duration leaseDuration) {
+        this.mongoTemplate = mongoTemplate;
+        this.leaseService = leaseService;
+        this.eventBus = eventBus;
+        this.funnelRollupService = funnelRollupService;
+        this.meterRegistry = meterRegistry;
+        this.defaultChunkSize = defaultChunkSize;
+        this.defaultThrottle = defaultThrottle;
+        this.leaseDuration = leaseDuration;
+    }
+
+    /**
+     * Counts the documents an operation would change, without changing them.
+     *
+     * @param operation  the operation
+     * @param parameters its filter and arguments
+     * @return the number of matching documents
+     * @throws IllegalArgumentException  if a parameter is missing or malformed
+     * @throws ResourceNotFoundException if the target recruiter of a reassignment does not exist
+     */
+    public long count(Operation operation, Map<String, String> parameters) {
+        return mongoTemplate.count(new Query(filter(operation, parameters)), entityType(operation));
+    }
+
+    /**
+     * Starts a run of an operation and works through it.
+     *
+     * @param operation  the operation
+     * @param parameters its filter and arguments
+     * @param chunkSize  documents per chunk, or {@code null} for the configured default
+     * @param throttle   pause between chunks, or {@code null} for the configured default
+     * @param progress   told about the run after every chunk
+     * @return the run, completed unless it was interrupted or failed
+     * @throws IllegalArgumentException  if a parameter is missing or malformed
+     * @throws ResourceNotFoundException if the target recruiter of a reassignment does not exist
+     */
+    public MaintenanceRun start(Operation operation, Map<String, String> parameters, Integer chunkSize,
+                                Duration throttle, Consumer<MaintenanceRun> progress) {
+        long matched = count(operation, parameters);
+        Instant now = Instant.now();
+        MaintenanceRun run = mongoTemplate.insert(new MaintenanceRun(null, operation, Map.copyOf(parameters), null,
+                matched, 0, Status.RUNNING, null, now, now));
+        logger.info("Started maintenance run {}: {} {} matching {}", run.getId(), operation, parameters, matched);
+        return execute(run, chunkSize, throttle, progress);
+    }
+
+    /**
+     * Continues a run from its last checkpoint.
+     *
+     * @param runId     the run ID
+     * @param chunkSize documents per chunk, or {@code null} for the configured default
+     * @param throttle  pause between chunks, or {@code null} for the configured default
+     * @param progress  told about the run after every chunk
+     * @return the run; a completed run is returned as it is
+     * @throws ResourceNotFoundException if there is no such run
+     * @throws ConflictException         if the run is in progress elsewhere
+     */
+    public MaintenanceRun resume(String runId, Integer chunkSize, Duration throttle,
+                                 Consumer<MaintenanceRun> progress) {
+        MaintenanceRun run = mongoTemplate.findById(runId, MaintenanceRun.class);
+        if (run == null) {
+            throw new ResourceNotFoundException("Maintenance run not found with id: " + runId);
+        }
+        if (run.getStatus() == Status.COMPLETED) {
+            return run;
+        }
+        return execute(run, chunkSize, throttle, progress);
+    }
+
+    /**
+     * Lists the latest runs, newest first.
+     *
+     * @param limit the most runs to list
+     * @return the runs
+     */
+    public List<MaintenanceRun> recentRuns(int limit) {
+        return mongoTemplate.find(new Query().with(Sort.by(Sort.Direction.DESC, "startedAt")).limit(limit),
+                MaintenanceRun.class);
+    }
+
+    private MaintenanceRun execute(MaintenanceRun run, Integer chunkSize, Duration throttle,
+                                   Consumer<MaintenanceRun> progress) {
+        int size = chunkSize != null ? chunkSize : defaultChunkSize;
+        long pauseMs = (throttle != null ? throttle : defaultThrottle).toMillis();
+        if (size < 1) {
+            throw new IllegalArgumentException("Chunk size must be at least 1");
+        }
+        String lease = LEASE_PREFIX + run.getId();
+        if (!leaseService.tryAcquire(lease, leaseDuration)) {
+            throw new ConflictException("Maintenance run " + run.getId() + " is in progress on another node");
+        }
+        try {
+            Criteria filter = filter(run.getOperation(), run.getParameters());
+            checkpoint(run, Status.RUNNING);
+            while (true) {
+                int read = processChunk(run, filter, size);
+                checkpoint(run, Status.RUNNING);
+                progress.accept(run);
+                if (read < size) {
+                    break;
+                }
+                if (!leaseService.tryAcquire(lease, leaseDuration)) {
+                    logger.warn("Lost the lease of maintenance run {}", run.getId());
+                    return checkpoint(run, Status.INTERRUPTED);
+                }
+                Thread.sleep(pauseMs);
+            }
+            logger.info("Completed maintenance run {}: {} processed", run.getId(), run.getProcessed());
+            return checkpoint(run, Status.COMPLETED);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return checkpoint(run, Status.INTERRUPTED);
+        } catch (RuntimeException e) {
+            logger.error("Maintenance run {} failed after {} processed", run.getId(), run.getProcessed(), e);
+            run.setError(e.getMessage());
+            return checkpoint(run, Status.FAILED);
+        } finally {
+            leaseService.release(lease);
+        }
+    }
+
+    /**
+     * Reads the chunk after the run's checkpoint, applies the operation to
+     * it and advances the checkpoint.
+     *
+     * @return the number of documents read
+     */
+    private int processChunk(MaintenanceRun run, Criteria filter, int size) {
+        ObjectId after = run.getLastId() == null ? KeysetCursor.START : new ObjectId(run.getLastId());
+        Query chunkQuery = new Query(filter).addCriteria(Criteria.where("_id").gt(after))
+                .with(Sort.by("id"))
+                .limit(size);
+        chunkQuery.fields().include("_id");
+        Operation operation = run.getOperation();
+        List<String> ids;
+        long changed;
+        if (operation == Operation.PURGE_APPLICATIONS) {
+            List<Application> applications = mongoTemplate.find(chunkQuery, Application.class);
+            ids = applications.stream().map(Application::getId).toList();
+            changed = ids.isEmpty() ? 0 : purge(ids, filter);
+        } else {
+            List<Job> jobs = mongoTemplate.find(chunkQuery, Job.class);
+            ids = jobs.stream().map(Job::getId).toList();
+            changed = ids.isEmpty() ? 0 : updateJobs(operation, run.getParameters(), ids, filter);
+        }
+        if (!ids.isEmpty()) {
+            run.setLastId(ids.get(ids.size() - 1));
+            run.setProcessed(run.getProcessed() + changed);
+            meterRegistry.counter("maintenance.processed", "operation", operation.name()).increment(changed);
+        }
+        return ids.size();
+    }
+
+    private long updateJobs(Operation operation, Map<String, String> parameters, List<String> ids,
+                            Criteria filter) {
+        // a marker unique to this chunk tells the jobs it changed from those it skipped or others changed
+        ObjectId chunkId = new ObjectId();
+        Update update = new Update().set(CHUNK_FIELD, chunkId).currentDate("lastModified");
+        if (operation == Operation.DEACTIVATE_COMPANY_JOBS) {
+            update.set("isActive", false);
+        } else {
+            update.set("recruiterId", parameters.get(TO_RECRUITER));
+        }
+        // the filter is re-checked so documents changed since the read are left alone
+        UpdateResult result = mongoTemplate.updateMulti(new Query(inChunk(filter, ids)), update, Job.class);
+        if (result.getModifiedCount() > 0) {
+            for (Job job : mongoTemplate.find(new Query(Criteria.where("_id").in(ids).and(CHUNK_FIELD).is(chunkId)),
+                    Job.class)) {
+                eventBus.publish(JobChangedEvent.of(ChangeType.UPDATED, job));
+            }
+        }
+        return result.getModifiedCount();
+    }
+
+    private long purge(List<String> ids, Criteria filter) {
+        List<Application> removed = mongoTemplate.findAllAndRemove(new Query(inChunk(filter, ids)), Application.class);
+        for (Application application : removed) {
+            funnelRollupService.recordDeleted(application);
+            eventBus.publish(ApplicationChangedEvent.deleted(application.getId()));
+        }
+        return removed.size();
+    }
+
+    private static Criteria inChunk(Criteria filter, List<String> ids) {
+        return new Criteria().andOperator(filter, Criteria.where("_id").in(ids));
+    }
+
+    private MaintenanceRun checkpoint(MaintenanceRun run, Status status) {
+        run.setStatus(status);
+        run.setUpdatedAt(Instant.now());
+        return mongoTemplate.save(run);
+    }
+
+    /**
+     * Builds the filter selecting the documents an operation changes.
+     */
+    private Criteria filter(Operation operation, Map<String, String> parameters) {
+        return switch (operation) {
+            case DEACTIVATE_COMPANY_JOBS -> Criteria.where("company").is(required(parameters, COMPANY))
+                    .and("isActive").is(true);
+            case REASSIGN_JOBS -> {
+                String from = required(parameters, FROM_RECRUITER);
+                String to = required(parameters, TO_RECRUITER);
+                if (from.equals(to)) {
+                    throw new IllegalArgumentException("Jobs cannot be reassigned to the same recruiter");
+                }
+                if (!mongoTemplate.exists(new Query(Criteria.where("_id").is(to)), Recruiter.class)) {
+                    throw new ResourceNotFoundException("Recruiter not found with id: " + to);
+                }
+                yield Criteria.where("recruiterId").is(from);
+            }
+            case PURGE_APPLICATIONS -> applicationFilter(parameters);
+        };
+    }
+
+    private static Criteria applicationFilter(Map<String, String> parameters) {
+        Criteria criteria = new Criteria();
+        boolean filtered = false;
+        if (parameters.get(EMAIL_PATTERN) != null) {
+            criteria.and("email").regex(Pattern.compile(parameters.get(EMAIL_PATTERN), Pattern.CASE_INSENSITIVE));
+            filtered = true;
+        }
+        if (parameters.get(JOB_ID) != null) {
+            criteria.and("jobId").is(parameters.get(JOB_ID));
+            filtered = true;
+        }
+        if (parameters.get(STATUS) != null) {
+            criteria.and("status").is(Application.ApplicationStatus.valueOf(parameters.get(STATUS)));
+            filtered = true;
+        }
+        if (parameters.get(SUBMITTED_BEFORE) != null) {
+            criteria.and("applicationDate").lt(LocalDate.parse(parameters.get(SUBMITTED_BEFORE)));
+            filtered = true;
+        }
+        if (!filtered) {
+            throw new IllegalArgumentException("Purging applications needs at least one filter");
+        }
+        return criteria;
+    }
+
+    private static String required(Map<String, String> parameters, String name) {
+        String value = parameters.get(name);
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("Missing parameter " + name);
+        }
+        return value;
+    }
+
+    private static Class<?> entityType(Operation operation) {
+        return operation == Operation.PURGE_APPLICATIONS ? Application.class : Job.class;
+    }
+}
@@ -0,0 +1,252 @@
+package org.example.oopproject1.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.example.oopproject1.dto.FunnelDay;
+import org.example.oopproject1.dto.FunnelReport;
+import org.example.oopproject1.model.Application;
+import org.example.oopproject1.model.Application.ApplicationStatus;
+import org.example.oopproject1.model.FunnelBucket;
+import org.example.oopproject1.model.StatusChange;
+import org.example.oopproject1.repository.FunnelRollupRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Per-job hiring funnels served from daily rollups.
+ * <p>
+ * {@link ApplicationService} reports every write here, and each one moves
+ * a count between statuses in the {@link FunnelBucket} of the application's
+ * job and submission day, and another between the furthest stages reached
+ * according to its status history, so a funnel over a recruiter's jobs reads one
+ * bucket per job and day instead of every application. Because buckets are
+ * keyed by submission day, a funnel is that of the applications submitted
+ * in its range, as they stand now. A failed rollup write is logged and
+ * counted but never fails the application write; {@link #backfill()}
+ * rebuilds all buckets from the applications, including archived ones,
+ * and runs at startup when {@code app.funnel.backfill-on-startup} is set.
+ * </p>
+ *
+ * @since 1.1
+ */
+@Service
+public class FunnelRollupService {
+    private static final Logger logger = LoggerFactory.getLogger(FunnelRollupService.class);
+
+    /**
+     * The stages every successful application passes through, in order.
+     */
+    public static final List<ApplicationStatus> STAGES = FunnelBucket.STAGES;
+
+    private final FunnelRollupRepository rollupRepository;
+    private final boolean backfillOnStartup;
+    private final Counter failures;
+
+    /**
+     * Constructs the service.
+     *
+     * @param rollupRepository  repository holding the daily buckets
+     * @param meterRegistry     registry for the failed-write counter
+     * @param backfillOnStartup whether to rebuild the buckets when the application is ready
+     */
+    public FunnelRollupService(FunnelRollupRepository rollupRepository,
+                               MeterRegistry meterRegistry,
+                               @Value("${app.funnel.backfill-on-startup:false}") boolean backfillOnStartup) {
+        this.rollupRepository = rollupRepository;
+        this.backfillOnStartup = backfillOnStartup;
+        this.failures = meterRegistry.counter("funnel.rollups.failures");
+    }
+
+    /**
+     * Counts a new application in its status.
+     *
+     * @param application the saved application
+     */
+    public void recordCreated(Application application) {
+        record(application, null, application.getStatus(), null, furthestStage(application));
+    }
+
+    /**
+     * Moves an updated application from its previous status to its current one,
+     * and to a further stage if the change takes it past the ones it had reached.
+     *
+     * @param application    the saved application, its history ending with the change
+     * @param previousStatus its status before the update
+     */
+    public void recordStatusChange(Application application, ApplicationStatus previousStatus) {
+        if (previousStatus == application.getStatus()) {
+            return;
+        }
+        List<StatusChange> history = application.getStatusHistory();
+        List<StatusChange> before = history == null || history.isEmpty() ? history
+                : history.subList(0, history.size() - 1);
+        record(application, previousStatus, application.getStatus(),
+                FunnelBucket.furthestStage(previousStatus, before), furthestStage(application));
+    }
+
+    /**
+     * Counts a deleted application out of its status.
+     *
+     * @param application the application as it was before deletion
+     */
+    public void recordDeleted(Application application) {
+        record(application, application.getStatus(), null, furthestStage(application), null);
+    }
+
+    /**
+     * Summarizes the funnel of the applications submitted to some jobs within a range of days.
+     *
+     * @param jobIds the job IDs
+     * @param from   the first submission day, inclusive
+     * @param to     the last submission day, inclusive
+     * @return the funnel; all zeros if nothing was submitted
+     */
+    public FunnelReport funnel(List<String> jobIds, LocalDate from, LocalDate to) {
+        Map<ApplicationStatus, Long> current = new EnumMap<>(ApplicationStatus.class);
+        Map<ApplicationStatus, Long> furthest = new EnumMap<>(ApplicationStatus.class);
+        for (ApplicationStatus status : ApplicationStatus.values()) {
+            current.put(status, 0L);
+            furthest.put(status, 0L);
+        }
+        if (!jobIds.isEmpty()) {
+            for (FunnelBucket bucket : rollupRepository.findBuckets(jobIds, from, to)) {
+                addCounts(current, bucket.getCounts());
+                addCounts(furthest, bucket.getFurthest());
+            }
+        }
+        long submitted = current.values().stream().mapToLong(Long::longValue).sum();
+
+        // every stage implies the ones before it, so a stage was reached by those that got at least as far
+        Map<String, Long> reached = new LinkedHashMap<>();
+        for (int i = 0; i < STAGES.size(); i++) {
+            reached.put(STAGES.get(i).name(), STAGES.subList(i, STAGES.size()).stream()
+                    .mapToLong(furthest::get).sum());
+        }
+        reached.put(ApplicationStatus.REJECTED.name(), current.get(ApplicationStatus.REJECTED));
+
+        Map<String, Double> conversion = new LinkedHashMap<>();
+        for (int i = 1; i < STAGES.size(); i++) {
+            String before = STAGES.get(i - 1).name();
+            String stage = STAGES.get(i).name();
+            conversion.put(before + "->" + stage, ratio(reached.get(stage), reached.get(before)));
+        }
+        conversion.put(ApplicationStatus.SUBMITTED.name() + "->" + ApplicationStatus.ACCEPTED.name(),
+                ratio(reached.get(ApplicationStatus.ACCEPTED.name()), submitted));
+
+        return new FunnelReport(List.copyOf(jobIds), from, to, submitted, names(current), reached, conversion);
+    }
+
+    /**
+     * Counts the applications submitted to some jobs on each day of a range.
+     * Days on which nothing was submitted are left out.
+     *
+     * @param jobIds the job IDs
+     * @param from   the first submission day, inclusive
+     * @param to     the last submission day, inclusive
+     * @return one entry per day with submissions, oldest first
+     */
+    public List<FunnelDay> daily(List<String> jobIds, LocalDate from, LocalDate to) {
+        if (jobIds.isEmpty()) {
+            return List.of();
+        }
+        Map<LocalDate, Map<ApplicationStatus, Long>> days = new TreeMap<>();
+        for (FunnelBucket bucket : rollupRepository.findBuckets(jobIds, from, to)) {
+            addCounts(days.computeIfAbsent(bucket.getDay(), day -> new EnumMap<>(ApplicationStatus.class)),
+                    bucket.getCounts());
+        }
+        return days.entrySet().stream()
+                .map(day -> new FunnelDay(day.getKey(),
+                        day.getValue().values().stream().mapToLong(Long::longValue).sum(),
+                        names(day.getValue())))
+                .filter(day -> day.getSubmitted() > 0)
+                .toList();
+    }
+
+    /**
+     * Rebuilds every bucket from the applications, hot and archived.
+     *
+     * @return the number of buckets written
+     */
+    public long backfill() {
+        long start = System.nanoTime();
+        long buckets = rollupRepository.rebuild();
+        logger.info("Rebuilt {} funnel buckets in {} ms", buckets, (System.nanoTime() - start) / 1_000_000);
+        return buckets;
+    }
+
+    /**
+     * Rebuilds the buckets at startup if configured to.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillIfConfigured() {
+        if (backfillOnStartup) {
+            backfill();
+        }
+    }
+
+    private void record(Application application, ApplicationStatus from, ApplicationStatus to,
+                        ApplicationStatus fromStage, ApplicationStatus toStage) {
+        if (from == to || application.getJobId() == null || application.getApplicationDate() == null) {
+            return;
+        }
+        Map<ApplicationStatus, Long> deltas = moves(from, to);
+        Map<ApplicationStatus, Long> stageDeltas = fromStage == toStage ? Map.of() : moves(fromStage, toStage);
+        try {
+            rollupRepository.increment(application.getJobId(), application.getApplicationDate(), deltas,
+                    stageDeltas);
+        } catch (RuntimeException e) {
+            failures.increment();
+            logger.warn("Failed to update the funnel of job {} for application {}; a backfill will repair it",
+                    application.getJobId(), application.getId(), e);
+        }
+    }
+
+    private static ApplicationStatus furthestStage(Application application) {
+        return FunnelBucket.furthestStage(application.getStatus(), application.getStatusHistory());
+    }
+
+    private static Map<ApplicationStatus, Long> moves(ApplicationStatus from, ApplicationStatus to) {
+        Map<ApplicationStatus, Long> deltas = new EnumMap<>(ApplicationStatus.class);
+        if (from != null) {
+            deltas.put(from, -1L);
+        }
+        if (to != null) {
+            deltas.put(to, 1L);
+        }
+        return deltas;
+    }
+
+    private static void addCounts(Map<ApplicationStatus, Long> totals, Map<String, Long> counts) {
+        if (counts == null) {
+            return;
+        }
+        counts.forEach((status, count) -> {
+            try {
+                totals.merge(ApplicationStatus.valueOf(status), count, Long::sum);
+            } catch (IllegalArgumentException e) {
+                // a status that has since been removed from the enum
+            }
+        });
+    }
+
+    private static Map<String, Long> names(Map<ApplicationStatus, Long> counts) {
+        Map<String, Long> named = new LinkedHashMap<>();
+        counts.forEach((status, count) -> named.put(status.name(), count));
+        return named;
+    }
+
+    private static double ratio(long part, long whole) {
+        return whole == 0 ? 0.0 : (double) part / whole;
+    }
+}
@@ -0,0 +1,105 @@
+package org.example.oopproject1.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.example.oopproject1.event.DomainEventBus;
+import org.example.oopproject1.event.JobChangedEvent;
+import org.example.oopproject1.model.Job;
+import org.example.oopproject1.repository.JobRepository;
+import org.example.oopproject1.search.FuzzyIndex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Typo-tolerant search over job titles and required skills.
+ * <p>
+ * Backs the fallback of {@link JobService#searchJobs(String)} when the
+ * exact keyword search finds too little. The {@link FuzzyIndex} is built
+ * from the database when the application is ready, rebuilt when the
+ * {@link DomainEventBus} may have missed events, and otherwise kept current
+ * from {@link JobChangedEvent}s.
+ * </p>
+ *
+ * @since 1.1
+ */
+@Service
+public class FuzzySearchService {
+    private static final Logger logger = LoggerFactory.getLogger(FuzzySearchService.class);
+
+    private final JobRepository jobRepository;
+    private final Timer latency;
+    private volatile FuzzyIndex index = new FuzzyIndex();
+
+    /**
+     * Constructs the service with an empty index.
+     *
+     * @param jobRepository repository the index is built from
+     * @param eventBus      bus delivering job changes from every node
+     * @param meterRegistry registry for the latency timer and size gauges
+     */
+    public FuzzySearchService(JobRepository jobRepository, DomainEventBus eventBus, MeterRegistry meterRegistry) {
+        this.jobRepository = jobRepository;
+        this.latency = Timer.builder("jobs.search.fuzzy")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        Gauge.builder("jobs.search.fuzzy.terms", this, service -> service.index.terms()).register(meterRegistry);
+        Gauge.builder("jobs.search.fuzzy.postings", this, service -> service.index.postings()).register(meterRegistry);
+        eventBus.subscribe(JobChangedEvent.class, this::onJobChanged);
+        eventBus.onResync(this::rebuild);
+    }
+
+    /**
+     * Finds jobs whose titles or skills contain every word of the keyword,
+     * allowing a few typos per word.
+     *
+     * @param keyword the search text
+     * @param limit   the maximum number of IDs returned
+     * @return the IDs of the matching jobs, closest first
+     */
+    public List<String> findJobIds(String keyword, int limit) {
+        return latency.record(() -> index.search(keyword, limit));
+    }
+
+    /**
+     * Rebuilds the index from the database.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        FuzzyIndex rebuilt = new FuzzyIndex();
+        try (Stream<Job> jobs = jobRepository.streamAllBy()) {
+            jobs.forEach(job -> rebuilt.put(job.getId(), texts(job)));
+        }
+        index = rebuilt;
+        logger.info("Indexed {} jobs ({} words) for fuzzy search", rebuilt.documents(), rebuilt.terms());
+    }
+
+    /**
+     * Re-indexes a changed job.
+     *
+     * @param event the change delivered by the {@link DomainEventBus}
+     */
+    public synchronized void onJobChanged(JobChangedEvent event) {
+        if (event.job() == null) {
+            index.remove(event.entityId());
+        } else {
+            index.put(event.entityId(), texts(event.job()));
+        }
+    }
+
+    private static List<String> texts(Job job) {
+        List<String> texts = new ArrayList<>();
+        texts.add(job.getTitle());
+        if (job.getRequiredSkills() != null) {
+            texts.addAll(job.getRequiredSkills());
+        }
+        return texts;
+    }
+}
@@ -0,0 +1,118 @@
+package org.example.oopproject1.service;
+
+import org.example.oopproject1.exception.ConflictException;
+import org.example.oopproject1.model.IdempotencyRecord;
+import org.example.oopproject1.repository.IdempotencyRecordRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Service for honouring client-supplied idempotency keys.
+ * <p>
+ * A key is reserved by inserting its record, so concurrent requests carrying the
+ * same key race on the primary key and exactly one of them proceeds. The winner
+ * completes the record with the ID of the resource it created; later requests
+ * with the same key are answered from that ID without repeating the write.
+ * Keys expire after {@code app.idempotency.ttl}. An expired record the TTL
+ * monitor has not removed yet is deleted conditionally and the insert retried,
+ * so the insert stays the only way to reserve a key.
+ * </p>
+ *
+ * @since 1.1
+ */
+@Service
+public class IdempotencyService {
+
+    /**
+     * Inserts attempted before a key that keeps being released or expiring is reported as busy.
+     */
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final IdempotencyRecordRepository recordRepository;
+    private final Duration ttl;
+
+    /**
+     * Constructor injection of the repository and key lifetime.
+     *
+     * @param recordRepository repository for IdempotencyRecord entities
+     * @param ttl              how long a key is remembered
+     */
+    public IdempotencyService(IdempotencyRecordRepository recordRepository,
+                              @Value("${app.idempotency.ttl:PT24H}") Duration ttl) {
+        this.recordRepository = recordRepository;
+        this.ttl = ttl;
+    }
+
+    /**
+     * Reserves a key for a new request, or returns the result of the request that already used it.
+     *
+     * @param key         the client-supplied idempotency key
+     * @param fingerprint identifies the request payload the key is used with
+     * @return the ID of the resource created by an earlier request with this key,
+     *         or empty if the key was reserved and the caller should proceed
+     * @throws ConflictException if the key is in use by a request still being processed,
+     *                           or was used for a different request
+     */
+    public Optional<String> reserve(String key, String fingerprint) {
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            Instant now = Instant.now();
+            try {
+                recordRepository.insert(new IdempotencyRecord(key, fingerprint, null, now, now.plus(ttl)));
+                return Optional.empty();
+            } catch (DuplicateKeyException e) {
+                IdempotencyRecord existing = recordRepository.findById(key).orElse(null);
+                if (existing == null) {
+                    // released meanwhile
+                    continue;
+                }
+                if (existing.getExpiresAt().isBefore(now)) {
+                    // expired but not yet removed by the TTL monitor; whoever deletes it still has to win the insert
+                    recordRepository.deleteByKeyAndExpiresAtBefore(key, now);
+                    continue;
+                }
+                return answer(existing, fingerprint);
+            }
+        }
+        throw new ConflictException("A request with this idempotency key is still being processed");
+    }
+
+    /**
+     * Records the resource created by the request that reserved the key.
+     *
+     * @param key        the reserved key
+     * @param resourceId the ID of the created resource
+     */
+    public void complete(String key, String resourceId) {
+        recordRepository.findById(key).ifPresent(record -> {
+            record.setResourceId(resourceId);
+            recordRepository.save(record);
+        });
+    }
+
+    /**
+     * Releases a key whose request failed, so that the client can retry with it.
+     *
+     * @param key the reserved key
+     */
+    public void release(String key) {
+        recordRepository.deleteById(key);
+    }
+
+    /**
+     * Answers a request whose key is held by a live record.
+     */
+    private static Optional<String> answer(IdempotencyRecord existing, String fingerprint) {
+        if (!existing.getRequestFingerprint().equals(fingerprint)) {
+            throw new ConflictException("Idempotency key was already used for a different request");
+        }
+        if (existing.getResourceId() == null) {
+            throw new ConflictException("A request with this idempotency key is still being processed");
+        }
+        return Optional.of(existing.getResourceId());
+    }
+}
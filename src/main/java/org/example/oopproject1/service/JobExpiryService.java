@@ -0,0 +1,175 @@
+package org.example.oopproject1.service;
+
+import com.mongodb.client.result.UpdateResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.bson.types.ObjectId;
+import org.example.oopproject1.event.DomainEvent.ChangeType;
+import org.example.oopproject1.event.DomainEventBus;
+import org.example.oopproject1.event.JobChangedEvent;
+import org.example.oopproject1.model.Job;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Periodically deactivates job postings whose deadline has passed.
+ * <p>
+ * Each run works through bounded batches: it reads up to
+ * {@code app.jobs.expiry.batch-size} expired active jobs, flips them inactive
+ * with a single {@code updateMulti}, and publishes a {@link JobChangedEvent}
+ * per job so caches and indexes drop them. The update stamps the jobs it
+ * changes with a fresh ObjectId in {@value #BATCH_FIELD}, and only jobs
+ * carrying that stamp are published. A MongoDB lease ensures that only
+ * one node sweeps at a time; it is renewed between batches and released when
+ * the run ends. Runs are reported through Micrometer as
+ * {@code jobs.expiry.deactivated}, {@code jobs.expiry.runs} and
+ * {@code jobs.expiry.duration}.
+ * </p>
+ *
+ * @since 1.1
+ */
+@Service
+@ConditionalOnProperty(name = "app.jobs.expiry.enabled", havingValue = "true", matchIfMissing = true)
+public class JobExpiryService {
+    private static final Logger logger = LoggerFactory.getLogger(JobExpiryService.class);
+
+    /**
+     * Name of the lease guarding the sweep.
+     */
+    static final String LEASE_NAME = "job-expiry-sweep";
+
+    /**
+     * Job field recording the batch that last deactivated the job.
+     */
+    static final String BATCH_FIELD = "expiryBatch";
+
+    private final MongoTemplate mongoTemplate;
+    private final SchedulerLeaseService leaseService;
+    private final DomainEventBus eventBus;
+    private final int batchSize;
+    private final int maxBatches;
+    private final Duration leaseDuration;
+
+    private final Counter deactivatedCounter;
+    private final Counter completedRuns;
+    private final Counter skippedRuns;
+    private final Timer runTimer;
+
+    /**
+     * Constructor injection of collaborators and sweep limits.
+     *
+     * @param mongoTemplate template used to find and update expired jobs
+     * @param leaseService  service guarding the sweep across nodes
+     * @param eventBus      bus on which deactivated jobs are published
+     * @param meterRegistry registry receiving sweep metrics
+     * @param batchSize     maximum number of jobs deactivated per batch
+     * @param maxBatches    maximum number of batches per run
+     * @param leaseDuration how long the lease is held without renewal
+     */
+    public JobExpiryService(MongoTemplate mongoTemplate,
+                            SchedulerLeaseService leaseService,
+                            DomainEventBus eventBus,
+                            MeterRegistry meterRegistry,
+                            @Value("${app.jobs.expiry.batch-size:500}") int batchSize,
+                            @Value("${app.jobs.expiry.max-batches:20}") int maxBatches,
+                            @Value("${app.jobs.expiry.lease:PT5M}") Duration leaseDuration) {
+        this.mongoTemplate = mongoTemplate;
+        this.leaseService = leaseService;
+        this.eventBus = eventBus;
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+        this.leaseDuration = leaseDuration;
+        this.deactivatedCounter = meterRegistry.counter("jobs.expiry.deactivated");
+        this.completedRuns = meterRegistry.counter("jobs.expiry.runs", "outcome", "completed");
+        this.skippedRuns = meterRegistry.counter("jobs.expiry.runs", "outcome", "lease-held");
+        this.runTimer = meterRegistry.timer("jobs.expiry.duration");
+    }
+
+    /**
+     * Scheduled entry point; sweeps if this node can take the lease.
+     */
+    @Scheduled(fixedDelayString = "${app.jobs.expiry.interval-ms:300000}",
+            initialDelayString = "${app.jobs.expiry.initial-delay-ms:60000}")
+    public void sweepExpiredJobs() {
+        if (!leaseService.tryAcquire(LEASE_NAME, leaseDuration)) {
+            skippedRuns.increment();
+            return;
+        }
+        try {
+            long deactivated = runTimer.record(() -> sweep(LocalDate.now()));
+            completedRuns.increment();
+            if (deactivated > 0) {
+                logger.info("Deactivated {} expired jobs", deactivated);
+            }
+        } finally {
+            leaseService.release(LEASE_NAME);
+        }
+    }
+
+    /**
+     * Deactivates active jobs whose deadline is before the given date.
+     *
+     * @param today the first date on which a job is still open
+     * @return the number of jobs deactivated
+     */
+    long sweep(LocalDate today) {
+        long total = 0;
+        for (int batch = 0; batch < maxBatches; batch++) {
+            Batch result = deactivateBatch(today);
+            total += result.deactivated();
+            if (result.read() < batchSize || !leaseService.tryAcquire(LEASE_NAME, leaseDuration)) {
+                break;
+            }
+        }
+        return total;
+    }
+
+    private Batch deactivateBatch(LocalDate today) {
+        Criteria expiredActive = Criteria.where("isActive").is(true).and("deadlineDate").lt(today);
+        Query expired = new Query(expiredActive).limit(batchSize);
+        expired.fields().include("_id");
+        List<Job> jobs = mongoTemplate.find(expired, Job.class);
+        if (jobs.isEmpty()) {
+            return new Batch(0, 0);
+        }
+
+        List<String> ids = jobs.stream().map(Job::getId).toList();
+        // re-check the read's criteria so jobs reactivated or extended since are left alone, and mark the jobs this
+        // update changes so that jobs other writers deactivated are not published as ours
+        ObjectId batchId = new ObjectId();
+        UpdateResult result = mongoTemplate.updateMulti(
+                new Query(Criteria.where("_id").in(ids).andOperator(expiredActive)),
+                new Update().set("isActive", false).set(BATCH_FIELD, batchId).currentDate("lastModified"),
+                Job.class);
+        deactivatedCounter.increment(result.getModifiedCount());
+
+        if (result.getModifiedCount() > 0) {
+            // read back as they are, not as they were read
+            List<Job> deactivated = mongoTemplate.find(
+                    new Query(Criteria.where("_id").in(ids).and(BATCH_FIELD).is(batchId)), Job.class);
+            for (Job job : deactivated) {
+                eventBus.publish(JobChangedEvent.of(ChangeType.UPDATED, job));
+            }
+        }
+        return new Batch(jobs.size(), result.getModifiedCount());
+    }
+
+    /**
+     * Outcome of one batch: how many expired jobs were read and how many of them this batch deactivated.
+     */
+    private record Batch(int read, long deactivated) {
+    }
+}
@@ -0,0 +1,85 @@
+package org.example.oopproject1.service;
+
+import com.mongodb.client.result.UpdateResult;
+import org.example.oopproject1.model.Job;
+import org.example.oopproject1.search.Gazetteer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Sets the coordinates of jobs saved before jobs were geocoded, so radius
+ * searches find them.
+ * <p>
+ * Runs once at startup when {@code app.geo.backfill} is set: it reads the
+ * distinct locations of jobs without coordinates and sets each known one
+ * with a single {@code updateMulti}. The query for missing coordinates
+ * scans the collection, which is why the backfill is off by default and
+ * meant to be enabled for one deployment. Jobs saved since are geocoded as
+ * they are written.
+ * </p>
+ *
+ * @since 1.1
+ */
+@Service
+@Profile("!inmemory")
+@ConditionalOnProperty(name = "app.geo.backfill", havingValue = "true")
+public class JobGeocodingBackfill {
+    private static final Logger logger = LoggerFactory.getLogger(JobGeocodingBackfill.class);
+
+    private final MongoTemplate mongoTemplate;
+    private final Gazetteer gazetteer;
+
+    /**
+     * Constructor injection of collaborators.
+     *
+     * @param mongoTemplate template used to find and update jobs without coordinates
+     * @param gazetteer     gazetteer looking up the locations
+     */
+    public JobGeocodingBackfill(MongoTemplate mongoTemplate, Gazetteer gazetteer) {
+        this.mongoTemplate = mongoTemplate;
+        this.gazetteer = gazetteer;
+    }
+
+    /**
+     * Geocodes every job without coordinates whose location is known.
+     *
+     * @return the number of jobs updated
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public long backfill() {
+        List<String> locations = mongoTemplate.findDistinct(missingCoordinates(), "location", Job.class, String.class);
+        long updated = 0;
+        int unknown = 0;
+        for (String location : locations) {
+            Optional<GeoJsonPoint> point = gazetteer.locate(location);
+            if (point.isEmpty()) {
+                unknown++;
+                continue;
+            }
+            UpdateResult result = mongoTemplate.updateMulti(
+                    missingCoordinates().addCriteria(Criteria.where("location").is(location)),
+                    new Update().set("coordinates", point.get()),
+                    Job.class);
+            updated += result.getModifiedCount();
+        }
+        logger.info("Geocoded {} jobs; {} locations are not in the gazetteer", updated, unknown);
+        return updated;
+    }
+
+    private static Query missingCoordinates() {
+        return new Query(Criteria.where("coordinates").exists(false));
+    }
+}
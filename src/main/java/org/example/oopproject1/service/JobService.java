@@ -1,17 +1,40 @@
 package org.example.oopproject1.service;
 
+import org.example.oopproject1.dto.JobSummary;
+import org.example.oopproject1.dto.NearbyJob;
+import org.example.oopproject1.event.DomainEvent.ChangeType;
+import org.example.oopproject1.event.DomainEventBus;
+import org.example.oopproject1.event.JobChangedEvent;
 import org.example.oopproject1.exception.ResourceNotFoundException;
 import org.example.oopproject1.model.Job;
 import org.example.oopproject1.model.Recruiter;
+import org.example.oopproject1.repository.ArchiveRepository;
 import org.example.oopproject1.repository.JobRepository;
+import org.example.oopproject1.routing.SecondaryReads;
+import org.example.oopproject1.search.Gazetteer;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.geo.Distance;
+import org.springframework.data.geo.Metrics;
+import org.springframework.data.geo.Point;
+import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Service for managing job postings.
@@ -20,10 +43,19 @@ import java.util.Optional;
  * with support for pagination, recruiter company validation,
  * and keyword-based search.
  * </p>
+ * <p>
+ * A keyword search with fewer than {@code app.search.fuzzy.min-hits}
+ * exact matches is topped up with typo-tolerant matches on titles and
+ * skills from the {@link FuzzySearchService}, listed after the exact ones.
+ * </p>
+ * <p>
+ * Reads may be served by secondaries; see {@link SecondaryReads}.
+ * </p>
  *
  * @since 1.0
  */
 @Service
+@SecondaryReads
 public class JobService {
 
     @Autowired
@@ -32,6 +64,30 @@ public class JobService {
     @Autowired
     private RecruiterService recruiterService;
 
+    @Autowired
+    private DomainEventBus eventBus;
+
+    @Autowired
+    private ArchiveRepository archiveRepository;
+
+    @Autowired
+    private FuzzySearchService fuzzySearchService;
+
+    @Autowired
+    private Gazetteer gazetteer;
+
+    /**
+     * Keyword searches finding fewer jobs than this are topped up with fuzzy matches.
+     */
+    @Value("${app.search.fuzzy.min-hits:5}")
+    private int fuzzyMinHits;
+
+    /**
+     * The most fuzzy matches added to one search.
+     */
+    @Value("${app.search.fuzzy.max-results:50}")
+    private int fuzzyMaxResults;
+
     /**
      * Retrieves a paginated list of all jobs.
      *
@@ -42,6 +98,20 @@ public class JobService {
         return jobRepository.findAll(pageable);
     }
 
+    /**
+     * Retrieves a paginated list of jobs, optionally including archived ones.
+     *
+     * @param pageable       pagination and sorting information
+     * @param includeHistory whether to also search the archive
+     * @return Page of Job objects
+     */
+    public Page<Job> getAllJobs(Pageable pageable, boolean includeHistory) {
+        if (!includeHistory) {
+            return getAllJobs(pageable);
+        }
+        return archiveRepository.findIncludingArchive(new Criteria(), pageable, Job.class);
+    }
+
     /**
      * Retrieves all jobs without pagination.
      *
@@ -63,6 +133,23 @@ public class JobService {
                 .orElseThrow(() -> new ResourceNotFoundException("Job not found with id: " + id));
     }
 
+    /**
+     * Retrieves a job by ID, falling back to the archive if requested.
+     *
+     * @param id             the ID of the job to retrieve
+     * @param includeHistory whether to also search the archive
+     * @return the Job object
+     * @throws ResourceNotFoundException if no job is found with the given ID
+     */
+    public Job getJobById(String id, boolean includeHistory) {
+        if (!includeHistory) {
+            return getJobById(id);
+        }
+        return jobRepository.findById(id)
+                .or(() -> archiveRepository.findArchivedById(id, Job.class))
+                .orElseThrow(() -> new ResourceNotFoundException("Job not found with id: " + id));
+    }
+
     /**
      * Creates a new job posting on behalf of a recruiter, validating company match.
      *
@@ -90,7 +177,9 @@ public class JobService {
             job.setDeadlineDate(LocalDate.now().plusMonths(1));
         }
         job.setActive(true);
-        return jobRepository.save(job);
+        Job saved = jobRepository.save(job);
+        eventBus.publish(JobChangedEvent.of(ChangeType.CREATED, saved));
+        return saved;
     }
 
     /**
@@ -106,7 +195,9 @@ public class JobService {
             job.setDeadlineDate(LocalDate.now().plusMonths(1));
         }
         job.setActive(true);
-        return jobRepository.save(job);
+        Job saved = jobRepository.save(job);
+        eventBus.publish(JobChangedEvent.of(ChangeType.CREATED, saved));
+        return saved;
     }
 
     /**
@@ -128,7 +219,9 @@ public class JobService {
         job.setEmploymentType(jobDetails.getEmploymentType());
         job.setDeadlineDate(jobDetails.getDeadlineDate());
         job.setActive(jobDetails.isActive());
-        return jobRepository.save(job);
+        Job saved = jobRepository.save(job);
+        eventBus.publish(JobChangedEvent.of(ChangeType.UPDATED, saved));
+        return saved;
     }
 
     /**
@@ -139,6 +232,7 @@ public class JobService {
     public void deleteJob(String id) {
         Job job = getJobById(id);
         jobRepository.delete(job);
+        eventBus.publish(JobChangedEvent.deleted(id));
     }
 
     /**
@@ -232,7 +326,7 @@ public class JobService {
      * @return list of Job objects matching the keyword
      */
     public List<Job> searchJobs(String keyword) {
-        return jobRepository.searchByKeyword(keyword);
+        return withFuzzyMatches(jobRepository.searchByKeyword(keyword), keyword, Job::getId, Function.identity());
     }
 
     /**
@@ -243,6 +337,274 @@ public class JobService {
      * @return Page of Job objects matching the keyword
      */
     public Page<Job> searchJobs(String keyword, Pageable pageable) {
-        return jobRepository.searchByKeyword(keyword, pageable);
+        Page<Job> exact = jobRepository.searchByKeyword(keyword, pageable);
+        if (exact.getTotalElements() >= fuzzyMinHits) {
+            return exact;
+        }
+        List<Job> all = jobRepository.searchByKeyword(keyword, PageRequest.of(0, fuzzyMinHits, pageable.getSort()))
+                .getContent();
+        return page(withFuzzyMatches(all, keyword, Job::getId, Function.identity()), pageable);
+    }
+
+    /**
+     * Retrieves summaries of all jobs without pagination.
+     *
+     * @return list of JobSummary objects
+     */
+    public List<JobSummary> getJobSummaries() {
+        return jobRepository.findAllBy(JobSummary.class);
+    }
+
+    /**
+     * Retrieves a paginated list of job summaries, optionally including archived jobs.
+     * Summaries of hot jobs are projected by the database; archived results are
+     * summarized after loading.
+     *
+     * @param pageable       pagination and sorting information
+     * @param includeHistory whether to also search the archive
+     * @return Page of JobSummary objects
+     */
+    public Page<JobSummary> getJobSummaries(Pageable pageable, boolean includeHistory) {
+        if (!includeHistory) {
+            return jobRepository.findAllBy(pageable, JobSummary.class);
+        }
+        return archiveRepository.findIncludingArchive(new Criteria(), pageable, Job.class).map(JobSummary::from);
+    }
+
+    /**
+     * Retrieves summaries of the jobs of a company without pagination.
+     *
+     * @param company the company name
+     * @return list of JobSummary objects for the company
+     */
+    public List<JobSummary> findJobSummariesByCompany(String company) {
+        return jobRepository.findByCompany(company, JobSummary.class);
+    }
+
+    /**
+     * Retrieves a paginated list of summaries of the jobs of a company.
+     *
+     * @param company  the company name
+     * @param pageable pagination and sorting information
+     * @return Page of JobSummary objects for the company
+     */
+    public Page<JobSummary> findJobSummariesByCompany(String company, Pageable pageable) {
+        return jobRepository.findByCompany(company, pageable, JobSummary.class);
+    }
+
+    /**
+     * Retrieves summaries of active jobs in a location without pagination.
+     *
+     * @param location the location
+     * @return list of JobSummary objects of active jobs in the location
+     */
+    public List<JobSummary> findActiveJobSummariesByLocation(String location) {
+        return jobRepository.findByLocationAndIsActiveTrue(location, JobSummary.class);
+    }
+
+    /**
+     * Retrieves a paginated list of summaries of active jobs in a location.
+     *
+     * @param location the location
+     * @param pageable pagination and sorting information
+     * @return Page of JobSummary objects of active jobs in the location
+     */
+    public Page<JobSummary> findActiveJobSummariesByLocation(String location, Pageable pageable) {
+        return jobRepository.findByLocationAndIsActiveTrue(location, pageable, JobSummary.class);
+    }
+
+    /**
+     * Retrieves summaries of the jobs posted by a recruiter without pagination.
+     *
+     * @param recruiterId the ID of the recruiter
+     * @return list of JobSummary objects posted by the recruiter
+     */
+    public List<JobSummary> findJobSummariesByRecruiter(String recruiterId) {
+        return jobRepository.findByRecruiterId(recruiterId, JobSummary.class);
+    }
+
+    /**
+     * Retrieves a paginated list of summaries of the jobs posted by a recruiter.
+     *
+     * @param recruiterId the ID of the recruiter
+     * @param pageable    pagination and sorting information
+     * @return Page of JobSummary objects posted by the recruiter
+     */
+    public Page<JobSummary> findJobSummariesByRecruiter(String recruiterId, Pageable pageable) {
+        return jobRepository.findByRecruiterId(recruiterId, pageable, JobSummary.class);
+    }
+
+    /**
+     * Performs a keyword-based search returning job summaries, without pagination.
+     *
+     * @param keyword the search term
+     * @return list of JobSummary objects matching the keyword
+     */
+    public List<JobSummary> searchJobSummaries(String keyword) {
+        return withFuzzyMatches(jobRepository.searchByKeyword(keyword, JobSummary.class), keyword,
+                JobSummary::getId, JobSummary::from);
+    }
+
+    /**
+     * Performs a keyword-based search returning job summaries, with pagination.
+     *
+     * @param keyword  the search term
+     * @param pageable pagination and sorting information
+     * @return Page of JobSummary objects matching the keyword
+     */
+    public Page<JobSummary> searchJobSummaries(String keyword, Pageable pageable) {
+        Page<JobSummary> exact = jobRepository.searchByKeyword(keyword, pageable, JobSummary.class);
+        if (exact.getTotalElements() >= fuzzyMinHits) {
+            return exact;
+        }
+        List<JobSummary> all = jobRepository.searchByKeyword(keyword,
+                PageRequest.of(0, fuzzyMinHits, pageable.getSort()), JobSummary.class).getContent();
+        return page(withFuzzyMatches(all, keyword, JobSummary::getId, JobSummary::from), pageable);
+    }
+
+    /**
+     * Streams summaries of all jobs in ID order, for scripts reading large result sets.
+     * The stream fetches one {@link KeysetCursor} page at a time as it is consumed.
+     *
+     * @param afterId  the last ID already read, or blank to start from the first job
+     * @param pageSize how many jobs to fetch at a time
+     * @return stream of JobSummary objects
+     */
+    public Stream<JobSummary> streamJobSummaries(String afterId, int pageSize) {
+        return KeysetCursor.stream(afterId, pageSize,
+                (after, page) -> jobRepository.findByIdGreaterThan(after, page, JobSummary.class), JobSummary::getId);
+    }
+
+    /**
+     * Streams summaries of the jobs of a company in ID order.
+     *
+     * @param company  the company name
+     * @param afterId  the last ID already read, or blank to start from the first job
+     * @param pageSize how many jobs to fetch at a time
+     * @return stream of JobSummary objects for the company
+     */
+    public Stream<JobSummary> streamJobSummariesByCompany(String company, String afterId, int pageSize) {
+        return KeysetCursor.stream(afterId, pageSize,
+                (after, page) -> jobRepository.findByCompanyAndIdGreaterThan(company, after, page, JobSummary.class),
+                JobSummary::getId);
+    }
+
+    /**
+     * Streams summaries of the jobs whose titles contain a keyword in ID order.
+     *
+     * @param title    the keyword to search for in job titles
+     * @param afterId  the last ID already read, or blank to start from the first job
+     * @param pageSize how many jobs to fetch at a time
+     * @return stream of JobSummary objects with matching titles
+     */
+    public Stream<JobSummary> streamJobSummariesByTitle(String title, String afterId, int pageSize) {
+        return KeysetCursor.stream(afterId, pageSize,
+                (after, page) -> jobRepository.findByTitleContainingAndIdGreaterThan(title, after, page,
+                        JobSummary.class),
+                JobSummary::getId);
+    }
+
+    /**
+     * Streams summaries of the active jobs in a location in ID order.
+     *
+     * @param location the location
+     * @param afterId  the last ID already read, or blank to start from the first job
+     * @param pageSize how many jobs to fetch at a time
+     * @return stream of JobSummary objects for active jobs in the location
+     */
+    public Stream<JobSummary> streamActiveJobSummariesByLocation(String location, String afterId, int pageSize) {
+        return KeysetCursor.stream(afterId, pageSize,
+                (after, page) -> jobRepository.findByLocationAndIsActiveTrueAndIdGreaterThan(location, after, page,
+                        JobSummary.class),
+                JobSummary::getId);
+    }
+
+    /**
+     * Streams summaries of the jobs posted by a recruiter in ID order.
+     *
+     * @param recruiterId the recruiter's ID
+     * @param afterId     the last ID already read, or blank to start from the first job
+     * @param pageSize    how many jobs to fetch at a time
+     * @return stream of JobSummary objects for the recruiter
+     */
+    public Stream<JobSummary> streamJobSummariesByRecruiter(String recruiterId, String afterId, int pageSize) {
+        return KeysetCursor.stream(afterId, pageSize,
+                (after, page) -> jobRepository.findByRecruiterIdAndIdGreaterThan(recruiterId, after, page,
+                        JobSummary.class),
+                JobSummary::getId);
+    }
+
+    /**
+     * Streams summaries of the jobs matching a keyword in ID order. Unlike
+     * {@link #searchJobSummaries(String)}, no fuzzy matches are added, since
+     * they cannot be ordered into the stream.
+     *
+     * @param keyword  the search term
+     * @param afterId  the last ID already read, or blank to start from the first job
+     * @param pageSize how many jobs to fetch at a time
+     * @return stream of JobSummary objects matching the keyword
+     */
+    public Stream<JobSummary> streamJobSummariesByKeyword(String keyword, String afterId, int pageSize) {
+        return KeysetCursor.stream(afterId, pageSize,
+                (after, page) -> jobRepository.searchByKeywordAndIdGreaterThan(keyword, after, page,
+                        JobSummary.class),
+                JobSummary::getId);
+    }
+
+    /**
+     * Finds active jobs within a radius of a point, nearest first.
+     *
+     * @param center   the centre, x being the longitude and y the latitude
+     * @param radiusKm the radius in kilometres
+     * @param pageable pagination information; results are always sorted by distance
+     * @return Page of summaries of the jobs with their distances
+     */
+    public Page<NearbyJob> findJobsNear(Point center, double radiusKm, Pageable pageable) {
+        return jobRepository.findByCoordinatesNearAndIsActiveTrue(center,
+                        new Distance(radiusKm, Metrics.KILOMETERS), pageable)
+                .map(result -> new NearbyJob(result.getContent(),
+                        result.getDistance().in(Metrics.KILOMETERS).getValue()));
+    }
+
+    /**
+     * Looks up the coordinates of a place in the gazetteer.
+     *
+     * @param location a place name, e.g. {@code "NYC"}
+     * @return the coordinates
+     * @throws ResourceNotFoundException if the gazetteer does not know the place
+     */
+    public Point locate(String location) {
+        return gazetteer.locate(location)
+                .orElseThrow(() -> new ResourceNotFoundException("Unknown location: " + location));
+    }
+
+    /**
+     * Appends fuzzy matches to an exact result that has fewer than
+     * {@code fuzzyMinHits} entries, closest first and without duplicates.
+     */
+    private <T> List<T> withFuzzyMatches(List<T> exact, String keyword, Function<T, String> idOf,
+                                         Function<Job, T> convert) {
+        if (exact.size() >= fuzzyMinHits) {
+            return exact;
+        }
+        Set<String> seen = exact.stream().map(idOf).collect(Collectors.toSet());
+        List<String> ids = fuzzySearchService.findJobIds(keyword, fuzzyMaxResults + seen.size()).stream()
+                .filter(id -> !seen.contains(id))
+                .limit(fuzzyMaxResults)
+                .toList();
+        if (ids.isEmpty()) {
+            return exact;
+        }
+        Map<String, Job> found = new HashMap<>();
+        jobRepository.findAllById(ids).forEach(job -> found.put(job.getId(), job));
+        List<T> combined = new ArrayList<>(exact);
+        ids.stream().map(found::get).filter(Objects::nonNull).map(convert).forEach(combined::add);
+        return combined;
+    }
+
+    private static <T> Page<T> page(List<T> all, Pageable pageable) {
+        int from = (int) Math.min(pageable.getOffset(), all.size());
+        int to = Math.min(from + pageable.getPageSize(), all.size());
+        return new PageImpl<>(all.subList(from, to), pageable, all.size());
     }
 }
@@ -0,0 +1,169 @@
+package org.example.oopproject1.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.example.oopproject1.dto.JobSuggestion;
+import org.example.oopproject1.event.DomainEventBus;
+import org.example.oopproject1.event.JobChangedEvent;
+import org.example.oopproject1.model.Job;
+import org.example.oopproject1.repository.JobRepository;
+import org.example.oopproject1.search.SuggestionTrie;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Typeahead suggestions for job titles, companies, locations and skills.
+ * <p>
+ * Each field has a {@link SuggestionTrie} weighted by the number of jobs a
+ * value occurs in. The tries are built from the database when the
+ * application is ready, rebuilt when the {@link DomainEventBus} may have
+ * missed events, and otherwise kept current from {@link JobChangedEvent}s,
+ * so jobs written by other nodes show up as well.
+ * </p>
+ *
+ * @since 1.1
+ */
+@Service
+public class JobSuggestionService {
+    private static final Logger logger = LoggerFactory.getLogger(JobSuggestionService.class);
+
+    /**
+     * The fields suggestions are drawn from, in the order used for ties.
+     */
+    public static final List<String> FIELDS = List.of("title", "company", "location", "skill");
+
+    private final JobRepository jobRepository;
+    private final int maxResults;
+    private final Timer latency;
+    private final Map<String, JobTerms> indexed = new HashMap<>();
+    private volatile Map<String, SuggestionTrie> tries;
+
+    /**
+     * Constructs the service with empty tries.
+     *
+     * @param jobRepository repository the tries are built from
+     * @param eventBus      bus delivering job changes from every node
+     * @param meterRegistry registry for the latency timer and size gauges
+     * @param maxResults    the most suggestions one query can return
+     */
+    public JobSuggestionService(JobRepository jobRepository,
+                                DomainEventBus eventBus,
+                                MeterRegistry meterRegistry,
+                                @Value("${app.suggest.max-results:10}") int maxResults) {
+        this.jobRepository = jobRepository;
+        this.maxResults = maxResults;
+        this.tries = emptyTries();
+        this.latency = Timer.builder("jobs.suggest")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        for (String field : FIELDS) {
+            Gauge.builder("jobs.suggest.terms", this, service -> service.tries.get(field).size())
+                    .tag("field", field)
+                    .register(meterRegistry);
+        }
+        eventBus.subscribe(JobChangedEvent.class, this::onJobChanged);
+        eventBus.onResync(this::rebuild);
+    }
+
+    /**
+     * Returns the values most jobs share that start with, or have a word
+     * starting with, the given prefix.
+     *
+     * @param prefix the text typed so far
+     * @param field  one of {@link #FIELDS}, or anything else for all of them
+     * @param limit  the maximum number of suggestions
+     * @return the suggestions, most frequent first
+     */
+    public List<JobSuggestion> suggest(String prefix, String field, int limit) {
+        long start = System.nanoTime();
+        int max = Math.max(0, Math.min(limit, maxResults));
+        String only = field == null ? "" : field.toLowerCase(Locale.ROOT);
+        List<JobSuggestion> suggestions = new ArrayList<>();
+        tries.forEach((name, trie) -> {
+            if (!FIELDS.contains(only) || only.equals(name)) {
+                trie.suggest(prefix, max).forEach(match ->
+                        suggestions.add(new JobSuggestion(name, match.text(), match.weight())));
+            }
+        });
+        suggestions.sort(Comparator.comparingLong(JobSuggestion::getCount).reversed());
+        List<JobSuggestion> result = suggestions.size() > max ? suggestions.subList(0, max) : suggestions;
+        latency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return result;
+    }
+
+    /**
+     * Rebuilds every trie from the database.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        Map<String, SuggestionTrie> rebuilt = emptyTries();
+        indexed.clear();
+        try (Stream<Job> jobs = jobRepository.streamAllBy()) {
+            jobs.forEach(job -> {
+                JobTerms terms = JobTerms.of(job);
+                indexed.put(job.getId(), terms);
+                apply(rebuilt, terms, 1);
+            });
+        }
+        tries = rebuilt;
+        logger.info("Indexed {} jobs for suggestions", indexed.size());
+    }
+
+    /**
+     * Moves a changed job's values from its previous version to its new one.
+     *
+     * @param event the change delivered by the {@link DomainEventBus}
+     */
+    public synchronized void onJobChanged(JobChangedEvent event) {
+        JobTerms current = event.job() != null ? JobTerms.of(event.job()) : null;
+        JobTerms previous = current != null
+                ? indexed.put(event.entityId(), current)
+                : indexed.remove(event.entityId());
+        apply(tries, previous, -1);
+        apply(tries, current, 1);
+    }
+
+    private static void apply(Map<String, SuggestionTrie> tries, JobTerms terms, long delta) {
+        if (terms == null) {
+            return;
+        }
+        tries.get("title").add(terms.title(), delta);
+        tries.get("company").add(terms.company(), delta);
+        tries.get("location").add(terms.location(), delta);
+        terms.skills().forEach(skill -> tries.get("skill").add(skill, delta));
+    }
+
+    private Map<String, SuggestionTrie> emptyTries() {
+        Map<String, SuggestionTrie> empty = new LinkedHashMap<>();
+        FIELDS.forEach(field -> empty.put(field, new SuggestionTrie(maxResults)));
+        return empty;
+    }
+
+    /**
+     * The indexed values of one job, kept to retract them when the job changes.
+     */
+    private record JobTerms(String title, String company, String location, List<String> skills) {
+
+        static JobTerms of(Job job) {
+            List<String> skills = job.getRequiredSkills() != null
+                    ? job.getRequiredSkills().stream().distinct().toList()
+                    : List.of();
+            return new JobTerms(job.getTitle(), job.getCompany(), job.getLocation(), skills);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package org.example.oopproject1.service;
+
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Streams a query's results in ID order, one keyset page at a time.
+ * <p>
+ * Each page is the next {@code pageSize} results after the last ID read,
+ * fetched only once the previous page has been consumed. The first result
+ * therefore arrives after one page whatever the size of the collection,
+ * at most one page is held at a time, and, unlike skip-based paging, late
+ * pages cost no more than early ones. Documents inserted behind the cursor
+ * while it is open are not returned.
+ * </p>
+ *
+ * @since 1.1
+ */
+public final class KeysetCursor {
+
+    /**
+     * An ID before every other ObjectId, to start from the beginning.
+     */
+    static final ObjectId START = new ObjectId("000000000000000000000000");
+
+    private KeysetCursor() {
+    }
+
+    /**
+     * Streams all results after the given ID.
+     *
+     * @param afterId  the last ID already read, or {@code null} or blank to start from the beginning
+     * @param pageSize how many results to fetch at a time
+     * @param page     fetches the page after an ID, given a zero-based pageable sorted by ID
+     * @param idOf     extracts a result's ID
+     * @param <T>      the result type
+     * @return the results in ID order
+     * @throws IllegalArgumentException if {@code afterId} is not an ObjectId or {@code pageSize} is not positive
+     */
+    public static <T> Stream<T> stream(String afterId, int pageSize, BiFunction<ObjectId, Pageable, List<T>> page,
+                                       Function<T, String> idOf) {
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("pageSize must be at least 1");
+        }
+        Pageable pageable = PageRequest.of(0, pageSize, Sort.by("id"));
+        ObjectId start = afterId == null || afterId.isBlank() ? START : parse(afterId);
+        Iterator<T> rows = new Iterator<>() {
+            private ObjectId lastId = start;
+            private Iterator<T> current = List.<T>of().iterator();
+            private boolean exhausted;
+
+            @Override
+            public boolean hasNext() {
+                while (!current.hasNext() && !exhausted) {
+                    List<T> next = page.apply(lastId, pageable);
+                    exhausted = next.size() < pageSize;
+                    if (!next.isEmpty()) {
+                        lastId = parse(idOf.apply(next.get(next.size() - 1)));
+                    }
+                    current = next.iterator();
+                }
+                return current.hasNext();
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return current.next();
+            }
+        };
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(rows,
+                Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    private static ObjectId parse(String id) {
+        if (!ObjectId.isValid(id)) {
+            throw new IllegalArgumentException("Not an ObjectId: " + id);
+        }
+        return new ObjectId(id);
+    }
+}
@@ -1,8 +1,12 @@
 package org.example.oopproject1.service;
 
+import org.example.oopproject1.event.DomainEvent.ChangeType;
+import org.example.oopproject1.event.DomainEventBus;
+import org.example.oopproject1.event.RecruiterChangedEvent;
 import org.example.oopproject1.exception.ResourceNotFoundException;
 import org.example.oopproject1.model.Recruiter;
 import org.example.oopproject1.repository.RecruiterRepository;
+import org.example.oopproject1.routing.SecondaryReads;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -10,6 +14,7 @@ import org.springframework.stereotype.Service;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Service for managing recruiter profiles.
@@ -17,15 +22,22 @@ import java.util.Optional;
  * Provides methods to create, retrieve, update, and delete recruiter entities,
  * with support for pagination and lookup by email.
  * </p>
+ * <p>
+ * Reads may be served by secondaries; see {@link SecondaryReads}.
+ * </p>
  *
  * @since 1.0
  */
 @Service
+@SecondaryReads
 public class RecruiterService {
 
     @Autowired
     private RecruiterRepository recruiterRepository;
 
+    @Autowired
+    private DomainEventBus eventBus;
+
     /**
      * Retrieves all recruiters without pagination.
      *
@@ -45,6 +57,17 @@ public class RecruiterService {
         return recruiterRepository.findAll(pageable);
     }
 
+    /**
+     * Streams all recruiters in ID order, one {@link KeysetCursor} page at a time.
+     *
+     * @param afterId  the last ID already read, or blank to start from the first recruiter
+     * @param pageSize how many recruiters to fetch at a time
+     * @return stream of Recruiter objects
+     */
+    public Stream<Recruiter> streamRecruiters(String afterId, int pageSize) {
+        return KeysetCursor.stream(afterId, pageSize, recruiterRepository::findByIdGreaterThan, Recruiter::getId);
+    }
+
     /**
      * Retrieves a recruiter by its unique identifier.
      *
@@ -75,7 +98,9 @@ public class RecruiterService {
      */
     public Recruiter createRecruiter(Recruiter recruiter) {
         recruiter.setId(null);
-        return recruiterRepository.save(recruiter);
+        Recruiter saved = recruiterRepository.save(recruiter);
+        eventBus.publish(RecruiterChangedEvent.of(ChangeType.CREATED, saved));
+        return saved;
     }
 
     /**
@@ -93,7 +118,9 @@ public class RecruiterService {
         recruiter.setCompany(recruiterDetails.getCompany());
         recruiter.setPosition(recruiterDetails.getPosition());
         recruiter.setPhone(recruiterDetails.getPhone());
-        return recruiterRepository.save(recruiter);
+        Recruiter saved = recruiterRepository.save(recruiter);
+        eventBus.publish(RecruiterChangedEvent.of(ChangeType.UPDATED, saved));
+        return saved;
     }
 
     /**
@@ -105,6 +132,7 @@ public class RecruiterService {
     public void deleteRecruiter(String id) {
         Recruiter recruiter = getRecruiterById(id);
         recruiterRepository.delete(recruiter);
+        eventBus.publish(RecruiterChangedEvent.deleted(id));
     }
 
     /**
@@ -0,0 +1,386 @@
+package org.example.oopproject1.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.example.oopproject1.analytics.TDigest;
+import org.example.oopproject1.dto.SalaryPercentiles;
+import org.example.oopproject1.event.DomainEventBus;
+import org.example.oopproject1.event.JobChangedEvent;
+import org.example.oopproject1.exception.ResourceNotFoundException;
+import org.example.oopproject1.model.Job;
+import org.example.oopproject1.model.SalarySketch;
+import org.example.oopproject1.repository.JobRepository;
+import org.example.oopproject1.repository.SalarySketchRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.text.Normalizer;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Salary percentiles by job title, company, location and employment type.
+ * <p>
+ * Every distinct value of those fields has a {@link TDigest} of the
+ * salaries of the jobs carrying it, so a percentile query reads one small
+ * sketch instead of scanning jobs. Values are grouped ignoring case,
+ * accents and punctuation, and a job's salary is the midpoint of its range.
+ * The sketches are built from the database when the application is ready,
+ * rebuilt when the {@link DomainEventBus} may have missed events, and
+ * otherwise updated from {@link JobChangedEvent}s.
+ * </p>
+ * <p>
+ * A digest can take values in but not out, so a job that is deleted or
+ * changes salary or group is only counted out of its old groups at once;
+ * its old salary stays in their percentiles until the next flush rebuilds
+ * those groups from the salaries kept per job. Each flush, every
+ * {@code app.analytics.salary.flush-interval-ms}, also saves the changed
+ * sketches to the {@code salary_sketches} collection, from which a
+ * restarted node answers until it has read the jobs again.
+ * </p>
+ *
+ * @since 1.1
+ */
+@Service
+public class SalaryAnalyticsService {
+    private static final Logger logger = LoggerFactory.getLogger(SalaryAnalyticsService.class);
+
+    /**
+     * The job fields salaries are grouped by.
+     */
+    public static final List<String> DIMENSIONS = List.of("title", "company", "location", "employmentType");
+
+    private static final List<Function<Job, String>> FIELDS =
+            List.of(Job::getTitle, Job::getCompany, Job::getLocation, Job::getEmploymentType);
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern PUNCTUATION = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private final JobRepository jobRepository;
+    private final SalarySketchRepository sketchRepository;
+    private final double compression;
+    private final Timer latency;
+    private final Map<String, Contribution> contributions = new HashMap<>();
+    private final Set<String> persisted = new HashSet<>();
+    private volatile Map<String, Group> groups = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs the service with no sketches.
+     *
+     * @param jobRepository    repository the sketches are built from
+     * @param sketchRepository repository the sketches are saved to
+     * @param eventBus         bus delivering job changes from every node
+     * @param meterRegistry    registry for the latency timer and sketch gauge
+     * @param compression      t-digest compression; higher is more accurate and larger
+     */
+    public SalaryAnalyticsService(JobRepository jobRepository,
+                                  SalarySketchRepository sketchRepository,
+                                  DomainEventBus eventBus,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${app.analytics.salary.compression:100}") double compression) {
+        this.jobRepository = jobRepository;
+        this.sketchRepository = sketchRepository;
+        this.compression = compression;
+        this.latency = Timer.builder("salaries.percentiles")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        Gauge.builder("salaries.sketches", this, service -> service.groups.size())
+                .register(meterRegistry);
+        eventBus.subscribe(JobChangedEvent.class, this::onJobChanged);
+        eventBus.onResync(this::rebuild);
+    }
+
+    /**
+     * Estimates salary percentiles over the jobs having any of the given
+     * values in a field; several values are answered from the merge of
+     * their sketches.
+     *
+     * @param dimension   one of {@link #DIMENSIONS}
+     * @param values      the values of the field, e.g. {@code ["London", "Manchester"]}
+     * @param percentiles the percentiles to estimate, each between 0 and 100
+     * @return the distribution
+     * @throws ResourceNotFoundException if no job with a salary has any of the values
+     */
+    public SalaryPercentiles percentiles(String dimension, List<String> values, List<Double> percentiles) {
+        long start = System.nanoTime();
+        Map<String, Group> current = groups;
+        List<Group> matched = values.stream()
+                .map(value -> current.get(groupId(dimension, value)))
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        if (matched.isEmpty()) {
+            throw new ResourceNotFoundException("No salaries recorded for " + dimension + " " + values);
+        }
+        if (matched.size() == 1) {
+            Group group = matched.get(0);
+            synchronized (group) {
+                return answer(dimension, List.of(group.label), group.count(), group.digest, percentiles, start);
+            }
+        }
+        TDigest merged = new TDigest(compression);
+        List<String> labels = new ArrayList<>();
+        long count = 0;
+        for (Group group : matched) {
+            synchronized (group) {
+                merged.merge(group.digest);
+                labels.add(group.label);
+                count += group.count();
+            }
+        }
+        return answer(dimension, labels, count, merged, percentiles, start);
+    }
+
+    private SalaryPercentiles answer(String dimension, List<String> labels, long count, TDigest digest,
+                                     List<Double> percentiles, long start) {
+        if (count <= 0) {
+            // every job left the groups since they were last rebuilt
+            throw new ResourceNotFoundException("No salaries recorded for " + dimension + " " + labels);
+        }
+        Map<String, Double> estimates = new LinkedHashMap<>();
+        for (double percentile : percentiles) {
+            estimates.put("p" + BigDecimal.valueOf(percentile).stripTrailingZeros().toPlainString(),
+                    digest.quantile(percentile / 100));
+        }
+        SalaryPercentiles result = new SalaryPercentiles(dimension, labels, count, digest.min(), digest.max(),
+                estimates);
+        latency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return result;
+    }
+
+    /**
+     * Loads the saved sketches, so queries are answered while the jobs are
+     * read, then rebuilds them from the jobs.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void initialize() {
+        Map<String, Group> loaded = new ConcurrentHashMap<>();
+        for (SalarySketch sketch : sketchRepository.findAll()) {
+            TDigest digest = TDigest.of(sketch.getCompression(), sketch.getMeans(), sketch.getWeights(),
+                    sketch.getMin(), sketch.getMax());
+            loaded.put(sketch.getId(), new Group(sketch.getDimension(), sketch.getLabel(), digest));
+            persisted.add(sketch.getId());
+        }
+        groups = loaded;
+        logger.info("Loaded {} salary sketches", loaded.size());
+        rebuild();
+    }
+
+    /**
+     * Rebuilds every sketch from the database.
+     */
+    public synchronized void rebuild() {
+        Map<String, Group> rebuilt = new ConcurrentHashMap<>();
+        contributions.clear();
+        try (Stream<Job> jobs = jobRepository.streamAllBy()) {
+            jobs.forEach(job -> {
+                Contribution contribution = Contribution.of(job);
+                if (contribution != null) {
+                    contributions.put(job.getId(), contribution);
+                    add(rebuilt, contribution);
+                }
+            });
+        }
+        groups = rebuilt;
+        logger.info("Built {} salary sketches from {} jobs", rebuilt.size(), contributions.size());
+    }
+
+    /**
+     * Moves a changed job's salary from its previous groups to its new ones.
+     *
+     * @param event the change delivered by the {@link DomainEventBus}
+     */
+    public synchronized void onJobChanged(JobChangedEvent event) {
+        Contribution current = event.job() != null ? Contribution.of(event.job()) : null;
+        Contribution previous = current != null
+                ? contributions.put(event.entityId(), current)
+                : contributions.remove(event.entityId());
+        if (current != null && current.equals(previous)) {
+            return;
+        }
+        if (previous != null) {
+            for (String id : previous.groupIds()) {
+                Group group = groups.get(id);
+                if (group != null) {
+                    synchronized (group) {
+                        group.retracted++;
+                        group.changed = true;
+                    }
+                }
+            }
+        }
+        if (current != null) {
+            add(groups, current);
+        }
+    }
+
+    /**
+     * Rebuilds the groups that jobs have left from the salaries kept per
+     * job, then saves the sketches changed since the last flush and deletes
+     * those of groups that no longer exist.
+     */
+    @Scheduled(fixedDelayString = "${app.analytics.salary.flush-interval-ms:60000}",
+            initialDelayString = "${app.analytics.salary.flush-interval-ms:60000}")
+    public void flush() {
+        List<SalarySketch> changed = new ArrayList<>();
+        List<String> removed = new ArrayList<>();
+        synchronized (this) {
+            rebuildRetracted();
+            Instant now = Instant.now();
+            groups.forEach((id, group) -> {
+                synchronized (group) {
+                    if (group.changed) {
+                        group.changed = false;
+                        changed.add(new SalarySketch(id, group.dimension, group.label, compression,
+                                group.digest.means(), group.digest.weights(), group.digest.min(),
+                                group.digest.max(), now));
+                    }
+                }
+            });
+            persisted.forEach(id -> {
+                if (!groups.containsKey(id)) {
+                    removed.add(id);
+                }
+            });
+            removed.forEach(persisted::remove);
+            changed.forEach(sketch -> persisted.add(sketch.getId()));
+        }
+        try {
+            sketchRepository.deleteAllById(removed);
+            sketchRepository.saveAll(changed);
+        } catch (RuntimeException e) {
+            logger.warn("Failed to save {} salary sketches; retrying at the next flush", changed.size(), e);
+            synchronized (this) {
+                changed.forEach(sketch -> {
+                    Group group = groups.get(sketch.getId());
+                    if (group != null) {
+                        synchronized (group) {
+                            group.changed = true;
+                        }
+                    }
+                });
+                persisted.addAll(removed);
+            }
+        }
+    }
+
+    private void rebuildRetracted() {
+        Map<String, TDigest> rebuilt = new HashMap<>();
+        groups.forEach((id, group) -> {
+            synchronized (group) {
+                if (group.retracted > 0) {
+                    rebuilt.put(id, new TDigest(compression));
+                }
+            }
+        });
+        if (rebuilt.isEmpty()) {
+            return;
+        }
+        for (Contribution contribution : contributions.values()) {
+            for (String id : contribution.groupIds()) {
+                TDigest digest = rebuilt.get(id);
+                if (digest != null) {
+                    digest.add(contribution.salary());
+                }
+            }
+        }
+        rebuilt.forEach((id, digest) -> {
+            if (digest.count() == 0) {
+                groups.remove(id);
+                return;
+            }
+            Group group = groups.get(id);
+            synchronized (group) {
+                group.digest = digest;
+                group.retracted = 0;
+                group.changed = true;
+            }
+        });
+    }
+
+    private void add(Map<String, Group> target, Contribution contribution) {
+        for (int i = 0; i < contribution.groupIds().size(); i++) {
+            String id = contribution.groupIds().get(i);
+            String label = contribution.labels().get(i);
+            Group group = target.computeIfAbsent(id, key -> new Group(key.substring(0, key.indexOf(':')), label,
+                    new TDigest(compression)));
+            synchronized (group) {
+                group.label = label;
+                group.digest.add(contribution.salary());
+                group.changed = true;
+            }
+        }
+    }
+
+    private static String groupId(String dimension, String value) {
+        String decomposed = Normalizer.normalize(value, Normalizer.Form.NFD);
+        String plain = MARKS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+        return dimension + ":" + PUNCTUATION.matcher(plain).replaceAll(" ").strip();
+    }
+
+    /**
+     * The sketch of one field value, with the number of jobs that have left
+     * it since the digest was built.
+     */
+    private static final class Group {
+        final String dimension;
+        String label;
+        TDigest digest;
+        long retracted;
+        boolean changed;
+
+        Group(String dimension, String label, TDigest digest) {
+            this.dimension = dimension;
+            this.label = label;
+            this.digest = digest;
+        }
+
+        long count() {
+            return (long) digest.count() - retracted;
+        }
+    }
+
+    /**
+     * The salary one job adds to its groups, kept to retract it when the job changes.
+     */
+    private record Contribution(double salary, List<String> groupIds, List<String> labels) {
+
+        static Contribution of(Job job) {
+            if (job.getMinSalary() == null) {
+                return null;
+            }
+            double salary = job.getMaxSalary() != null
+                    ? (job.getMinSalary() + job.getMaxSalary()) / 2
+                    : job.getMinSalary();
+            List<String> ids = new ArrayList<>(DIMENSIONS.size());
+            List<String> labels = new ArrayList<>(DIMENSIONS.size());
+            for (int i = 0; i < DIMENSIONS.size(); i++) {
+                String value = FIELDS.get(i).apply(job);
+                if (value != null && !value.isBlank()) {
+                    ids.add(groupId(DIMENSIONS.get(i), value));
+                    labels.add(value);
+                }
+            }
+            return new Contribution(salary, List.copyOf(ids), List.copyOf(labels));
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package org.example.oopproject1.service;
+
+import org.example.oopproject1.model.SchedulerLease;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Service for acquiring MongoDB-backed leases that keep scheduled tasks from
+ * running on several nodes at once.
+ * <p>
+ * Acquiring is a single conditional upsert on the lease document: it succeeds
+ * when the lease is free, expired, or already held by this node. When another
+ * node holds a live lease the upsert collides on the lease name and the
+ * attempt fails without waiting.
+ * </p>
+ *
+ * @since 1.1
+ */
+@Service
+@Profile("!inmemory")
+public class SchedulerLeaseService {
+
+    private final MongoTemplate mongoTemplate;
+    private final String nodeId;
+
+    /**
+     * Constructor injection of the template and node identifier.
+     *
+     * @param mongoTemplate template used to read and write leases
+     * @param nodeId        names this node in lease owners; a random suffix keeps processes sharing a name apart
+     */
+    public SchedulerLeaseService(MongoTemplate mongoTemplate,
+                                 @Value("${app.events.node-id:}") String nodeId) {
+        this.mongoTemplate = mongoTemplate;
+        this.nodeId = (nodeId.isBlank() ? "" : nodeId + "-") + UUID.randomUUID();
+    }
+
+    /**
+     * Acquires or renews the named lease for this node.
+     *
+     * @param name     the task name
+     * @param duration how long the lease stays valid without renewal
+     * @return true if this node now holds the lease
+     */
+    public boolean tryAcquire(String name, Duration duration) {
+        Instant now = Instant.now();
+        Query query = new Query(Criteria.where("_id").is(name)
+                .orOperator(Criteria.where("expiresAt").lt(now), Criteria.where("owner").is(nodeId)));
+        Update update = new Update().set("owner", nodeId).set("expiresAt", now.plus(duration));
+        try {
+            SchedulerLease lease = mongoTemplate.findAndModify(query, update,
+                    FindAndModifyOptions.options().upsert(true).returnNew(true), SchedulerLease.class);
+            return lease != null && nodeId.equals(lease.getOwner());
+        } catch (DuplicateKeyException e) {
+            // another node holds a live lease
+            return false;
+        }
+    }
+
+    /**
+     * Releases the named lease if this node holds it, so another node can run the task without waiting.
+     *
+     * @param name the task name
+     */
+    public void release(String name) {
+        mongoTemplate.updateFirst(
+                new Query(Criteria.where("_id").is(name).and("owner").is(nodeId)),
+                new Update().set("expiresAt", Instant.now()),
+                SchedulerLease.class);
+    }
+}
@@ -1,5 +1,8 @@
 package org.example.oopproject1.service;
 
+import org.example.oopproject1.event.DomainEvent.ChangeType;
+import org.example.oopproject1.event.DomainEventBus;
+import org.example.oopproject1.event.UserChangedEvent;
 import org.example.oopproject1.exception.ResourceNotFoundException;
 import org.example.oopproject1.model.User;
 import org.example.oopproject1.repository.ApplicationRepository;
@@ -33,6 +36,7 @@ public class UserService implements UserDetailsService {
     private final JobRepository jobRepository;
     private final ApplicationRepository applicationRepository;
     private final RecruiterRepository recruiterRepository;
+    private final DomainEventBus eventBus;
 
     /**
      * Constructs the UserService with all required repositories and encoder.
@@ -42,6 +46,7 @@ public class UserService implements UserDetailsService {
      * @param jobRepository         the JobRepository for reading job counts
      * @param applicationRepository the ApplicationRepository for reading application counts
      * @param recruiterRepository   the RecruiterRepository for reading recruiter counts
+     * @param eventBus              the bus on which user changes are published
      */
     @Autowired
     public UserService(
@@ -49,12 +54,14 @@ public class UserService implements UserDetailsService {
             PasswordEncoder passwordEncoder,
             JobRepository jobRepository,
             ApplicationRepository applicationRepository,
-            RecruiterRepository recruiterRepository) {
+            RecruiterRepository recruiterRepository,
+            DomainEventBus eventBus) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.jobRepository = jobRepository;
         this.applicationRepository = applicationRepository;
         this.recruiterRepository = recruiterRepository;
+        this.eventBus = eventBus;
     }
 
     /**
@@ -107,7 +114,7 @@ public class UserService implements UserDetailsService {
         if (!user.getEmail().equals(newEmail)) {
             user.setEmail(newEmail);
         }
-        return userRepository.save(user);
+        return save(user, ChangeType.UPDATED);
     }
 
     /**
@@ -134,7 +141,7 @@ public class UserService implements UserDetailsService {
         user.setPassword(passwordEncoder.encode(password));
         user.setRoles(Collections.singletonList(role));
         user.setEnabled(true);
-        return userRepository.save(user);
+        return save(user, ChangeType.CREATED);
     }
 
     /**
@@ -167,7 +174,7 @@ public class UserService implements UserDetailsService {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + id));
         user.setEnabled(enabled);
-        return userRepository.save(user);
+        return save(user, ChangeType.UPDATED);
     }
 
     /**
@@ -215,7 +222,7 @@ public class UserService implements UserDetailsService {
         if (newPassword != null && !newPassword.isEmpty()) {
             user.setPassword(passwordEncoder.encode(newPassword));
         }
-        return userRepository.save(user);
+        return save(user, ChangeType.UPDATED);
     }
 
     /**
@@ -229,5 +236,12 @@ public class UserService implements UserDetailsService {
             throw new ResourceNotFoundException("User not found with id: " + id);
         }
         userRepository.deleteById(id);
+        eventBus.publish(UserChangedEvent.deleted(id));
+    }
+
+    private User save(User user, ChangeType changeType) {
+        User saved = userRepository.save(user);
+        eventBus.publish(UserChangedEvent.of(changeType, saved));
+        return saved;
     }
 }
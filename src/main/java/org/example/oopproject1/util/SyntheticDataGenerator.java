@@ -0,0 +1,490 @@
+package org.example.oopproject1.util;
+
+import org.example.oopproject1.model.Application;
+import org.example.oopproject1.model.Job;
+import org.example.oopproject1.model.Recruiter;
+import org.example.oopproject1.model.User;
+import org.example.oopproject1.repository.ApplicationRepository;
+import org.example.oopproject1.repository.JobRepository;
+import org.example.oopproject1.repository.RecruiterRepository;
+import org.example.oopproject1.repository.UserRepository;
+import org.example.oopproject1.service.FunnelRollupService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+/**
+ * Seeds the database with a production-scale synthetic data set when enabled.
+ * <p>
+ * Generates recruiters, jobs, applications and login accounts with realistic,
+ * skewed distributions: recruiters post jobs and jobs attract applications
+ * following Zipf laws, while locations, skills, salaries and statuses follow
+ * weighted tables. Work is split into chunks that build and insert batches in
+ * parallel through the repositories' bulk {@code insert}, so the same
+ * generator seeds MongoDB or any other repository implementation. As the
+ * inserts bypass {@code ApplicationService}, the recruiter funnels are rebuilt
+ * once the applications are in.
+ * </p>
+ * <p>
+ * Output is reproducible for a given {@code app.generator.seed}: every chunk
+ * draws from its own random stream, and entity IDs are derived from their
+ * index. Generated recruiters can log in as {@code recruiter<i>} and the first
+ * {@code app.generator.candidate-accounts} candidates as {@code candidate<i>},
+ * all with the password from {@code app.generator.password}. Controlled by the
+ * {@code app.generator.enabled} property.
+ * </p>
+ * <p>
+ * With {@code app.generator.append}, every run takes an ID prefix from its
+ * start time. Once accounts of an earlier run exist, usernames and emails
+ * take it too ({@code <prefix>.recruiter<i>}, logged at the start of the run),
+ * so appended runs never create a second user with the same name.
+ * </p>
+ *
+ * @since 1.1
+ */
+@Component
+@ConditionalOnProperty(name = "app.generator.enabled", havingValue = "true", matchIfMissing = false)
+public class SyntheticDataGenerator implements CommandLineRunner {
+    private static final Logger logger = LoggerFactory.getLogger(SyntheticDataGenerator.class);
+
+    private static final int CHUNK_SIZE = 10_000;
+    private static final String RECRUITER = "recruiter";
+    private static final String CANDIDATE = "candidate";
+    private static final String EMAIL_DOMAIN = "@example.test";
+
+    private static final String[] COMPANY_STEMS = {
+            "Acme", "Globex", "Initech", "Umbrella", "Stark", "Wayne", "Wonka", "Tyrell", "Cyberdyne", "Soylent",
+            "Hooli", "Pied Piper", "Vandelay", "Massive Dynamic", "Aperture", "Black Mesa", "Oscorp", "Gringotts",
+            "Monarch", "Nakatomi", "Blue Sun", "Virtucon", "Dunder", "Prestige", "Sterling", "Bluth", "Gekko",
+            "Northwind", "Contoso", "Fabrikam", "Tailspin", "Litware", "Adatum", "Woodgrove", "Proseware",
+            "Lucerne", "Fourth Coffee", "Wingtip", "Alpine", "Coho"
+    };
+    private static final String[] COMPANY_SUFFIXES = {
+            "Labs", "Systems", "Technologies", "Group", "Health", "Financial", "Logistics", "Media", "Software",
+            "Analytics"
+    };
+    private static final String[] LEVELS = {"Junior", "", "Senior", "Staff", "Principal"};
+    private static final int[] LEVEL_WEIGHTS = {20, 35, 30, 10, 5};
+    private static final double[] LEVEL_BASE_SALARY = {60_000, 85_000, 120_000, 150_000, 185_000};
+    private static final String[] ROLES = {
+            "Software Engineer", "Backend Developer", "Frontend Developer", "Data Scientist", "Data Engineer",
+            "DevOps Engineer", "QA Engineer", "Product Manager", "UX Designer", "Security Engineer"
+    };
+    private static final int[] ROLE_WEIGHTS = {30, 15, 12, 8, 8, 7, 6, 6, 4, 4};
+    private static final String[][] ROLE_SKILLS = {
+            {"Java", "Spring", "Python", "Go", "SQL", "Docker", "Kubernetes", "AWS", "Git", "Microservices"},
+            {"Java", "Spring", "Node.js", "PostgreSQL", "MongoDB", "Kafka", "Redis", "REST", "Docker"},
+            {"JavaScript", "TypeScript", "React", "Vue", "CSS", "HTML", "Webpack", "Jest", "Figma"},
+            {"Python", "Pandas", "scikit-learn", "TensorFlow", "SQL", "Statistics", "Spark", "R"},
+            {"Python", "Spark", "Airflow", "SQL", "Kafka", "Scala", "dbt", "Snowflake", "AWS"},
+            {"Kubernetes", "Terraform", "AWS", "Docker", "Linux", "Ansible", "Prometheus", "CI/CD"},
+            {"Selenium", "Cypress", "Java", "Python", "JUnit", "Postman", "JMeter", "CI/CD"},
+            {"Roadmapping", "Agile", "Jira", "Analytics", "SQL", "Stakeholder Management", "A/B Testing"},
+            {"Figma", "Sketch", "User Research", "Prototyping", "Accessibility", "Design Systems"},
+            {"Penetration Testing", "SIEM", "Cloud Security", "OWASP", "Python", "Threat Modeling", "IAM"}
+    };
+    private static final String[] LOCATIONS = {
+            "Remote", "New York", "San Francisco", "London", "Berlin", "Austin", "Seattle", "Toronto", "Boston",
+            "Chicago", "Amsterdam", "Paris", "Singapore", "Sydney", "Tel Aviv", "Dublin", "Bangalore"
+    };
+    private static final int[] LOCATION_WEIGHTS = {25, 12, 10, 8, 6, 5, 5, 4, 4, 4, 3, 3, 3, 2, 2, 2, 2};
+    private static final double[] LOCATION_SALARY_FACTOR = {
+            1.0, 1.25, 1.3, 1.1, 0.9, 1.05, 1.15, 0.95, 1.1, 1.0, 0.9, 0.9, 1.0, 0.95, 1.05, 0.95, 0.45
+    };
+    private static final String[] EMPLOYMENT_TYPES = {"Full-time", "Contract", "Part-time", "Internship"};
+    private static final int[] EMPLOYMENT_TYPE_WEIGHTS = {75, 15, 6, 4};
+    private static final Application.ApplicationStatus[] STATUSES = Application.ApplicationStatus.values();
+    // SUBMITTED, REVIEWING, INTERVIEWED, REJECTED, ACCEPTED
+    private static final int[] OPEN_JOB_STATUS_WEIGHTS = {55, 30, 10, 5, 0};
+    private static final int[] CLOSED_JOB_STATUS_WEIGHTS = {15, 7, 10, 60, 8};
+    private static final String[] FIRST_NAMES = {
+            "James", "Mary", "Wei", "Priya", "Mohammed", "Olga", "Carlos", "Aisha", "Kenji", "Emma", "Noah",
+            "Fatima", "Lucas", "Sofia", "Ivan", "Chloe", "Arjun", "Mia", "Daniel", "Yara"
+    };
+    private static final String[] LAST_NAMES = {
+            "Smith", "Garcia", "Chen", "Patel", "Khan", "Ivanova", "Silva", "Okafor", "Tanaka", "Müller",
+            "Cohen", "Rossi", "Kim", "Nguyen", "Johnson", "Dubois", "Kowalski", "Haddad", "Murphy", "Singh"
+    };
+
+    private final JobRepository jobRepository;
+    private final RecruiterRepository recruiterRepository;
+    private final ApplicationRepository applicationRepository;
+    private final UserRepository userRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final FunnelRollupService funnelRollupService;
+
+    private final int recruiterCount;
+    private final long jobCount;
+    private final long applicationCount;
+    private final int candidateCount;
+    private final int candidateAccounts;
+    private final int batchSize;
+    private final int threads;
+    private final double zipfExponent;
+    private final long seed;
+    private final boolean append;
+    private final String password;
+
+    /**
+     * Constructor injection of the repositories and generator settings.
+     *
+     * @param jobRepository         repository receiving generated jobs
+     * @param recruiterRepository   repository receiving generated recruiters
+     * @param applicationRepository repository receiving generated applications
+     * @param userRepository        repository receiving login accounts
+     * @param passwordEncoder       encoder for the shared account password
+     * @param funnelRollupService   service rebuilding the funnels from the generated applications
+     * @param recruiterCount        number of recruiters
+     * @param jobCount              number of jobs
+     * @param applicationCount      approximate number of applications
+     * @param candidateCount        size of the candidate pool applications are drawn from
+     * @param candidateAccounts     number of candidates that also get a login account
+     * @param batchSize             documents per bulk insert
+     * @param threads               parallel writers; 0 uses one per available processor
+     * @param zipfExponent          skew of jobs per recruiter and applications per job
+     * @param seed                  seed making the data set reproducible
+     * @param append                whether to generate even if jobs already exist
+     * @param password              password of every generated account
+     */
+    public SyntheticDataGenerator(JobRepository jobRepository,
+                                  RecruiterRepository recruiterRepository,
+                                  ApplicationRepository applicationRepository,
+                                  UserRepository userRepository,
+                                  PasswordEncoder passwordEncoder,
+                                  FunnelRollupService funnelRollupService,
+                                  @Value("${app.generator.recruiters:1000}") int recruiterCount,
+                                  @Value("${app.generator.jobs:100000}") long jobCount,
+                                  @Value("${app.generator.applications:1000000}") long applicationCount,
+                                  @Value("${app.generator.candidates:200000}") int candidateCount,
+                                  @Value("${app.generator.candidate-accounts:1000}") int candidateAccounts,
+                                  @Value("${app.generator.batch-size:1000}") int batchSize,
+                                  @Value("${app.generator.threads:0}") int threads,
+                                  @Value("${app.generator.zipf-exponent:1.07}") double zipfExponent,
+                                  @Value("${app.generator.seed:42}") long seed,
+                                  @Value("${app.generator.append:false}") boolean append,
+                                  @Value("${app.generator.password:loadtest123}") String password) {
+        this.jobRepository = jobRepository;
+        this.recruiterRepository = recruiterRepository;
+        this.applicationRepository = applicationRepository;
+        this.userRepository = userRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.funnelRollupService = funnelRollupService;
+        this.recruiterCount = Math.max(1, recruiterCount);
+        this.jobCount = jobCount;
+        this.applicationCount = applicationCount;
+        this.candidateCount = Math.max(1, candidateCount);
+        this.candidateAccounts = Math.min(candidateAccounts, this.candidateCount);
+        this.batchSize = Math.max(1, batchSize);
+        this.threads = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.zipfExponent = zipfExponent;
+        this.seed = seed;
+        this.append = append;
+        this.password = password;
+    }
+
+    /**
+     * Generates the configured data set unless jobs already exist and appending is disabled.
+     *
+     * @param args command-line arguments (ignored)
+     * @throws Exception if a writer fails
+     */
+    @Override
+    public void run(String... args) throws Exception {
+        if (!append && jobRepository.count() > 0) {
+            logger.info("Jobs already present; skipping synthetic data generation");
+            return;
+        }
+        long started = System.nanoTime();
+        logger.info("Generating {} recruiters, {} jobs and ~{} applications with {} writers",
+                recruiterCount, jobCount, applicationCount, threads);
+
+        // IDs of a run start with the second it started in; usernames and emails, which repeat across runs,
+        // take the same prefix once an earlier run's accounts exist
+        String idPrefix = String.format("%08x", Instant.now().getEpochSecond());
+        String namePrefix = userRepository.existsByUsername(RECRUITER + 0) ? idPrefix + "." : "";
+        if (!namePrefix.isEmpty()) {
+            logger.info("Accounts of an earlier run exist; this run's usernames start with {}", namePrefix);
+        }
+        LocalDate today = LocalDate.now();
+        List<Recruiter> recruiters = generateRecruiters(idPrefix, namePrefix);
+        ExecutorService writers = Executors.newFixedThreadPool(threads);
+        try {
+            insertRecruitersAndAccounts(recruiters, namePrefix, writers);
+            long jobs = inChunks(writers, "jobs", jobCount,
+                    (chunk, from, to) -> generateJobs(chunk, from, to, recruiters, idPrefix, today));
+            double applicationsPerWeight = applicationCount / ZipfSampler.harmonic(jobCount, zipfExponent);
+            long applications = inChunks(writers, "applications", jobCount,
+                    (chunk, from, to) -> generateApplications(chunk, from, to, idPrefix, namePrefix, today,
+                            applicationsPerWeight));
+            logger.info("Generated {} jobs and {} applications in {} s",
+                    jobs, applications, (System.nanoTime() - started) / 1_000_000_000);
+            funnelRollupService.backfill();
+        } finally {
+            writers.shutdown();
+        }
+    }
+
+    private List<Recruiter> generateRecruiters(String idPrefix, String namePrefix) {
+        SplittableRandom random = new SplittableRandom(seed);
+        int companies = Math.max(1, recruiterCount / 4);
+        List<Recruiter> recruiters = new ArrayList<>(recruiterCount);
+        for (int i = 0; i < recruiterCount; i++) {
+            Recruiter recruiter = new Recruiter();
+            recruiter.setId(id(idPrefix, 1, i));
+            recruiter.setName(personName(random));
+            recruiter.setEmail(namePrefix + RECRUITER + i + EMAIL_DOMAIN);
+            recruiter.setCompany(companyName(i % companies));
+            recruiter.setPosition(random.nextInt(3) == 0 ? "Talent Partner" : "Recruiter");
+            recruiter.setPhone(phone(random));
+            recruiters.add(recruiter);
+        }
+        return recruiters;
+    }
+
+    private void insertRecruitersAndAccounts(List<Recruiter> recruiters, String namePrefix, ExecutorService writers)
+            throws Exception {
+        // hashing once keeps account creation cheap; every account shares the password
+        String hash = passwordEncoder.encode(password);
+        List<Future<?>> pending = new ArrayList<>();
+        for (int from = 0; from < recruiters.size(); from += batchSize) {
+            List<Recruiter> batch = recruiters.subList(from, Math.min(from + batchSize, recruiters.size()));
+            pending.add(writers.submit(() -> {
+                recruiterRepository.insert(batch);
+                userRepository.insert(batch.stream()
+                        .map(r -> account(r.getEmail().substring(0, r.getEmail().indexOf('@')),
+                                r.getEmail(), hash, "RECRUITER"))
+                        .toList());
+            }));
+        }
+        for (int from = 0; from < candidateAccounts; from += batchSize) {
+            int start = from;
+            int end = Math.min(from + batchSize, candidateAccounts);
+            pending.add(writers.submit(() -> userRepository.insert(IntStream.range(start, end)
+                    .mapToObj(i -> account(namePrefix + CANDIDATE + i, candidateEmail(namePrefix, i), hash, "USER"))
+                    .toList())));
+        }
+        for (Future<?> future : pending) {
+            future.get();
+        }
+    }
+
+    private long generateJobs(int chunk, long from, long to, List<Recruiter> recruiters,
+                              String idPrefix, LocalDate today) {
+        SplittableRandom random = new SplittableRandom(seed * 31 + chunk);
+        ZipfSampler recruiterSampler = recruiterSampler();
+        List<Job> batch = new ArrayList<>(batchSize);
+        for (long i = from; i < to; i++) {
+            Recruiter recruiter = recruiters.get(recruiterSampler.sample(random));
+            int level = pick(random, LEVEL_WEIGHTS);
+            int role = pick(random, ROLE_WEIGHTS);
+            int location = pick(random, LOCATION_WEIGHTS);
+            double noise = Math.exp(0.15 * random.nextDouble(-2, 2));
+            double minSalary = Math.round(LEVEL_BASE_SALARY[level] * LOCATION_SALARY_FACTOR[location]
+                    * noise / 1000) * 1000.0;
+            LocalDate postDate = postDate(i, today);
+            LocalDate deadline = deadline(i, postDate);
+
+            Job job = new Job();
+            job.setId(id(idPrefix, 2, i));
+            job.setTitle((LEVELS[level] + " " + ROLES[role]).trim());
+            job.setCompany(recruiter.getCompany());
+            job.setDescription("Join " + recruiter.getCompany() + " as a " + job.getTitle()
+                    + " in " + LOCATIONS[location] + ".");
+            job.setRequiredSkills(skills(random, ROLE_SKILLS[role]));
+            job.setMinSalary(minSalary);
+            job.setMaxSalary(Math.round(minSalary * random.nextDouble(1.15, 1.5) / 1000) * 1000.0);
+            job.setLocation(LOCATIONS[location]);
+            job.setEmploymentType(EMPLOYMENT_TYPES[pick(random, EMPLOYMENT_TYPE_WEIGHTS)]);
+            job.setPostDate(postDate);
+            job.setDeadlineDate(deadline);
+            job.setActive(!deadline.isBefore(today));
+            job.setRecruiterId(recruiter.getId());
+            batch.add(job);
+            if (batch.size() == batchSize) {
+                jobRepository.insert(batch);
+                batch = new ArrayList<>(batchSize);
+            }
+        }
+        if (!batch.isEmpty()) {
+            jobRepository.insert(batch);
+        }
+        return to - from;
+    }
+
+    /**
+     * Generates the applications of jobs {@code [from, to)}. Job {@code j} receives
+     * about {@code applicationCount * weight(j) / H} applications, so a few jobs draw
+     * heavy traffic while most receive a handful. Candidates of one job are distinct,
+     * matching the unique (jobId, email) index.
+     */
+    private long generateApplications(int chunk, long from, long to, String idPrefix, String namePrefix,
+                                      LocalDate today, double applicationsPerWeight) {
+        SplittableRandom random = new SplittableRandom(seed * 131 + chunk);
+        // a prime stride walks the candidate pool without repeats as long as it does not divide the pool
+        long stride = candidateCount % 7919 == 0 ? 7907 : 7919;
+        List<Application> batch = new ArrayList<>(batchSize);
+        long generated = 0;
+        for (long j = from; j < to; j++) {
+            LocalDate postDate = postDate(j, today);
+            LocalDate deadline = deadline(j, postDate);
+            boolean open = !deadline.isBefore(today);
+            LocalDate lastDay = open ? today : deadline;
+            int daysOpen = (int) Math.max(1, ChronoUnit.DAYS.between(postDate, lastDay) + 1);
+
+            double expected = applicationsPerWeight * ZipfSampler.weight(j, zipfExponent);
+            int count = (int) Math.min(candidateCount,
+                    Math.floor(expected) + (random.nextDouble() < expected % 1 ? 1 : 0));
+            long offset = random.nextLong(candidateCount);
+            for (int a = 0; a < count; a++) {
+                int candidate = (int) ((offset + a * stride) % candidateCount);
+                Application application = new Application();
+                application.setJobId(id(idPrefix, 2, j));
+                application.setCandidateName(personName(new SplittableRandom(candidate)));
+                application.setEmail(candidateEmail(namePrefix, candidate));
+                application.setPhone(phone(random));
+                application.setResumeUrl("https://resumes.example.test/" + candidate + ".pdf");
+                if (random.nextInt(10) < 6) {
+                    application.setCoverLetterText("I am excited to apply and bring my experience to your team.");
+                }
+                application.setApplicationDate(postDate.plusDays(random.nextInt(daysOpen)));
+                application.setStatus(STATUSES[pick(random,
+                        open ? OPEN_JOB_STATUS_WEIGHTS : CLOSED_JOB_STATUS_WEIGHTS)]);
+                batch.add(application);
+                if (batch.size() == batchSize) {
+                    applicationRepository.insert(batch);
+                    batch = new ArrayList<>(batchSize);
+                }
+            }
+            generated += count;
+        }
+        if (!batch.isEmpty()) {
+            applicationRepository.insert(batch);
+        }
+        return generated;
+    }
+
+    /**
+     * Derives a job's post date from its index alone, so the application pass
+     * agrees with the job pass without reading the jobs back.
+     */
+    private LocalDate postDate(long job, LocalDate today) {
+        return today.minusDays(new SplittableRandom(seed * 1_000_003 + job).nextInt(180));
+    }
+
+    private LocalDate deadline(long job, LocalDate postDate) {
+        return postDate.plusDays(30 + new SplittableRandom(seed * 999_983 + job).nextInt(31));
+    }
+
+    private long inChunks(ExecutorService writers, String what, long total, ChunkTask task) throws Exception {
+        AtomicLong done = new AtomicLong();
+        AtomicLong written = new AtomicLong();
+        long step = Math.max(1, total / 20);
+        List<Future<?>> pending = new ArrayList<>();
+        int chunk = 0;
+        for (long from = 0; from < total; from += CHUNK_SIZE, chunk++) {
+            long start = from;
+            long end = Math.min(from + CHUNK_SIZE, total);
+            int index = chunk;
+            pending.add(writers.submit(() -> {
+                written.addAndGet(task.run(index, start, end));
+                long before = done.getAndAdd(end - start);
+                if ((before + end - start) / step > before / step) {
+                    logger.info("Generating {}: {}%", what, (before + end - start) * 100 / total);
+                }
+            }));
+        }
+        for (Future<?> future : pending) {
+            future.get();
+        }
+        return written.get();
+    }
+
+    private ZipfSampler recruiterSampler() {
+        return new ZipfSampler(recruiterCount, zipfExponent);
+    }
+
+    private static User account(String username, String email, String passwordHash, String role) {
+        User user = new User();
+        user.setUsername(username);
+        user.setEmail(email);
+        user.setPassword(passwordHash);
+        user.setRoles(List.of(role));
+        user.setEnabled(true);
+        return user;
+    }
+
+    private static List<String> skills(SplittableRandom random, String[] pool) {
+        int count = 3 + random.nextInt(Math.min(4, pool.length - 2));
+        List<String> skills = new ArrayList<>(count);
+        // earlier skills in each pool are the more common ones
+        while (skills.size() < count) {
+            String skill = pool[(int) (pool.length * Math.pow(random.nextDouble(), 1.8))];
+            if (!skills.contains(skill)) {
+                skills.add(skill);
+            }
+        }
+        return skills;
+    }
+
+    private static int pick(SplittableRandom random, int[] weights) {
+        int total = 0;
+        for (int weight : weights) {
+            total += weight;
+        }
+        int roll = random.nextInt(total);
+        for (int i = 0; i < weights.length; i++) {
+            roll -= weights[i];
+            if (roll < 0) {
+                return i;
+            }
+        }
+        return weights.length - 1;
+    }
+
+    private static String companyName(int index) {
+        int combos = COMPANY_STEMS.length * COMPANY_SUFFIXES.length;
+        String name = COMPANY_STEMS[index % COMPANY_STEMS.length] + " "
+                + COMPANY_SUFFIXES[(index / COMPANY_STEMS.length) % COMPANY_SUFFIXES.length];
+        return index < combos ? name : name + " " + (index / combos + 1);
+    }
+
+    private static String personName(SplittableRandom random) {
+        return FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " " + LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+    }
+
+    private static String phone(SplittableRandom random) {
+        return String.format("555-%03d-%04d", random.nextInt(1000), random.nextInt(10000));
+    }
+
+    private static String candidateEmail(String namePrefix, int candidate) {
+        return namePrefix + CANDIDATE + candidate + EMAIL_DOMAIN;
+    }
+
+    /**
+     * Builds a valid 24-hex-digit ObjectId from the run prefix, an entity tag and an index.
+     */
+    private static String id(String prefix, int tag, long index) {
+        return prefix + String.format("%02x%014x", tag, index);
+    }
+
+    @FunctionalInterface
+    private interface ChunkTask {
+        long run(int chunk, long from, long to);
+    }
+}
@@ -0,0 +1,106 @@
+package org.example.oopproject1.util;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * Samples ranks from a Zipf distribution over a fixed number of elements.
+ * <p>
+ * Rank {@code k} (zero-based) is drawn with probability proportional to
+ * {@code 1 / (k + 1)^exponent}, so a few elements take most of the draws and
+ * the rest form a long tail. The cumulative distribution is precomputed once
+ * and sampled by binary search, which suits the catalogue sizes used by the
+ * synthetic data generator (up to a few million elements).
+ * </p>
+ *
+ * @since 1.1
+ */
+public final class ZipfSampler {
+
+    private final double[] cumulative;
+    private final double exponent;
+
+    /**
+     * Precomputes the distribution.
+     *
+     * @param size     number of elements; must be positive
+     * @param exponent skew of the distribution; 0 is uniform, around 1 is typical popularity
+     */
+    public ZipfSampler(int size, double exponent) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("size must be positive: " + size);
+        }
+        this.exponent = exponent;
+        this.cumulative = new double[size];
+        double sum = 0;
+        for (int k = 0; k < size; k++) {
+            sum += weight(k, exponent);
+            cumulative[k] = sum;
+        }
+        for (int k = 0; k < size; k++) {
+            cumulative[k] /= sum;
+        }
+    }
+
+    /**
+     * Draws a zero-based rank.
+     *
+     * @param random source of randomness
+     * @return a rank in {@code [0, size)}
+     */
+    public int sample(RandomGenerator random) {
+        int index = Arrays.binarySearch(cumulative, random.nextDouble());
+        int rank = index >= 0 ? index : -index - 1;
+        return Math.min(rank, cumulative.length - 1);
+    }
+
+    /**
+     * Returns the probability of drawing the given rank.
+     *
+     * @param rank a zero-based rank
+     * @return its probability
+     */
+    public double probability(int rank) {
+        return rank == 0 ? cumulative[0] : cumulative[rank] - cumulative[rank - 1];
+    }
+
+    /**
+     * Returns the number of elements.
+     *
+     * @return the size of the distribution
+     */
+    public int size() {
+        return cumulative.length;
+    }
+
+    /**
+     * Returns the unnormalised Zipf weight of a rank.
+     *
+     * @param rank     a zero-based rank
+     * @param exponent skew of the distribution
+     * @return {@code 1 / (rank + 1)^exponent}
+     */
+    public static double weight(long rank, double exponent) {
+        return 1.0 / Math.pow(rank + 1, exponent);
+    }
+
+    /**
+     * Returns the generalised harmonic number, i.e. the sum of the weights of the first {@code n} ranks.
+     *
+     * @param n        number of ranks
+     * @param exponent skew of the distribution
+     * @return the normalising constant for a distribution of size {@code n}
+     */
+    public static double harmonic(long n, double exponent) {
+        double sum = 0;
+        for (long k = 0; k < n; k++) {
+            sum += weight(k, exponent);
+        }
+        return sum;
+    }
+
+    @Override
+    public String toString() {
+        return "ZipfSampler[size=" + cumulative.length + ", exponent=" + exponent + "]";
+    }
+}
@@ -116,7 +116,7 @@ async function loadJobs() {
         // Show loading state
         jobsTableBody.innerHTML = '<tr><td colspan="6" class="text-center">Loading jobs...</td></tr>';
 
-        const response = await ApiClient.get('/jobs?page=0&size=100'); // Get all jobs
+        const response = await ApiClient.get('/jobs/paged?page=0&size=100'); // Get all jobs
         const jobs = response.content || [];
 
         if (jobs.length === 0) {
@@ -213,7 +213,7 @@ async function loadApplications() {
         // Show loading state
         applicationsTableBody.innerHTML = '<tr><td colspan="6" class="text-center">Loading applications...</td></tr>';
 
-        const response = await ApiClient.get('/applications?page=0&size=100'); // Get all applications
+        const response = await ApiClient.get('/applications/paged?page=0&size=100'); // Get all applications
         const applications = response.content || [];
 
         if (applications.length === 0) {
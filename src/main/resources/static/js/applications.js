@@ -10,6 +10,19 @@ document.addEventListener('DOMContentLoaded', () => {
 
     // Load user's applications
     loadMyApplications();
+
+    // Keep status badges current without reloading the page
+    ApiClient.stream('/applications/stream', (event, data) => {
+        if (event !== 'application-status') return;
+        const badge = document.querySelector(`[data-application-status="${data.applicationId}"]`);
+        if (badge) {
+            badge.className = `badge ${getStatusClass(data.status)}`;
+            badge.textContent = data.status;
+        } else {
+            // an application we have not rendered yet, e.g. submitted from another tab
+            loadMyApplications();
+        }
+    });
 });
 
 async function loadMyApplications() {
@@ -79,7 +92,7 @@ async function loadMyApplications() {
                     <div class="card h-100">
                         <div class="card-header d-flex justify-content-between align-items-center">
                             <h5 class="mb-0">${job.title}</h5>
-                            <span class="badge ${statusClass}">${statusText}</span>
+                            <span class="badge ${statusClass}" data-application-status="${app.id}">${statusText}</span>
                         </div>
                         <div class="card-body">
                             <h6 class="card-subtitle mb-2 text-muted">${job.company}</h6>
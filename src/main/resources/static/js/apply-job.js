@@ -99,6 +99,13 @@ function initApplicationForm(jobId) {
 
     if (!form) return;
 
+    // One key per form load: retries and double submits of the same application
+    // are recognised by the server and return the first result
+    // (randomUUID is only available in secure contexts)
+    const idempotencyKey = window.crypto && crypto.randomUUID
+        ? crypto.randomUUID()
+        : `${Date.now()}-${Math.random().toString(36).slice(2)}`;
+
     form.addEventListener('submit', async (e) => {
         e.preventDefault();
 
@@ -129,7 +136,8 @@ function initApplicationForm(jobId) {
             console.log("Submitting application:", application);
 
             // Submit application
-            const response = await ApiClient.post('/applications', application);
+            const response = await ApiClient.post('/applications', application,
+                { 'Idempotency-Key': idempotencyKey });
             console.log("Application submitted successfully:", response);
 
             // Show success message and redirect to applications page
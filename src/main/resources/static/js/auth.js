@@ -244,10 +244,11 @@ const ApiClient = {
     // GET request
     get: (url) => ApiClient.fetchWithAuth(url),
 
-    // POST request
-    post: (url, data) => ApiClient.fetchWithAuth(url, {
+    // POST request; extra headers (e.g. Idempotency-Key) are optional
+    post: (url, data, headers = {}) => ApiClient.fetchWithAuth(url, {
         method: 'POST',
-        body: data
+        body: data,
+        headers: { ...headers }
     }),
 
     // PUT request
@@ -259,7 +260,79 @@ const ApiClient = {
     // DELETE request
     delete: (url) => ApiClient.fetchWithAuth(url, {
         method: 'DELETE'
-    })
+    }),
+
+    // Subscribe to a Server-Sent Events stream.
+    // EventSource cannot send the Authorization header, so the stream is read with fetch
+    // and parsed by hand. Reconnects with backoff until the returned function is called.
+    stream: (url, onEvent) => {
+        let stopped = false;
+        let controller = null;
+        let retryDelay = 1000;
+
+        const dispatch = (block) => {
+            let event = 'message';
+            const data = [];
+            block.split('\n').forEach(line => {
+                if (line.startsWith('event:')) {
+                    event = line.slice(6).trim();
+                } else if (line.startsWith('data:')) {
+                    data.push(line.slice(5).trim());
+                }
+            });
+            if (data.length > 0) {
+                try {
+                    onEvent(event, JSON.parse(data.join('\n')));
+                } catch (e) {
+                    console.error(`Invalid event on ${url}:`, e);
+                }
+            }
+        };
+
+        const connect = async () => {
+            while (!stopped && !AuthService.isTokenExpired()) {
+                controller = new AbortController();
+                try {
+                    const response = await fetch(`${API_URL}${url}`, {
+                        headers: {
+                            'Authorization': `Bearer ${AuthService.getToken()}`,
+                            'Accept': 'text/event-stream'
+                        },
+                        signal: controller.signal
+                    });
+                    if (!response.ok || !response.body) {
+                        throw new Error(`Stream request failed (${response.status})`);
+                    }
+                    retryDelay = 1000;
+
+                    const reader = response.body.getReader();
+                    const decoder = new TextDecoder();
+                    let buffer = '';
+                    while (true) {
+                        const { value, done } = await reader.read();
+                        if (done) break;
+                        buffer += decoder.decode(value, { stream: true }).replace(/\r/g, '');
+                        let boundary;
+                        while ((boundary = buffer.indexOf('\n\n')) >= 0) {
+                            dispatch(buffer.slice(0, boundary));
+                            buffer = buffer.slice(boundary + 2);
+                        }
+                    }
+                } catch (error) {
+                    if (stopped) return;
+                    console.warn(`Stream ${url} interrupted:`, error.message);
+                }
+                await new Promise(resolve => setTimeout(resolve, retryDelay));
+                retryDelay = Math.min(retryDelay * 2, 30000);
+            }
+        };
+
+        connect();
+        return () => {
+            stopped = true;
+            if (controller) controller.abort();
+        };
+    }
 };
 
 // Initialize auth when DOM is loaded
@@ -236,6 +236,40 @@ function initJobsPage() {
         });
     }
 
+    // Typeahead: suggest titles, companies, locations and skills while typing
+    if (searchInput) {
+        const suggestionList = document.createElement('datalist');
+        suggestionList.id = 'search-suggestions';
+        searchInput.after(suggestionList);
+        searchInput.setAttribute('list', suggestionList.id);
+        searchInput.setAttribute('autocomplete', 'off');
+
+        let suggestTimer = null;
+        searchInput.addEventListener('input', () => {
+            clearTimeout(suggestTimer);
+            const prefix = searchInput.value.trim();
+            if (prefix.length < 2) {
+                suggestionList.innerHTML = '';
+                return;
+            }
+            suggestTimer = setTimeout(async () => {
+                try {
+                    const field = searchType === 'keyword' ? '' : `&field=${searchType}`;
+                    const suggestions = await ApiClient.get(
+                        `/jobs/suggest?q=${encodeURIComponent(prefix)}${field}&limit=8`);
+                    suggestionList.innerHTML = '';
+                    (suggestions || []).forEach(suggestion => {
+                        const option = document.createElement('option');
+                        option.value = suggestion.text;
+                        suggestionList.appendChild(option);
+                    });
+                } catch (error) {
+                    console.error("Error loading suggestions:", error);
+                }
+            }, 120);
+        });
+    }
+
     if (searchInput) {
         searchInput.addEventListener('keypress', (e) => {
             if (e.key === 'Enter') {
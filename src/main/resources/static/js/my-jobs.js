@@ -10,8 +10,25 @@ document.addEventListener('DOMContentLoaded', () => {
 
     // Initialize recruiter jobs page
     initMyJobsPage();
+
+    // Live updates for applications to this recruiter's jobs
+    if (auth.hasRole('RECRUITER')) {
+        ApiClient.stream('/recruiters/me/applications/stream', (event, data) => {
+            if (event !== 'application-status') return;
+            const badge = document.querySelector(`[data-application-status="${data.applicationId}"]`);
+            if (badge) {
+                badge.outerHTML = getStatusBadge(data.status, data.applicationId);
+            } else if (data.jobId === currentApplicationsJobId) {
+                // a new application for the job whose list is open
+                viewApplications(data.jobId);
+            }
+        });
+    }
 });
 
+// Job whose applications are shown in the modal, if any
+let currentApplicationsJobId = null;
+
 function initMyJobsPage() {
     // Load recruiter's jobs
     loadMyJobs();
@@ -29,6 +46,11 @@ function initMyJobsPage() {
         document.getElementById('job-id').value = '';
         document.getElementById('jobFormModalTitle').textContent = 'Post New Job';
     });
+
+    // Stop refreshing the applications list once it is closed
+    document.getElementById('applicationsModal').addEventListener('hidden.bs.modal', () => {
+        currentApplicationsJobId = null;
+    });
 }
 
 // Load recruiter's jobs
@@ -273,6 +295,7 @@ async function editJob(jobId) {
 // View applications for a job
 async function viewApplications(jobId) {
     const container = document.getElementById('applications-container');
+    currentApplicationsJobId = jobId;
 
     try {
         // Show loading state
@@ -291,8 +314,8 @@ async function viewApplications(jobId) {
         const modal = new bootstrap.Modal(document.getElementById('applicationsModal'));
         modal.show();
 
-        // Get applications for this job
-        const response = await ApiClient.get(`/applications/job/${jobId}`);
+        // Get applications for this job; full view because the modal shows cover letters
+        const response = await ApiClient.get(`/applications/job/${jobId}?view=full`);
         const applications = response.content || response || [];
 
         // Update modal title
@@ -314,7 +337,7 @@ async function viewApplications(jobId) {
         `;
 
         applications.forEach(app => {
-            const statusBadge = getStatusBadge(app.status);
+            const statusBadge = getStatusBadge(app.status, app.id);
 
             html += `
                 <div class="list-group-item">
@@ -368,7 +391,7 @@ async function viewApplications(jobId) {
 }
 
 // Get badge HTML for application status
-function getStatusBadge(status) {
+function getStatusBadge(status, applicationId) {
     let badgeClass = '';
     switch (status) {
         case 'SUBMITTED':
@@ -390,7 +413,8 @@ function getStatusBadge(status) {
             badgeClass = 'bg-secondary';
     }
 
-    return `<span class="badge ${badgeClass}">${status}</span>`;
+    const idAttr = applicationId ? ` data-application-status="${applicationId}"` : '';
+    return `<span class="badge ${badgeClass}"${idAttr}>${status}</span>`;
 }
 
 // Update application status
@@ -0,0 +1,127 @@
+// src/test/java/org/example/oopproject1/analytics/TDigestTest.java
+package org.example.oopproject1.analytics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.function.DoubleSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TDigestTest {
+
+    private static final double[] QUANTILES = {0.001, 0.01, 0.1, 0.25, 0.5, 0.75, 0.9, 0.99, 0.999};
+
+    @Test
+    void quantile_staysWithinOnePercentOfRankOnSkewedData() {
+        Random random = new Random(42);
+        assertAccurate(() -> random.nextDouble() * 100_000);
+        assertAccurate(() -> 60_000 + 15_000 * random.nextGaussian());
+        assertAccurate(() -> Math.exp(11 + 0.5 * random.nextGaussian()));
+        assertAccurate(() -> 20_000 / Math.sqrt(1 - random.nextDouble()));
+    }
+
+    @Test
+    void quantile_isExactForFewValues() {
+        TDigest digest = new TDigest(100);
+        for (double value : new double[]{50, 10, 40, 20, 30}) {
+            digest.add(value);
+        }
+
+        assertEquals(10, digest.quantile(0));
+        assertEquals(30, digest.quantile(0.5));
+        assertEquals(50, digest.quantile(1));
+        assertEquals(5, digest.count());
+        assertEquals(10, digest.min());
+        assertEquals(50, digest.max());
+    }
+
+    @Test
+    void centroids_stayBoundedByCompression() {
+        TDigest digest = new TDigest(100);
+        Random random = new Random(7);
+        for (int i = 0; i < 1_000_000; i++) {
+            digest.add(random.nextGaussian());
+        }
+
+        assertTrue(digest.centroids() <= 100, "got " + digest.centroids() + " centroids");
+        assertEquals(1_000_000, digest.count());
+    }
+
+    @Test
+    void merge_summarizesTheUnion() {
+        Random random = new Random(3);
+        TDigest low = new TDigest(100);
+        TDigest high = new TDigest(100);
+        double[] values = new double[20_000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i < 10_000 ? random.nextDouble() * 50 : 50 + random.nextDouble() * 150;
+            (i < 10_000 ? low : high).add(values[i]);
+        }
+
+        TDigest union = new TDigest(100);
+        union.merge(low);
+        union.merge(high);
+
+        Arrays.sort(values);
+        assertEquals(values.length, union.count());
+        assertEquals(values[0], union.min());
+        assertEquals(values[values.length - 1], union.max());
+        for (double q : QUANTILES) {
+            assertRank(values, q, union.quantile(q));
+        }
+        assertEquals(10_000, low.count(), "merging leaves the source unchanged");
+    }
+
+    @Test
+    void of_restoresPersistedCentroids() {
+        TDigest digest = new TDigest(50);
+        Random random = new Random(11);
+        for (int i = 0; i < 10_000; i++) {
+            digest.add(random.nextDouble());
+        }
+
+        TDigest restored = TDigest.of(50, digest.means(), digest.weights(), digest.min(), digest.max());
+
+        assertEquals(digest.count(), restored.count());
+        for (double q : QUANTILES) {
+            assertEquals(digest.quantile(q), restored.quantile(q));
+        }
+    }
+
+    @Test
+    void emptyDigest_hasNoQuantiles() {
+        TDigest digest = new TDigest(100);
+        digest.add(Double.NaN);
+
+        assertTrue(Double.isNaN(digest.quantile(0.5)));
+        assertTrue(Double.isNaN(digest.min()));
+        assertEquals(0, digest.count());
+        assertThrows(IllegalArgumentException.class, () -> digest.quantile(1.5));
+        assertThrows(IllegalArgumentException.class, () -> new TDigest(1));
+    }
+
+    private static void assertAccurate(DoubleSupplier source) {
+        TDigest digest = new TDigest(100);
+        double[] values = new double[100_000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = source.getAsDouble();
+            digest.add(values[i]);
+        }
+        Arrays.sort(values);
+        for (double q : QUANTILES) {
+            assertRank(values, q, digest.quantile(q));
+        }
+    }
+
+    /**
+     * Checks that the estimate falls between the exact values at ranks q ± 1%.
+     */
+    private static void assertRank(double[] sorted, double q, double estimate) {
+        double lower = sorted[(int) Math.max(0, Math.floor((q - 0.01) * (sorted.length - 1)))];
+        double upper = sorted[(int) Math.min(sorted.length - 1, Math.ceil((q + 0.01) * (sorted.length - 1)))];
+        assertTrue(estimate >= lower && estimate <= upper,
+                "q=" + q + " estimate " + estimate + " outside [" + lower + ", " + upper + "]");
+    }
+}
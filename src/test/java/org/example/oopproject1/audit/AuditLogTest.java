@@ -0,0 +1,112 @@
+// src/test/java/org/example/oopproject1/audit/AuditLogTest.java
+package org.example.oopproject1.audit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.oopproject1.model.AuditEntry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuditLogTest {
+
+    @Test
+    void ringBuffer_keepsEachProducersOrderAndLosesNothing() throws Exception {
+        MpscRingBuffer<long[]> buffer = new MpscRingBuffer<>(64);
+        int producers = 4;
+        int perProducer = 20_000;
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch start = new CountDownLatch(1);
+        for (int p = 0; p < producers; p++) {
+            long producer = p;
+            executor.submit(() -> {
+                start.await();
+                for (long i = 0; i < perProducer; i++) {
+                    while (!buffer.offer(new long[]{producer, i})) {
+                        Thread.onSpinWait();
+                    }
+                }
+                return null;
+            });
+        }
+
+        long[] next = new long[producers];
+        int received = 0;
+        start.countDown();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (received < producers * perProducer && System.nanoTime() < deadline) {
+            received += buffer.drain(element -> {
+                assertEquals(next[(int) element[0]]++, element[1]);
+            }, 32);
+        }
+        executor.shutdown();
+
+        assertEquals(producers * perProducer, received);
+        assertEquals(0, buffer.size());
+    }
+
+    @Test
+    void record_dropsWhenFullAndCountsLoss() throws Exception {
+        List<AuditEntry> written = Collections.synchronizedList(new ArrayList<>());
+        AuditLog log = new AuditLog(written::addAll, null, new SimpleMeterRegistry(),
+                4, 100, 60_000, AuditLog.OverflowPolicy.DROP, 0);
+
+        for (int i = 0; i < 4; i++) {
+            assertTrue(log.record(entry("j" + i)));
+        }
+        assertFalse(log.record(entry("j4")));
+        assertEquals(1, log.droppedCount());
+
+        log.start();
+        log.stop();
+        assertEquals(List.of("j0", "j1", "j2", "j3"), written.stream().map(AuditEntry::getResourceId).toList());
+    }
+
+    @Test
+    void record_blocksUntilWriterMakesSpace() throws Exception {
+        List<AuditEntry> written = Collections.synchronizedList(new ArrayList<>());
+        AuditLog log = new AuditLog(written::addAll, null, new SimpleMeterRegistry(),
+                2, 100, 60_000, AuditLog.OverflowPolicy.BLOCK, 5_000);
+        log.start();
+
+        for (int i = 0; i < 50; i++) {
+            assertTrue(log.record(entry("j" + i)));
+        }
+        log.stop();
+
+        assertEquals(50, written.size());
+        assertEquals(0, log.droppedCount());
+    }
+
+    @Test
+    void failedBatchesAreCountedAndDoNotStopTheWriter() throws Exception {
+        List<AuditEntry> written = Collections.synchronizedList(new ArrayList<>());
+        AuditLog log = new AuditLog(batch -> {
+            if (batch.get(0).getResourceId().equals("bad")) {
+                throw new IllegalStateException("sink down");
+            }
+            written.addAll(batch);
+        }, null, new SimpleMeterRegistry(), 16, 1, 60_000, AuditLog.OverflowPolicy.DROP, 0);
+
+        log.record(entry("bad"));
+        log.record(entry("good"));
+        log.start();
+        log.stop();
+
+        assertEquals(1, log.failedCount());
+        assertEquals("good", written.get(0).getResourceId());
+    }
+
+    private static AuditEntry entry(String resourceId) {
+        return new AuditEntry(null, Instant.now(), "alice", "update", "job", resourceId, "PUT",
+                "/api/jobs/" + resourceId, 200);
+    }
+}
@@ -0,0 +1,75 @@
+// src/test/java/org/example/oopproject1/cli/ConsoleHttpClientTest.java
+package org.example.oopproject1.cli;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.ExpectedCount;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+class ConsoleHttpClientTest {
+
+    private final RestTemplate restTemplate = new RestTemplate();
+    private final MockRestServiceServer server = MockRestServiceServer.bindTo(restTemplate)
+            .ignoreExpectOrder(true)
+            .build();
+    private final ConsoleHttpClient http = new ConsoleHttpClient(restTemplate, 4);
+
+    @AfterEach
+    void tearDown() {
+        http.close();
+    }
+
+    @Test
+    void get_cachesUntilInvalidated() {
+        server.expect(ExpectedCount.twice(), requestTo("http://api/jobs/1"))
+                .andRespond(withSuccess("{\"id\":\"1\"}", MediaType.APPLICATION_JSON));
+
+        assertEquals("1", http.get("http://api/jobs/1", Map.class).get("id"));
+        assertEquals("1", http.get("http://api/jobs/1", Map.class).get("id"));
+        http.invalidate();
+        assertEquals("1", http.get("http://api/jobs/1", Map.class).get("id"));
+
+        server.verify();
+    }
+
+    @Test
+    void getAll_returnsResponsesInRequestOrder() {
+        List<String> uris = IntStream.range(0, 20).mapToObj(i -> "http://api/jobs/" + i).toList();
+        for (int i = 0; i < 20; i++) {
+            server.expect(requestTo(uris.get(i)))
+                    .andRespond(withSuccess("{\"id\":\"" + i + "\"}", MediaType.APPLICATION_JSON));
+        }
+
+        List<Map> jobs = http.getAll(uris, Map.class);
+
+        assertEquals(IntStream.range(0, 20).mapToObj(String::valueOf).toList(),
+                jobs.stream().map(job -> job.get("id")).toList());
+        server.verify();
+    }
+
+    @Test
+    void getAll_rethrowsFailureAfterOthersComplete() {
+        server.expect(requestTo("http://api/jobs/ok"))
+                .andRespond(withSuccess("{\"id\":\"ok\"}", MediaType.APPLICATION_JSON));
+        server.expect(requestTo("http://api/jobs/broken"))
+                .andRespond(withStatus(HttpStatus.INTERNAL_SERVER_ERROR));
+
+        assertThrows(HttpServerErrorException.class,
+                () -> http.getAll(List.of("http://api/jobs/ok", "http://api/jobs/broken"), Map.class));
+        server.verify();
+        assertEquals("ok", http.get("http://api/jobs/ok", Map.class).get("id"));
+    }
+}
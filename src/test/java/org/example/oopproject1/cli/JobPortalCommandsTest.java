@@ -0,0 +1,177 @@
+// src/test/java/org/example/oopproject1/cli/JobPortalCommandsTest.java
+package org.example.oopproject1.cli;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.oopproject1.dto.JobSummary;
+import org.example.oopproject1.model.MaintenanceRun;
+import org.example.oopproject1.model.MaintenanceRun.Operation;
+import org.example.oopproject1.model.MaintenanceRun.Status;
+import org.example.oopproject1.model.Recruiter;
+import org.example.oopproject1.service.ApplicationDeduplicationService;
+import org.example.oopproject1.service.BulkMaintenanceService;
+import org.example.oopproject1.service.JobService;
+import org.example.oopproject1.service.RecruiterService;
+import org.jline.terminal.impl.DumbTerminal;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class JobPortalCommandsTest {
+
+    private final JobService jobService = mock(JobService.class);
+    private final RecruiterService recruiterService = mock(RecruiterService.class);
+    private final BulkMaintenanceService bulkService = mock(BulkMaintenanceService.class);
+    @SuppressWarnings("unchecked")
+    private final ObjectProvider<BulkMaintenanceService> bulkProvider = mock(ObjectProvider.class);
+    private final ApplicationDeduplicationService dedupeService = mock(ApplicationDeduplicationService.class);
+    @SuppressWarnings("unchecked")
+    private final ObjectProvider<ApplicationDeduplicationService> dedupeProvider = mock(ObjectProvider.class);
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    private JobPortalCommands commands;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        DumbTerminal terminal = new DumbTerminal(new ByteArrayInputStream(new byte[0]), output);
+        commands = new JobPortalCommands(jobService, recruiterService, terminal, new ObjectMapper(), bulkProvider,
+                dedupeProvider);
+    }
+
+    @Test
+    void listJobs_tableEndsWithCursorWhenLimitIsReached() {
+        when(jobService.streamJobSummaries("", 2)).thenReturn(Stream.of(
+                job("65f1c0000000000000000001", "Engineer"), job("65f1c0000000000000000002", "Designer"),
+                job("65f1c0000000000000000003", "Tester")));
+
+        commands.listJobs("table", "", 2, 500);
+
+        assertEquals("""
+                Jobs:
+                ID: 65f1c0000000000000000001, Title: Engineer, Company: Acme, Location: London
+                ID: 65f1c0000000000000000002, Title: Designer, Company: Acme, Location: London
+                More may follow: --after 65f1c0000000000000000002
+                """, output());
+    }
+
+    @Test
+    void filterByCompany_writesCsvWithQuotedFields() {
+        when(jobService.streamJobSummariesByCompany("Acme", "", 500)).thenReturn(Stream.of(
+                job("65f1c0000000000000000001", "Engineer, \"Senior\"")));
+
+        commands.filterByCompany("Acme", "csv", "", 0, 500);
+
+        assertEquals("""
+                id,title,location
+                65f1c0000000000000000001,"Engineer, ""Senior\"\"",London
+                """, output());
+    }
+
+    @Test
+    void listRecruiters_writesJsonLines() {
+        when(recruiterService.streamRecruiters("65f1c0000000000000000001", 100)).thenReturn(Stream.of(
+                new Recruiter("65f1c0000000000000000002", "Ana", "ana@example.com", "Acme", "Hiring", "555")));
+
+        commands.listRecruiters("JSON", "65f1c0000000000000000001", 0, 100);
+
+        assertEquals("{\"id\":\"65f1c0000000000000000002\",\"name\":\"Ana\",\"company\":\"Acme\"}\n", output());
+    }
+
+    @Test
+    void searchJobs_printsEmptyMessageAndClosesStream() {
+        AtomicBoolean closed = new AtomicBoolean();
+        when(jobService.streamJobSummariesByKeyword("rust", "", 500))
+                .thenReturn(Stream.<JobSummary>empty().onClose(() -> closed.set(true)));
+
+        commands.searchJobs("rust", "table", "", 0, 500);
+
+        assertEquals("No jobs found matching: rust\n", output());
+        assertTrue(closed.get());
+    }
+
+    @Test
+    void filterByTitle_reportsUnknownFormatWithoutQuerying() {
+        commands.filterByTitle("Engineer", "xml", "", 0, 500);
+
+        assertTrue(output().startsWith("Error filtering jobs: Unknown format 'xml'"));
+        verify(jobService, never()).streamJobSummariesByTitle(anyString(), anyString(), anyInt());
+    }
+
+    @Test
+    void deactivateCompanyJobs_dryRunOnlyCounts() {
+        when(bulkProvider.getIfAvailable()).thenReturn(bulkService);
+        when(bulkService.count(Operation.DEACTIVATE_COMPANY_JOBS, Map.of(BulkMaintenanceService.COMPANY, "Acme")))
+                .thenReturn(42L);
+
+        commands.deactivateCompanyJobs("Acme", true, null, null);
+
+        assertEquals("Dry run: 42 active jobs at Acme would be changed\n", output());
+        verify(bulkService, never()).start(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void reassignJobs_printsProgressAndResumeHintWhenInterrupted() {
+        when(bulkProvider.getIfAvailable()).thenReturn(bulkService);
+        when(bulkService.start(eq(Operation.REASSIGN_JOBS), any(), eq(100), any(), any())).thenAnswer(invocation -> {
+            MaintenanceRun run = new MaintenanceRun("run1", Operation.REASSIGN_JOBS, Map.of(), "j100", 250, 100,
+                    Status.RUNNING, null, Instant.now(), Instant.now());
+            invocation.<Consumer<MaintenanceRun>>getArgument(4).accept(run);
+            run.setStatus(Status.INTERRUPTED);
+            return run;
+        });
+
+        commands.reassignJobs("r1", "r2", false, 100, 0L);
+
+        assertEquals("""
+                Run run1: 100/250 processed
+                Run run1 interrupted: 100 of 250 processed
+                Continue with: resume-bulk-run -i run1
+                """, output());
+    }
+
+    @Test
+    void purgeApplications_withoutMongo_reportsUnavailable() {
+        commands.purgeApplications("@spam\\.com$", null, null, null, false, null, null);
+
+        assertTrue(output().startsWith("Bulk operations need MongoDB"));
+    }
+
+    @Test
+    void dedupeApplications_printsRemovedCount() {
+        when(dedupeProvider.getIfAvailable()).thenReturn(dedupeService);
+        when(dedupeService.deduplicate()).thenReturn(3L);
+
+        commands.dedupeApplications();
+
+        assertEquals("Deleted 3 duplicate applications\n", output());
+    }
+
+    private String output() {
+        return output.toString(StandardCharsets.UTF_8).replace("\r\n", "\n");
+    }
+
+    private static JobSummary job(String id, String title) {
+        JobSummary job = new JobSummary();
+        job.setId(id);
+        job.setTitle(title);
+        job.setCompany("Acme");
+        job.setLocation("London");
+        return job;
+    }
+}
@@ -0,0 +1,146 @@
+// src/test/java/org/example/oopproject1/codec/BinaryCodecTest.java
+package org.example.oopproject1.codec;
+
+import org.example.oopproject1.model.Application;
+import org.example.oopproject1.model.Job;
+import org.example.oopproject1.model.StatusChange;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BinaryCodecTest {
+
+    private final JobCodec jobCodec = new JobCodec();
+    private final ApplicationCodec applicationCodec = new ApplicationCodec();
+
+    @Test
+    void job_roundTripsAllFields() {
+        Job job = job();
+
+        Job decoded = jobCodec.decode(ByteBuffer.wrap(jobCodec.encode(job)));
+
+        assertEquals(job, decoded);
+    }
+
+    @Test
+    void job_roundTripsCoordinates() {
+        Job job = job();
+        job.setCoordinates(new GeoJsonPoint(-0.1276, 51.5072));
+
+        Job decoded = jobCodec.decode(ByteBuffer.wrap(jobCodec.encode(job)));
+
+        assertEquals(job, decoded);
+        assertEquals(-0.1276, decoded.getCoordinates().getX());
+        assertEquals(51.5072, decoded.getCoordinates().getY());
+    }
+
+    @Test
+    void job_roundTripsNullsAndInactive() {
+        Job job = new Job();
+        job.setTitle("Über-Engineer ✓");
+
+        Job decoded = jobCodec.decode(ByteBuffer.wrap(jobCodec.encode(job)));
+
+        assertEquals(job, decoded);
+        assertNull(decoded.getCompany());
+        assertFalse(decoded.isActive());
+    }
+
+    @Test
+    void job_decodesFromDirectBufferSliceAndInternsLowCardinalityFields() {
+        byte[] encoded = jobCodec.encode(job());
+        ByteBuffer direct = ByteBuffer.allocateDirect(encoded.length + 8);
+        direct.position(8);
+        direct.put(encoded);
+        ByteBuffer slice = direct.slice(8, encoded.length).asReadOnlyBuffer();
+
+        Job first = jobCodec.decode(slice);
+        Job second = jobCodec.decode(ByteBuffer.wrap(encoded));
+
+        assertEquals(job(), first);
+        assertSame(first.getCompany(), second.getCompany());
+        assertSame(first.getLocation(), second.getLocation());
+        assertSame(first.getEmploymentType(), second.getEmploymentType());
+        assertSame(first.getRequiredSkills().get(0), second.getRequiredSkills().get(0));
+        assertNotSame(first.getTitle(), second.getTitle());
+        assertEquals(0, slice.position(), "decoding must not move the caller's buffer");
+    }
+
+    @Test
+    void dictionaries_shareInstancesWithCodec() {
+        JobFieldDictionaries dictionaries = new JobFieldDictionaries(2);
+        JobCodec codec = new JobCodec(dictionaries);
+        Job read = dictionaries.intern(job());
+
+        Job decoded = codec.decode(ByteBuffer.wrap(codec.encode(job())));
+
+        assertSame(read.getCompany(), decoded.getCompany());
+        assertSame(read.getRequiredSkills().get(1), decoded.getRequiredSkills().get(1));
+        assertEquals(1, dictionaries.all().get(0).size());
+        assertTrue(dictionaries.all().get(0).bytesSaved() > 0);
+    }
+
+    @Test
+    void dictionaries_stopGrowingAtCapacity() {
+        StringInterner interner = new StringInterner("recruiterId", 2);
+
+        interner.intern(new String("a"));
+        interner.intern(new String("b"));
+        String c = new String("c");
+
+        assertSame(c, interner.intern(c));
+        assertNotSame(c, interner.intern(new String("c")));
+        assertEquals(2, interner.size());
+    }
+
+    @Test
+    void job_isSmallerThanSmile() {
+        EntityCodec<Job> smile = new EntityCodecs(List.of()).forType(Job.class);
+
+        assertTrue(jobCodec.encode(job()).length < smile.encode(job()).length);
+    }
+
+    @Test
+    void decode_rejectsUnknownVersion() {
+        byte[] encoded = jobCodec.encode(job());
+        encoded[0] = (byte) (JobCodec.VERSION + 1);
+
+        assertThrows(IllegalArgumentException.class, () -> jobCodec.decode(ByteBuffer.wrap(encoded)));
+    }
+
+    @Test
+    void application_roundTripsAllFields() {
+        Application application = new Application("a1", "j1", "Ana Silva", "ana@example.com", "555-0100",
+                "https://cv.example.com/ana", "Dear team,", LocalDate.of(2024, 5, 2),
+                Application.ApplicationStatus.INTERVIEWED, Instant.parse("2024-05-02T10:15:30.123Z"),
+                List.of(new StatusChange(null, Application.ApplicationStatus.SUBMITTED, "anonymous",
+                                Instant.parse("2024-05-02T09:00:00Z")),
+                        new StatusChange(Application.ApplicationStatus.SUBMITTED,
+                                Application.ApplicationStatus.INTERVIEWED, "rec", Instant.parse("2024-05-02T10:15:30.123Z"))));
+
+        Application decoded = applicationCodec.decode(ByteBuffer.wrap(applicationCodec.encode(application)));
+
+        assertEquals(application, decoded);
+    }
+
+    @Test
+    void entityCodecs_registeredCodecStillReadsSmile() {
+        EntityCodec<Job> smile = new EntityCodecs(List.of()).forType(Job.class);
+        EntityCodec<Job> binary = new EntityCodecs(List.of(jobCodec)).forType(Job.class);
+
+        assertEquals(job(), binary.decode(ByteBuffer.wrap(smile.encode(job()))));
+        assertEquals(job(), binary.decode(ByteBuffer.wrap(binary.encode(job()))));
+    }
+
+    private static Job job() {
+        return new Job("j1", "Backend Engineer", "Acme", "Build services.", List.of("Java", "MongoDB"),
+                50000.0, 70000.0, "London", "Full-time", LocalDate.of(2024, 1, 1), LocalDate.of(2024, 3, 1),
+                true, "r1", Instant.parse("2024-01-01T09:00:00.500Z"), null);
+    }
+}
@@ -0,0 +1,74 @@
+// src/test/java/org/example/oopproject1/config/MongoClientTuningTest.java
+package org.example.oopproject1.config;
+
+import com.mongodb.MongoClientSettings;
+import com.mongodb.ReadPreference;
+import com.mongodb.ServerAddress;
+import com.mongodb.connection.ClusterId;
+import com.mongodb.connection.ConnectionId;
+import com.mongodb.connection.ServerId;
+import com.mongodb.event.ConnectionCheckOutFailedEvent;
+import com.mongodb.event.ConnectionCheckedOutEvent;
+import com.mongodb.event.ConnectionPoolListener;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MongoClientTuningTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    void customize_appliesPoolTimeoutCompressionAndReadPreference() {
+        MongoClientSettings.Builder builder = MongoClientSettings.builder();
+
+        tuning(List.of("zstd", "zlib")).customize(builder);
+        MongoClientSettings settings = builder.build();
+
+        assertEquals(20, settings.getConnectionPoolSettings().getMaxSize());
+        assertEquals(5, settings.getConnectionPoolSettings().getMinSize());
+        assertEquals(1500, settings.getConnectionPoolSettings().getMaxWaitTime(TimeUnit.MILLISECONDS));
+        assertEquals(3000, settings.getSocketSettings().getConnectTimeout(TimeUnit.MILLISECONDS));
+        assertEquals(List.of("zstd", "zlib"), settings.getCompressorList().stream().map(c -> c.getName()).toList());
+        assertEquals(ReadPreference.secondaryPreferred(), settings.getReadPreference());
+        assertEquals(1, settings.getConnectionPoolSettings().getConnectionPoolListeners().size());
+    }
+
+    @Test
+    void customize_rejectsUnknownCompressor() {
+        assertThrows(IllegalArgumentException.class,
+                () -> tuning(List.of("lz4")).customize(MongoClientSettings.builder()));
+    }
+
+    @Test
+    void poolListener_timesCheckoutsByOutcome() {
+        MongoClientSettings.Builder builder = MongoClientSettings.builder();
+        tuning(List.of("zlib")).customize(builder);
+        ConnectionPoolListener listener =
+                builder.build().getConnectionPoolSettings().getConnectionPoolListeners().get(0);
+        ServerId server = new ServerId(new ClusterId(), new ServerAddress("db1", 27017));
+
+        listener.connectionCheckedOut(new ConnectionCheckedOutEvent(new ConnectionId(server), 1, 2_000_000));
+        listener.connectionCheckOutFailed(new ConnectionCheckOutFailedEvent(server, 2,
+                ConnectionCheckOutFailedEvent.Reason.TIMEOUT, 1_500_000_000L));
+
+        Timer success = registry.get("mongodb.pool.checkout").tag("outcome", "success").timer();
+        Timer timeout = registry.get("mongodb.pool.checkout")
+                .tag("outcome", "timeout").tag("server.address", "db1:27017").timer();
+        assertEquals(1, success.count());
+        assertEquals(2, success.totalTime(TimeUnit.MILLISECONDS), 0.001);
+        assertEquals(1500, timeout.totalTime(TimeUnit.MILLISECONDS), 0.001);
+    }
+
+    private MongoClientTuning tuning(List<String> compressors) {
+        return new MongoClientTuning(registry, 20, 5, 2, Duration.ofMillis(1500), Duration.ofMinutes(10),
+                Duration.ofSeconds(3), Duration.ofSeconds(30), Duration.ofSeconds(10), compressors,
+                "secondaryPreferred");
+    }
+}
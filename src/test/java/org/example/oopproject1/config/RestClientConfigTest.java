@@ -0,0 +1,163 @@
+// src/test/java/org/example/oopproject1/config/RestClientConfigTest.java
+package org.example.oopproject1.config;
+
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.hc.client5.http.classic.methods.HttpGet;
+import org.apache.hc.client5.http.classic.methods.HttpPost;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.core5.http.ConnectionClosedException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.RestTemplate;
+
+import javax.net.ssl.SSLException;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.ConnectException;
+import java.net.InetSocketAddress;
+import java.net.SocketTimeoutException;
+import java.net.UnknownHostException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RestClientConfigTest {
+
+    private final RestClientConfig config = new RestClientConfig();
+    private final AtomicInteger calls = new AtomicInteger();
+    private HttpServer server;
+    private PoolingHttpClientConnectionManager connectionManager;
+    private CloseableHttpClient httpClient;
+    private RestTemplate restTemplate;
+    private String base;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/flaky", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            byte[] body = "ok".getBytes(StandardCharsets.UTF_8);
+            int status = calls.incrementAndGet() == 1 ? 503 : 200;
+            exchange.sendResponseHeaders(status, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        server.createContext("/dropped", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            if (calls.incrementAndGet() == 1) {
+                // close the connection without answering, as a server going down would
+                exchange.close();
+                return;
+            }
+            byte[] body = "ok".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        server.createContext("/gzip", exchange -> {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (OutputStream gzip = new GZIPOutputStream(bytes)) {
+                gzip.write("compressed".getBytes(StandardCharsets.UTF_8));
+            }
+            String accepted = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+            exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+            exchange.getResponseHeaders().add("X-Accept-Encoding", String.valueOf(accepted));
+            exchange.sendResponseHeaders(200, bytes.size());
+            exchange.getResponseBody().write(bytes.toByteArray());
+            exchange.close();
+        });
+        server.start();
+        base = "http://127.0.0.1:" + server.getAddress().getPort();
+
+        connectionManager = config.httpConnectionManager(10, 4, Duration.ofSeconds(2), Duration.ofSeconds(5),
+                Duration.ofMinutes(5), Duration.ofSeconds(2));
+        httpClient = config.httpClient(connectionManager, Duration.ofSeconds(5), Duration.ofSeconds(1),
+                2, Duration.ofMillis(10), Duration.ofMillis(50), true);
+        restTemplate = config.restTemplate(new RestTemplateBuilder(), httpClient);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        httpClient.close();
+        connectionManager.close();
+        server.stop(0);
+    }
+
+    @Test
+    void get_isRetriedAfterServiceUnavailable() {
+        assertEquals("ok", restTemplate.getForObject(base + "/flaky", String.class));
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void post_isNotRetriedAfterServiceUnavailable() {
+        assertThrows(HttpServerErrorException.ServiceUnavailable.class,
+                () -> restTemplate.postForObject(base + "/flaky", "body", String.class));
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void get_isRetriedAfterConnectionDropped() {
+        assertEquals("ok", restTemplate.getForObject(base + "/dropped", String.class));
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void ioErrors_retriedUnlessTimeoutOrTls() {
+        JitteredRetryStrategy strategy = new JitteredRetryStrategy(2, 10, 50);
+        HttpGet get = new HttpGet(base);
+        HttpClientContext context = HttpClientContext.create();
+
+        assertTrue(strategy.retryRequest(get, new ConnectException("refused"), 1, context));
+        assertTrue(strategy.retryRequest(get, new UnknownHostException("api"), 1, context));
+        assertTrue(strategy.retryRequest(get, new ConnectionClosedException(), 1, context));
+        assertFalse(strategy.retryRequest(get, new SocketTimeoutException("read"), 1, context));
+        assertFalse(strategy.retryRequest(get, new SSLException("handshake"), 1, context));
+        assertFalse(strategy.retryRequest(new HttpPost(base), new ConnectException("refused"), 1, context));
+        assertFalse(strategy.retryRequest(get, new ConnectException("refused"), 3, context));
+    }
+
+    @Test
+    void gzipResponses_areRequestedAndDecoded() {
+        var response = restTemplate.getForEntity(base + "/gzip", String.class);
+
+        assertEquals("compressed", response.getBody());
+        assertTrue(response.getHeaders().getFirst("X-Accept-Encoding").contains("gzip"));
+    }
+
+    @Test
+    void poolMetrics_publishPerRouteGauges() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        HttpPoolMetrics metrics = config.httpPoolMetrics(connectionManager, registry);
+        restTemplate.getForObject(base + "/flaky", String.class);
+
+        metrics.refresh();
+
+        String route = "127.0.0.1:" + server.getAddress().getPort();
+        assertEquals(4.0, registry.get("http.client.pool.route.max").tag("route", route).gauge().value());
+        assertEquals(0.0, registry.get("http.client.pool.route.leased").tag("route", route).gauge().value());
+        assertEquals(1.0, registry.get("http.client.pool.route.available").tag("route", route).gauge().value());
+        assertNotNull(registry.find("httpcomponents.httpclient.pool.total.max").gauge());
+    }
+
+    @Test
+    void jitter_staysWithinExponentialCeiling() {
+        JitteredRetryStrategy strategy = new JitteredRetryStrategy(3, 100, 1000);
+
+        for (int i = 0; i < 200; i++) {
+            assertTrue(strategy.jittered(1).toMilliseconds() <= 100);
+            assertTrue(strategy.jittered(3).toMilliseconds() <= 400);
+            assertTrue(strategy.jittered(30).toMilliseconds() <= 1000);
+        }
+    }
+}
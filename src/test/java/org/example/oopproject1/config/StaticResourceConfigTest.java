@@ -0,0 +1,53 @@
+// src/test/java/org/example/oopproject1/config/StaticResourceConfigTest.java
+package org.example.oopproject1.config;
+
+import org.example.oopproject1.security.JwtAuthenticationFilter;
+import org.example.oopproject1.service.UserService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(StaticResourceConfig.class)   // no controllers, just the static resource handler
+@AutoConfigureMockMvc(addFilters = false)
+class StaticResourceConfigTest {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @MockBean
+    private UserService userService;
+
+    @MockBean
+    private JwtAuthenticationFilter jwtAuthenticationFilter;
+
+    @Test
+    @DisplayName("Pages link fingerprinted assets, which are cached as immutable")
+    void pagesLinkFingerprintedAssets() throws Exception {
+        String page = mvc.perform(get("/admin.html"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", "no-cache"))
+                .andReturn().getResponse().getContentAsString();
+
+        Matcher script = Pattern.compile("src=\"(js/admin-[0-9a-f]{32}\\.js)\"").matcher(page);
+        assertTrue(script.find(), "admin.js link was not fingerprinted");
+        assertTrue(page.contains("https://cdn.jsdelivr.net/npm/bootstrap@5.3.0/dist/js/bootstrap.bundle.min.js"));
+
+        mvc.perform(get("/" + script.group(1)))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", "max-age=31536000, public, immutable"));
+        mvc.perform(get("/js/admin.js"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", "no-cache"));
+    }
+}
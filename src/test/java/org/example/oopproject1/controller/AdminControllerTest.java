@@ -1,8 +1,13 @@
 package org.example.oopproject1.controller;
 
+import org.example.oopproject1.audit.AuditLog;
+import org.example.oopproject1.codec.JobFieldDictionaries;
+import org.example.oopproject1.model.AuditEntry;
+import org.example.oopproject1.model.Job;
 import org.example.oopproject1.model.User;
 import org.example.oopproject1.security.JwtAuthenticationFilter;
 import org.example.oopproject1.security.JwtUtils;
+import org.example.oopproject1.service.FunnelRollupService;
 import org.example.oopproject1.service.UserService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -10,17 +15,29 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.Instant;
 import java.util.List;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(AdminController.class)
 @AutoConfigureMockMvc(addFilters = false)
+@Import(JobFieldDictionaries.class)
 class AdminControllerTest {
 
     @Autowired
@@ -29,6 +46,15 @@ class AdminControllerTest {
     @MockBean
     private UserService userService;
 
+    @Autowired
+    private JobFieldDictionaries jobFieldDictionaries;
+
+    @MockBean
+    private AuditLog auditLog;
+
+    @MockBean
+    private FunnelRollupService funnelRollupService;
+
     // mock out security
     @MockBean
     private JwtUtils jwtUtils;
@@ -50,4 +76,62 @@ class AdminControllerTest {
                 .andExpect(jsonPath("$[0].id").value("123"))
                 .andExpect(jsonPath("$[0].username").value("test"));
     }
+
+    @Test
+    @DisplayName("GET /api/admin/dictionaries reports entries, hits and bytes saved")
+    void getDictionaryStats_returnsOk() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            Job job = new Job();
+            job.setCompany(new String("Acme"));
+            jobFieldDictionaries.intern(job);
+        }
+
+        mvc.perform(get("/api/admin/dictionaries")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].field").value("company"))
+                .andExpect(jsonPath("$[0].entries").value(1))
+                .andExpect(jsonPath("$[0].hits").value(2))
+                .andExpect(jsonPath("$[0].bytesSaved").value(2 * (24 + 24)));
+    }
+
+    @Test
+    @DisplayName("PUT /api/admin/users/{id}/status is recorded in the audit log")
+    void updateUserStatus_isAudited() throws Exception {
+        mvc.perform(put("/api/admin/users/u1/status").param("enabled", "false"))
+                .andExpect(status().isNoContent());
+
+        verify(auditLog).record(argThat(entry -> "status".equals(entry.getAction())
+                && "user".equals(entry.getResourceType())
+                && "u1".equals(entry.getResourceId())
+                && entry.getStatus() == 204));
+    }
+
+    @Test
+    @DisplayName("GET /api/admin/audit pages entries filtered by actor")
+    void getAuditLog_returnsOk() throws Exception {
+        AuditEntry entry = new AuditEntry("a1", Instant.parse("2024-05-01T10:00:00Z"), "alice", "delete", "job",
+                "j1", "DELETE", "/api/jobs/j1", 204);
+        when(auditLog.find(eq("alice"), isNull(), isNull(), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(entry)));
+
+        mvc.perform(get("/api/admin/audit").param("actor", "alice")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].actor").value("alice"))
+                .andExpect(jsonPath("$.content[0].resourceId").value("j1"));
+    }
+
+    @Test
+    @DisplayName("POST /api/admin/funnel/backfill rebuilds the rollups and is audited")
+    void backfillFunnel_returnsBucketCount() throws Exception {
+        when(funnelRollupService.backfill()).thenReturn(42L);
+
+        mvc.perform(post("/api/admin/funnel/backfill"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.buckets").value(42));
+
+        verify(auditLog).record(argThat(entry -> "backfill".equals(entry.getAction())
+                && "funnel".equals(entry.getResourceType())));
+    }
 }
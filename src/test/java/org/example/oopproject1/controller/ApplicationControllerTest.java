@@ -1,5 +1,6 @@
 package org.example.oopproject1.controller;
 
+import org.example.oopproject1.dto.ApplicationSummary;
 import org.example.oopproject1.model.Application;
 import org.example.oopproject1.security.JwtAuthenticationFilter;
 import org.example.oopproject1.security.JwtUtils;
@@ -10,11 +11,15 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.util.List;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -36,16 +41,32 @@ class ApplicationControllerTest {
     private JwtAuthenticationFilter jwtAuthenticationFilter;
 
     @Test
-    @DisplayName("GET /api/applications returns 200 and JSON list")
+    @DisplayName("GET /api/applications returns 200 and JSON list of summaries")
     void getAllApplications_returnsOk() throws Exception {
-        Application a = new Application();
+        ApplicationSummary a = new ApplicationSummary();
         a.setId("app1");
-        when(applicationService.getAllApplications()).thenReturn(List.of(a));
+        when(applicationService.getAllApplicationSummaries()).thenReturn(List.of(a));
 
         mvc.perform(get("/api/applications")
                         .accept(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
                 .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
-                .andExpect(jsonPath("$[0].id").value("app1"));
+                .andExpect(jsonPath("$[0].id").value("app1"))
+                .andExpect(jsonPath("$[0].coverLetterText").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("GET /api/applications/job/{jobId}/paged?view=full returns whole documents")
+    void getPagedApplicationsByJobId_fullView_returnsDocuments() throws Exception {
+        Application a = new Application();
+        a.setId("app1");
+        a.setCoverLetterText("Dear team");
+        when(applicationService.getApplicationsByJobId(eq("job1"), any(Pageable.class), eq(false)))
+                .thenReturn(new PageImpl<>(List.of(a)));
+
+        mvc.perform(get("/api/applications/job/job1/paged").param("view", "full")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].coverLetterText").value("Dear team"));
     }
 }
@@ -1,9 +1,15 @@
 // src/test/java/org/example/oopproject1/controller/JobControllerTest.java
 package org.example.oopproject1.controller;
 
+import org.example.oopproject1.dto.JobSuggestion;
+import org.example.oopproject1.dto.JobSummary;
+import org.example.oopproject1.dto.NearbyJob;
+import org.example.oopproject1.dto.SalaryPercentiles;
 import org.example.oopproject1.model.Job;
 import org.example.oopproject1.security.JwtAuthenticationFilter;
 import org.example.oopproject1.service.JobService;
+import org.example.oopproject1.service.JobSuggestionService;
+import org.example.oopproject1.service.SalaryAnalyticsService;
 import org.example.oopproject1.service.UserService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -11,11 +17,17 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -34,18 +46,25 @@ class JobControllerTest {
     @MockBean
     private UserService userService;
 
+    @MockBean
+    private JobSuggestionService suggestionService;
+
+    @MockBean
+    private SalaryAnalyticsService salaryAnalyticsService;
+
     // stub out the JWT filter so its JwtUtils dependency never gets wired
     @MockBean
     private JwtAuthenticationFilter jwtAuthenticationFilter;
 
     @Test
-    @DisplayName("GET /api/jobs returns 200 and JSON list")
+    @DisplayName("GET /api/jobs returns 200 and JSON list of summaries")
     void getAllJobs_returnsOk() throws Exception {
         // arrange
-        Job j = new Job();
+        JobSummary j = new JobSummary();
         j.setId("job1");
         j.setTitle("My Test Job");
-        when(jobService.getAllJobs()).thenReturn(List.of(j));
+        j.setActive(true);
+        when(jobService.getJobSummaries()).thenReturn(List.of(j));
 
         // act + assert
         mvc.perform(get("/api/jobs")
@@ -53,6 +72,99 @@ class JobControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$[0].id").value("job1"))
-                .andExpect(jsonPath("$[0].title").value("My Test Job"));
+                .andExpect(jsonPath("$[0].title").value("My Test Job"))
+                .andExpect(jsonPath("$[0].active").value(true))
+                .andExpect(jsonPath("$[0].description").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("GET /api/jobs?view=full returns whole documents")
+    void getAllJobs_fullView_returnsDocuments() throws Exception {
+        Job j = new Job();
+        j.setId("job1");
+        j.setDescription("Long text");
+        when(jobService.getAllJobs()).thenReturn(List.of(j));
+
+        mvc.perform(get("/api/jobs").param("view", "full")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].description").value("Long text"));
+    }
+
+    @Test
+    @DisplayName("GET /api/jobs/{id} returns an ETag and 304 when it still matches")
+    void getJobById_conditionalGet_returnsNotModified() throws Exception {
+        Job j = new Job();
+        j.setId("job1");
+        j.setLastModified(Instant.ofEpochMilli(0x18f0000L));
+        when(jobService.getJobById("job1", false)).thenReturn(j);
+
+        mvc.perform(get("/api/jobs/job1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"job1-18f0000\""))
+                .andExpect(header().string("Cache-Control", "no-cache, private"));
+
+        mvc.perform(get("/api/jobs/job1").header("If-None-Match", "\"job1-18f0000\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    @DisplayName("GET /api/jobs/near resolves a place name and returns jobs with distances")
+    void getJobsNear_byLocation_returnsNearbyJobs() throws Exception {
+        GeoJsonPoint newYork = new GeoJsonPoint(-74.0060, 40.7128);
+        JobSummary j = new JobSummary();
+        j.setId("job1");
+        j.setTitle("Backend Engineer");
+        when(jobService.locate("NYC")).thenReturn(newYork);
+        when(jobService.findJobsNear(eq(newYork), eq(25.0), any()))
+                .thenReturn(new PageImpl<>(List.of(new NearbyJob(j, 3.5))));
+
+        mvc.perform(get("/api/jobs/near").param("location", "NYC").param("radiusKm", "25"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andExpect(jsonPath("$.content[0].job.title").value("Backend Engineer"))
+                .andExpect(jsonPath("$.content[0].distanceKm").value(3.5));
+    }
+
+    @Test
+    @DisplayName("GET /api/jobs/near without a place or valid coordinates returns 400")
+    void getJobsNear_withoutCenter_returnsBadRequest() throws Exception {
+        mvc.perform(get("/api/jobs/near").param("lat", "40.7"))
+                .andExpect(status().isBadRequest());
+        mvc.perform(get("/api/jobs/near").param("lat", "91").param("lng", "0"))
+                .andExpect(status().isBadRequest());
+        mvc.perform(get("/api/jobs/near").param("lat", "40.7").param("lng", "-74").param("radiusKm", "0"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("GET /api/jobs/salaries returns percentiles for the requested values")
+    void getSalaryPercentiles_returnsDistribution() throws Exception {
+        when(salaryAnalyticsService.percentiles("location", List.of("London", "Leeds"), List.of(50.0, 90.0)))
+                .thenReturn(new SalaryPercentiles("location", List.of("London", "Leeds"), 12, 30000, 90000,
+                        Map.of("p50", 52000.0, "p90", 81000.0)));
+
+        mvc.perform(get("/api/jobs/salaries").param("dimension", "location")
+                        .param("value", "London", "Leeds").param("p", "50,90"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.count").value(12))
+                .andExpect(jsonPath("$.percentiles.p50").value(52000.0));
+        mvc.perform(get("/api/jobs/salaries").param("dimension", "salary").param("value", "London"))
+                .andExpect(status().isBadRequest());
+        mvc.perform(get("/api/jobs/salaries").param("value", "Engineer").param("p", "101"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("GET /api/jobs/suggest returns suggestions for the prefix")
+    void suggest_returnsSuggestions() throws Exception {
+        when(suggestionService.suggest("eng", "title", 5))
+                .thenReturn(List.of(new JobSuggestion("title", "Backend Engineer", 3)));
+
+        mvc.perform(get("/api/jobs/suggest").param("q", "eng").param("field", "title").param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].text").value("Backend Engineer"))
+                .andExpect(jsonPath("$[0].count").value(3));
     }
 }
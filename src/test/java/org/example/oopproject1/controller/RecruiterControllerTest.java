@@ -1,9 +1,16 @@
 // src/test/java/org/example/oopproject1/controller/RecruiterControllerTest.java
 package org.example.oopproject1.controller;
 
+import org.example.oopproject1.dto.ApplicationSummary;
+import org.example.oopproject1.dto.ApplicationTransition;
+import org.example.oopproject1.dto.FunnelReport;
+import org.example.oopproject1.dto.JobSummary;
+import org.example.oopproject1.model.Application.ApplicationStatus;
 import org.example.oopproject1.model.Recruiter;
+import org.example.oopproject1.model.User;
 import org.example.oopproject1.security.JwtAuthenticationFilter;
 import org.example.oopproject1.service.ApplicationService;
+import org.example.oopproject1.service.FunnelRollupService;
 import org.example.oopproject1.service.JobService;
 import org.example.oopproject1.service.RecruiterService;
 import org.example.oopproject1.service.UserService;
@@ -13,11 +20,22 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.Instant;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -29,7 +47,7 @@ class RecruiterControllerTest {
     @Autowired
     private MockMvc mvc;
 
-    // all four services from the RecruiterController constructor:
+    // all five services from the RecruiterController constructor:
     @MockBean
     private RecruiterService recruiterService;
     @MockBean
@@ -38,6 +56,8 @@ class RecruiterControllerTest {
     private JobService jobService;
     @MockBean
     private ApplicationService applicationService;
+    @MockBean
+    private FunnelRollupService funnelRollupService;
 
     // stub out the security filter so JwtUtils (etc.) never needs to be wired
     @MockBean
@@ -57,4 +77,106 @@ class RecruiterControllerTest {
                 .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$[0].id").value("rec1"));
     }
+
+    @Test
+    @DisplayName("GET /api/recruiters/me/applications returns summaries of applications to the recruiter's jobs")
+    void myApplications_returnsSummariesByDefault() throws Exception {
+        Authentication auth = recruiterAuth();
+        ApplicationSummary summary = new ApplicationSummary();
+        summary.setId("a1");
+        summary.setJobId("j2");
+        when(applicationService.findSummariesByJobIds(eq(List.of("j1", "j2")), any()))
+                .thenReturn(new PageImpl<>(List.of(summary)));
+
+        mvc.perform(get("/api/recruiters/me/applications")
+                        .principal(auth)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value("a1"))
+                .andExpect(jsonPath("$.content[0].coverLetterText").doesNotExist());
+        verify(applicationService, never()).findByJobIds(any(), any());
+        verify(jobService, never()).findJobsByRecruiter("rec1");
+    }
+
+    @Test
+    @DisplayName("GET /api/recruiters/me/funnel reads the rollups of the recruiter's jobs")
+    void myFunnel_readsRollupsOfOwnJobs() throws Exception {
+        Authentication auth = recruiterAuth();
+        LocalDate from = LocalDate.of(2024, 5, 1);
+        LocalDate to = LocalDate.of(2024, 5, 31);
+        FunnelReport report = new FunnelReport(List.of("j1", "j2"), from, to, 4,
+                Map.of("SUBMITTED", 4L), Map.of("SUBMITTED", 4L), Map.of("SUBMITTED->REVIEWING", 0.0));
+        when(funnelRollupService.funnel(List.of("j1", "j2"), from, to)).thenReturn(report);
+
+        mvc.perform(get("/api/recruiters/me/funnel")
+                        .param("from", "2024-05-01")
+                        .param("to", "2024-05-31")
+                        .principal(auth)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.submitted").value(4))
+                .andExpect(jsonPath("$.jobIds[1]").value("j2"));
+    }
+
+    @Test
+    @DisplayName("GET /api/recruiters/me/funnel returns 404 for another recruiter's job")
+    void myFunnel_otherRecruitersJob_returnsNotFound() throws Exception {
+        Authentication auth = recruiterAuth();
+
+        mvc.perform(get("/api/recruiters/me/funnel")
+                        .param("jobId", "someone-elses")
+                        .principal(auth))
+                .andExpect(status().isNotFound());
+        verify(funnelRollupService, never()).funnel(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("GET /api/recruiters/me/funnel/daily rejects ranges over a year")
+    void myFunnelDaily_rangeTooLong_returnsBadRequest() throws Exception {
+        mvc.perform(get("/api/recruiters/me/funnel/daily")
+                        .param("from", "2023-01-01")
+                        .param("to", "2024-06-01")
+                        .principal(mock(Authentication.class)))
+                .andExpect(status().isBadRequest());
+        verify(funnelRollupService, never()).daily(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("GET /api/recruiters/me/transitions lists status changes over whole UTC days")
+    void myTransitions_readsWholeDaysOfOwnJob() throws Exception {
+        Authentication auth = recruiterAuth();
+        Instant from = Instant.parse("2024-05-01T00:00:00Z");
+        Instant to = Instant.parse("2024-05-03T00:00:00Z");
+        when(applicationService.getStatusChanges(List.of("j2"), from, to)).thenReturn(List.of(
+                new ApplicationTransition("a1", "j2", ApplicationStatus.SUBMITTED, ApplicationStatus.REVIEWING,
+                        "rec", Instant.parse("2024-05-02T09:30:00Z"))));
+
+        mvc.perform(get("/api/recruiters/me/transitions")
+                        .param("jobId", "j2")
+                        .param("from", "2024-05-01")
+                        .param("to", "2024-05-02")
+                        .principal(auth)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].applicationId").value("a1"))
+                .andExpect(jsonPath("$[0].to").value("REVIEWING"));
+    }
+
+    private Authentication recruiterAuth() {
+        User user = new User();
+        user.setUsername("rec");
+        user.setEmail("rec@example.com");
+        Recruiter recruiter = new Recruiter();
+        recruiter.setId("rec1");
+        JobSummary j1 = new JobSummary();
+        j1.setId("j1");
+        JobSummary j2 = new JobSummary();
+        j2.setId("j2");
+        when(userService.findByUsername("rec")).thenReturn(Optional.of(user));
+        when(recruiterService.getRecruiterByEmail("rec@example.com")).thenReturn(Optional.of(recruiter));
+        when(jobService.findJobSummariesByRecruiter("rec1")).thenReturn(List.of(j1, j2));
+        Authentication auth = mock(Authentication.class);
+        when(auth.getName()).thenReturn("rec");
+        return auth;
+    }
 }
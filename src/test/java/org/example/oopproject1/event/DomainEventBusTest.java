@@ -0,0 +1,93 @@
+// src/test/java/org/example/oopproject1/event/DomainEventBusTest.java
+package org.example.oopproject1.event;
+
+import org.example.oopproject1.model.Job;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DomainEventBusTest {
+
+    private DomainEventBus eventBus;
+
+    @BeforeEach
+    void setup() {
+        eventBus = new DomainEventBus(new InJvmEventTransport());
+        eventBus.start();
+    }
+
+    @Test
+    void publish_deliversOnlyToMatchingType() {
+        List<JobChangedEvent> jobEvents = new ArrayList<>();
+        List<UserChangedEvent> userEvents = new ArrayList<>();
+        eventBus.subscribe(JobChangedEvent.class, jobEvents::add);
+        eventBus.subscribe(UserChangedEvent.class, userEvents::add);
+
+        eventBus.publish(JobChangedEvent.deleted("1"));
+
+        assertEquals(1, jobEvents.size());
+        assertEquals("1", jobEvents.get(0).entityId());
+        assertTrue(userEvents.isEmpty());
+    }
+
+    @Test
+    void publish_failingSubscriberDoesNotAffectOthers() {
+        List<DomainEvent> received = new ArrayList<>();
+        eventBus.subscribe(JobChangedEvent.class, e -> { throw new IllegalStateException("boom"); });
+        eventBus.subscribe(DomainEvent.class, received::add);
+
+        Job job = new Job();
+        job.setId("2");
+        assertDoesNotThrow(() -> eventBus.publish(JobChangedEvent.of(DomainEvent.ChangeType.CREATED, job)));
+
+        assertEquals(1, received.size());
+    }
+
+    @Test
+    void publish_beforeStart_isDeliveredInOrderOnStart() {
+        DomainEventBus unstarted = new DomainEventBus(new InJvmEventTransport());
+        List<String> received = new ArrayList<>();
+        unstarted.subscribe(DomainEvent.class, e -> received.add(e.entityId()));
+
+        unstarted.publish(JobChangedEvent.deleted("4"));
+        unstarted.publish(JobChangedEvent.deleted("5"));
+        assertTrue(received.isEmpty());
+
+        unstarted.start();
+        unstarted.publish(JobChangedEvent.deleted("6"));
+
+        assertEquals(List.of("4", "5", "6"), received);
+    }
+
+    @Test
+    void publish_tooManyBeforeStart_asksSubscribersToResync() {
+        DomainEventBus unstarted = new DomainEventBus(new InJvmEventTransport());
+        List<DomainEvent> received = new ArrayList<>();
+        int[] resyncs = {0};
+        unstarted.subscribe(DomainEvent.class, received::add);
+        unstarted.onResync(() -> resyncs[0]++);
+
+        for (int i = 0; i <= InJvmEventTransport.MAX_EARLY_EVENTS; i++) {
+            unstarted.publish(JobChangedEvent.deleted(String.valueOf(i)));
+        }
+        unstarted.start();
+
+        assertEquals(InJvmEventTransport.MAX_EARLY_EVENTS, received.size());
+        assertEquals(1, resyncs[0]);
+    }
+
+    @Test
+    void publish_afterStop_deliversNothing() {
+        List<DomainEvent> received = new ArrayList<>();
+        eventBus.subscribe(DomainEvent.class, received::add);
+
+        eventBus.stop();
+        eventBus.publish(JobChangedEvent.deleted("3"));
+
+        assertTrue(received.isEmpty());
+    }
+}
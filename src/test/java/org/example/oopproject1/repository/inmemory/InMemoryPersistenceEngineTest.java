@@ -0,0 +1,185 @@
+// src/test/java/org/example/oopproject1/repository/inmemory/InMemoryPersistenceEngineTest.java
+package org.example.oopproject1.repository.inmemory;
+
+import org.example.oopproject1.codec.ApplicationCodec;
+import org.example.oopproject1.codec.EntityCodecs;
+import org.example.oopproject1.codec.JobCodec;
+import org.example.oopproject1.model.Job;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InMemoryPersistenceEngineTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void recover_replaysLogAfterCrash() {
+        Store first = new Store();
+        first.engine.recover();
+        Job kept = first.jobs.save(job("Kept", "London"));
+        Job removed = first.jobs.save(job("Removed", "London"));
+        kept.setLocation("Paris");
+        first.jobs.save(kept);
+        first.jobs.deleteById(removed.getId());
+        // no close(): the first store is abandoned as if the process died
+
+        Store second = new Store();
+        InMemoryPersistenceEngine.Recovery recovery = second.engine.recover();
+
+        assertEquals(4, recovery.logRecords());
+        assertEquals(1, second.jobs.count());
+        assertEquals("Paris", second.jobs.findById(kept.getId()).orElseThrow().getLocation());
+        assertEquals(1, second.jobs.findByLocationAndIsActiveTrue("Paris").size());
+    }
+
+    @Test
+    void recover_loadsSnapshotAndLaterLogRecords() {
+        Store first = new Store();
+        first.engine.recover();
+        for (int i = 0; i < 10; i++) {
+            first.jobs.save(job("Job " + i, "London"));
+        }
+        first.engine.snapshot();
+        first.jobs.save(job("After snapshot", "Berlin"));
+
+        Store second = new Store();
+        InMemoryPersistenceEngine.Recovery recovery = second.engine.recover();
+
+        assertEquals(10, recovery.snapshotDocuments());
+        assertEquals(1, recovery.logRecords());
+        assertEquals(11, second.jobs.count());
+        assertEquals(1, second.jobs.findByLocationAndIsActiveTrue("Berlin").size());
+    }
+
+    @Test
+    void recover_appliesClearBeforeLaterWrites() {
+        Store first = new Store();
+        first.engine.recover();
+        first.jobs.save(job("Before", "London"));
+        first.jobs.deleteAll();
+        first.jobs.save(job("After", "London"));
+
+        Store second = new Store();
+        second.engine.recover();
+
+        assertEquals(List.of("After"), second.jobs.findAll().stream().map(Job::getTitle).toList());
+    }
+
+    @Test
+    void recover_stopsAtTornRecord() throws IOException {
+        Store first = new Store();
+        first.engine.recover();
+        first.jobs.save(job("Intact", "London"));
+        first.jobs.save(job("Torn", "London"));
+        corruptLastRecord();
+
+        Store second = new Store();
+        second.engine.recover();
+
+        assertEquals(List.of("Intact"), second.jobs.findAll().stream().map(Job::getTitle).toList());
+        second.jobs.save(job("Next", "London"));
+        assertEquals(2, new Store().engine.recover().logRecords());
+    }
+
+    @Test
+    void recover_setsAsideSegmentsPastTheRecoveredLog() throws IOException {
+        Store first = new Store();
+        first.engine.recover();
+        first.jobs.save(job("Recovered", "London"));
+        Path stale = dir.resolve(String.format("wal-%020d.log", 100));
+        Files.copy(latestSegment(), stale);
+
+        Store second = new Store();
+        second.engine.recover();
+        second.jobs.save(job("Next", "London"));
+
+        assertFalse(Files.exists(stale));
+        assertTrue(Files.exists(dir.resolve(stale.getFileName() + ".discarded")));
+        assertEquals(2, new Store().engine.recover().logRecords());
+    }
+
+    @Test
+    void close_writesSnapshotAndTruncatesLog() {
+        Store first = new Store();
+        first.engine.recover();
+        first.jobs.save(job("Job", "London"));
+        first.engine.close();
+
+        Store second = new Store();
+        InMemoryPersistenceEngine.Recovery recovery = second.engine.recover();
+
+        assertEquals(1, recovery.snapshotDocuments());
+        assertEquals(0, recovery.logRecords());
+        assertEquals(1, second.jobs.count());
+    }
+
+    private Path latestSegment() throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.filter(path -> path.getFileName().toString().startsWith("wal-")).sorted()
+                    .reduce((a, b) -> b).orElseThrow();
+        }
+    }
+
+    private void corruptLastRecord() throws IOException {
+        Path segment = latestSegment();
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer header = ByteBuffer.allocate(4);
+            long position = 0;
+            long last = 0;
+            while (true) {
+                header.clear();
+                channel.read(header, position);
+                int length = header.flip().getInt();
+                if (length == 0) {
+                    break;
+                }
+                last = position;
+                position += 8 + length;
+            }
+            // flip a payload byte so the checksum no longer matches
+            ByteBuffer value = ByteBuffer.allocate(1);
+            channel.read(value, position - 1);
+            channel.write(ByteBuffer.wrap(new byte[]{(byte) (value.get(0) ^ 0xFF)}), position - 1);
+            assertTrue(last > 0);
+        }
+    }
+
+    private Job job(String title, String location) {
+        Job job = new Job();
+        job.setTitle(title);
+        job.setCompany("Acme");
+        job.setDescription("Description");
+        job.setRequiredSkills(List.of("Java"));
+        job.setMinSalary(50000.0);
+        job.setLocation(location);
+        job.setEmploymentType("Full-time");
+        job.setPostDate(LocalDate.of(2024, 1, 1));
+        job.setActive(true);
+        return job;
+    }
+
+    private final class Store {
+        private final InMemoryJobRepository jobs = new InMemoryJobRepository();
+        private final InMemoryPersistenceEngine engine;
+
+        private Store() {
+            List<InMemoryMongoRepository<?>> repositories = List.of(jobs, new InMemoryApplicationRepository());
+            engine = new InMemoryPersistenceEngine(repositories, new InMemoryArchiveRepository(repositories),
+                    new EntityCodecs(List.of(new JobCodec(), new ApplicationCodec())), dir.toString(), "group",
+                    1 << 16, 2);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+// src/test/java/org/example/oopproject1/repository/inmemory/InMemoryProfileTest.java
+package org.example.oopproject1.repository.inmemory;
+
+import org.example.oopproject1.repository.JobRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "org.example.oopproject1.cli.enabled=false")
+@ActiveProfiles("inmemory")
+class InMemoryProfileTest {
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Test
+    void contextLoadsWithoutMongo() {
+        assertInstanceOf(InMemoryJobRepository.class, jobRepository);
+    }
+}
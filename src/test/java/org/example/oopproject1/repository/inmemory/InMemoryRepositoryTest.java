@@ -0,0 +1,269 @@
+// src/test/java/org/example/oopproject1/repository/inmemory/InMemoryRepositoryTest.java
+package org.example.oopproject1.repository.inmemory;
+
+import org.bson.types.ObjectId;
+import org.example.oopproject1.dto.JobSummary;
+import org.example.oopproject1.model.Application;
+import org.example.oopproject1.model.Job;
+import org.example.oopproject1.model.StatusChange;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Example;
+import org.springframework.data.domain.ExampleMatcher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.geo.Distance;
+import org.springframework.data.geo.GeoPage;
+import org.springframework.data.geo.Metrics;
+import org.springframework.data.geo.Point;
+import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InMemoryRepositoryTest {
+
+    private final InMemoryJobRepository jobRepository = new InMemoryJobRepository();
+    private final InMemoryApplicationRepository applicationRepository = new InMemoryApplicationRepository();
+
+    @Test
+    void save_assignsIdAndKeepsIndexesInStep() {
+        Job job = jobRepository.save(job("Engineer", "Acme", "London", true, 1));
+        assertNotNull(job.getId());
+        assertNotNull(job.getLastModified());
+
+        job.setCompany("Globex");
+        job.setActive(false);
+        jobRepository.save(job);
+
+        assertTrue(jobRepository.findByCompany("Acme").isEmpty());
+        assertEquals(1, jobRepository.findByCompany("Globex").size());
+        assertTrue(jobRepository.findByLocationAndIsActiveTrue("London").isEmpty());
+    }
+
+    @Test
+    void findById_returnsCopies() {
+        String id = jobRepository.save(job("Engineer", "Acme", "London", true, 1)).getId();
+
+        Job loaded = jobRepository.findById(id).orElseThrow();
+        loaded.setTitle("Changed without saving");
+        loaded.getRequiredSkills().add("Changed");
+
+        Job reloaded = jobRepository.findById(id).orElseThrow();
+        assertEquals("Engineer", reloaded.getTitle());
+        assertEquals(List.of("Java"), reloaded.getRequiredSkills());
+    }
+
+    @Test
+    void findByLocationAndIsActiveTrue_skipsInactiveJobs() {
+        jobRepository.save(job("Active", "Acme", "London", true, 1));
+        jobRepository.save(job("Closed", "Acme", "London", false, 2));
+        jobRepository.save(job("Elsewhere", "Acme", "Paris", true, 3));
+
+        List<Job> found = jobRepository.findByLocationAndIsActiveTrue("London");
+
+        assertEquals(1, found.size());
+        assertEquals("Active", found.get(0).getTitle());
+    }
+
+    @Test
+    void findAll_pagesInSortOrder() {
+        for (int day = 1; day <= 25; day++) {
+            jobRepository.save(job("Job " + day, "Acme", "London", true, day));
+        }
+
+        Page<Job> page = jobRepository.findAll(PageRequest.of(1, 10, Sort.by(Sort.Direction.DESC, "postDate")));
+
+        assertEquals(25, page.getTotalElements());
+        assertEquals(3, page.getTotalPages());
+        assertEquals(10, page.getContent().size());
+        assertEquals(LocalDate.of(2024, 1, 15), page.getContent().get(0).getPostDate());
+        assertEquals(LocalDate.of(2024, 1, 6), page.getContent().get(9).getPostDate());
+    }
+
+    @Test
+    void findByCompanyAndIdGreaterThan_returnsKeysetPagesInIdOrder() {
+        for (int day = 1; day <= 5; day++) {
+            jobRepository.save(job("Job " + day, "Acme", "London", true, day));
+        }
+        jobRepository.save(job("Other", "Globex", "London", true, 6));
+        List<String> ids = jobRepository.findByCompany("Acme").stream().map(Job::getId).sorted().toList();
+        PageRequest firstThree = PageRequest.of(0, 3, Sort.by("id"));
+
+        List<JobSummary> first = jobRepository.findByCompanyAndIdGreaterThan("Acme",
+                new ObjectId("000000000000000000000000"), firstThree, JobSummary.class);
+        List<JobSummary> second = jobRepository.findByCompanyAndIdGreaterThan("Acme",
+                new ObjectId(first.get(2).getId()), firstThree, JobSummary.class);
+
+        assertEquals(ids.subList(0, 3), first.stream().map(JobSummary::getId).toList());
+        assertEquals(ids.subList(3, 5), second.stream().map(JobSummary::getId).toList());
+    }
+
+    @Test
+    void searchByKeyword_matchesAnyFieldIgnoringCase() {
+        jobRepository.save(job("Backend Engineer", "Acme", "London", true, 1));
+        jobRepository.save(job("Designer", "Acme", "Remote", true, 2));
+
+        assertEquals(1, jobRepository.searchByKeyword("engineer").size());
+        assertEquals(1, jobRepository.searchByKeyword("REMOTE", PageRequest.of(0, 10)).getTotalElements());
+    }
+
+    @Test
+    void findByCompany_projectsToSummaries() {
+        jobRepository.save(job("Engineer", "Acme", "London", true, 1));
+        jobRepository.save(job("Designer", "Globex", "London", true, 2));
+
+        Page<JobSummary> page = jobRepository.findByCompany("Acme", PageRequest.of(0, 10), JobSummary.class);
+
+        assertEquals(1, page.getTotalElements());
+        JobSummary summary = page.getContent().get(0);
+        assertEquals("Engineer", summary.getTitle());
+        assertEquals("London", summary.getLocation());
+        assertTrue(summary.isActive());
+        assertNotNull(summary.getId());
+    }
+
+    @Test
+    void insert_duplicateJobAndEmail_throwsDuplicateKey() {
+        applicationRepository.insert(application("job1", "a@example.com"));
+
+        assertThrows(DuplicateKeyException.class,
+                () -> applicationRepository.insert(application("job1", "a@example.com")));
+        assertEquals(1, applicationRepository.count());
+        assertEquals(1, applicationRepository.findByJobIdIn(List.of("job1", "job2")).size());
+    }
+
+    @Test
+    void updateIfStatus_appliesOnlyInExpectedStatusAndKeepsLatestHistory() {
+        Application stored = application("job1", "a@example.com");
+        List<StatusChange> history = new ArrayList<>();
+        for (int i = 0; i < Application.STATUS_HISTORY_LIMIT; i++) {
+            history.add(new StatusChange(null, Application.ApplicationStatus.SUBMITTED, "old", Instant.EPOCH));
+        }
+        stored.setStatusHistory(history);
+        String id = applicationRepository.insert(stored).getId();
+        Application details = application("job1", "b@example.com");
+        details.setStatus(Application.ApplicationStatus.REVIEWING);
+        StatusChange change = new StatusChange(Application.ApplicationStatus.SUBMITTED,
+                Application.ApplicationStatus.REVIEWING, "r1", Instant.now());
+
+        assertTrue(applicationRepository.updateIfStatus(id, Application.ApplicationStatus.REJECTED, details, change)
+                .isEmpty());
+        Application updated = applicationRepository.updateIfStatus(id, Application.ApplicationStatus.SUBMITTED,
+                details, change).orElseThrow();
+
+        assertEquals("b@example.com", updated.getEmail());
+        assertEquals(Application.ApplicationStatus.REVIEWING, updated.getStatus());
+        assertEquals(Application.STATUS_HISTORY_LIMIT, updated.getStatusHistory().size());
+        assertEquals(change, updated.getStatusHistory().get(Application.STATUS_HISTORY_LIMIT - 1));
+        assertEquals(1, applicationRepository.findByEmail("b@example.com").size());
+        assertTrue(applicationRepository.findByEmail("a@example.com").isEmpty());
+    }
+
+    @Test
+    void archive_movesMatchingEntitiesAndIncludesThemInHistory() {
+        Application accepted = application("job1", "a@example.com");
+        accepted.setStatus(Application.ApplicationStatus.ACCEPTED);
+        applicationRepository.save(accepted);
+        applicationRepository.save(application("job1", "b@example.com"));
+        InMemoryArchiveRepository archiveRepository =
+                new InMemoryArchiveRepository(List.of(jobRepository, applicationRepository));
+
+        List<Application> moved = archiveRepository.moveToArchive(
+                new Query(Criteria.where("status").in(Application.ApplicationStatus.ACCEPTED)),
+                10, Application.class, Application::getId);
+
+        assertEquals(1, moved.size());
+        assertEquals(1, applicationRepository.findByJobId("job1").size());
+        assertTrue(archiveRepository.findArchivedById(accepted.getId(), Application.class).isPresent());
+        assertEquals(2, archiveRepository.findIncludingArchive(
+                Criteria.where("jobId").is("job1"), PageRequest.of(0, 10), Application.class).getTotalElements());
+    }
+
+    @Test
+    void queryByExample_matchesNonNullProbePropertiesWithMatcher() {
+        applicationRepository.save(application("job1", "Ann@Example.com"));
+        applicationRepository.save(application("job1", "bob@example.com"));
+        applicationRepository.save(application("job2", "ann@other.com"));
+        Application probe = new Application();
+        probe.setJobId("job1");
+        probe.setEmail("ann");
+
+        assertEquals(2, applicationRepository.count(Example.of(probe, ExampleMatcher.matching().withIgnorePaths("email"))));
+        Example<Application> annAtJob1 = Example.of(probe, ExampleMatcher.matching()
+                .withMatcher("email", match -> match.startsWith().ignoreCase()));
+        assertEquals("Ann@Example.com", applicationRepository.findOne(annAtJob1).orElseThrow().getEmail());
+        assertEquals(3, applicationRepository.findAll(Example.of(probe, ExampleMatcher.matchingAny()
+                .withMatcher("email", match -> match.startsWith()))).size());
+        assertFalse(applicationRepository.exists(Example.of(probe)));
+        assertEquals(List.of("Ann@Example.com", "bob@example.com"), applicationRepository.findBy(
+                Example.of(probe, ExampleMatcher.matching().withIgnorePaths("email")),
+                query -> query.sortBy(Sort.by("email")).stream().map(Application::getEmail).toList()));
+    }
+
+    @Test
+    void save_geocodesLocation() {
+        Job job = jobRepository.save(job("Engineer", "Acme", "NYC", true, 1));
+        assertEquals(40.7128, job.getCoordinates().getY());
+
+        job.setLocation("Remote");
+        assertNull(jobRepository.save(job).getCoordinates());
+        assertNull(jobRepository.findById(job.getId()).orElseThrow().getCoordinates());
+    }
+
+    @Test
+    void findByCoordinatesNear_sortsActiveJobsByDistanceAndPages() {
+        jobRepository.save(job("Downtown", "Acme", "SF", true, 1));
+        jobRepository.save(job("Closed", "Acme", "San Francisco", false, 2));
+        jobRepository.save(job("Peninsula", "Acme", "Palo Alto", true, 3));
+        jobRepository.save(job("East Bay", "Acme", "Oakland", true, 4));
+        jobRepository.save(job("Too far", "Acme", "San Jose", true, 5));
+        jobRepository.save(job("Anywhere", "Acme", "Remote", true, 6));
+        Point sanFrancisco = new GeoJsonPoint(-122.4194, 37.7749);
+
+        GeoPage<JobSummary> first = jobRepository.findByCoordinatesNearAndIsActiveTrue(sanFrancisco,
+                new Distance(50, Metrics.KILOMETERS), PageRequest.of(0, 2));
+        GeoPage<JobSummary> second = jobRepository.findByCoordinatesNearAndIsActiveTrue(sanFrancisco,
+                new Distance(50, Metrics.KILOMETERS), PageRequest.of(1, 2));
+
+        assertEquals(3, first.getTotalElements());
+        assertEquals(List.of("Downtown", "East Bay"),
+                first.getContent().stream().map(result -> result.getContent().getTitle()).toList());
+        assertEquals(0, first.getContent().get(0).getDistance().getValue(), 0.001);
+        assertEquals(List.of("Peninsula"),
+                second.getContent().stream().map(result -> result.getContent().getTitle()).toList());
+        assertEquals(44.3, second.getContent().get(0).getDistance().getValue(), 0.1);
+    }
+
+    private Job job(String title, String company, String location, boolean active, int day) {
+        Job job = new Job();
+        job.setTitle(title);
+        job.setCompany(company);
+        job.setDescription("Description");
+        job.setRequiredSkills(new ArrayList<>(List.of("Java")));
+        job.setMinSalary(50000.0);
+        job.setLocation(location);
+        job.setEmploymentType("Full-time");
+        job.setPostDate(LocalDate.of(2024, 1, day));
+        job.setActive(active);
+        return job;
+    }
+
+    private Application application(String jobId, String email) {
+        Application application = new Application();
+        application.setJobId(jobId);
+        application.setCandidateName("Candidate");
+        application.setEmail(email);
+        application.setPhone("555-0100");
+        application.setApplicationDate(LocalDate.of(2024, 1, 1));
+        application.setStatus(Application.ApplicationStatus.SUBMITTED);
+        return application;
+    }
+}
@@ -0,0 +1,224 @@
+// src/test/java/org/example/oopproject1/routing/ReadRoutingTest.java
+package org.example.oopproject1.routing;
+
+import com.mongodb.ReadPreference;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoDatabase;
+import jakarta.servlet.http.Cookie;
+import org.bson.Document;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Routes calls against a replica-set stand-in: a primary and a secondary
+ * collection that record which member served each operation.
+ */
+class ReadRoutingTest {
+
+    private static final ReadPreference SECONDARY =
+            ReadPreference.secondaryPreferred(90, TimeUnit.SECONDS);
+
+    private final List<String> served = new ArrayList<>();
+    private MongoTemplate template;
+    private BrowsingService service;
+
+    @BeforeEach
+    void setUp() {
+        MongoCollection<Document> primary = member("primary", ReadPreference.primary());
+        MongoCollection<Document> secondary = member("secondary", SECONDARY);
+        when(primary.withReadPreference(any())).thenAnswer(invocation ->
+                invocation.getArgument(0).equals(SECONDARY) ? secondary : primary);
+        when(secondary.withReadPreference(any())).thenAnswer(invocation ->
+                invocation.getArgument(0).equals(SECONDARY) ? secondary : primary);
+
+        MongoDatabase database = mock(MongoDatabase.class);
+        when(database.getCollection(eq("jobs"), eq(Document.class))).thenReturn(primary);
+        MongoDatabaseFactory factory = mock(MongoDatabaseFactory.class);
+        when(factory.getMongoDatabase()).thenReturn(database);
+        template = new RoutingMongoTemplate(factory,
+                new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, new MongoMappingContext()));
+
+        BrowsingService target = new BrowsingService(template);
+        ProxyFactory proxyFactory = new ProxyFactory(target);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAdvisor(ReadRoutingConfig.readRoutingAdvisor(Duration.ofSeconds(90)));
+        service = (BrowsingService) proxyFactory.getProxy();
+        target.self = service;
+        served.clear();
+    }
+
+    @AfterEach
+    void clearRoute() {
+        ReadRoute.set(null);
+    }
+
+    @Test
+    void reads_goToSecondaryWithBoundedStaleness() {
+        assertEquals(SECONDARY, service.findRoute());
+
+        service.countJobs();
+
+        assertEquals(List.of("secondary"), served);
+        assertNull(ReadRoute.current());
+    }
+
+    @Test
+    void writes_andTheReadsTheyMake_stayOnPrimary() {
+        assertEquals(ReadPreference.primary(), service.updateAndReread());
+        assertEquals(List.of("primary"), served);
+    }
+
+    @Test
+    void unroutedCalls_readWithClientDefault() {
+        template.count(new Query(), "jobs");
+
+        assertEquals(List.of("primary"), served);
+    }
+
+    @Test
+    void interceptor_pinsWritesAndTheWritersNextReads() {
+        ReadRoutingInterceptor interceptor = new ReadRoutingInterceptor(new RecentWriters(Duration.ofMinutes(5)));
+
+        MockHttpServletRequest post = request("POST", "alice");
+        interceptor.preHandle(post, new MockHttpServletResponse(), null);
+        assertEquals(ReadPreference.primary(), service.findRoute());
+        interceptor.afterCompletion(post, new MockHttpServletResponse(), null, null);
+        assertNull(ReadRoute.current());
+
+        MockHttpServletRequest aliceGet = request("GET", "alice");
+        interceptor.preHandle(aliceGet, new MockHttpServletResponse(), null);
+        assertEquals(ReadPreference.primary(), service.findRoute());
+        interceptor.afterCompletion(aliceGet, new MockHttpServletResponse(), null, null);
+
+        MockHttpServletRequest bobGet = request("GET", "bob");
+        interceptor.preHandle(bobGet, new MockHttpServletResponse(), null);
+        assertEquals(SECONDARY, service.findRoute());
+        interceptor.afterCompletion(bobGet, new MockHttpServletResponse(), null, null);
+    }
+
+    @Test
+    void interceptor_pinsReadsOnAnotherInstanceThroughLastWriteCookie() {
+        ReadRoutingInterceptor writingNode = new ReadRoutingInterceptor(new RecentWriters(Duration.ofMinutes(5)));
+        ReadRoutingInterceptor readingNode = new ReadRoutingInterceptor(new RecentWriters(Duration.ofMinutes(5)));
+
+        MockHttpServletRequest post = request("POST", "alice");
+        MockHttpServletResponse written = new MockHttpServletResponse();
+        writingNode.preHandle(post, written, null);
+        writingNode.afterCompletion(post, written, null, null);
+        Cookie lastWrite = written.getCookie(ReadRoutingInterceptor.LAST_WRITE_COOKIE);
+        assertNotNull(lastWrite);
+
+        MockHttpServletRequest get = request("GET", "alice");
+        get.setCookies(lastWrite);
+        readingNode.preHandle(get, new MockHttpServletResponse(), null);
+        assertEquals(ReadPreference.primary(), service.findRoute());
+        readingNode.afterCompletion(get, new MockHttpServletResponse(), null, null);
+
+        MockHttpServletRequest stale = request("GET", "alice");
+        stale.setCookies(new Cookie(ReadRoutingInterceptor.LAST_WRITE_COOKIE,
+                Long.toString(System.currentTimeMillis() - Duration.ofMinutes(6).toMillis())));
+        readingNode.preHandle(stale, new MockHttpServletResponse(), null);
+        assertEquals(SECONDARY, service.findRoute());
+        readingNode.afterCompletion(stale, new MockHttpServletResponse(), null, null);
+    }
+
+    @Test
+    void recentWriters_forgetAfterWindow() {
+        RecentWriters writers = new RecentWriters(Duration.ZERO);
+
+        writers.wrote("alice");
+
+        assertFalse(writers.isPinned("alice"));
+        assertFalse(writers.isPinned("bob"));
+    }
+
+    @Test
+    void methodAnnotation_routesSingleMethod() throws NoSuchMethodException {
+        assertTrue(ReadRoutingAdvice.isRead(Reports.class.getMethod("weekly"), Reports.class));
+        assertFalse(ReadRoutingAdvice.isRead(Reports.class.getMethod("getLive"), Reports.class));
+        assertFalse(ReadRoutingAdvice.isRead(BrowsingService.class.getMethod("updateAndReread"),
+                BrowsingService.class));
+    }
+
+    @Test
+    void staleness_belowServerMinimum_isRejected() {
+        assertEquals(SECONDARY, ReadRoutingConfig.secondaryPreferred(Duration.ofSeconds(90)));
+        assertThrows(IllegalArgumentException.class,
+                () -> ReadRoutingConfig.secondaryPreferred(Duration.ofSeconds(30)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private MongoCollection<Document> member(String name, ReadPreference readPreference) {
+        MongoCollection<Document> collection = mock(MongoCollection.class, invocation -> {
+            if (invocation.getMethod().getName().startsWith("count")) {
+                served.add(name);
+            }
+            return invocation.getMethod().getReturnType() == long.class ? 0L : null;
+        });
+        when(collection.getReadPreference()).thenReturn(readPreference);
+        return collection;
+    }
+
+    private static MockHttpServletRequest request(String method, String user) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, "/api/jobs");
+        request.setUserPrincipal(() -> user);
+        return request;
+    }
+
+    @SecondaryReads
+    static class BrowsingService {
+
+        final MongoTemplate template;
+        BrowsingService self;
+
+        BrowsingService(MongoTemplate template) {
+            this.template = template;
+        }
+
+        public ReadPreference findRoute() {
+            return ReadRoute.current();
+        }
+
+        public long countJobs() {
+            return template.count(new Query(), "jobs");
+        }
+
+        public ReadPreference updateAndReread() {
+            self.countJobs();
+            return self.findRoute();
+        }
+    }
+
+    static class Reports {
+
+        @SecondaryReads
+        public String weekly() {
+            return "";
+        }
+
+        public String getLive() {
+            return "";
+        }
+    }
+}
@@ -0,0 +1,62 @@
+// src/test/java/org/example/oopproject1/search/FuzzyIndexTest.java
+package org.example.oopproject1.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FuzzyIndexTest {
+
+    @Test
+    void search_toleratesTyposByWordLength() {
+        FuzzyIndex index = new FuzzyIndex();
+        index.put("1", List.of("Backend Engineer", "Java", "JavaScript"));
+        index.put("2", List.of("Frontend Developer", "JavaScript", "CSS"));
+        index.put("3", List.of("Data Engineer", "Python"));
+
+        assertEquals(List.of("1", "3"), index.search("enginer", 10));
+        assertEquals(List.of("1", "2"), index.search("Javascrpt", 10));
+        assertEquals(List.of("1"), index.search("jaca", 10));
+        assertEquals(List.of(), index.search("cs", 10));
+        assertEquals(List.of("2"), index.search("css", 10));
+    }
+
+    @Test
+    void search_requiresEveryWordAndRanksByDistance() {
+        FuzzyIndex index = new FuzzyIndex();
+        index.put("1", List.of("Senior Engineer"));
+        index.put("2", List.of("Senior Enginer"));
+        index.put("3", List.of("Junior Engineer"));
+
+        assertEquals(List.of("2", "1"), index.search("senior enginer", 10));
+        assertEquals(List.of("2"), index.search("senior enginer", 1));
+    }
+
+    @Test
+    void put_replacesAndRemoveRetracts() {
+        FuzzyIndex index = new FuzzyIndex();
+        index.put("1", Arrays.asList("Kotlin Developer", null));
+        index.put("1", List.of("Golang Developer"));
+
+        assertEquals(List.of(), index.search("kotlin", 10));
+        assertEquals(List.of("1"), index.search("golang", 10));
+        assertEquals(2, index.terms());
+
+        index.remove("1");
+
+        assertEquals(0, index.documents());
+        assertEquals(0, index.terms());
+        assertEquals(0, index.postings());
+    }
+
+    @Test
+    void distance_isBoundedLevenshtein() {
+        assertEquals(1, FuzzyIndex.distance("javascrpt", "javascript", 2));
+        assertEquals(2, FuzzyIndex.distance("enigneer", "engineer", 2));
+        assertEquals(3, FuzzyIndex.distance("python", "kotlin", 2));
+        assertEquals(List.of("c++", "c#", "node", "js"), FuzzyIndex.tokenize("C++, C# / Node.js"));
+    }
+}
@@ -0,0 +1,65 @@
+// src/test/java/org/example/oopproject1/search/GazetteerTest.java
+package org.example.oopproject1.search;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GazetteerTest {
+
+    private final Gazetteer gazetteer = new Gazetteer(new ClassPathResource("gazetteer/cities.csv"));
+
+    @Test
+    void locate_matchesNamesAndAliasesLoosely() {
+        GeoJsonPoint newYork = gazetteer.locate("New York").orElseThrow();
+
+        assertEquals(-74.0060, newYork.getX());
+        assertEquals(40.7128, newYork.getY());
+        assertEquals(Optional.of(newYork), gazetteer.locate("NYC"));
+        assertEquals(Optional.of(newYork), gazetteer.locate("  new   york city "));
+        assertEquals(gazetteer.locate("Zurich"), gazetteer.locate("ZÜRICH"));
+        assertEquals(gazetteer.locate("Sao Paulo"), gazetteer.locate("São Paulo"));
+    }
+
+    @Test
+    void locate_fallsBackToTextBeforeTheFirstComma() {
+        assertEquals(gazetteer.locate("London"), gazetteer.locate("London, UK"));
+        assertEquals(gazetteer.locate("Cambridge MA"), gazetteer.locate("Cambridge, Massachusetts"));
+        assertNotEquals(gazetteer.locate("Cambridge"), gazetteer.locate("Cambridge, Massachusetts"));
+    }
+
+    @Test
+    void locate_returnsEmptyForUnknownPlaces() {
+        assertEquals(Optional.empty(), gazetteer.locate("Remote"));
+        assertEquals(Optional.empty(), gazetteer.locate(null));
+    }
+
+    @Test
+    void constructor_keepsFirstEntryAndRejectsMalformedLines() {
+        Gazetteer custom = new Gazetteer(resource("# comment\nSpringfield;Capital;39.8;-89.6\nSpringfield;;42.1;-72.6\n"));
+
+        assertEquals(2, custom.size());
+        assertEquals(39.8, custom.locate("springfield").orElseThrow().getY());
+        assertThrows(IllegalArgumentException.class, () -> new Gazetteer(resource("Springfield;39.8;-89.6\n")));
+    }
+
+    @Test
+    void distanceKm_usesGreatCircle() {
+        double londonParis = Gazetteer.distanceKm(gazetteer.locate("London").orElseThrow(),
+                gazetteer.locate("Paris").orElseThrow());
+
+        assertEquals(344, londonParis, 2);
+        assertEquals(0, Gazetteer.distanceKm(new GeoJsonPoint(10, 20), new GeoJsonPoint(10, 20)));
+        assertEquals(20015, Gazetteer.distanceKm(new GeoJsonPoint(0, 0), new GeoJsonPoint(180, 0)), 1);
+    }
+
+    private static ByteArrayResource resource(String content) {
+        return new ByteArrayResource(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,88 @@
+// src/test/java/org/example/oopproject1/search/SuggestionTrieTest.java
+package org.example.oopproject1.search;
+
+import org.example.oopproject1.search.SuggestionTrie.Match;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SuggestionTrieTest {
+
+    @Test
+    void suggest_returnsHeaviestMatchesFirst() {
+        SuggestionTrie trie = new SuggestionTrie(10);
+        trie.add("Java", 5);
+        trie.add("JavaScript", 8);
+        trie.add("Jakarta EE", 1);
+        trie.add("Kotlin", 9);
+
+        assertEquals(List.of(new Match("JavaScript", 8), new Match("Java", 5), new Match("Jakarta EE", 1)),
+                trie.suggest("ja", 10));
+        assertEquals(List.of(new Match("JavaScript", 8)), trie.suggest("javas", 10));
+        assertEquals(List.of(new Match("JavaScript", 8)), trie.suggest("JA", 1));
+        assertEquals(List.of(), trie.suggest("jav4", 10));
+    }
+
+    @Test
+    void suggest_matchesFromEachWordIgnoringCaseAndSpacing() {
+        SuggestionTrie trie = new SuggestionTrie(10);
+        trie.add("Senior  Backend Engineer", 2);
+        trie.add("Engineering Manager", 1);
+
+        assertEquals(List.of(new Match("Senior  Backend Engineer", 2), new Match("Engineering Manager", 1)),
+                trie.suggest("eng", 10));
+        assertEquals(List.of(new Match("Senior  Backend Engineer", 2)), trie.suggest("backend e", 10));
+        assertEquals(List.of(new Match("Senior  Backend Engineer", 2)), trie.suggest("senior backend", 10));
+    }
+
+    @Test
+    void add_negativeDeltaReordersAndRemoves() {
+        SuggestionTrie trie = new SuggestionTrie(10);
+        trie.add("London", 3);
+        trie.add("Lisbon", 2);
+
+        trie.add("London", -2);
+        assertEquals(List.of(new Match("Lisbon", 2), new Match("London", 1)), trie.suggest("l", 10));
+
+        trie.add("London", -1);
+        trie.add("Lyon", -1);
+        assertEquals(List.of(new Match("Lisbon", 2)), trie.suggest("l", 10));
+        assertEquals(List.of(), trie.suggest("lo", 10));
+        assertEquals(1, trie.size());
+    }
+
+    @Test
+    void suggest_agreesWithBruteForceUnderRandomUpdates() {
+        SuggestionTrie trie = new SuggestionTrie(5);
+        Map<String, Long> weights = new HashMap<>();
+        String[] words = {"a", "ab", "abc", "abd", "b", "ba", "bad", "abc d", "d ab"};
+        Random random = new Random(42);
+        for (int i = 0; i < 2000; i++) {
+            String word = words[random.nextInt(words.length)];
+            long delta = random.nextInt(5) - 2;
+            long weight = weights.getOrDefault(word, 0L);
+            if (weight + delta <= 0) {
+                delta = weight == 0 ? Math.max(delta, 0) : -weight;
+            }
+            trie.add(word, delta);
+            weights.merge(word, delta, Long::sum);
+            weights.values().removeIf(w -> w <= 0);
+
+            for (String prefix : new String[]{"", "a", "ab", "abc", "b", "d"}) {
+                List<Match> expected = weights.entrySet().stream()
+                        .filter(e -> (" " + e.getKey()).contains(" " + prefix))
+                        .sorted(Map.Entry.<String, Long>comparingByValue().reversed()
+                                .thenComparing(Map.Entry.comparingByKey()))
+                        .limit(5)
+                        .map(e -> new Match(e.getKey(), e.getValue()))
+                        .toList();
+                assertEquals(expected, trie.suggest(prefix, 5), "prefix '" + prefix + "' after step " + i);
+            }
+        }
+    }
+}
@@ -0,0 +1,127 @@
+// src/test/java/org/example/oopproject1/service/ApplicationDeduplicationServiceTest.java
+package org.example.oopproject1.service;
+
+import org.bson.Document;
+import org.example.oopproject1.event.ApplicationChangedEvent;
+import org.example.oopproject1.event.DomainEventBus;
+import org.example.oopproject1.model.Application;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationResults;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ApplicationDeduplicationServiceTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private DomainEventBus eventBus;
+
+    @Mock
+    private FunnelRollupService funnelRollupService;
+
+    @Mock
+    private IndexOperations indexOps;
+
+    @BeforeEach
+    void setup() {
+        when(mongoTemplate.indexOps(Application.class)).thenReturn(indexOps);
+    }
+
+    @Test
+    void ensureUniqueIndex_withoutDuplicates_buildsIndex() {
+        stubDuplicates(List.of());
+
+        service(false).ensureUniqueIndex();
+
+        assertEquals(ApplicationDeduplicationService.INDEX_NAME, builtIndex().getIndexOptions().get("name"));
+        assertEquals(true, builtIndex().getIndexOptions().get("unique"));
+    }
+
+    @Test
+    void ensureUniqueIndex_withDuplicates_reportsAndSkipsIndex() {
+        stubDuplicates(List.of(group("a1", "a2")));
+
+        service(false).ensureUniqueIndex();
+
+        verify(indexOps, never()).ensureIndex(any());
+        verify(mongoTemplate, never()).findAllAndRemove(any(Query.class), eq(Application.class));
+    }
+
+    @Test
+    void ensureUniqueIndex_indexPresent_doesNothing() {
+        IndexInfo index = mock(IndexInfo.class);
+        when(index.getName()).thenReturn(ApplicationDeduplicationService.INDEX_NAME);
+        when(indexOps.getIndexInfo()).thenReturn(List.of(index));
+
+        service(true).ensureUniqueIndex();
+
+        verify(mongoTemplate, never()).aggregate(any(Aggregation.class), eq(Application.class), eq(Document.class));
+        verify(indexOps, never()).ensureIndex(any());
+    }
+
+    @Test
+    void deduplicate_keepsEarliestAndRemovesTheRest() {
+        stubDuplicates(List.of(group("a1", "a2", "a3")));
+        Application second = application("a2");
+        Application third = application("a3");
+        ArgumentCaptor<Query> removed = ArgumentCaptor.forClass(Query.class);
+        when(mongoTemplate.findAllAndRemove(removed.capture(), eq(Application.class)))
+                .thenReturn(List.of(second, third));
+
+        long count = service(false).deduplicate();
+
+        assertEquals(2, count);
+        assertEquals(List.of("a2", "a3"),
+                removed.getValue().getQueryObject().get("_id", Document.class).getList("$in", Object.class));
+        verify(funnelRollupService).recordDeleted(second);
+        verify(funnelRollupService).recordDeleted(third);
+        verify(eventBus, times(2)).publish(any(ApplicationChangedEvent.class));
+        assertEquals(ApplicationDeduplicationService.INDEX_NAME, builtIndex().getIndexOptions().get("name"));
+    }
+
+    private ApplicationDeduplicationService service(boolean dedupeOnStartup) {
+        return new ApplicationDeduplicationService(mongoTemplate, eventBus, funnelRollupService, dedupeOnStartup);
+    }
+
+    private void stubDuplicates(List<Document> groups) {
+        when(mongoTemplate.aggregate(any(Aggregation.class), eq(Application.class), eq(Document.class)))
+                .thenReturn(new AggregationResults<>(groups, new Document()));
+    }
+
+    private IndexDefinition builtIndex() {
+        ArgumentCaptor<IndexDefinition> index = ArgumentCaptor.forClass(IndexDefinition.class);
+        verify(indexOps).ensureIndex(index.capture());
+        return index.getValue();
+    }
+
+    private static Document group(String... ids) {
+        return new Document("_id", new Document("jobId", "j1").append("email", "a@example.com"))
+                .append("ids", List.of(ids)).append("count", ids.length);
+    }
+
+    private static Application application(String id) {
+        Application application = new Application();
+        application.setId(id);
+        application.setJobId("j1");
+        return application;
+    }
+}
@@ -1,23 +1,36 @@
 // src/test/java/org/example/oopproject1/service/ApplicationServiceTest.java
 package org.example.oopproject1.service;
 
+import org.example.oopproject1.dto.ApplicationStatusHistory;
+import org.example.oopproject1.dto.ApplicationTransition;
+import org.example.oopproject1.event.ApplicationChangedEvent;
+import org.example.oopproject1.event.DomainEventBus;
+import org.example.oopproject1.exception.ConflictException;
 import org.example.oopproject1.model.Application;
+import org.example.oopproject1.model.StatusChange;
 import org.example.oopproject1.repository.ApplicationRepository;
+import org.example.oopproject1.repository.ArchiveRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Range;
 
+import java.time.Instant;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -26,6 +39,18 @@ class ApplicationServiceTest {
     @Mock
     private ApplicationRepository applicationRepository;
 
+    @Mock
+    private DomainEventBus eventBus;
+
+    @Mock
+    private IdempotencyService idempotencyService;
+
+    @Mock
+    private ArchiveRepository archiveRepository;
+
+    @Mock
+    private FunnelRollupService funnelRollupService;
+
     @InjectMocks
     private ApplicationService applicationService;
 
@@ -73,4 +98,178 @@ class ApplicationServiceTest {
         assertThrows(RuntimeException.class,
                 () -> applicationService.getApplicationById("2"));
     }
+
+    @Test
+    void getApplicationById_withHistory_fallsBackToArchive() {
+        when(applicationRepository.findById("1")).thenReturn(Optional.empty());
+        when(archiveRepository.findArchivedById("1", Application.class)).thenReturn(Optional.of(sampleApp));
+
+        Application result = applicationService.getApplicationById("1", true);
+
+        assertEquals("1", result.getId());
+    }
+
+    @Test
+    void getApplicationsByEmail_withoutHistory_skipsArchive() {
+        when(applicationRepository.findByEmail("a@b.com")).thenReturn(List.of(sampleApp));
+
+        List<Application> result = applicationService.getApplicationsByEmail("a@b.com", false);
+
+        assertEquals(1, result.size());
+        verifyNoInteractions(archiveRepository);
+    }
+
+    @Test
+    void updateApplication_publishesStatusChange() {
+        sampleApp.setStatus(Application.ApplicationStatus.SUBMITTED);
+        Application details = new Application();
+        details.setStatus(Application.ApplicationStatus.REVIEWING);
+        Application updated = new Application();
+        updated.setId("1");
+        updated.setStatus(Application.ApplicationStatus.REVIEWING);
+        when(applicationRepository.findById("1")).thenReturn(Optional.of(sampleApp));
+        when(applicationRepository.updateIfStatus(eq("1"), eq(Application.ApplicationStatus.SUBMITTED), eq(details),
+                any())).thenReturn(Optional.of(updated));
+
+        applicationService.updateApplication("1", details);
+
+        verify(eventBus).publish(argThat(e ->
+                e instanceof ApplicationChangedEvent event
+                        && event.previousStatus() == Application.ApplicationStatus.SUBMITTED
+                        && event.isStatusTransition()));
+        verify(funnelRollupService).recordStatusChange(updated, Application.ApplicationStatus.SUBMITTED);
+        ArgumentCaptor<StatusChange> change = ArgumentCaptor.forClass(StatusChange.class);
+        verify(applicationRepository).updateIfStatus(any(), any(), any(), change.capture());
+        assertEquals(Application.ApplicationStatus.SUBMITTED, change.getValue().getFrom());
+        assertEquals(Application.ApplicationStatus.REVIEWING, change.getValue().getTo());
+        assertEquals("system", change.getValue().getActor());
+        verify(applicationRepository, never()).save(any());
+    }
+
+    @Test
+    void updateApplication_sameStatus_isNotStatusTransition() {
+        sampleApp.setStatus(Application.ApplicationStatus.REVIEWING);
+        Application details = new Application();
+        details.setStatus(Application.ApplicationStatus.REVIEWING);
+        when(applicationRepository.findById("1")).thenReturn(Optional.of(sampleApp));
+        when(applicationRepository.updateIfStatus("1", Application.ApplicationStatus.REVIEWING, details, null))
+                .thenReturn(Optional.of(sampleApp));
+
+        applicationService.updateApplication("1", details);
+
+        verify(eventBus).publish(argThat(e ->
+                e instanceof ApplicationChangedEvent event && !event.isStatusTransition()));
+    }
+
+    @Test
+    void updateApplication_statusChangedConcurrently_retriesFromNewStatus() {
+        Application submitted = new Application();
+        submitted.setId("1");
+        submitted.setStatus(Application.ApplicationStatus.SUBMITTED);
+        sampleApp.setStatus(Application.ApplicationStatus.INTERVIEWED);
+        Application details = new Application();
+        details.setStatus(Application.ApplicationStatus.REJECTED);
+        when(applicationRepository.findById("1")).thenReturn(Optional.of(submitted)).thenReturn(Optional.of(sampleApp));
+        when(applicationRepository.updateIfStatus(eq("1"), eq(Application.ApplicationStatus.SUBMITTED), eq(details),
+                any())).thenReturn(Optional.empty());
+        when(applicationRepository.updateIfStatus(eq("1"), eq(Application.ApplicationStatus.INTERVIEWED), eq(details),
+                argThat(change -> change.getFrom() == Application.ApplicationStatus.INTERVIEWED)))
+                .thenReturn(Optional.of(sampleApp));
+
+        applicationService.updateApplication("1", details);
+
+        verify(funnelRollupService).recordStatusChange(sampleApp, Application.ApplicationStatus.INTERVIEWED);
+        verify(eventBus).publish(argThat(e -> e instanceof ApplicationChangedEvent event
+                && event.previousStatus() == Application.ApplicationStatus.INTERVIEWED));
+    }
+
+    @Test
+    void updateApplication_emailTakenForJob_throwsConflict() {
+        sampleApp.setStatus(Application.ApplicationStatus.SUBMITTED);
+        Application details = new Application();
+        details.setEmail("taken@example.com");
+        details.setStatus(Application.ApplicationStatus.SUBMITTED);
+        when(applicationRepository.findById("1")).thenReturn(Optional.of(sampleApp));
+        when(applicationRepository.updateIfStatus(any(), any(), any(), any()))
+                .thenThrow(new DuplicateKeyException("dup"));
+
+        assertThrows(ConflictException.class, () -> applicationService.updateApplication("1", details));
+        verifyNoInteractions(eventBus, funnelRollupService);
+    }
+
+    @Test
+    void updateApplication_statusKeepsChanging_throwsConflict() {
+        sampleApp.setStatus(Application.ApplicationStatus.SUBMITTED);
+        when(applicationRepository.findById("1")).thenReturn(Optional.of(sampleApp));
+        when(applicationRepository.updateIfStatus(any(), any(), any(), any())).thenReturn(Optional.empty());
+
+        assertThrows(ConflictException.class, () -> applicationService.updateApplication("1", new Application()));
+        verify(applicationRepository, times(3)).updateIfStatus(any(), any(), any(), any());
+        verifyNoInteractions(eventBus, funnelRollupService);
+    }
+
+    @Test
+    void createApplication_startsStatusHistoryIgnoringSubmittedOne() {
+        sampleApp.setStatusHistory(List.of(new StatusChange(null, Application.ApplicationStatus.ACCEPTED, "me", null)));
+        when(applicationRepository.insert(sampleApp)).thenReturn(sampleApp);
+
+        applicationService.createApplication(sampleApp);
+
+        assertEquals(1, sampleApp.getStatusHistory().size());
+        assertNull(sampleApp.getStatusHistory().get(0).getFrom());
+        assertEquals(Application.ApplicationStatus.SUBMITTED, sampleApp.getStatusHistory().get(0).getTo());
+    }
+
+    @Test
+    void getStatusChanges_flattensChangesInRangeOldestFirst() {
+        Instant from = Instant.parse("2024-05-01T00:00:00Z");
+        Instant to = Instant.parse("2024-05-02T00:00:00Z");
+        ApplicationStatusHistory a = new ApplicationStatusHistory("a", "j1", List.of(
+                new StatusChange(null, Application.ApplicationStatus.SUBMITTED, "x", from.minusSeconds(60)),
+                new StatusChange(Application.ApplicationStatus.SUBMITTED, Application.ApplicationStatus.REVIEWING,
+                        "rec", from.plusSeconds(3600))));
+        ApplicationStatusHistory b = new ApplicationStatusHistory("b", "j2", List.of(
+                new StatusChange(null, Application.ApplicationStatus.SUBMITTED, "x", from),
+                new StatusChange(Application.ApplicationStatus.SUBMITTED, Application.ApplicationStatus.REJECTED,
+                        "rec", to)));
+        when(applicationRepository.findByJobIdInAndStatusHistoryAtBetween(List.of("j1", "j2"),
+                Range.rightOpen(from, to), ApplicationStatusHistory.class)).thenReturn(List.of(a, b));
+
+        List<ApplicationTransition> changes = applicationService.getStatusChanges(List.of("j1", "j2"), from, to);
+
+        assertEquals(List.of("b", "a"), changes.stream().map(ApplicationTransition::getApplicationId).toList());
+        assertEquals(Application.ApplicationStatus.REVIEWING, changes.get(1).getTo());
+    }
+
+    @Test
+    void createApplication_duplicateJobAndEmail_throwsConflict() {
+        when(applicationRepository.insert(sampleApp)).thenThrow(new DuplicateKeyException("dup"));
+
+        assertThrows(ConflictException.class, () -> applicationService.createApplication(sampleApp));
+        verifyNoInteractions(eventBus);
+    }
+
+    @Test
+    void createApplication_replayedKey_returnsOriginalWithoutInsert() {
+        sampleApp.setJobId("job1");
+        sampleApp.setEmail("a@b.com");
+        when(idempotencyService.reserve("key1", "job1|a@b.com")).thenReturn(Optional.of("1"));
+        when(applicationRepository.findById("1")).thenReturn(Optional.of(sampleApp));
+
+        Application result = applicationService.createApplication(new Application(null, "job1", "A",
+                "a@b.com", "1", null, null, null, null, null, null), "key1");
+
+        assertEquals("1", result.getId());
+        verify(applicationRepository, never()).insert(any(Application.class));
+        verifyNoInteractions(eventBus);
+    }
+
+    @Test
+    void createApplication_failedWithKey_releasesKey() {
+        when(idempotencyService.reserve(eq("key1"), anyString())).thenReturn(Optional.empty());
+        when(applicationRepository.insert(sampleApp)).thenThrow(new DuplicateKeyException("dup"));
+
+        assertThrows(ConflictException.class, () -> applicationService.createApplication(sampleApp, "key1"));
+        verify(idempotencyService).release("key1");
+    }
 }
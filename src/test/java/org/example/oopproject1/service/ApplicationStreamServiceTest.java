@@ -0,0 +1,59 @@
+// src/test/java/org/example/oopproject1/service/ApplicationStreamServiceTest.java
+package org.example.oopproject1.service;
+
+import org.example.oopproject1.event.ApplicationChangedEvent;
+import org.example.oopproject1.event.DomainEventBus;
+import org.example.oopproject1.model.Application;
+import org.example.oopproject1.model.Application.ApplicationStatus;
+import org.example.oopproject1.model.Job;
+import org.example.oopproject1.repository.JobRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ApplicationStreamServiceTest {
+
+    private final JobRepository jobRepository = mock(JobRepository.class);
+    private final ApplicationStreamService streamService =
+            new ApplicationStreamService(mock(DomainEventBus.class), jobRepository, 60_000);
+
+    @AfterEach
+    void tearDown() {
+        streamService.shutdown();
+    }
+
+    @Test
+    void onApplicationChanged_looksUpJobOwnerOffThePublishingThread() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        Thread publisher = Thread.currentThread();
+        CompletableFuture<Thread> lookupThread = new CompletableFuture<>();
+        Job job = new Job();
+        job.setId("j1");
+        job.setRecruiterId("r1");
+        when(jobRepository.findById("j1")).thenAnswer(invocation -> {
+            lookupThread.complete(Thread.currentThread());
+            release.await(5, TimeUnit.SECONDS);
+            return Optional.of(job);
+        });
+        streamService.subscribeRecruiter("r1");
+        Application application = new Application();
+        application.setId("a1");
+        application.setJobId("j1");
+        application.setEmail("a@example.com");
+        application.setStatus(ApplicationStatus.REVIEWING);
+
+        // returns while the lookup is still blocked
+        streamService.onApplicationChanged(ApplicationChangedEvent.updated(application, ApplicationStatus.SUBMITTED));
+        release.countDown();
+
+        assertNotSame(publisher, lookupThread.get(5, TimeUnit.SECONDS));
+    }
+}
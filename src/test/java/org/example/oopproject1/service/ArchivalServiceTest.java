@@ -0,0 +1,89 @@
+// src/test/java/org/example/oopproject1/service/ArchivalServiceTest.java
+package org.example.oopproject1.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.oopproject1.event.ApplicationChangedEvent;
+import org.example.oopproject1.event.DomainEventBus;
+import org.example.oopproject1.model.Application;
+import org.example.oopproject1.model.Job;
+import org.example.oopproject1.repository.ArchiveRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.time.Duration;
+import java.time.Period;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ArchivalServiceTest {
+
+    @Mock
+    private ArchiveRepository archiveRepository;
+
+    @Mock
+    private SchedulerLeaseService leaseService;
+
+    @Mock
+    private DomainEventBus eventBus;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ArchivalService archivalService;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        archivalService = new ArchivalService(archiveRepository, leaseService, eventBus, meterRegistry,
+                100, 5, Period.ofDays(90), Period.ofDays(180), Duration.ofMinutes(10));
+    }
+
+    @Test
+    void archive_leaseHeldElsewhere_movesNothing() {
+        when(leaseService.tryAcquire(eq(ArchivalService.LEASE_NAME), any())).thenReturn(false);
+
+        archivalService.archiveOldRecords();
+
+        verifyNoInteractions(archiveRepository, eventBus);
+    }
+
+    @Test
+    void archive_movesApplicationsAndPublishesDeletions() {
+        Application decided = new Application();
+        decided.setId("a1");
+        when(leaseService.tryAcquire(eq(ArchivalService.LEASE_NAME), any())).thenReturn(true);
+        when(archiveRepository.moveToArchive(any(Query.class), anyInt(), eq(Job.class), any()))
+                .thenReturn(List.of());
+        when(archiveRepository.moveToArchive(any(Query.class), anyInt(), eq(Application.class), any()))
+                .thenReturn(List.of(decided));
+
+        archivalService.archiveOldRecords();
+
+        verify(eventBus).publish(argThat(e -> e instanceof ApplicationChangedEvent event
+                && event.entityId().equals("a1")));
+        verify(leaseService).release(ArchivalService.LEASE_NAME);
+        assertEquals(1.0, meterRegistry.counter("archive.moved", "collection", "applications").count());
+    }
+
+    @Test
+    void archive_leaseLostDuringJobs_stopsBeforeApplications() {
+        when(leaseService.tryAcquire(eq(ArchivalService.LEASE_NAME), any())).thenReturn(true, false);
+        when(archiveRepository.moveToArchive(any(Query.class), anyInt(), eq(Job.class), any()))
+                .thenReturn(Collections.nCopies(100, new Job()));
+
+        archivalService.archiveOldRecords();
+
+        verify(archiveRepository, times(1)).moveToArchive(any(Query.class), anyInt(), eq(Job.class), any());
+        verify(archiveRepository, never()).moveToArchive(any(Query.class), anyInt(), eq(Application.class), any());
+        verify(leaseService).release(ArchivalService.LEASE_NAME);
+    }
+}
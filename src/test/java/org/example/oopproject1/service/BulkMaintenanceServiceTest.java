@@ -0,0 +1,206 @@
+// src/test/java/org/example/oopproject1/service/BulkMaintenanceServiceTest.java
+package org.example.oopproject1.service;
+
+import com.mongodb.client.result.UpdateResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.example.oopproject1.event.ApplicationChangedEvent;
+import org.example.oopproject1.event.DomainEventBus;
+import org.example.oopproject1.event.JobChangedEvent;
+import org.example.oopproject1.exception.ConflictException;
+import org.example.oopproject1.exception.ResourceNotFoundException;
+import org.example.oopproject1.model.Application;
+import org.example.oopproject1.model.Job;
+import org.example.oopproject1.model.MaintenanceRun;
+import org.example.oopproject1.model.MaintenanceRun.Operation;
+import org.example.oopproject1.model.MaintenanceRun.Status;
+import org.example.oopproject1.model.Recruiter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BulkMaintenanceServiceTest {
+
+    private static final String ID_1 = "65f1c0000000000000000001";
+    private static final String ID_2 = "65f1c0000000000000000002";
+    private static final String ID_3 = "65f1c0000000000000000003";
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private SchedulerLeaseService leaseService;
+
+    @Mock
+    private DomainEventBus eventBus;
+
+    @Mock
+    private FunnelRollupService funnelRollupService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private BulkMaintenanceService bulkService;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        bulkService = new BulkMaintenanceService(mongoTemplate, leaseService, eventBus, funnelRollupService,
+                meterRegistry, 2, Duration.ZERO, Duration.ofMinutes(5));
+    }
+
+    @Test
+    void count_purgeWithoutFilters_isRejected() {
+        assertThrows(IllegalArgumentException.class, () -> bulkService.count(Operation.PURGE_APPLICATIONS, Map.of()));
+        verifyNoInteractions(mongoTemplate);
+    }
+
+    @Test
+    void count_reassignToUnknownRecruiter_throwsNotFound() {
+        when(mongoTemplate.exists(any(Query.class), eq(Recruiter.class))).thenReturn(false);
+
+        assertThrows(ResourceNotFoundException.class, () -> bulkService.count(Operation.REASSIGN_JOBS,
+                Map.of(BulkMaintenanceService.FROM_RECRUITER, "r1", BulkMaintenanceService.TO_RECRUITER, "r2")));
+    }
+
+    @Test
+    void start_deactivatesInChunksCheckpointingAndPublishingChangedJobs() {
+        when(leaseService.tryAcquire(any(), any())).thenReturn(true);
+        when(mongoTemplate.count(any(Query.class), eq(Job.class))).thenReturn(3L);
+        when(mongoTemplate.insert(any(MaintenanceRun.class))).thenAnswer(invocation -> {
+            MaintenanceRun run = invocation.getArgument(0);
+            run.setId("run1");
+            return run;
+        });
+        when(mongoTemplate.save(any(MaintenanceRun.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        // job 2 was reactivated after the chunk was read, so the update skips it
+        when(mongoTemplate.find(any(Query.class), eq(Job.class)))
+                .thenReturn(List.of(job(ID_1), job(ID_2)))
+                .thenReturn(List.of(deactivated(ID_1)))
+                .thenReturn(List.of(job(ID_3)))
+                .thenReturn(List.of(deactivated(ID_3)));
+        when(mongoTemplate.updateMulti(any(Query.class), any(Update.class), eq(Job.class)))
+                .thenReturn(UpdateResult.acknowledged(2, 1L, null))
+                .thenReturn(UpdateResult.acknowledged(1, 1L, null));
+        List<String> checkpoints = new ArrayList<>();
+
+        MaintenanceRun run = bulkService.start(Operation.DEACTIVATE_COMPANY_JOBS,
+                Map.of(BulkMaintenanceService.COMPANY, "Acme"), null, null,
+                progress -> checkpoints.add(progress.getLastId() + ":" + progress.getProcessed()));
+
+        assertEquals(Status.COMPLETED, run.getStatus());
+        assertEquals(3, run.getMatched());
+        assertEquals(2, run.getProcessed());
+        assertEquals(List.of(ID_2 + ":1", ID_3 + ":2"), checkpoints);
+        ArgumentCaptor<Query> reads = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate, times(4)).find(reads.capture(), eq(Job.class));
+        assertTrue(reads.getAllValues().get(2).getQueryObject().toJson().contains(ID_2));
+        ArgumentCaptor<Update> updates = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate, times(2)).updateMulti(any(Query.class), updates.capture(), eq(Job.class));
+        Object chunkId = updates.getAllValues().get(0).getUpdateObject().get("$set", Document.class)
+                .get(BulkMaintenanceService.CHUNK_FIELD);
+        assertInstanceOf(ObjectId.class, chunkId);
+        assertEquals(chunkId, reads.getAllValues().get(1).getQueryObject().get(BulkMaintenanceService.CHUNK_FIELD));
+        assertNotEquals(chunkId, updates.getAllValues().get(1).getUpdateObject().get("$set", Document.class)
+                .get(BulkMaintenanceService.CHUNK_FIELD));
+        ArgumentCaptor<JobChangedEvent> published = ArgumentCaptor.forClass(JobChangedEvent.class);
+        verify(eventBus, times(2)).publish(published.capture());
+        assertEquals(List.of(ID_1, ID_3), published.getAllValues().stream().map(e -> e.job().getId()).toList());
+        assertTrue(published.getAllValues().stream().noneMatch(e -> e.job().isActive()));
+        verify(leaseService).release("maintenance-run1");
+        assertEquals(2.0, meterRegistry.counter("maintenance.processed", "operation", "DEACTIVATE_COMPANY_JOBS")
+                .count());
+    }
+
+    @Test
+    void resume_continuesAfterCheckpointAndPurges() {
+        MaintenanceRun interrupted = new MaintenanceRun("run1", Operation.PURGE_APPLICATIONS,
+                Map.of(BulkMaintenanceService.EMAIL_PATTERN, "@spam\\.com$"), ID_1, 2, 1, Status.INTERRUPTED, null,
+                Instant.now(), Instant.now());
+        when(mongoTemplate.findById("run1", MaintenanceRun.class)).thenReturn(interrupted);
+        when(leaseService.tryAcquire(eq("maintenance-run1"), any())).thenReturn(true);
+        when(mongoTemplate.save(any(MaintenanceRun.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        Application application = new Application();
+        application.setId(ID_2);
+        Application changed = new Application();
+        changed.setId(ID_3);
+        when(mongoTemplate.find(any(Query.class), eq(Application.class)))
+                .thenReturn(List.of(application, changed))
+                .thenReturn(List.of());
+        // the application changed since the read no longer matches the filter and stays
+        when(mongoTemplate.findAllAndRemove(any(Query.class), eq(Application.class))).thenReturn(List.of(application));
+
+        MaintenanceRun run = bulkService.resume("run1", null, null, progress -> { });
+
+        assertEquals(Status.COMPLETED, run.getStatus());
+        assertEquals(2, run.getProcessed());
+        assertEquals(ID_3, run.getLastId());
+        ArgumentCaptor<Query> read = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate, times(2)).find(read.capture(), eq(Application.class));
+        assertTrue(read.getAllValues().get(0).getQueryObject().toJson().contains(ID_1));
+        verify(funnelRollupService).recordDeleted(application);
+        verify(funnelRollupService, never()).recordDeleted(changed);
+        verify(eventBus).publish(argThat(e -> e instanceof ApplicationChangedEvent));
+    }
+
+    @Test
+    void resume_leaseHeldElsewhere_throwsConflict() {
+        when(mongoTemplate.findById("run1", MaintenanceRun.class)).thenReturn(new MaintenanceRun("run1",
+                Operation.DEACTIVATE_COMPANY_JOBS, Map.of(BulkMaintenanceService.COMPANY, "Acme"), null, 5, 0,
+                Status.RUNNING, null, Instant.now(), Instant.now()));
+        when(leaseService.tryAcquire(eq("maintenance-run1"), any())).thenReturn(false);
+
+        assertThrows(ConflictException.class, () -> bulkService.resume("run1", null, null, progress -> { }));
+        verify(mongoTemplate, never()).find(any(Query.class), eq(Job.class));
+    }
+
+    @Test
+    void start_failedChunk_recordsFailureAndReleasesLease() {
+        when(leaseService.tryAcquire(any(), any())).thenReturn(true);
+        when(mongoTemplate.insert(any(MaintenanceRun.class))).thenAnswer(invocation -> {
+            MaintenanceRun run = invocation.getArgument(0);
+            run.setId("run1");
+            return run;
+        });
+        when(mongoTemplate.save(any(MaintenanceRun.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(mongoTemplate.find(any(Query.class), eq(Job.class))).thenThrow(new IllegalStateException("primary down"));
+
+        MaintenanceRun run = bulkService.start(Operation.DEACTIVATE_COMPANY_JOBS,
+                Map.of(BulkMaintenanceService.COMPANY, "Acme"), null, null, progress -> { });
+
+        assertEquals(Status.FAILED, run.getStatus());
+        assertEquals("primary down", run.getError());
+        verify(leaseService).release("maintenance-run1");
+    }
+
+    private Job deactivated(String id) {
+        Job job = job(id);
+        job.setActive(false);
+        return job;
+    }
+
+    private Job job(String id) {
+        Job job = new Job();
+        job.setId(id);
+        job.setActive(true);
+        job.setCompany("Acme");
+        return job;
+    }
+}
@@ -0,0 +1,153 @@
+// src/test/java/org/example/oopproject1/service/FunnelRollupServiceTest.java
+package org.example.oopproject1.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.oopproject1.dto.FunnelDay;
+import org.example.oopproject1.dto.FunnelReport;
+import org.example.oopproject1.model.Application;
+import org.example.oopproject1.model.Application.ApplicationStatus;
+import org.example.oopproject1.model.StatusChange;
+import org.example.oopproject1.repository.FunnelRollupRepository;
+import org.example.oopproject1.repository.inmemory.InMemoryApplicationRepository;
+import org.example.oopproject1.repository.inmemory.InMemoryArchiveRepository;
+import org.example.oopproject1.repository.inmemory.InMemoryFunnelRollupRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+
+class FunnelRollupServiceTest {
+
+    private static final LocalDate DAY = LocalDate.of(2024, 5, 1);
+
+    private final InMemoryApplicationRepository applications = new InMemoryApplicationRepository();
+    private final InMemoryArchiveRepository archive = new InMemoryArchiveRepository(List.of(applications));
+    private final InMemoryFunnelRollupRepository rollups = new InMemoryFunnelRollupRepository(archive);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final FunnelRollupService service = new FunnelRollupService(rollups, registry, false);
+
+    @Test
+    void funnel_countsStagesReachedAndConversions() {
+        Application a = created("a", "j1", DAY);
+        Application b = created("b", "j1", DAY);
+        Application c = created("c", "j1", DAY.plusDays(1));
+        created("d", "j1", DAY.plusDays(1));
+        created("other", "j2", DAY);
+        move(a, ApplicationStatus.REVIEWING);
+        move(a, ApplicationStatus.INTERVIEWED);
+        move(a, ApplicationStatus.ACCEPTED);
+        move(b, ApplicationStatus.REVIEWING);
+        move(c, ApplicationStatus.REJECTED);
+
+        FunnelReport report = service.funnel(List.of("j1"), DAY, DAY.plusDays(1));
+
+        assertEquals(4, report.getSubmitted());
+        assertEquals(1L, report.getCurrent().get("SUBMITTED"));
+        assertEquals(List.of(4L, 2L, 1L, 1L, 1L), List.copyOf(report.getReached().values()));
+        assertEquals(List.of("SUBMITTED", "REVIEWING", "INTERVIEWED", "ACCEPTED", "REJECTED"),
+                List.copyOf(report.getReached().keySet()));
+        assertEquals(0.5, report.getConversion().get("SUBMITTED->REVIEWING"));
+        assertEquals(0.5, report.getConversion().get("REVIEWING->INTERVIEWED"));
+        assertEquals(0.25, report.getConversion().get("SUBMITTED->ACCEPTED"));
+    }
+
+    @Test
+    void funnel_countsRejectedApplicationsInTheStagesTheyPassed() {
+        Application a = created("a", "j1", DAY);
+        Application b = created("b", "j1", DAY);
+        created("c", "j1", DAY);
+        move(a, ApplicationStatus.REVIEWING);
+        move(a, ApplicationStatus.INTERVIEWED);
+        move(a, ApplicationStatus.REJECTED);
+        move(b, ApplicationStatus.INTERVIEWED);
+        move(b, ApplicationStatus.REVIEWING);
+
+        FunnelReport report = service.funnel(List.of("j1"), DAY, DAY);
+
+        assertEquals(List.of(3L, 2L, 2L, 0L, 1L), List.copyOf(report.getReached().values()));
+        assertEquals(1.0, report.getConversion().get("REVIEWING->INTERVIEWED"));
+
+        service.recordDeleted(a);
+
+        assertEquals(List.of(2L, 1L, 1L, 0L, 0L),
+                List.copyOf(service.funnel(List.of("j1"), DAY, DAY).getReached().values()));
+    }
+
+    @Test
+    void daily_groupsBySubmissionDayAndCountsDeletionsOut() {
+        Application a = created("a", "j1", DAY);
+        created("b", "j1", DAY.plusDays(2));
+        created("c", "j2", DAY.plusDays(2));
+        move(a, ApplicationStatus.REVIEWING);
+        service.recordDeleted(a);
+
+        List<FunnelDay> days = service.daily(List.of("j1", "j2"), DAY, DAY.plusDays(2));
+
+        assertEquals(1, days.size());
+        assertEquals(DAY.plusDays(2), days.get(0).getDay());
+        assertEquals(2, days.get(0).getSubmitted());
+        assertEquals(List.of(), service.daily(List.of(), DAY, DAY));
+    }
+
+    @Test
+    void backfill_rebuildsFromHotAndArchivedApplications() {
+        Application a = application("a", "j1", DAY, ApplicationStatus.INTERVIEWED);
+        applications.save(a);
+        Application d = application("d", "j1", DAY, ApplicationStatus.REJECTED);
+        d.setStatusHistory(List.of(new StatusChange(null, ApplicationStatus.SUBMITTED, "system", null),
+                new StatusChange(ApplicationStatus.SUBMITTED, ApplicationStatus.REVIEWING, "r1", null),
+                new StatusChange(ApplicationStatus.REVIEWING, ApplicationStatus.REJECTED, "r1", null)));
+        applications.save(d);
+        applications.save(application("b", "j1", DAY, ApplicationStatus.SUBMITTED));
+        applications.save(application("c", "j1", DAY.plusDays(3), ApplicationStatus.REJECTED));
+        archive.moveToArchive(new Query(Criteria.where("_id").is("a")), 10, Application.class, Application::getId);
+        rollups.increment("stale", DAY, Map.of(ApplicationStatus.SUBMITTED, 5L), Map.of(ApplicationStatus.SUBMITTED, 5L));
+
+        assertEquals(2, service.backfill());
+
+        FunnelReport report = service.funnel(List.of("j1", "stale"), DAY, DAY.plusDays(3));
+        assertEquals(4, report.getSubmitted());
+        assertEquals(2L, report.getReached().get("REVIEWING"));
+        assertEquals(1L, report.getReached().get("INTERVIEWED"));
+        assertEquals(2L, report.getReached().get("REJECTED"));
+    }
+
+    @Test
+    void record_failureDoesNotPropagate() {
+        FunnelRollupRepository failing = mock(FunnelRollupRepository.class);
+        doThrow(new IllegalStateException("down")).when(failing).increment(any(), any(), any(), any());
+        FunnelRollupService failingService = new FunnelRollupService(failing, registry, false);
+
+        assertDoesNotThrow(() -> failingService.recordCreated(application("a", "j1", DAY, ApplicationStatus.SUBMITTED)));
+        assertEquals(1.0, registry.counter("funnel.rollups.failures").count());
+    }
+
+    private Application created(String id, String jobId, LocalDate day) {
+        Application application = application(id, jobId, day, ApplicationStatus.SUBMITTED);
+        application.setStatusHistory(List.of(new StatusChange(null, ApplicationStatus.SUBMITTED, "system", null)));
+        service.recordCreated(application);
+        return application;
+    }
+
+    private void move(Application application, ApplicationStatus status) {
+        ApplicationStatus previous = application.getStatus();
+        List<StatusChange> history = new ArrayList<>(application.getStatusHistory());
+        history.add(new StatusChange(previous, status, "r1", null));
+        application.setStatus(status);
+        application.setStatusHistory(history);
+        service.recordStatusChange(application, previous);
+    }
+
+    private static Application application(String id, String jobId, LocalDate day, ApplicationStatus status) {
+        return new Application(id, jobId, "Candidate " + id, id + "@example.com", null, null, null, day, status, null, null);
+    }
+}
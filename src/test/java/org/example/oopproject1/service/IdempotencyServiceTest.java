@@ -0,0 +1,67 @@
+// src/test/java/org/example/oopproject1/service/IdempotencyServiceTest.java
+package org.example.oopproject1.service;
+
+import org.example.oopproject1.exception.ConflictException;
+import org.example.oopproject1.model.IdempotencyRecord;
+import org.example.oopproject1.repository.inmemory.InMemoryIdempotencyRecordRepository;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IdempotencyServiceTest {
+
+    private final InMemoryIdempotencyRecordRepository recordRepository = new InMemoryIdempotencyRecordRepository();
+    private final IdempotencyService idempotencyService = new IdempotencyService(recordRepository,
+            Duration.ofHours(1));
+
+    @Test
+    void reserve_completedKey_returnsResource() {
+        assertEquals(Optional.empty(), idempotencyService.reserve("key1", "a"));
+        idempotencyService.complete("key1", "app1");
+
+        assertEquals(Optional.of("app1"), idempotencyService.reserve("key1", "a"));
+        assertThrows(ConflictException.class, () -> idempotencyService.reserve("key1", "b"));
+    }
+
+    @Test
+    void reserve_expiredKeyRacedByManyRequests_reservesOnce() throws Exception {
+        Instant past = Instant.now().minusSeconds(60);
+        recordRepository.insert(new IdempotencyRecord("key1", "a", "old", past, past));
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Callable<Boolean>> requests = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                requests.add(() -> idempotencyService.reserve("key1", "a").isEmpty());
+            }
+            int reserved = 0;
+            int busy = 0;
+            for (Future<Boolean> outcome : executor.invokeAll(requests)) {
+                try {
+                    if (outcome.get()) {
+                        reserved++;
+                    }
+                } catch (ExecutionException e) {
+                    assertInstanceOf(ConflictException.class, e.getCause());
+                    busy++;
+                }
+            }
+
+            assertEquals(1, reserved);
+            assertEquals(7, busy);
+            assertNull(recordRepository.findById("key1").orElseThrow().getResourceId());
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
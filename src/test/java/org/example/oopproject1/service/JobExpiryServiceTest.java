@@ -0,0 +1,145 @@
+// src/test/java/org/example/oopproject1/service/JobExpiryServiceTest.java
+package org.example.oopproject1.service;
+
+import com.mongodb.client.result.UpdateResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.example.oopproject1.event.DomainEventBus;
+import org.example.oopproject1.event.JobChangedEvent;
+import org.example.oopproject1.model.Job;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JobExpiryServiceTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private SchedulerLeaseService leaseService;
+
+    @Mock
+    private DomainEventBus eventBus;
+
+    private SimpleMeterRegistry meterRegistry;
+    private JobExpiryService expiryService;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        expiryService = new JobExpiryService(mongoTemplate, leaseService, eventBus, meterRegistry,
+                2, 5, Duration.ofMinutes(5));
+    }
+
+    @Test
+    void sweep_leaseHeldElsewhere_doesNothing() {
+        when(leaseService.tryAcquire(eq(JobExpiryService.LEASE_NAME), any())).thenReturn(false);
+
+        expiryService.sweepExpiredJobs();
+
+        verifyNoInteractions(mongoTemplate, eventBus);
+        assertEquals(1.0, meterRegistry.counter("jobs.expiry.runs", "outcome", "lease-held").count());
+    }
+
+    @Test
+    void sweep_deactivatesInBatchesAndPublishes() {
+        when(leaseService.tryAcquire(eq(JobExpiryService.LEASE_NAME), any())).thenReturn(true);
+        when(mongoTemplate.find(any(Query.class), eq(Job.class)))
+                .thenReturn(List.of(job("1"), job("2")))
+                .thenReturn(List.of(inactive(job("1")), inactive(job("2"))))
+                .thenReturn(List.of(job("3")))
+                .thenReturn(List.of(inactive(job("3"))));
+        when(mongoTemplate.updateMulti(any(Query.class), any(Update.class), eq(Job.class)))
+                .thenReturn(UpdateResult.acknowledged(2, 2L, null))
+                .thenReturn(UpdateResult.acknowledged(1, 1L, null));
+
+        expiryService.sweepExpiredJobs();
+
+        verify(mongoTemplate, times(2)).updateMulti(any(Query.class), any(Update.class), eq(Job.class));
+        verify(eventBus, times(3)).publish(argThat(e -> e instanceof JobChangedEvent jobEvent
+                && !jobEvent.job().isActive()));
+        verify(leaseService).release(JobExpiryService.LEASE_NAME);
+        assertEquals(3.0, meterRegistry.counter("jobs.expiry.deactivated").count());
+    }
+
+    @Test
+    void sweep_jobReactivatedBeforeUpdate_isNotPublished() {
+        when(leaseService.tryAcquire(eq(JobExpiryService.LEASE_NAME), any())).thenReturn(true);
+        when(mongoTemplate.find(any(Query.class), eq(Job.class)))
+                .thenReturn(List.of(job("1"), job("2")))
+                .thenReturn(List.of(inactive(job("2"))))
+                .thenReturn(List.of());
+        when(mongoTemplate.updateMulti(any(Query.class), any(Update.class), eq(Job.class)))
+                .thenReturn(UpdateResult.acknowledged(1, 1L, null));
+
+        expiryService.sweepExpiredJobs();
+
+        verify(eventBus).publish(argThat(e -> e instanceof JobChangedEvent jobEvent
+                && jobEvent.entityId().equals("2")));
+        verifyNoMoreInteractions(eventBus);
+        assertEquals(1.0, meterRegistry.counter("jobs.expiry.deactivated").count());
+    }
+
+    @Test
+    void sweep_updateRechecksDeadlineAndPublishesOnlyItsOwnBatch() {
+        when(leaseService.tryAcquire(eq(JobExpiryService.LEASE_NAME), any())).thenReturn(true);
+        ArgumentCaptor<Query> reads = ArgumentCaptor.forClass(Query.class);
+        when(mongoTemplate.find(reads.capture(), eq(Job.class)))
+                .thenReturn(List.of(job("1")))
+                .thenReturn(List.of(inactive(job("1"))));
+        ArgumentCaptor<Query> updated = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        when(mongoTemplate.updateMulti(updated.capture(), update.capture(), eq(Job.class)))
+                .thenReturn(UpdateResult.acknowledged(1, 1L, null));
+
+        expiryService.sweepExpiredJobs();
+
+        assertTrue(updated.getValue().getQueryObject().toString().contains("deadlineDate"));
+        Object batchId = update.getValue().getUpdateObject().get("$set", Document.class)
+                .get(JobExpiryService.BATCH_FIELD);
+        assertInstanceOf(ObjectId.class, batchId);
+        assertEquals(batchId, reads.getAllValues().get(1).getQueryObject().get(JobExpiryService.BATCH_FIELD));
+    }
+
+    @Test
+    void sweep_nothingChanged_readsNothingBack() {
+        when(leaseService.tryAcquire(eq(JobExpiryService.LEASE_NAME), any())).thenReturn(true);
+        when(mongoTemplate.find(any(Query.class), eq(Job.class))).thenReturn(List.of(job("1")));
+        when(mongoTemplate.updateMulti(any(Query.class), any(Update.class), eq(Job.class)))
+                .thenReturn(UpdateResult.acknowledged(1, 0L, null));
+
+        expiryService.sweepExpiredJobs();
+
+        verify(mongoTemplate, times(1)).find(any(Query.class), eq(Job.class));
+        verifyNoInteractions(eventBus);
+    }
+
+    private Job inactive(Job job) {
+        job.setActive(false);
+        return job;
+    }
+
+    private Job job(String id) {
+        Job job = new Job();
+        job.setId(id);
+        job.setActive(true);
+        return job;
+    }
+}
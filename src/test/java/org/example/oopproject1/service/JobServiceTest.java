@@ -1,6 +1,8 @@
 // src/test/java/org/example/oopproject1/service/JobServiceTest.java
 package org.example.oopproject1.service;
 
+import org.bson.types.ObjectId;
+import org.example.oopproject1.dto.JobSummary;
 import org.example.oopproject1.model.Job;
 import org.example.oopproject1.repository.JobRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -12,12 +14,18 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -26,6 +34,9 @@ class JobServiceTest {
     @Mock
     private JobRepository jobRepository;
 
+    @Mock
+    private FuzzySearchService fuzzySearchService;
+
     @InjectMocks
     private JobService jobService;
 
@@ -76,4 +87,83 @@ class JobServiceTest {
         assertThrows(RuntimeException.class,
                 () -> jobService.getJobById("2"));
     }
+
+    @Test
+    void searchJobs_fewExactHits_appendsFuzzyMatches() {
+        ReflectionTestUtils.setField(jobService, "fuzzyMinHits", 5);
+        ReflectionTestUtils.setField(jobService, "fuzzyMaxResults", 50);
+        Job fuzzy = new Job();
+        fuzzy.setId("2");
+        fuzzy.setTitle("Software Engineer");
+        when(jobRepository.searchByKeyword("enginer")).thenReturn(List.of(sampleJob));
+        when(fuzzySearchService.findJobIds("enginer", 51)).thenReturn(List.of("1", "2"));
+        when(jobRepository.findAllById(List.of("2"))).thenReturn(List.of(fuzzy));
+
+        List<Job> result = jobService.searchJobs("enginer");
+
+        assertEquals(List.of(sampleJob, fuzzy), result);
+    }
+
+    @Test
+    void searchJobSummaries_enoughExactHits_skipsFuzzySearch() {
+        ReflectionTestUtils.setField(jobService, "fuzzyMinHits", 1);
+        PageRequest pageRequest = PageRequest.of(0, 10);
+        when(jobRepository.searchByKeyword("java", pageRequest, JobSummary.class))
+                .thenReturn(new PageImpl<>(List.of(JobSummary.from(sampleJob))));
+
+        assertEquals(1, jobService.searchJobSummaries("java", pageRequest).getTotalElements());
+        verifyNoInteractions(fuzzySearchService);
+    }
+
+    @Test
+    void searchJobs_paged_pagesOverExactThenFuzzyMatches() {
+        ReflectionTestUtils.setField(jobService, "fuzzyMinHits", 5);
+        ReflectionTestUtils.setField(jobService, "fuzzyMaxResults", 50);
+        PageRequest second = PageRequest.of(1, 1);
+        Job fuzzy = new Job();
+        fuzzy.setId("2");
+        when(jobRepository.searchByKeyword(eq("javascrpt"), any(Pageable.class)))
+                .thenAnswer(invocation -> invocation.getArgument(1).equals(second)
+                        ? new PageImpl<>(List.of(), second, 1)
+                        : new PageImpl<>(List.of(sampleJob)));
+        when(fuzzySearchService.findJobIds("javascrpt", 51)).thenReturn(List.of("2"));
+        when(jobRepository.findAllById(List.of("2"))).thenReturn(List.of(fuzzy));
+
+        Page<Job> result = jobService.searchJobs("javascrpt", second);
+
+        assertEquals(2, result.getTotalElements());
+        assertEquals(List.of(fuzzy), result.getContent());
+    }
+
+    @Test
+    void streamJobSummariesByCompany_fetchesNextPageAfterLastIdOnlyWhenConsumed() {
+        JobSummary a = summary("65f1c0000000000000000001");
+        JobSummary b = summary("65f1c0000000000000000002");
+        JobSummary c = summary("65f1c0000000000000000003");
+        when(jobRepository.findByCompanyAndIdGreaterThan(eq("Acme"), any(), any(), eq(JobSummary.class)))
+                .thenReturn(List.of(a, b))
+                .thenReturn(List.of(c));
+
+        Stream<JobSummary> stream = jobService.streamJobSummariesByCompany("Acme", "", 2);
+        verifyNoInteractions(jobRepository);
+        List<JobSummary> result = stream.toList();
+
+        assertEquals(List.of(a, b, c), result);
+        verify(jobRepository).findByCompanyAndIdGreaterThan(eq("Acme"), eq(new ObjectId("000000000000000000000000")),
+                eq(PageRequest.of(0, 2, Sort.by("id"))), eq(JobSummary.class));
+        verify(jobRepository).findByCompanyAndIdGreaterThan(eq("Acme"), eq(new ObjectId(b.getId())),
+                any(), eq(JobSummary.class));
+        verifyNoMoreInteractions(jobRepository);
+    }
+
+    @Test
+    void streamJobSummaries_rejectsMalformedCursor() {
+        assertThrows(IllegalArgumentException.class, () -> jobService.streamJobSummaries("not-an-id", 10));
+    }
+
+    private static JobSummary summary(String id) {
+        JobSummary summary = new JobSummary();
+        summary.setId(id);
+        return summary;
+    }
 }
@@ -0,0 +1,67 @@
+// src/test/java/org/example/oopproject1/service/JobSuggestionServiceTest.java
+package org.example.oopproject1.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.oopproject1.dto.JobSuggestion;
+import org.example.oopproject1.event.DomainEvent.ChangeType;
+import org.example.oopproject1.event.DomainEventBus;
+import org.example.oopproject1.event.JobChangedEvent;
+import org.example.oopproject1.model.Job;
+import org.example.oopproject1.repository.JobRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class JobSuggestionServiceTest {
+
+    private final JobRepository jobRepository = mock(JobRepository.class);
+    private JobSuggestionService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new JobSuggestionService(jobRepository, mock(DomainEventBus.class), new SimpleMeterRegistry(), 10);
+        when(jobRepository.streamAllBy()).thenReturn(Stream.of(
+                job("1", "Backend Engineer", "Acme", "London", "Java", "MongoDB"),
+                job("2", "Data Engineer", "Acme", "Leeds", "Python")));
+        service.rebuild();
+    }
+
+    @Test
+    void suggest_ranksByFrequencyAcrossFields() {
+        assertEquals(List.of(new JobSuggestion("company", "Acme", 2)), service.suggest("ac", null, 10));
+        assertEquals(List.of(new JobSuggestion("title", "Backend Engineer", 1),
+                        new JobSuggestion("title", "Data Engineer", 1)),
+                service.suggest("eng", "title", 10));
+        assertEquals(List.of(new JobSuggestion("location", "Leeds", 1)), service.suggest("le", "LOCATION", 10));
+    }
+
+    @Test
+    void onJobChanged_movesValuesToTheNewVersion() {
+        service.onJobChanged(JobChangedEvent.of(ChangeType.UPDATED,
+                job("2", "Data Engineer", "Globex", "London", "Python")));
+
+        assertEquals(List.of(new JobSuggestion("location", "London", 2)), service.suggest("l", "location", 10));
+        assertEquals(List.of(new JobSuggestion("company", "Acme", 1)), service.suggest("acme", null, 10));
+
+        service.onJobChanged(JobChangedEvent.deleted("1"));
+
+        assertEquals(List.of(), service.suggest("java", "skill", 10));
+        assertEquals(List.of(), service.suggest("acme", null, 10));
+    }
+
+    private static Job job(String id, String title, String company, String location, String... skills) {
+        Job job = new Job();
+        job.setId(id);
+        job.setTitle(title);
+        job.setCompany(company);
+        job.setLocation(location);
+        job.setRequiredSkills(List.of(skills));
+        return job;
+    }
+}
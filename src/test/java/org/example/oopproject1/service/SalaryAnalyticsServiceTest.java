@@ -0,0 +1,130 @@
+// src/test/java/org/example/oopproject1/service/SalaryAnalyticsServiceTest.java
+package org.example.oopproject1.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.oopproject1.dto.SalaryPercentiles;
+import org.example.oopproject1.event.DomainEvent.ChangeType;
+import org.example.oopproject1.event.DomainEventBus;
+import org.example.oopproject1.event.JobChangedEvent;
+import org.example.oopproject1.exception.ResourceNotFoundException;
+import org.example.oopproject1.model.Job;
+import org.example.oopproject1.model.SalarySketch;
+import org.example.oopproject1.repository.JobRepository;
+import org.example.oopproject1.repository.inmemory.InMemorySalarySketchRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SalaryAnalyticsServiceTest {
+
+    private static final List<Double> MEDIAN = List.of(50.0);
+
+    private final JobRepository jobRepository = mock(JobRepository.class);
+    private final InMemorySalarySketchRepository sketchRepository = new InMemorySalarySketchRepository();
+    private SalaryAnalyticsService service;
+
+    @BeforeEach
+    void setUp() {
+        service = newService();
+        when(jobRepository.streamAllBy()).thenReturn(Stream.of(
+                job("1", "Backend Engineer", "London", 40_000.0, 60_000.0),
+                job("2", "backend engineer", "Manchester", 30_000.0, 40_000.0),
+                job("3", "Backend-Engineer", "London", 70_000.0, null),
+                job("4", "Designer", "Zürich", 90_000.0, 110_000.0),
+                job("5", "Backend Engineer", "London", null, null)));
+        service.initialize();
+    }
+
+    @Test
+    void percentiles_groupsNormalizedValuesByMidpointSalary() {
+        SalaryPercentiles title = service.percentiles("title", List.of("BACKEND ENGINEER"), List.of(0.0, 50.0, 100.0));
+
+        assertEquals(3, title.getCount());
+        assertEquals(35_000, title.getMin());
+        assertEquals(70_000, title.getMax());
+        assertEquals(50_000, title.getPercentiles().get("p50"));
+        assertEquals(List.of("p0", "p50", "p100"), List.copyOf(title.getPercentiles().keySet()));
+        assertEquals(100_000, service.percentiles("location", List.of("zurich"), MEDIAN).getPercentiles().get("p50"));
+    }
+
+    @Test
+    void percentiles_mergesSeveralValues() {
+        SalaryPercentiles cities = service.percentiles("location", List.of("London", "Manchester", "Leeds"),
+                List.of(0.0, 99.5));
+
+        assertEquals(3, cities.getCount());
+        assertEquals(List.of("London", "Manchester"), cities.getValues());
+        assertEquals(35_000, cities.getPercentiles().get("p0"));
+        assertEquals(70_000, cities.getPercentiles().get("p99.5"));
+    }
+
+    @Test
+    void percentiles_rejectsUnknownValues() {
+        assertThrows(ResourceNotFoundException.class,
+                () -> service.percentiles("company", List.of("Nobody"), MEDIAN));
+    }
+
+    @Test
+    void onJobChanged_countsJobsOutAtOnceAndDropsTheirSalariesAtTheNextFlush() {
+        service.flush();
+        service.onJobChanged(JobChangedEvent.of(ChangeType.UPDATED,
+                job("3", "Backend Engineer", "Manchester", 70_000.0, null)));
+        service.onJobChanged(JobChangedEvent.deleted("4"));
+
+        assertEquals(1, service.percentiles("location", List.of("London"), MEDIAN).getCount());
+        assertEquals(70_000, service.percentiles("location", List.of("London"), List.of(100.0))
+                .getPercentiles().get("p100"));
+        assertThrows(ResourceNotFoundException.class,
+                () -> service.percentiles("title", List.of("Designer"), MEDIAN));
+
+        service.flush();
+
+        assertEquals(50_000, service.percentiles("location", List.of("London"), List.of(100.0))
+                .getPercentiles().get("p100"));
+        assertEquals(70_000, service.percentiles("location", List.of("Manchester"), List.of(100.0))
+                .getPercentiles().get("p100"));
+        assertTrue(sketchRepository.findById("title:designer").isEmpty());
+    }
+
+    @Test
+    void flush_savesSketchesARestartedNodeAnswersFrom() {
+        service.flush();
+        assertEquals(7, sketchRepository.count());
+        SalarySketch london = sketchRepository.findById("location:london").orElseThrow();
+        assertEquals("London", london.getLabel());
+
+        when(jobRepository.streamAllBy()).thenReturn(Stream.empty());
+        SalaryAnalyticsService restarted = newService();
+        restarted.initialize();
+        assertThrows(ResourceNotFoundException.class,
+                () -> restarted.percentiles("location", List.of("London"), MEDIAN));
+
+        SalaryAnalyticsService loading = newService();
+        when(jobRepository.streamAllBy()).thenThrow(new IllegalStateException("database unavailable"));
+        assertThrows(IllegalStateException.class, loading::initialize);
+        assertEquals(2, loading.percentiles("location", List.of("London"), MEDIAN).getCount());
+    }
+
+    private SalaryAnalyticsService newService() {
+        return new SalaryAnalyticsService(jobRepository, sketchRepository, mock(DomainEventBus.class),
+                new SimpleMeterRegistry(), 100);
+    }
+
+    private static Job job(String id, String title, String location, Double minSalary, Double maxSalary) {
+        Job job = new Job();
+        job.setId(id);
+        job.setTitle(title);
+        job.setCompany("Acme");
+        job.setLocation(location);
+        job.setEmploymentType("Full-time");
+        job.setMinSalary(minSalary);
+        job.setMaxSalary(maxSalary);
+        return job;
+    }
+}
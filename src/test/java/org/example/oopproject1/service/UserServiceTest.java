@@ -1,6 +1,8 @@
 // src/test/java/org/example/oopproject1/service/UserServiceTest.java
 package org.example.oopproject1.service;
 
+import org.example.oopproject1.event.DomainEventBus;
+import org.example.oopproject1.event.UserChangedEvent;
 import org.example.oopproject1.model.User;
 import org.example.oopproject1.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -23,6 +25,9 @@ class UserServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private DomainEventBus eventBus;
+
     @InjectMocks
     private UserService userService;
 
@@ -73,5 +78,6 @@ class UserServiceTest {
         // assert
         assertEquals("u", result.getUsername());
         verify(userRepository).save(any(User.class));
+        verify(eventBus).publish(any(UserChangedEvent.class));
     }
 }
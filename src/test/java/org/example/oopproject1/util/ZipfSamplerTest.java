@@ -0,0 +1,36 @@
+// src/test/java/org/example/oopproject1/util/ZipfSamplerTest.java
+package org.example.oopproject1.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ZipfSamplerTest {
+
+    @Test
+    void sample_favoursLowRanks() {
+        ZipfSampler sampler = new ZipfSampler(1000, 1.0);
+        SplittableRandom random = new SplittableRandom(1);
+        int[] counts = new int[1000];
+        for (int i = 0; i < 100_000; i++) {
+            counts[sampler.sample(random)]++;
+        }
+
+        assertTrue(counts[0] > counts[1]);
+        assertTrue(counts[1] > counts[10]);
+        assertEquals(sampler.probability(0), counts[0] / 100_000.0, 0.01);
+    }
+
+    @Test
+    void probabilities_sumToOne() {
+        ZipfSampler sampler = new ZipfSampler(50, 1.2);
+        double sum = 0;
+        for (int k = 0; k < sampler.size(); k++) {
+            sum += sampler.probability(k);
+        }
+
+        assertEquals(1.0, sum, 1e-9);
+    }
+}